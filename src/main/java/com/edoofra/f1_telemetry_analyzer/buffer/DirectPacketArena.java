@@ -0,0 +1,255 @@
+package com.edoofra.f1_telemetry_analyzer.buffer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link PacketBuffer} that stores packets in fixed-size slots of one pre-allocated direct memory region.
+ * <p>
+ * Each slot is {@link #SLOT_SIZE} bytes: a 4-byte little-endian length prefix followed by the packet bytes.
+ * The slot size fits the largest F1 24 packet (Session History, 1460 bytes) with room to spare.
+ * Packets are copied into their slot on {@link #put(byte[])} or {@link #put(ByteBuffer)}, and consumers read them
+ * through a per-slot read-only view that is reused for every lap of the ring, so steady-state operation
+ * allocates nothing and the buffer contents never reach the garbage collector.
+ * <p>
+ * Sequencing is shared with {@link TelemetryRingBuffer} through {@link SlotSequencer}:
+ * the arena is lock-free for any number of producers and consumers, and overwrites the oldest
+ * packet when it is full unless created with {@link OverflowPolicy#REJECT_NEWEST}.
+ */
+public class DirectPacketArena implements PacketBuffer {
+
+    /**
+     * Size in bytes of one slot, including the length prefix.
+     */
+    public static final int SLOT_SIZE = 1536;
+
+    /**
+     * Size in bytes of the length prefix at the start of every slot.
+     */
+    public static final int LENGTH_PREFIX_SIZE = Integer.BYTES;
+
+    /**
+     * The largest packet a slot can hold.
+     */
+    public static final int MAX_PACKET_SIZE = SLOT_SIZE - LENGTH_PREFIX_SIZE;
+
+    /**
+     * The direct memory region backing every slot.
+     */
+    private final ByteBuffer memory;
+
+    /**
+     * Reusable read-only views over the packet area of each slot.
+     * A view is only touched by the consumer currently holding its slot.
+     */
+    private final ByteBuffer[] readViews;
+
+    /**
+     * Reusable writable views over the packet area of each slot.
+     * A view is only touched by the producer currently holding its slot.
+     */
+    private final ByteBuffer[] writeViews;
+
+    private final SlotSequencer sequencer;
+
+    private final OverflowPolicy overflowPolicy;
+
+    /**
+     * Evicted slots need no cleanup: their bytes are simply overwritten by the next lap.
+     */
+    private final LongConsumer evictionHandler = position -> { };
+
+    public DirectPacketArena(int capacity) {
+        this(capacity, OverflowPolicy.OVERWRITE_OLDEST);
+    }
+
+    public DirectPacketArena(int capacity, OverflowPolicy overflowPolicy) {
+        this.sequencer = new SlotSequencer(capacity);
+        this.overflowPolicy = overflowPolicy;
+        int slots = sequencer.slots();
+        this.memory = ByteBuffer.allocateDirect(Math.multiplyExact(slots, SLOT_SIZE)).order(ByteOrder.LITTLE_ENDIAN);
+        this.readViews = new ByteBuffer[slots];
+        this.writeViews = new ByteBuffer[slots];
+        for (int i = 0; i < slots; i++) {
+            int packetOffset = i * SLOT_SIZE + LENGTH_PREFIX_SIZE;
+            writeViews[i] = memory.slice(packetOffset, MAX_PACKET_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            readViews[i] = writeViews[i].asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Copies a packet into the next free slot.
+     *
+     * @param packet the raw packet bytes
+     * @return whether the packet was stored, and if storing it evicted the oldest packet; {@link PutResult#REJECTED}
+     *         if it is empty, larger than {@link #MAX_PACKET_SIZE} or the buffer is full
+     */
+    @Override
+    public PutResult put(byte[] packet) {
+        if (packet.length == 0 || packet.length > MAX_PACKET_SIZE) {
+            return PutResult.REJECTED;
+        }
+        long claim = sequencer.claim(overflowPolicy, evictionHandler);
+        if (claim < 0) {
+            return PutResult.REJECTED;
+        }
+        long position = SlotSequencer.positionOf(claim);
+        int index = sequencer.indexOf(position);
+        ByteBuffer slot = writeViews[index];
+        slot.clear();
+        slot.put(packet);
+        memory.putInt(index * SLOT_SIZE, packet.length);
+        sequencer.publish(position);
+        return SlotSequencer.resultOf(claim);
+    }
+
+    /**
+     * Copies a packet from another buffer (typically a receive buffer) into the next free slot without allocating.
+     * An empty packet is rejected before a slot is claimed, so it never evicts a stored one.
+     */
+    @Override
+    public PutResult put(ByteBuffer packet) {
+        int length = packet.remaining();
+        if (length == 0 || length > MAX_PACKET_SIZE) {
+            return PutResult.REJECTED;
+        }
+        long claim = sequencer.claim(overflowPolicy, evictionHandler);
+        if (claim < 0) {
+            return PutResult.REJECTED;
+        }
+        long position = SlotSequencer.positionOf(claim);
+        int index = sequencer.indexOf(position);
+        ByteBuffer slot = writeViews[index];
+        slot.clear();
+        slot.put(0, packet, packet.position(), length);
+        memory.putInt(index * SLOT_SIZE, length);
+        sequencer.publish(position);
+        return SlotSequencer.resultOf(claim);
+    }
+
+    @Override
+    public boolean poll(Consumer<ByteBuffer> reader) {
+        long position = sequencer.tryClaimHead();
+        if (position < 0) {
+            return false;
+        }
+        try {
+            reader.accept(viewOf(sequencer.indexOf(position)));
+        } finally {
+            sequencer.release(position);
+        }
+        return true;
+    }
+
+    /**
+     * Claims a whole batch of slots with a single CAS and hands each slot to the reader.
+     * Each slot is released as soon as its callback returns.
+     */
+    @Override
+    public int drainTo(Consumer<ByteBuffer> reader, int maxBatch) {
+        while (true) {
+            long start = sequencer.head();
+            int count = sequencer.tryClaimHeadBatch(start, maxBatch);
+
+            if (count > 0) {
+                return readBatch(reader, start, count);
+            }
+            if (sequencer.head() == start) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest packet and copies it to a new heap array.
+     * This allocates and is only meant for callers that cannot work with a view.
+     */
+    @Override
+    public byte[] get() {
+        long position = sequencer.tryClaimHead();
+        if (position < 0) {
+            return null;
+        }
+        try {
+            return copyOf(sequencer.indexOf(position));
+        } finally {
+            sequencer.release(position);
+        }
+    }
+
+    /**
+     * Copies the oldest packet to a new heap array without removing it.
+     * The copy is validated against the slot sequence, so a concurrent overwrite never yields torn bytes.
+     */
+    @Override
+    public byte[] peek() {
+        while (true) {
+            long currentHead = sequencer.head();
+            if (!sequencer.isPublished(currentHead)) {
+                return null;
+            }
+            byte[] copy = copyOf(sequencer.indexOf(currentHead));
+            if (sequencer.head() == currentHead && sequencer.isPublished(currentHead)) {
+                return copy;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sequencer.size();
+    }
+
+    @Override
+    public int capacity() {
+        return sequencer.capacity();
+    }
+
+    @Override
+    public int clear() {
+        int cleared = 0;
+        long position;
+        while ((position = sequencer.tryClaimHead()) >= 0) {
+            sequencer.release(position);
+            cleared++;
+        }
+        return cleared;
+    }
+
+    private int readBatch(Consumer<ByteBuffer> reader, long start, int count) {
+        long end = start + count;
+        long position = start;
+        try {
+            for (; position < end; position++) {
+                reader.accept(viewOf(sequencer.indexOf(position)));
+                sequencer.release(position);
+            }
+        } finally {
+            // A failing reader must not leave the rest of the claimed batch unreleased
+            for (; position < end; position++) {
+                sequencer.release(position);
+            }
+        }
+        return count;
+    }
+
+    private ByteBuffer viewOf(int index) {
+        ByteBuffer view = readViews[index];
+        view.clear();
+        view.limit(lengthOf(index));
+        return view;
+    }
+
+    private byte[] copyOf(int index) {
+        int length = Math.min(lengthOf(index), MAX_PACKET_SIZE);
+        byte[] copy = new byte[length];
+        memory.get(index * SLOT_SIZE + LENGTH_PREFIX_SIZE, copy);
+        return copy;
+    }
+
+    private int lengthOf(int index) {
+        return memory.getInt(index * SLOT_SIZE);
+    }
+}
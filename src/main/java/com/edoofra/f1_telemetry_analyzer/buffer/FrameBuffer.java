@@ -0,0 +1,124 @@
+package com.edoofra.f1_telemetry_analyzer.buffer;
+
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Double buffer of {@link ColumnarFrame}s: the next frame is filled into the back frame while readers see the
+ * last published one, and publishing swaps the two without copying or allocating.
+ * <p>
+ * Writers bracket each frame with {@link #beginWrite()}, {@link #publish()} and {@link #endWrite()}; a lock makes
+ * concurrent writers, such as several processing threads, take turns. Each frame carries a seqlock-style version
+ * that is odd while it is being written, so {@link #snapshot(ColumnarFrame)} can copy the published frame from any
+ * thread and retry in the rare case the writer wrapped around onto it mid-copy. Readers never block the writer.
+ *
+ * @param <F> the frame type
+ */
+public final class FrameBuffer<F extends ColumnarFrame<F>> {
+
+    private final List<F> frames;
+
+    /**
+     * Version of each frame: odd while it is being written, incremented again when it is published.
+     */
+    private final AtomicLongArray versions = new AtomicLongArray(2);
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile int frontIndex;
+    private int backIndex = 1;
+    private volatile long publishedFrames;
+
+    public FrameBuffer(Supplier<F> frameFactory) {
+        this.frames = List.of(frameFactory.get(), frameFactory.get());
+    }
+
+    /**
+     * Locks the buffer for writing and returns the back frame, which still holds the frame before last.
+     * Must be followed by {@link #endWrite()} in a {@code finally} block.
+     *
+     * @return the frame to overwrite
+     */
+    public F beginWrite() {
+        writeLock.lock();
+        // The increment is a volatile read-modify-write, so the frame writes that follow cannot move before it
+        versions.incrementAndGet(backIndex);
+        return frames.get(backIndex);
+    }
+
+    /**
+     * Publishes the frame being written, which becomes the one readers see.
+     * The buffer stays locked, so the published frame cannot be overwritten before {@link #endWrite()}.
+     *
+     * @return the published frame
+     */
+    public F publish() {
+        if (!writeLock.isHeldByCurrentThread()) {
+            throw new IllegalStateException("publish() called without beginWrite()");
+        }
+        int published = backIndex;
+        versions.incrementAndGet(published);
+        backIndex = frontIndex;
+        frontIndex = published;
+        publishedFrames = publishedFrames + 1;
+        return frames.get(published);
+    }
+
+    /**
+     * Unlocks the buffer after {@link #beginWrite()}, whether or not the frame was published.
+     * An unpublished frame is left odd, and is written over by the next {@code beginWrite()}.
+     */
+    public void endWrite() {
+        int back = backIndex;
+        if ((versions.get(back) & 1) != 0) {
+            versions.incrementAndGet(back);
+        }
+        writeLock.unlock();
+    }
+
+    /**
+     * Returns the last published frame without copying it.
+     * Only stable while the caller holds the write lock, between {@link #publish()} and {@link #endWrite()};
+     * other threads must use {@link #snapshot(ColumnarFrame)}.
+     *
+     * @return the last published frame, empty if none was published yet
+     */
+    public F current() {
+        return frames.get(frontIndex);
+    }
+
+    /**
+     * Copies the last published frame into a frame owned by the caller. Never blocks the writer.
+     *
+     * @param target the frame to overwrite
+     * @return true if a frame had been published, false if the target now holds an empty frame
+     */
+    public boolean snapshot(F target) {
+        while (true) {
+            int index = frontIndex;
+            long version = versions.get(index);
+            if ((version & 1) != 0) {
+                // The writer swapped and is already overwriting this frame: the front index has moved on
+                Thread.onSpinWait();
+                continue;
+            }
+            target.copyFrom(frames.get(index));
+            VarHandle.acquireFence();
+            if (versions.get(index) == version) {
+                return version > 0;
+            }
+        }
+    }
+
+    /**
+     * @return the number of frames published since the buffer was created
+     */
+    public long publishedFrames() {
+        return publishedFrames;
+    }
+}
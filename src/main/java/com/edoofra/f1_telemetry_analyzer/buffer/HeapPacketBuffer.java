@@ -0,0 +1,79 @@
+package com.edoofra.f1_telemetry_analyzer.buffer;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.Consumer;
+
+/**
+ * A {@link PacketBuffer} that keeps each packet as the heap array it arrived in.
+ * This is the default mode: it is simple and cheap for low packet rates,
+ * at the cost of retaining one {@code byte[]} per buffered datagram.
+ */
+public class HeapPacketBuffer implements PacketBuffer {
+
+    private final TelemetryRingBuffer<byte[]> ringBuffer;
+
+    public HeapPacketBuffer(int capacity) {
+        this(capacity, OverflowPolicy.OVERWRITE_OLDEST);
+    }
+
+    public HeapPacketBuffer(int capacity, OverflowPolicy overflowPolicy) {
+        this.ringBuffer = new TelemetryRingBuffer<>(capacity, overflowPolicy);
+    }
+
+    @Override
+    public PutResult put(byte[] packet) {
+        return ringBuffer.offer(packet);
+    }
+
+    @Override
+    public PutResult put(ByteBuffer packet) {
+        byte[] copy = new byte[packet.remaining()];
+        packet.get(packet.position(), copy);
+        return ringBuffer.offer(copy);
+    }
+
+    @Override
+    public boolean poll(Consumer<ByteBuffer> reader) {
+        byte[] packet = ringBuffer.get();
+        if (packet == null) {
+            return false;
+        }
+        reader.accept(viewOf(packet));
+        return true;
+    }
+
+    @Override
+    public int drainTo(Consumer<ByteBuffer> reader, int maxBatch) {
+        return ringBuffer.drainTo(packet -> reader.accept(viewOf(packet)), maxBatch);
+    }
+
+    @Override
+    public byte[] get() {
+        return ringBuffer.get();
+    }
+
+    @Override
+    public byte[] peek() {
+        return ringBuffer.peek();
+    }
+
+    @Override
+    public int size() {
+        return ringBuffer.size();
+    }
+
+    @Override
+    public int capacity() {
+        return ringBuffer.capacity();
+    }
+
+    @Override
+    public int clear() {
+        return ringBuffer.clear();
+    }
+
+    private static ByteBuffer viewOf(byte[] packet) {
+        return ByteBuffer.wrap(packet).asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,15 @@
+package com.edoofra.f1_telemetry_analyzer.buffer;
+
+/**
+ * What a full buffer does with a new item.
+ */
+public enum OverflowPolicy {
+    /**
+     * Evict the oldest item to make room; consumers always see the freshest data.
+     */
+    OVERWRITE_OLDEST,
+    /**
+     * Keep the buffered items and reject the new one; nothing already buffered is ever lost.
+     */
+    REJECT_NEWEST
+}
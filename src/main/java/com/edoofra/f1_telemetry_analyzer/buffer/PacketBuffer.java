@@ -0,0 +1,94 @@
+package com.edoofra.f1_telemetry_analyzer.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+
+/**
+ * A bounded buffer of raw telemetry packets that overwrites the oldest packet when full,
+ * or rejects the new one when created with {@link OverflowPolicy#REJECT_NEWEST}.
+ * Implementations differ in where packet bytes live (on-heap arrays or pre-allocated direct memory),
+ * but share the same lock-free multi-producer/multi-consumer semantics as {@link TelemetryRingBuffer}.
+ */
+public interface PacketBuffer {
+
+    /**
+     * Stores a packet, overwriting the oldest packet if the buffer is full.
+     *
+     * @param packet the raw packet bytes
+     * @return whether the packet was stored, and if storing it evicted the oldest packet
+     */
+    PutResult put(byte[] packet);
+
+    /**
+     * Stores a copy of the packet's remaining bytes, overwriting the oldest packet if the buffer is full.
+     * The packet's position is left unchanged.
+     *
+     * @param packet the raw packet bytes between its position and limit
+     * @return whether the packet was stored, and if storing it evicted the oldest packet
+     */
+    PutResult put(ByteBuffer packet);
+
+    /**
+     * Removes the oldest packet and hands it to the reader as a read-only, little-endian view.
+     * The view is only valid for the duration of the callback and must not be retained.
+     *
+     * @param reader receives the packet bytes between position 0 and the view's limit
+     * @return true if a packet was read, false if the buffer was empty
+     */
+    boolean poll(Consumer<ByteBuffer> reader);
+
+    /**
+     * Removes up to {@code maxBatch} of the oldest packets with a single claim and hands each one to the reader in order.
+     * Each view is only valid for the duration of its callback.
+     *
+     * @param reader   receives each packet view
+     * @param maxBatch the maximum number of packets to remove
+     * @return the number of packets passed to the reader
+     */
+    int drainTo(Consumer<ByteBuffer> reader, int maxBatch);
+
+    /**
+     * Removes the oldest packet and returns it as a heap array.
+     *
+     * @return the packet bytes, or null if the buffer is empty
+     */
+    byte[] get();
+
+    /**
+     * Returns the oldest packet as a heap array without removing it.
+     *
+     * @return the packet bytes, or null if the buffer is empty
+     */
+    byte[] peek();
+
+    /**
+     * @return the number of packets currently stored
+     */
+    int size();
+
+    /**
+     * @return the maximum number of packets the buffer can hold
+     */
+    int capacity();
+
+    /**
+     * @return true if the buffer contains no packets
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return true if the buffer has reached its capacity
+     */
+    default boolean isFull() {
+        return size() == capacity();
+    }
+
+    /**
+     * Discards every stored packet.
+     *
+     * @return the number of packets discarded
+     */
+    int clear();
+}
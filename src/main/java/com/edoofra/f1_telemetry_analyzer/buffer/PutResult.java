@@ -0,0 +1,26 @@
+package com.edoofra.f1_telemetry_analyzer.buffer;
+
+/**
+ * What happened to an item offered to a bounded buffer.
+ */
+public enum PutResult {
+    /**
+     * The item was stored in a free slot.
+     */
+    STORED,
+    /**
+     * The item was stored after evicting the oldest item to make room.
+     */
+    EVICTED_OLDEST,
+    /**
+     * The item was not stored.
+     */
+    REJECTED;
+
+    /**
+     * @return true if the item is now in the buffer
+     */
+    public boolean stored() {
+        return this != REJECTED;
+    }
+}
@@ -0,0 +1,84 @@
+package com.edoofra.f1_telemetry_analyzer.buffer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Left-hand padding for {@link Sequence}.
+ * Keeps the sequence value away from fields of objects allocated just before it.
+ */
+abstract class SequenceLhsPadding {
+    protected long p1, p2, p3, p4, p5, p6, p7;
+}
+
+/**
+ * Holds the actual sequence value between the two padding regions.
+ */
+abstract class SequenceValue extends SequenceLhsPadding {
+    protected volatile long value;
+}
+
+/**
+ * Right-hand padding for {@link Sequence}.
+ * Keeps the sequence value away from fields of objects allocated just after it.
+ */
+abstract class SequenceRhsPadding extends SequenceValue {
+    protected long p9, p10, p11, p12, p13, p14, p15;
+}
+
+/**
+ * A monotonically increasing sequence counter padded to its own cache line.
+ * Producers and consumers of a ring buffer hammer their own counter on every operation,
+ * so the head and tail counters must not share a cache line with each other
+ * (false sharing would make every producer CAS invalidate the consumers' line and vice versa).
+ */
+public final class Sequence extends SequenceRhsPadding {
+
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    public Sequence(long initialValue) {
+        VALUE.setRelease(this, initialValue);
+    }
+
+    /**
+     * Reads the current value with volatile semantics.
+     *
+     * @return the current sequence value
+     */
+    public long get() {
+        return value;
+    }
+
+    /**
+     * Stores a new value with release semantics.
+     *
+     * @param newValue the value to store
+     */
+    public void set(long newValue) {
+        VALUE.setRelease(this, newValue);
+    }
+
+    /**
+     * Atomically sets the value to {@code newValue} if it currently equals {@code expectedValue}.
+     *
+     * @param expectedValue the value the sequence is expected to hold
+     * @param newValue      the value to store
+     * @return true if the update succeeded, false if another thread changed the value first
+     */
+    public boolean compareAndSet(long expectedValue, long newValue) {
+        return VALUE.compareAndSet(this, expectedValue, newValue);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(value);
+    }
+}
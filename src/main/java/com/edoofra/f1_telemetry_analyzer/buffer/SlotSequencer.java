@@ -0,0 +1,266 @@
+package com.edoofra.f1_telemetry_analyzer.buffer;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongConsumer;
+
+/**
+ * Lock-free sequencing shared by the ring buffer implementations.
+ * <p>
+ * The sequencer only hands out positions; the owning buffer decides what a slot stores.
+ * Producers and consumers each own a padded {@link Sequence} counter and claim positions
+ * with a single CAS, while every slot carries its own sequence number that tells whether
+ * the slot is free for the producer of a given lap or holds a published item for the consumer.
+ * <p>
+ * A position is mapped to a slot index with a mask, so the slot count is the capacity
+ * rounded up to the next power of two. The logical capacity is still enforced exactly.
+ */
+final class SlotSequencer {
+
+    /**
+     * Set on a claimed position when the producer had to evict the oldest item to make room.
+     * Real positions never reach this bit, so reporting the eviction this way keeps the claim allocation-free.
+     */
+    static final long EVICTED = 1L << 62;
+
+    /**
+     * The maximum number of published or claimed positions between head and tail.
+     */
+    private final int capacity;
+
+    /**
+     * The number of physical slots (a power of two, at least the capacity).
+     */
+    private final int slots;
+
+    /**
+     * Mask used to map a position to its slot index (slot count - 1).
+     */
+    private final int mask;
+
+    /**
+     * Per-slot sequence numbers.
+     * A slot is free for the producer of position {@code p} when its sequence equals {@code p},
+     * and holds a published item for the consumer of position {@code p} when its sequence equals {@code p + 1}.
+     */
+    private final AtomicLongArray slotSequences;
+
+    /**
+     * The position of the next item to be read.
+     * Advanced by consumers, and by producers when they evict the oldest item.
+     */
+    private final Sequence head = new Sequence(0);
+
+    /**
+     * The position of the next item to be written.
+     * Advanced by producers when they claim a slot.
+     */
+    private final Sequence tail = new Sequence(0);
+
+    SlotSequencer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Ring buffer capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.slots = nextPowerOfTwo(capacity);
+        this.mask = slots - 1;
+        this.slotSequences = new AtomicLongArray(slots);
+        for (int i = 0; i < slots; i++) {
+            slotSequences.set(i, i);
+        }
+    }
+
+    /**
+     * Claims the next producer position, evicting the oldest published position while the buffer is full.
+     * The caller must fill the slot and then {@link #publish(long)} the returned position.
+     *
+     * @param evictionHandler invoked with each evicted position before its slot is released
+     * @return the claimed position, with {@link #EVICTED} set if an item was evicted to make room
+     */
+    long claimNext(LongConsumer evictionHandler) {
+        long evictedFlag = 0;
+        while (true) {
+            long position = tryClaimNext();
+            if (position >= 0) {
+                return position | evictedFlag;
+            }
+            // The buffer is full: evict the oldest item, then retry the claim
+            long evicted = tryClaimHead();
+            if (evicted >= 0) {
+                evictionHandler.accept(evicted);
+                release(evicted);
+                evictedFlag = EVICTED;
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    /**
+     * Claims the next producer position unless the buffer is full.
+     * The caller must fill the slot and then {@link #publish(long)} the returned position.
+     *
+     * @return the claimed position, or -1 if the buffer is full
+     */
+    long tryClaimNext() {
+        while (true) {
+            long currentTail = tail.get();
+
+            if (currentTail - head.get() >= capacity) {
+                return -1;
+            }
+
+            int index = indexOf(currentTail);
+            long difference = slotSequences.get(index) - currentTail;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(currentTail, currentTail + 1)) {
+                    return currentTail;
+                }
+            } else if (difference < 0) {
+                // A consumer from the previous lap still holds this slot, wait for it to release
+                Thread.onSpinWait();
+            }
+            // difference > 0: another producer claimed this position first, reload the tail
+        }
+    }
+
+    /**
+     * Claims the next producer position according to the overflow policy.
+     *
+     * @param policy          what to do when the buffer is full
+     * @param evictionHandler invoked with each evicted position when overwriting
+     * @return the claimed position, with {@link #EVICTED} set if an item was evicted to make room,
+     *         or -1 if the buffer is full and the policy rejects new items
+     */
+    long claim(OverflowPolicy policy, LongConsumer evictionHandler) {
+        return policy == OverflowPolicy.OVERWRITE_OLDEST ? claimNext(evictionHandler) : tryClaimNext();
+    }
+
+    /**
+     * Strips the {@link #EVICTED} flag from a successful claim.
+     *
+     * @param claim the value returned by a claim method
+     * @return the claimed position
+     */
+    static long positionOf(long claim) {
+        return claim & ~EVICTED;
+    }
+
+    /**
+     * Maps a claim to the outcome of the producer's put.
+     *
+     * @param claim the value returned by a claim method
+     * @return what happened to the producer's item
+     */
+    static PutResult resultOf(long claim) {
+        if (claim < 0) {
+            return PutResult.REJECTED;
+        }
+        return (claim & EVICTED) != 0 ? PutResult.EVICTED_OLDEST : PutResult.STORED;
+    }
+
+    /**
+     * Makes a claimed producer position visible to consumers.
+     * Writes to the slot made before this call happen-before the consumer's reads.
+     *
+     * @param position the position returned by a claim method
+     */
+    void publish(long position) {
+        slotSequences.setRelease(indexOf(position), position + 1);
+    }
+
+    /**
+     * Claims the oldest published position for a consumer.
+     * The caller must read the slot and then {@link #release(long)} the returned position.
+     *
+     * @return the claimed position, or -1 if the buffer is empty or the head is not yet published
+     */
+    long tryClaimHead() {
+        while (true) {
+            long currentHead = head.get();
+            long difference = slotSequences.get(indexOf(currentHead)) - (currentHead + 1);
+
+            if (difference == 0) {
+                if (head.compareAndSet(currentHead, currentHead + 1)) {
+                    return currentHead;
+                }
+            } else if (difference < 0) {
+                // Either empty or the next item has been claimed but not yet published
+                return -1;
+            }
+            // difference > 0: another consumer took this position first, reload the head
+        }
+    }
+
+    /**
+     * Claims up to {@code maxBatch} consecutive published positions starting at {@code start} with a single CAS.
+     * Each claimed position must be {@link #release(long) released} once read.
+     *
+     * @param start    the head position observed by the caller
+     * @param maxBatch the maximum number of positions to claim
+     * @return the number of claimed positions, or 0 if nothing was published at {@code start}
+     *         or another consumer moved the head first
+     */
+    int tryClaimHeadBatch(long start, int maxBatch) {
+        int available = 0;
+        while (available < maxBatch && isPublished(start + available)) {
+            available++;
+        }
+        if (available == 0 || !head.compareAndSet(start, start + available)) {
+            return 0;
+        }
+        return available;
+    }
+
+    /**
+     * Hands a consumed slot back to the producer of the next lap.
+     *
+     * @param position the position returned by {@link #tryClaimHead()}
+     */
+    void release(long position) {
+        slotSequences.setRelease(indexOf(position), position + slots);
+    }
+
+    /**
+     * Returns the current head position without claiming it.
+     */
+    long head() {
+        return head.get();
+    }
+
+    /**
+     * Checks whether the given position is published and not yet consumed.
+     */
+    boolean isPublished(long position) {
+        return slotSequences.get(indexOf(position)) == position + 1;
+    }
+
+    int indexOf(long position) {
+        return (int) (position & mask);
+    }
+
+    int size() {
+        long currentHead = head.get();
+        long currentTail = tail.get();
+        return (int) Math.max(0, Math.min(capacity, currentTail - currentHead));
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int slots() {
+        return slots;
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        int highestBit = Integer.highestOneBit(value);
+        if (highestBit == value) {
+            return value;
+        }
+        if (highestBit == 1 << 30) {
+            throw new IllegalArgumentException("Ring buffer capacity is too large: " + value);
+        }
+        return highestBit << 1;
+    }
+}
@@ -1,12 +1,19 @@
 package com.edoofra.f1_telemetry_analyzer.buffer;
 
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
 
 /**
- * A thread-safe ring buffer implementation for telemetry data.
- * This buffer allows concurrent access for reading and writing,
- * ensuring that telemetry data can be stored and retrieved efficiently.
+ * A lock-free, multi-producer/multi-consumer ring buffer for telemetry data.
+ * <p>
+ * The design follows the sequence-based approach popularised by the LMAX Disruptor
+ * (see {@link SlotSequencer}): producers and consumers claim positions with a single CAS
+ * on their own padded counter and no locks are taken, so several processing threads can
+ * drain the buffer concurrently without convoying behind each other or dequeuing the same item twice.
+ * <p>
+ * When the buffer is full, {@link #put(Object)} evicts the oldest item to make room,
+ * preserving the overwrite-oldest semantics expected by the telemetry pipeline,
+ * unless the buffer was created with {@link OverflowPolicy#REJECT_NEWEST}.
  *
  * @param <T> the type of items stored in the buffer
  */
@@ -14,134 +21,150 @@ public class TelemetryRingBuffer<T> {
 
     /**
      * The internal buffer array that holds the telemetry data.
-     * It is of fixed size defined by the capacity.
+     * Its length is the capacity rounded up to the next power of two,
+     * so that positions map to slots with a mask instead of a modulo.
      */
     private final Object[] buffer;
 
     /**
-     * The maximum number of items the buffer can hold.
-     * Once this limit is reached, the oldest items will be overwritten.
+     * Hands out producer and consumer positions and tracks which slots are published.
      */
-    private final int capacity;
+    private final SlotSequencer sequencer;
 
     /**
-     * The index of the head of the buffer, where items are read from.
-     * It is updated when an item is retrieved.
+     * What {@link #put(Object)} does when the buffer is full.
      */
-    private final AtomicInteger head = new AtomicInteger(0);
+    private final OverflowPolicy overflowPolicy;
 
     /**
-     * The index of the tail of the buffer, where new items are written to.
-     * It is updated when an item is added.
+     * Clears the slot of an item evicted by an overwriting producer.
+     * Kept as a field so that evictions do not allocate.
      */
-    private final AtomicInteger tail = new AtomicInteger(0);
+    private final LongConsumer evictionHandler = this::clearSlot;
 
-    /**
-     * The current size of the buffer, indicating how many items are stored.
-     * It is updated when items are added or removed.
-     */
-    private final AtomicInteger size = new AtomicInteger(0);
-
-    /**
-     * A read-write lock to ensure thread-safe access to the buffer.
-     * It allows multiple readers or a single writer at any time.
-     */
-    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    
     public TelemetryRingBuffer(int capacity) {
-        this.capacity = capacity;
-        this.buffer = new Object[capacity];
+        this(capacity, OverflowPolicy.OVERWRITE_OLDEST);
+    }
+
+    public TelemetryRingBuffer(int capacity, OverflowPolicy overflowPolicy) {
+        this.sequencer = new SlotSequencer(capacity);
+        this.buffer = new Object[sequencer.slots()];
+        this.overflowPolicy = overflowPolicy;
     }
 
     /**
      * Adds an item to the buffer.
-     * If the buffer is full, it will overwrite the oldest item to avoid overflow.
-     * This method is thread-safe and can be called concurrently due to the use of a write lock.
+     * If the buffer is full, it will overwrite the oldest item to avoid overflow,
+     * or reject the new item under {@link OverflowPolicy#REJECT_NEWEST}.
+     * This method is lock-free and can be called concurrently by any number of producers.
      *
      * @param item the item to add
-     * @return true if the item was added successfully
+     * @return true if the item was added, false if it was rejected because the buffer is full
      */
     public boolean put(T item) {
-        lock.writeLock().lock();
-        try {
-            int currentTail = tail.get();
-            buffer[currentTail] = item;
-
-            // Update the tail index to the next position, wrapping around if necessary
-            // the %capacity ensures it wraps around when reaching the end
-            // of the buffer, effectively creating a circular buffer.
-            tail.set((currentTail + 1) % capacity);
-            
-            if (size.get() == capacity) {
-                // we need to move the head forward if the buffer is full
-                // this effectively overwrites the oldest item
-                // incrementing head to point to the next item
-                head.set((head.get() + 1) % capacity);
-            } else {
-                size.incrementAndGet();
-            }
-            
-            return true;
-        } finally {
-            lock.writeLock().unlock();
+        return offer(item).stored();
+    }
+
+    /**
+     * Adds an item to the buffer like {@link #put(Object)}, and reports whether the oldest item was evicted to make room.
+     *
+     * @param item the item to add
+     * @return whether the item was stored, and if storing it evicted the oldest item
+     */
+    public PutResult offer(T item) {
+        long claim = sequencer.claim(overflowPolicy, evictionHandler);
+        if (claim < 0) {
+            return PutResult.REJECTED;
         }
+        long position = SlotSequencer.positionOf(claim);
+        buffer[sequencer.indexOf(position)] = item;
+        // Publishing the slot sequence makes the item visible to consumers
+        sequencer.publish(position);
+        return SlotSequencer.resultOf(claim);
     }
 
     /**
      * Retrieves and removes the item at the head of the buffer.
      * If the buffer is empty, it returns null.
-     * This method is thread-safe and can be called concurrently due to the use of a read lock.
+     * This method is lock-free and can be called concurrently by any number of consumers;
+     * each item is handed to exactly one of them.
      *
      * @return the item at the head of the buffer, or null if the buffer is empty
      */
     @SuppressWarnings("unchecked")
     public T get() {
-        lock.readLock().lock();
-        try {
-            if (size.get() == 0) {
-                return null;
+        long position = sequencer.tryClaimHead();
+        if (position < 0) {
+            return null;
+        }
+        T item = (T) buffer[sequencer.indexOf(position)];
+        clearSlot(position);
+        sequencer.release(position);
+        return item;
+    }
+
+    /**
+     * Removes up to {@code maxBatch} items from the head of the buffer and passes them to the consumer in order.
+     * The whole batch is claimed with a single CAS, so draining amortises the per-item synchronisation cost
+     * of {@link #get()}. Concurrent consumers each drain disjoint batches.
+     *
+     * @param consumer receives each removed item
+     * @param maxBatch the maximum number of items to remove
+     * @return the number of items passed to the consumer
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(Consumer<? super T> consumer, int maxBatch) {
+        while (true) {
+            long start = sequencer.head();
+            int count = sequencer.tryClaimHeadBatch(start, maxBatch);
+
+            if (count > 0) {
+                for (long position = start; position < start + count; position++) {
+                    T item = (T) buffer[sequencer.indexOf(position)];
+                    clearSlot(position);
+                    sequencer.release(position);
+                    consumer.accept(item);
+                }
+                return count;
             }
-            
-            int currentHead = head.get();
-            T item = (T) buffer[currentHead];
-            buffer[currentHead] = null;
-            head.set((currentHead + 1) % capacity);
-            size.decrementAndGet();
-            
-            return item;
-        } finally {
-            lock.readLock().unlock();
+            if (sequencer.head() == start) {
+                // Nothing published at the head
+                return 0;
+            }
+            // Another consumer moved the head first, retry from the new head
         }
     }
 
     /**
      * Retrieves the item at the head of the buffer without removing it.
      * If the buffer is empty, it returns null.
-     * This method is thread-safe and can be called concurrently due to the use of a read lock.
+     * The returned item may already have been consumed by another thread by the time the caller inspects it.
      *
      * @return the item at the head of the buffer, or null if the buffer is empty
      */
     @SuppressWarnings("unchecked")
     public T peek() {
-        lock.readLock().lock();
-        try {
-            if (size.get() == 0) {
+        while (true) {
+            long currentHead = sequencer.head();
+            if (!sequencer.isPublished(currentHead)) {
                 return null;
             }
-            return (T) buffer[head.get()];
-        } finally {
-            lock.readLock().unlock();
+            Object item = buffer[sequencer.indexOf(currentHead)];
+            // Only trust the read if no consumer moved past this position in the meantime
+            if (sequencer.head() == currentHead) {
+                return (T) item;
+            }
         }
     }
 
     /**
      * Returns the current size of the buffer, indicating how many items are stored.
-     * This method is thread-safe and can be called concurrently.
+     * Under concurrent modification the value is a snapshot and may include claimed but unpublished items.
      *
      * @return the number of items currently in the buffer
      */
     public int size() {
-        return size.get();
+        return sequencer.size();
     }
 
     /**
@@ -151,7 +174,7 @@ public class TelemetryRingBuffer<T> {
      * @return the maximum number of items the buffer can hold
      */
     public int capacity() {
-        return capacity;
+        return sequencer.capacity();
     }
 
     /**
@@ -161,7 +184,7 @@ public class TelemetryRingBuffer<T> {
      * @return true if the buffer contains no items, false otherwise
      */
     public boolean isEmpty() {
-        return size.get() == 0;
+        return size() == 0;
     }
 
     /**
@@ -171,24 +194,27 @@ public class TelemetryRingBuffer<T> {
      * @return true if the buffer has reached its maximum capacity, false otherwise
      */
     public boolean isFull() {
-        return size.get() == capacity;
+        return size() == capacity();
     }
 
     /**
-     * Clears the buffer, removing all items and resetting the head, tail, and size.
-     * This method is thread-safe and can be called concurrently due to the use of a write lock.
+     * Clears the buffer by discarding every published item.
+     * Unlike a reset of the counters, this is safe to call while producers and consumers are running.
+     *
+     * @return the number of items discarded
      */
-    public void clear() {
-        lock.writeLock().lock();
-        try {
-            for (int i = 0; i < capacity; i++) {
-                buffer[i] = null;
-            }
-            head.set(0);
-            tail.set(0);
-            size.set(0);
-        } finally {
-            lock.writeLock().unlock();
+    public int clear() {
+        int cleared = 0;
+        long position;
+        while ((position = sequencer.tryClaimHead()) >= 0) {
+            clearSlot(position);
+            sequencer.release(position);
+            cleared++;
         }
+        return cleared;
+    }
+
+    private void clearSlot(long position) {
+        buffer[sequencer.indexOf(position)] = null;
     }
-}
\ No newline at end of file
+}
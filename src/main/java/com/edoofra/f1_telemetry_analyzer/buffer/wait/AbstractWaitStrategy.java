@@ -0,0 +1,76 @@
+package com.edoofra.f1_telemetry_analyzer.buffer.wait;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Base class that records idle and wake-up statistics around the actual waiting logic.
+ * Counters are {@link LongAdder}s so that several consumers can update them without contention.
+ */
+abstract class AbstractWaitStrategy implements WaitStrategy {
+
+    private final LongAdder idleCount = new LongAdder();
+    private final LongAdder wakeupCount = new LongAdder();
+    private final LongAdder timeoutCount = new LongAdder();
+    private final LongAdder idleNanos = new LongAdder();
+    protected final LongAdder signalCount = new LongAdder();
+
+    @Override
+    public final boolean waitFor(BooleanSupplier workAvailable, long timeoutNanos) throws InterruptedException {
+        idleCount.increment();
+        long start = System.nanoTime();
+        boolean available = false;
+        try {
+            available = doWait(workAvailable, start + timeoutNanos);
+            return available;
+        } finally {
+            idleNanos.add(System.nanoTime() - start);
+            if (available) {
+                wakeupCount.increment();
+            } else {
+                timeoutCount.increment();
+            }
+        }
+    }
+
+    /**
+     * Waits until {@code workAvailable} returns true or {@code deadlineNanos} (a {@link System#nanoTime()} value) passes.
+     *
+     * @return true if work became available, false on timeout
+     */
+    protected abstract boolean doWait(BooleanSupplier workAvailable, long deadlineNanos) throws InterruptedException;
+
+    @Override
+    public void signalAll() {
+        // Spinning strategies notice new data on their own
+    }
+
+    @Override
+    public long getIdleCount() {
+        return idleCount.sum();
+    }
+
+    @Override
+    public long getWakeupCount() {
+        return wakeupCount.sum();
+    }
+
+    @Override
+    public long getTimeoutCount() {
+        return timeoutCount.sum();
+    }
+
+    @Override
+    public long getIdleNanos() {
+        return idleNanos.sum();
+    }
+
+    @Override
+    public long getSignalCount() {
+        return signalCount.sum();
+    }
+
+    protected static boolean isPast(long deadlineNanos) {
+        return System.nanoTime() - deadlineNanos >= 0;
+    }
+}
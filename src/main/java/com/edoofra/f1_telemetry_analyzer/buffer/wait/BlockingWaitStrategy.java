@@ -0,0 +1,59 @@
+package com.edoofra.f1_telemetry_analyzer.buffer.wait;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Blocks idle consumers on a lock condition until a producer signals new data.
+ * The most CPU-friendly strategy, suited to laptops running the analyzer next to the game.
+ * Producers only take the lock when a consumer is actually waiting.
+ */
+public class BlockingWaitStrategy extends AbstractWaitStrategy {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition dataPublished = lock.newCondition();
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    @Override
+    protected boolean doWait(BooleanSupplier workAvailable, long deadlineNanos) throws InterruptedException {
+        lock.lock();
+        waiters.incrementAndGet();
+        try {
+            while (!workAvailable.getAsBoolean()) {
+                long remaining = deadlineNanos - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                dataPublished.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            waiters.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void signalAll() {
+        // Order the producer's publish before the waiter check (the consumer side is ordered by the atomic increment)
+        VarHandle.fullFence();
+        if (waiters.get() == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            dataPublished.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        signalCount.increment();
+    }
+
+    @Override
+    public String name() {
+        return "blocking";
+    }
+}
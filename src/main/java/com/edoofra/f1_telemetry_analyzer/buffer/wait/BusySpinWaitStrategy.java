@@ -0,0 +1,26 @@
+package com.edoofra.f1_telemetry_analyzer.buffer.wait;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Spins on the buffer until work arrives.
+ * Gives the lowest wake-up latency at the cost of one fully busy core per consumer thread.
+ */
+public class BusySpinWaitStrategy extends AbstractWaitStrategy {
+
+    @Override
+    protected boolean doWait(BooleanSupplier workAvailable, long deadlineNanos) {
+        while (!workAvailable.getAsBoolean()) {
+            if (isPast(deadlineNanos)) {
+                return false;
+            }
+            Thread.onSpinWait();
+        }
+        return true;
+    }
+
+    @Override
+    public String name() {
+        return "busy-spin";
+    }
+}
@@ -0,0 +1,97 @@
+package com.edoofra.f1_telemetry_analyzer.buffer.wait;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Decides how a consumer thread waits when the telemetry buffer is empty.
+ * <p>
+ * Strategies trade latency for CPU: spinning reacts within nanoseconds but burns a core,
+ * while parking and blocking strategies sleep until a producer {@link #signalAll() signals} new data.
+ * Every strategy counts how often consumers went idle, how often they woke up to work or timed out,
+ * and how long they spent waiting.
+ */
+public interface WaitStrategy {
+
+    /**
+     * Waits until work may be available, the timeout elapses, or the thread is interrupted.
+     *
+     * @param workAvailable checked by the strategy; returns true once there is something to consume
+     * @param timeoutNanos  upper bound on the wait, so that callers can re-check their running flag
+     * @return true if work became available, false if the wait timed out
+     * @throws InterruptedException if the waiting thread is interrupted
+     */
+    boolean waitFor(BooleanSupplier workAvailable, long timeoutNanos) throws InterruptedException;
+
+    /**
+     * Called by producers after publishing new data.
+     * Strategies that put consumers to sleep wake them up; spinning strategies ignore it.
+     */
+    void signalAll();
+
+    /**
+     * @return a short, metric-friendly name of the strategy
+     */
+    String name();
+
+    /**
+     * @return the number of times a consumer found no work and started waiting
+     */
+    long getIdleCount();
+
+    /**
+     * @return the number of waits that ended because work became available
+     */
+    long getWakeupCount();
+
+    /**
+     * @return the number of waits that ended because the timeout elapsed
+     */
+    long getTimeoutCount();
+
+    /**
+     * @return the total time consumers spent waiting, in nanoseconds
+     */
+    long getIdleNanos();
+
+    /**
+     * @return the number of producer signals that found a sleeping consumer to wake
+     */
+    long getSignalCount();
+
+    /**
+     * Creates the strategy of the given type.
+     *
+     * @param type the configured strategy type
+     * @return a new strategy instance
+     */
+    static WaitStrategy create(Type type) {
+        return switch (type) {
+            case BUSY_SPIN -> new BusySpinWaitStrategy();
+            case SPIN_THEN_YIELD -> new SpinThenYieldWaitStrategy();
+            case PARKING -> new ParkingWaitStrategy();
+            case BLOCKING -> new BlockingWaitStrategy();
+        };
+    }
+
+    /**
+     * Available wait strategies, from lowest latency to lowest CPU usage.
+     */
+    enum Type {
+        /**
+         * Spins on the buffer; lowest latency, keeps one core per consumer at 100%.
+         */
+        BUSY_SPIN,
+        /**
+         * Spins briefly, then yields the CPU between checks.
+         */
+        SPIN_THEN_YIELD,
+        /**
+         * Parks the thread with {@code LockSupport} until a producer unparks it.
+         */
+        PARKING,
+        /**
+         * Blocks on a lock condition until a producer signals it.
+         */
+        BLOCKING
+    }
+}
@@ -1,9 +1,15 @@
 package com.edoofra.f1_telemetry_analyzer.config;
 
+import com.edoofra.f1_telemetry_analyzer.buffer.OverflowPolicy;
+import com.edoofra.f1_telemetry_analyzer.model.PacketPriority;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 /**
  * Configuration properties for the telemetry buffer management system.
  * This class centralizes all buffer-related configuration properties
@@ -15,7 +21,8 @@ import org.springframework.context.annotation.Configuration;
 public class TelemetryBufferConfig {
     
     /**
-     * The maximum number of telemetry packets the ring buffer can hold.
+     * The maximum number of telemetry packets each per-type ring buffer can hold,
+     * unless overridden for the type in {@link #types}.
      * Once this limit is reached, the oldest packets will be overwritten.
      * Default: 10,000 packets
      */
@@ -48,4 +55,128 @@ public class TelemetryBufferConfig {
      * Default: 80% (0.8)
      */
     private double highUtilizationThreshold = 0.8;
+
+    /**
+     * Where buffered packet bytes are stored.
+     * HEAP keeps each datagram's own byte array; OFF_HEAP copies packets into
+     * pre-allocated direct-memory slots so that buffering allocates nothing.
+     * OFF_HEAP reserves capacity (rounded up to a power of two) x 1.5 KB of direct memory per packet type.
+     * Default: HEAP
+     */
+    private Mode mode = Mode.HEAP;
+
+    /**
+     * Per-type buffer settings, keyed by packet type (e.g. {@code f1.telemetry.buffer.types.event.capacity=256}).
+     * Every packet type gets its own buffer, so high-rate types such as Motion can never evict
+     * rare ones such as Event or Final Classification. Types without an entry use the defaults.
+     */
+    private Map<PacketType, PacketTypeBuffer> types = new EnumMap<>(PacketType.class);
+
+    /**
+     * How packets are shed when the buffers as a whole fill up, e.g. because processing stalls.
+     */
+    private Overload overload = new Overload();
+
+    /**
+     * Returns the buffer capacity for a packet type, or the default capacity if none is configured.
+     */
+    public int capacityFor(PacketType type) {
+        PacketTypeBuffer settings = types.get(type);
+        return settings != null && settings.getCapacity() != null ? settings.getCapacity() : capacity;
+    }
+
+    /**
+     * Returns the overflow policy for a packet type, or overwrite-oldest if none is configured.
+     */
+    public OverflowPolicy overflowPolicyFor(PacketType type) {
+        PacketTypeBuffer settings = types.get(type);
+        return settings != null ? settings.getOverflowPolicy() : OverflowPolicy.OVERWRITE_OLDEST;
+    }
+
+    /**
+     * Returns the overload priority for a packet type, or the type's default priority if none is configured.
+     */
+    public PacketPriority priorityFor(PacketType type) {
+        PacketTypeBuffer settings = types.get(type);
+        return settings != null && settings.getPriority() != null ? settings.getPriority() : type.getDefaultPriority();
+    }
+
+    /**
+     * Buffer settings for a single packet type.
+     */
+    @Data
+    public static class PacketTypeBuffer {
+
+        /**
+         * Capacity of this type's buffer. Default: the global capacity
+         */
+        private Integer capacity;
+
+        /**
+         * Whether a full buffer overwrites its oldest packet or rejects the new one.
+         * Default: OVERWRITE_OLDEST
+         */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.OVERWRITE_OLDEST;
+
+        /**
+         * Priority of this type under overload. Default: the type's built-in priority
+         * (Motion and Motion Ex are LOW; Session, Lap Data, Event, Participants,
+         * Final Classification and Session History are HIGH; the rest NORMAL)
+         */
+        private PacketPriority priority;
+    }
+
+    /**
+     * Overload policy settings. Thresholds are fractions of {@link #totalCapacity}, measured against
+     * the number of packets buffered across all packet types.
+     */
+    @Data
+    public static class Overload {
+
+        /**
+         * Whether low- and normal-priority packets are decimated and shed under load.
+         * When disabled, packets are only dropped when their own type's buffer is full.
+         * Default: true
+         */
+        private boolean enabled = true;
+
+        /**
+         * Total number of buffered packets, across all types, the thresholds are relative to.
+         * Default: the global capacity
+         */
+        private Integer totalCapacity;
+
+        /**
+         * Above this fill level, LOW priority packets are decimated: only one in {@link #decimationFactor} is kept.
+         * Default: 0.5
+         */
+        private double decimateThreshold = 0.5;
+
+        /**
+         * Keep one in this many LOW priority packets while decimating.
+         * Default: 4 (60Hz Motion becomes 15Hz)
+         */
+        private int decimationFactor = 4;
+
+        /**
+         * Above this fill level, LOW priority packets are shed entirely.
+         * Default: 0.7
+         */
+        private double shedThreshold = 0.7;
+
+        /**
+         * Fraction of the total capacity reserved for HIGH priority packets:
+         * above {@code 1 - reservedHeadroom}, NORMAL priority packets are shed as well.
+         * Default: 0.2
+         */
+        private double reservedHeadroom = 0.2;
+    }
+
+    /**
+     * Storage modes for the telemetry packet buffer.
+     */
+    public enum Mode {
+        HEAP,
+        OFF_HEAP
+    }
 }
\ No newline at end of file
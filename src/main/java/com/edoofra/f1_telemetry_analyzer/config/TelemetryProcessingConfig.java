@@ -1,5 +1,6 @@
 package com.edoofra.f1_telemetry_analyzer.config;
 
+import com.edoofra.f1_telemetry_analyzer.buffer.wait.WaitStrategy;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
@@ -25,15 +26,15 @@ public class TelemetryProcessingConfig {
      * Number of background threads dedicated to processing telemetry packets.
      * More threads can handle higher packet volumes but use more CPU resources.
      * For F1 telemetry at 60Hz, 1-2 threads are typically sufficient.
+     * In PARTITIONED execution mode this is the number of partitions, fed by a single draining thread.
      * Default: 1
      */
     private int threadCount = 1;
     
     /**
-     * Interval in milliseconds between buffer polls when no packets are available.
-     * Lower values provide better responsiveness but use more CPU.
-     * Higher values reduce CPU usage but may introduce processing delays.
-     * Default: 10ms (suitable for 60Hz F1 telemetry)
+     * Interval in milliseconds a processing thread backs off after an unexpected error.
+     * Idle waiting is governed by {@link #waitStrategy} instead.
+     * Default: 10ms
      */
     private int pollIntervalMs = 10;
     
@@ -44,6 +45,39 @@ public class TelemetryProcessingConfig {
      */
     private int maxWaitTimeMs = 100;
     
+    /**
+     * How processing threads wait when the buffer is empty.
+     * BUSY_SPIN and SPIN_THEN_YIELD give the lowest latency but keep a core busy per thread;
+     * PARKING and BLOCKING sleep until the receiver signals a new packet.
+     * Default: PARKING
+     */
+    private WaitStrategy.Type waitStrategy = WaitStrategy.Type.PARKING;
+    
+    /**
+     * Where the processing stages run.
+     * PLATFORM runs them on the processing threads; VIRTUAL keeps draining and the CPU-bound stages, decoding
+     * among them, on the {@link #threadCount} platform threads and hands each blocking stage its packets on its own
+     * virtual thread, so stages blocking on JDBC or WebSocket sends do not stall the pool.
+     * PARTITIONED drains the buffers on one thread and runs the stages on {@link #threadCount} single-threaded
+     * partitions, keyed by session, so the packets of a session are handled in order on one thread.
+     * Default: PLATFORM
+     */
+    private ExecutionMode executionMode = ExecutionMode.PLATFORM;
+    
+    /**
+     * Number of packets each stage (VIRTUAL execution mode) or partition (PARTITIONED execution mode) may have queued.
+     * When a queue is full, the processing threads wait and packets stay in the ring buffers.
+     * Default: 1024
+     */
+    private int stageQueueCapacity = 1024;
+    
+    /**
+     * Minimum duration in milliseconds of a virtual thread pinning its carrier for it to be
+     * recorded by the pinning metrics in VIRTUAL execution mode.
+     * Default: 20ms
+     */
+    private int pinnedThresholdMs = 20;
+    
     /**
      * Whether to process packets in batch mode for better efficiency.
      * When enabled, multiple packets are processed in a single operation.
@@ -70,4 +104,13 @@ public class TelemetryProcessingConfig {
      * Default: 30 seconds
      */
     private int statsLogIntervalSeconds = 30;
-}
\ No newline at end of file
+    
+    /**
+     * Execution modes for the processing stages.
+     */
+    public enum ExecutionMode {
+        PLATFORM,
+        VIRTUAL,
+        PARTITIONED
+    }
+}
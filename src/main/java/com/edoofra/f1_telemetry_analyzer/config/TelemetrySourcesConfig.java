@@ -0,0 +1,56 @@
+package com.edoofra.f1_telemetry_analyzer.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for additional telemetry sources, e.g. several consoles in a league setup.
+ * The listener on {@code f1.telemetry.udp.port} always feeds the "default" source; every source
+ * configured here gets its own buffers, wait strategy and processing threads, so a noisy client
+ * cannot starve the others.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "f1.telemetry")
+public class TelemetrySourcesConfig {
+
+    /**
+     * Additional sources, matched by the port they send to and/or the address they send from.
+     * Default: none (a single source)
+     */
+    private List<Source> sources = new ArrayList<>();
+
+    /**
+     * A single telemetry source.
+     */
+    @Data
+    public static class Source {
+
+        /**
+         * Name of the source, used in thread names and as the {@code source} metrics tag.
+         */
+        private String name;
+
+        /**
+         * UDP port the source sends to. Ports other than the default one require the NIO receiver.
+         * Default: the default UDP port
+         */
+        private Integer port;
+
+        /**
+         * Address the source sends from; datagrams from other senders on the same port go to other sources.
+         * Default: any sender on the port
+         */
+        private String address;
+
+        /**
+         * Number of processing threads for this source.
+         * Default: f1.telemetry.processing.thread-count
+         */
+        private Integer threadCount;
+    }
+}
@@ -1,6 +1,7 @@
 package com.edoofra.f1_telemetry_analyzer.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.channel.DirectChannel;
@@ -9,7 +10,13 @@ import org.springframework.integration.core.MessageProducer;
 import org.springframework.integration.ip.udp.UnicastReceivingChannelAdapter;
 import org.springframework.messaging.MessageChannel;
 
+/**
+ * Wires the Spring Integration UDP adapter that feeds {@code UdpTelemetryHandler}.
+ * This is the default receiver; setting {@code f1.telemetry.udp.receiver=nio} replaces it
+ * with {@code NioTelemetryReceiver}, which reads datagrams on its own NIO threads without a message wrapper.
+ */
 @Configuration
+@ConditionalOnProperty(name = "f1.telemetry.udp.receiver", havingValue = "adapter", matchIfMissing = true)
 public class UdpListenerConfig {
 
     @Value("${f1.telemetry.udp.port:20777}")
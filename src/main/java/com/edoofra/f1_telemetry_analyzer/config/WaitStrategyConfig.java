@@ -0,0 +1,57 @@
+package com.edoofra.f1_telemetry_analyzer.config;
+
+import com.edoofra.f1_telemetry_analyzer.buffer.wait.WaitStrategy;
+import com.edoofra.f1_telemetry_analyzer.service.udp.TelemetryBufferManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Creates the {@link WaitStrategy} shared by the telemetry buffer (which signals it)
+ * and the processing threads (which wait on it), and exposes its idle and wake-up statistics as metrics.
+ */
+@Slf4j
+@Configuration
+public class WaitStrategyConfig {
+
+    @Bean
+    public WaitStrategy telemetryWaitStrategy(TelemetryProcessingConfig config, MeterRegistry meterRegistry) {
+        WaitStrategy waitStrategy = WaitStrategy.create(config.getWaitStrategy());
+        registerMetrics(waitStrategy, meterRegistry, TelemetryBufferManager.DEFAULT_SOURCE);
+        log.info("Telemetry processing wait strategy: {}", waitStrategy.name());
+        return waitStrategy;
+    }
+
+    /**
+     * Registers the idle and wake-up statistics of a wait strategy, tagged with the telemetry source it serves.
+     */
+    public static void registerMetrics(WaitStrategy waitStrategy, MeterRegistry meterRegistry, String source) {
+        FunctionCounter.builder("telemetry.processing.wait.idle", waitStrategy, WaitStrategy::getIdleCount)
+            .description("Number of times a processing thread found the buffer empty and started waiting")
+            .tag("source", source)
+            .register(meterRegistry);
+
+        FunctionCounter.builder("telemetry.processing.wait.wakeups", waitStrategy, WaitStrategy::getWakeupCount)
+            .description("Number of waits that ended because a packet became available")
+            .tag("source", source)
+            .register(meterRegistry);
+
+        FunctionCounter.builder("telemetry.processing.wait.timeouts", waitStrategy, WaitStrategy::getTimeoutCount)
+            .description("Number of waits that ended without a packet")
+            .tag("source", source)
+            .register(meterRegistry);
+
+        FunctionCounter.builder("telemetry.processing.wait.idle.time", waitStrategy, s -> s.getIdleNanos() / 1e9)
+            .description("Total time processing threads spent waiting for packets")
+            .baseUnit("seconds")
+            .tag("source", source)
+            .register(meterRegistry);
+
+        FunctionCounter.builder("telemetry.processing.wait.signals", waitStrategy, WaitStrategy::getSignalCount)
+            .description("Number of producer signals that woke a waiting processing thread")
+            .tag("source", source)
+            .register(meterRegistry);
+    }
+}
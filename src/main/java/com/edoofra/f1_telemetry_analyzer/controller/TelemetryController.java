@@ -1,15 +1,28 @@
 package com.edoofra.f1_telemetry_analyzer.controller;
 
 import com.edoofra.f1_telemetry_analyzer.model.BufferStats;
+import com.edoofra.f1_telemetry_analyzer.service.analytics.LapDeltaStage;
+import com.edoofra.f1_telemetry_analyzer.service.analytics.LiveDeltaSnapshot;
+import com.edoofra.f1_telemetry_analyzer.service.analytics.StrategyEstimate;
+import com.edoofra.f1_telemetry_analyzer.service.analytics.StrategyStage;
 import com.edoofra.f1_telemetry_analyzer.service.processing.TelemetryProcessingService;
+import com.edoofra.f1_telemetry_analyzer.service.session.LiveSessionRegistry;
+import com.edoofra.f1_telemetry_analyzer.service.session.LiveSessionSnapshot;
+import com.edoofra.f1_telemetry_analyzer.service.source.TelemetrySource;
+import com.edoofra.f1_telemetry_analyzer.service.source.TelemetrySourceRegistry;
 import com.edoofra.f1_telemetry_analyzer.service.udp.TelemetryBufferManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * REST controller for monitoring and controlling the F1 telemetry system.
  * Provides endpoints to check buffer status, processing status, and control operations.
@@ -21,6 +34,10 @@ public class TelemetryController {
 
     private final TelemetryBufferManager bufferManager;
     private final TelemetryProcessingService processingService;
+    private final TelemetrySourceRegistry sourceRegistry;
+    private final LiveSessionRegistry sessionRegistry;
+    private final LapDeltaStage lapDeltaStage;
+    private final StrategyStage strategyStage;
     
     /**
      * Get current buffer statistics.
@@ -30,6 +47,73 @@ public class TelemetryController {
         return ResponseEntity.ok(bufferManager.getBufferStats());
     }
     
+    /**
+     * Get buffer statistics and processing status of every telemetry source, keyed by source name.
+     */
+    @GetMapping("/sources")
+    public ResponseEntity<Map<String, SourceStatus>> getSources() {
+        Map<String, SourceStatus> sources = new LinkedHashMap<>();
+        for (TelemetrySource source : sourceRegistry.getSources()) {
+            sources.put(source.name(), new SourceStatus(
+                source.port(),
+                source.address() != null ? source.address().getHostAddress() : null,
+                source.bufferManager().getBufferStats(),
+                source.processingService().getStatus()
+            ));
+        }
+        return ResponseEntity.ok(sources);
+    }
+    
+    /**
+     * Get the live sessions held in memory, most recently started first.
+     */
+    @GetMapping("/sessions")
+    public ResponseEntity<List<LiveSessionSnapshot>> getSessions() {
+        return ResponseEntity.ok(sessionRegistry.snapshots());
+    }
+    
+    /**
+     * Get the live state of one session, identified by its unsigned {@code sessionUID}.
+     */
+    @GetMapping("/sessions/{sessionUID}")
+    public ResponseEntity<LiveSessionSnapshot> getSession(@PathVariable String sessionUID) {
+        long uid;
+        try {
+            uid = Long.parseUnsignedLong(sessionUID);
+        } catch (NumberFormatException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.of(sessionRegistry.snapshot(uid));
+    }
+    
+    /**
+     * Get the live delta of every car of one session to the session's best lap.
+     */
+    @GetMapping("/sessions/{sessionUID}/delta")
+    public ResponseEntity<LiveDeltaSnapshot> getSessionDelta(@PathVariable String sessionUID) {
+        long uid;
+        try {
+            uid = Long.parseUnsignedLong(sessionUID);
+        } catch (NumberFormatException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.of(lapDeltaStage.snapshot(uid));
+    }
+    
+    /**
+     * Get the latest tyre and fuel estimate of every car of one session.
+     */
+    @GetMapping("/sessions/{sessionUID}/strategy")
+    public ResponseEntity<List<StrategyEstimate>> getSessionStrategy(@PathVariable String sessionUID) {
+        long uid;
+        try {
+            uid = Long.parseUnsignedLong(sessionUID);
+        } catch (NumberFormatException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.of(strategyStage.estimates(uid));
+    }
+    
     /**
      * Get processing service status.
      */
@@ -104,4 +188,14 @@ public class TelemetryController {
         TelemetryProcessingService.ProcessingStatus processingStatus,
         String overallHealth
     ) {}
+    
+    /**
+     * Buffer and processing information of one telemetry source.
+     */
+    public record SourceStatus(
+        int port,
+        String address,
+        BufferStats bufferStats,
+        TelemetryProcessingService.ProcessingStatus processingStatus
+    ) {}
 }
\ No newline at end of file
@@ -1,23 +1,37 @@
 package com.edoofra.f1_telemetry_analyzer.model;
 
+import java.util.Map;
+
 /**
  * Represents statistics about a telemetry buffer's current state and usage.
  * This record provides insights into buffer utilization, performance metrics,
  * and operational statistics for monitoring and debugging purposes.
  *
+ * The totals cover every per-type buffer; {@code packetTypes} breaks them down by packet type.
+ *
  * @param currentSize   the number of items currently stored in the buffer
  * @param capacity      the maximum number of items the buffer can hold
  * @param totalReceived the total number of packets received since initialization
  * @param totalDropped  the total number of packets dropped due to buffer overflow
  * @param dropRate      the percentage of packets dropped (0-100)
+ * @param packetsPerSecond the receive rate over the last statistics interval
+ * @param bytesPerSecond   the receive throughput over the last statistics interval
+ * @param packetTypes   per-type statistics, keyed by packet type name
  */
 public record BufferStats(
         int currentSize,
         int capacity,
         long totalReceived,
         long totalDropped,
-        double dropRate
+        double dropRate,
+        double packetsPerSecond,
+        double bytesPerSecond,
+        Map<String, PacketTypeStats> packetTypes
 ) {
+
+    public BufferStats(int currentSize, int capacity, long totalReceived, long totalDropped, double dropRate) {
+        this(currentSize, capacity, totalReceived, totalDropped, dropRate, 0.0, 0.0, Map.of());
+    }
     
     /**
      * Checks if the buffer is currently empty.
@@ -0,0 +1,28 @@
+package com.edoofra.f1_telemetry_analyzer.model;
+
+/**
+ * Why a telemetry packet was dropped instead of being processed.
+ */
+public enum DropReason {
+    /**
+     * The packet type's buffer was full and its oldest packet was overwritten.
+     */
+    OVERWRITTEN,
+    /**
+     * The packet type's buffer was full (or the packet too large) and the new packet was rejected.
+     */
+    REJECTED,
+    /**
+     * The buffers were under load and a low-priority packet was skipped to thin out its stream.
+     */
+    DECIMATED,
+    /**
+     * The buffers were close to their total capacity and a lower-priority packet was shed
+     * to keep headroom for high-priority types.
+     */
+    SHED,
+    /**
+     * The packet's {@code packetFormat} is not a game year the analyzer can decode, so it was not buffered at all.
+     */
+    UNSUPPORTED_FORMAT
+}
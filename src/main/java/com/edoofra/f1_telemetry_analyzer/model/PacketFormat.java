@@ -0,0 +1,37 @@
+package com.edoofra.f1_telemetry_analyzer.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The game years whose packet layouts the analyzer can decode, identified by the {@code packetFormat} field
+ * of the packet header. Packets of any other format are rejected at ingest.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PacketFormat {
+    F1_23(2023),
+    F1_24(2024);
+
+    private static final PacketFormat[] VALUES = values();
+
+    /**
+     * The {@code packetFormat} value sent by the game.
+     */
+    private final int value;
+
+    /**
+     * Looks up a format by its header value without allocating.
+     *
+     * @param packetFormat the {@code packetFormat} from the packet header
+     * @return the format, or null if the analyzer cannot decode it
+     */
+    public static PacketFormat fromValue(int packetFormat) {
+        for (PacketFormat format : VALUES) {
+            if (format.value == packetFormat) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
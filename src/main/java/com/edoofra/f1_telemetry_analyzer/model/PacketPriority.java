@@ -0,0 +1,19 @@
+package com.edoofra.f1_telemetry_analyzer.model;
+
+/**
+ * How important a packet type is when the telemetry buffers are overloaded.
+ */
+public enum PacketPriority {
+    /**
+     * High-rate data that can be thinned out without losing meaning (e.g. Motion); decimated, then shed first.
+     */
+    LOW,
+    /**
+     * Regular data; shed only when the reserved headroom is reached.
+     */
+    NORMAL,
+    /**
+     * Rare or lap-critical data (e.g. Event, Final Classification); never shed by the overload policy.
+     */
+    HIGH
+}
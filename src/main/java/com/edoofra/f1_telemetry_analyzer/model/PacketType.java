@@ -0,0 +1,56 @@
+package com.edoofra.f1_telemetry_analyzer.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The F1 24 UDP packet types, identified by the {@code packetId} byte of the packet header.
+ * Each type carries its default {@link PacketPriority} for overload handling.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PacketType {
+    MOTION(0, PacketPriority.LOW),
+    SESSION(1, PacketPriority.HIGH),
+    LAP_DATA(2, PacketPriority.HIGH),
+    EVENT(3, PacketPriority.HIGH),
+    PARTICIPANTS(4, PacketPriority.HIGH),
+    CAR_SETUPS(5, PacketPriority.NORMAL),
+    CAR_TELEMETRY(6, PacketPriority.NORMAL),
+    CAR_STATUS(7, PacketPriority.NORMAL),
+    FINAL_CLASSIFICATION(8, PacketPriority.HIGH),
+    LOBBY_INFO(9, PacketPriority.NORMAL),
+    CAR_DAMAGE(10, PacketPriority.NORMAL),
+    SESSION_HISTORY(11, PacketPriority.HIGH),
+    TYRE_SETS(12, PacketPriority.NORMAL),
+    MOTION_EX(13, PacketPriority.LOW),
+    TIME_TRIAL(14, PacketPriority.NORMAL);
+
+    private static final PacketType[] BY_ID = new PacketType[values().length];
+
+    static {
+        for (PacketType type : values()) {
+            BY_ID[type.id] = type;
+        }
+    }
+
+    /**
+     * The {@code packetId} value sent by the game.
+     */
+    private final int id;
+
+    /**
+     * Priority used by the overload policy unless overridden in the buffer configuration.
+     */
+    private final PacketPriority defaultPriority;
+
+    /**
+     * Looks up a packet type by its header id without allocating.
+     *
+     * @param id the {@code packetId} from the packet header
+     * @return the packet type, or null if the id is unknown
+     */
+    public static PacketType fromId(int id) {
+        return id >= 0 && id < BY_ID.length ? BY_ID[id] : null;
+    }
+}
@@ -0,0 +1,46 @@
+package com.edoofra.f1_telemetry_analyzer.model;
+
+import java.util.Map;
+
+/**
+ * Statistics about the buffer of a single packet type.
+ *
+ * @param currentSize   the number of packets of this type currently buffered
+ * @param capacity      the maximum number of packets of this type the buffer can hold
+ * @param totalReceived the total number of packets of this type received since initialization
+ * @param totalDropped  the total number of packets of this type dropped, for any reason
+ * @param priority      the priority of this type under overload
+ * @param drops         the number of dropped packets of this type by {@link DropReason}
+ * @param bytesReceived the total number of bytes of this type received since initialization
+ * @param packetsPerSecond the receive rate over the last statistics interval
+ * @param bytesPerSecond   the receive throughput over the last statistics interval
+ * @param meanInterArrivalMs the mean time between two packets of this type, in milliseconds
+ * @param jitterMs         the smoothed variation of the time between packets, in milliseconds
+ * @param frameGaps        the number of times the frame identifier skipped ahead (per-frame types only)
+ * @param missedFrames     the estimated number of packets lost in those skips
+ */
+public record PacketTypeStats(
+        int currentSize,
+        int capacity,
+        long totalReceived,
+        long totalDropped,
+        PacketPriority priority,
+        Map<DropReason, Long> drops,
+        long bytesReceived,
+        double packetsPerSecond,
+        double bytesPerSecond,
+        double meanInterArrivalMs,
+        double jitterMs,
+        long frameGaps,
+        long missedFrames
+) {
+
+    /**
+     * Calculates the current buffer utilization as a percentage.
+     *
+     * @return the percentage of this type's buffer capacity currently in use (0-100)
+     */
+    public double utilizationPercentage() {
+        return (double) currentSize / capacity * 100.0;
+    }
+}
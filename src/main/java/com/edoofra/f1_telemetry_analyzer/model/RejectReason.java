@@ -0,0 +1,23 @@
+package com.edoofra.f1_telemetry_analyzer.model;
+
+/**
+ * Why a datagram was rejected by validation at ingest, before it could take buffer capacity.
+ */
+public enum RejectReason {
+    /**
+     * The datagram is shorter than a packet header.
+     */
+    TRUNCATED_HEADER,
+    /**
+     * The header's {@code packetFormat} is not a game year the analyzer can decode.
+     */
+    UNSUPPORTED_FORMAT,
+    /**
+     * The format defines no packet with the header's {@code packetId} and {@code packetVersion}.
+     */
+    UNKNOWN_PACKET,
+    /**
+     * The datagram size differs from the size of its packet type in its format.
+     */
+    SIZE_MISMATCH
+}
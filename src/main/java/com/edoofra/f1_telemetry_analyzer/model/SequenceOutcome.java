@@ -0,0 +1,40 @@
+package com.edoofra.f1_telemetry_analyzer.model;
+
+/**
+ * Where a packet fell in its session's stream of overall frame identifiers, as classified by the sequence tracker
+ * at ingest.
+ */
+public enum SequenceOutcome {
+    /**
+     * The packet is for the frame after the latest one received.
+     */
+    IN_ORDER,
+    /**
+     * The packet is newer than the latest one received, but frames were skipped in between.
+     */
+    GAP,
+    /**
+     * The packet is for an older frame not received yet, within the reorder window; it is kept.
+     */
+    REORDERED,
+    /**
+     * The packet is for a frame already received; it is discarded.
+     */
+    DUPLICATE,
+    /**
+     * The packet is for a frame too old for the reorder window; it is discarded.
+     */
+    LATE,
+    /**
+     * The packet is newer than the latest one received, but its frame identifier went back, as after a flashback;
+     * it is kept.
+     */
+    REWOUND;
+
+    /**
+     * @return true if packets with this outcome are buffered
+     */
+    public boolean accepted() {
+        return this != DUPLICATE && this != LATE;
+    }
+}
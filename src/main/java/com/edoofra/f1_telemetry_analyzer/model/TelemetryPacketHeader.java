@@ -8,6 +8,7 @@ import lombok.ToString;
  * Represents the header of a telemetry packet.
  * This record contains metadata about the packet, such as format, version, session ID, and player car index.
  * packetFormat: The format of the packet.
+ * gameYear: The last two digits of the game's year, e.g. 24.
  * gameMajorVersion: The major version of the game.
  * gameMinorVersion: The minor version of the game.
  * packetVersion: The version of the packet format.
@@ -15,11 +16,13 @@ import lombok.ToString;
  * sessionUID: Unique identifier for the session.
  * sessionTime: The time in seconds since the session started.
  * frameIdentifier: Identifier for the frame, used to track the sequence of packets.
+ * overallFrameIdentifier: Identifier for the frame that keeps increasing when a flashback rewinds the session.
  * playerCarIndex: The index of the player's car in the session.
  * secondaryPlayerCarIndex: The index of the secondary player's car, if applicable.
  */
 @Builder(toBuilder = true, setterPrefix = "with")
 public record TelemetryPacketHeader(int packetFormat,
+                                    int gameYear,
                                     int gameMajorVersion,
                                     int gameMinorVersion,
                                     int packetVersion,
@@ -27,6 +30,7 @@ public record TelemetryPacketHeader(int packetFormat,
                                     long sessionUID,
                                     float sessionTime,
                                     int frameIdentifier,
+                                    int overallFrameIdentifier,
                                     int playerCarIndex,
                                     int secondaryPlayerCarIndex) {
 }
\ No newline at end of file
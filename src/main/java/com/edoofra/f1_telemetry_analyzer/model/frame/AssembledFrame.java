@@ -0,0 +1,111 @@
+package com.edoofra.f1_telemetry_analyzer.model.frame;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+
+/**
+ * The columnar frames of the packets the game sent for one {@code frameIdentifier} of one session, joined so that
+ * cross-packet metrics (speed against lap distance, G-forces against throttle) read values of the same instant.
+ * <p>
+ * Frames are pooled by the assembler and refilled for later frame identifiers: {@link #open(long, int, long)}
+ * clears the set of received packets, and {@link #add(ColumnarFrame)} copies a packet's frame in place, so
+ * assembling allocates nothing. The frame of a packet type is only meaningful if {@link #has(PacketType)}.
+ */
+@Getter
+public class AssembledFrame {
+
+    private long sessionUID;
+
+    private int frameIdentifier;
+
+    /**
+     * Bit {@code i} is set when the packet of type id {@code i} was received.
+     */
+    private int packets;
+
+    /**
+     * {@link System#nanoTime()} when the first packet of the frame was received.
+     */
+    private long openedAtNanos;
+
+    private final MotionFrame motion = new MotionFrame();
+
+    private final LapDataFrame lapData = new LapDataFrame();
+
+    private final CarTelemetryFrame carTelemetry = new CarTelemetryFrame();
+
+    private final CarStatusFrame carStatus = new CarStatusFrame();
+
+    private final CarDamageFrame carDamage = new CarDamageFrame();
+
+    /**
+     * The frames above, indexed by {@link PacketType#getId()}; null for types without a columnar frame.
+     */
+    private final ColumnarFrame<?>[] framesByType = new ColumnarFrame<?>[PacketType.values().length];
+
+    public AssembledFrame() {
+        for (ColumnarFrame<?> frame : new ColumnarFrame<?>[]{motion, lapData, carTelemetry, carStatus, carDamage}) {
+            framesByType[frame.packetType().getId()] = frame;
+        }
+    }
+
+    /**
+     * @return the mask bit of a packet type, as in {@link #getPackets()}
+     */
+    public static int bit(PacketType type) {
+        return 1 << type.getId();
+    }
+
+    /**
+     * @return true if the packet type can be joined into a frame
+     */
+    public boolean supports(PacketType type) {
+        return framesByType[type.getId()] != null;
+    }
+
+    /**
+     * Starts assembling a new frame, discarding the packets of the previous one.
+     */
+    public void open(long sessionUID, int frameIdentifier, long nowNanos) {
+        this.sessionUID = sessionUID;
+        this.frameIdentifier = frameIdentifier;
+        this.openedAtNanos = nowNanos;
+        this.packets = 0;
+    }
+
+    /**
+     * Copies a packet's frame into this frame, replacing an earlier packet of the same type.
+     *
+     * @param frame a frame of a {@link #supports(PacketType) supported} type
+     */
+    public void add(ColumnarFrame<?> frame) {
+        copy(framesByType[frame.packetType().getId()], frame);
+        packets |= bit(frame.packetType());
+    }
+
+    /**
+     * @return true if the packet of the type was received for this frame
+     */
+    public boolean has(PacketType type) {
+        return (packets & bit(type)) != 0;
+    }
+
+    /**
+     * @return true if every packet type of the mask was received
+     */
+    public boolean hasAll(int mask) {
+        return (packets & mask) == mask;
+    }
+
+    /**
+     * @return the frame of the packet type, or null if the type cannot be joined; check {@link #has(PacketType)}
+     */
+    public ColumnarFrame<?> frame(PacketType type) {
+        return framesByType[type.getId()];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <F extends ColumnarFrame<F>> void copy(ColumnarFrame<?> target, ColumnarFrame<?> source) {
+        ((F) target).copyFrom((F) source);
+    }
+}
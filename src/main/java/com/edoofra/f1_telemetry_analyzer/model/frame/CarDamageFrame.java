@@ -0,0 +1,45 @@
+package com.edoofra.f1_telemetry_analyzer.model.frame;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+
+/**
+ * Tyre wear and damage of every car, one column per field.
+ */
+@Getter
+public class CarDamageFrame extends ColumnarFrame<CarDamageFrame> {
+
+    /**
+     * Tyre wear per wheel, in percent.
+     */
+    private final float[] tyresWear = new float[MAX_CARS * WHEELS];
+
+    /**
+     * Tyre damage per wheel, in percent.
+     */
+    private final byte[] tyresDamage = new byte[MAX_CARS * WHEELS];
+
+    /**
+     * Gearbox damage, in percent.
+     */
+    private final byte[] gearBoxDamage = new byte[MAX_CARS];
+
+    /**
+     * Engine damage, in percent.
+     */
+    private final byte[] engineDamage = new byte[MAX_CARS];
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.CAR_DAMAGE;
+    }
+
+    @Override
+    public void copyFrom(CarDamageFrame other) {
+        super.copyFrom(other);
+        System.arraycopy(other.tyresWear, 0, tyresWear, 0, MAX_CARS * WHEELS);
+        System.arraycopy(other.tyresDamage, 0, tyresDamage, 0, MAX_CARS * WHEELS);
+        System.arraycopy(other.gearBoxDamage, 0, gearBoxDamage, 0, MAX_CARS);
+        System.arraycopy(other.engineDamage, 0, engineDamage, 0, MAX_CARS);
+    }
+}
@@ -0,0 +1,54 @@
+package com.edoofra.f1_telemetry_analyzer.model.frame;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+
+/**
+ * Fuel, tyre and ERS state of every car, one column per field.
+ */
+@Getter
+public class CarStatusFrame extends ColumnarFrame<CarStatusFrame> {
+
+    /**
+     * Fuel in the tank, in kilograms.
+     */
+    private final float[] fuelInTank = new float[MAX_CARS];
+
+    /**
+     * Fuel remaining in terms of laps, as shown on the MFD.
+     */
+    private final float[] fuelRemainingLaps = new float[MAX_CARS];
+
+    /**
+     * Actual tyre compound, e.g. 16 C5 to 22 C0, 7 inter, 8 wet.
+     */
+    private final byte[] actualTyreCompound = new byte[MAX_CARS];
+
+    /**
+     * Visual tyre compound: 16 soft, 17 medium, 18 hard, 7 inter, 8 wet.
+     */
+    private final byte[] visualTyreCompound = new byte[MAX_CARS];
+
+    private final byte[] tyresAgeLaps = new byte[MAX_CARS];
+
+    /**
+     * ERS energy store, in joules.
+     */
+    private final float[] ersStoreEnergy = new float[MAX_CARS];
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.CAR_STATUS;
+    }
+
+    @Override
+    public void copyFrom(CarStatusFrame other) {
+        super.copyFrom(other);
+        System.arraycopy(other.fuelInTank, 0, fuelInTank, 0, MAX_CARS);
+        System.arraycopy(other.fuelRemainingLaps, 0, fuelRemainingLaps, 0, MAX_CARS);
+        System.arraycopy(other.actualTyreCompound, 0, actualTyreCompound, 0, MAX_CARS);
+        System.arraycopy(other.visualTyreCompound, 0, visualTyreCompound, 0, MAX_CARS);
+        System.arraycopy(other.tyresAgeLaps, 0, tyresAgeLaps, 0, MAX_CARS);
+        System.arraycopy(other.ersStoreEnergy, 0, ersStoreEnergy, 0, MAX_CARS);
+    }
+}
@@ -0,0 +1,97 @@
+package com.edoofra.f1_telemetry_analyzer.model.frame;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+
+/**
+ * Telemetry of every car, one column per field: speed, inputs, gear, RPM and temperatures.
+ */
+@Getter
+public class CarTelemetryFrame extends ColumnarFrame<CarTelemetryFrame> {
+
+    /**
+     * Speed, in km/h.
+     */
+    private final float[] speed = new float[MAX_CARS];
+
+    /**
+     * Throttle application, 0.0 to 1.0.
+     */
+    private final float[] throttle = new float[MAX_CARS];
+
+    /**
+     * Steering, -1.0 full left to 1.0 full right.
+     */
+    private final float[] steer = new float[MAX_CARS];
+
+    /**
+     * Brake application, 0.0 to 1.0.
+     */
+    private final float[] brake = new float[MAX_CARS];
+
+    /**
+     * Gear, 1-8, 0 neutral, -1 reverse.
+     */
+    private final byte[] gear = new byte[MAX_CARS];
+
+    /**
+     * Engine RPM, unsigned; read with {@link #engineRpm(int)}.
+     */
+    private final short[] engineRpm = new short[MAX_CARS];
+
+    private final boolean[] drs = new boolean[MAX_CARS];
+
+    /**
+     * Engine temperature, in degrees Celsius.
+     */
+    private final short[] engineTemperature = new short[MAX_CARS];
+
+    /**
+     * Brake temperatures per wheel, in degrees Celsius.
+     */
+    private final short[] brakesTemperature = new short[MAX_CARS * WHEELS];
+
+    /**
+     * Tyre surface temperatures per wheel, in degrees Celsius.
+     */
+    private final float[] tyresSurfaceTemperature = new float[MAX_CARS * WHEELS];
+
+    /**
+     * Tyre carcass temperatures per wheel, in degrees Celsius.
+     */
+    private final float[] tyresInnerTemperature = new float[MAX_CARS * WHEELS];
+
+    /**
+     * Tyre pressures per wheel, in PSI.
+     */
+    private final float[] tyresPressure = new float[MAX_CARS * WHEELS];
+
+    /**
+     * @return the car's engine RPM
+     */
+    public int engineRpm(int car) {
+        return Short.toUnsignedInt(engineRpm[car]);
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.CAR_TELEMETRY;
+    }
+
+    @Override
+    public void copyFrom(CarTelemetryFrame other) {
+        super.copyFrom(other);
+        System.arraycopy(other.speed, 0, speed, 0, MAX_CARS);
+        System.arraycopy(other.throttle, 0, throttle, 0, MAX_CARS);
+        System.arraycopy(other.steer, 0, steer, 0, MAX_CARS);
+        System.arraycopy(other.brake, 0, brake, 0, MAX_CARS);
+        System.arraycopy(other.gear, 0, gear, 0, MAX_CARS);
+        System.arraycopy(other.engineRpm, 0, engineRpm, 0, MAX_CARS);
+        System.arraycopy(other.drs, 0, drs, 0, MAX_CARS);
+        System.arraycopy(other.engineTemperature, 0, engineTemperature, 0, MAX_CARS);
+        System.arraycopy(other.brakesTemperature, 0, brakesTemperature, 0, MAX_CARS * WHEELS);
+        System.arraycopy(other.tyresSurfaceTemperature, 0, tyresSurfaceTemperature, 0, MAX_CARS * WHEELS);
+        System.arraycopy(other.tyresInnerTemperature, 0, tyresInnerTemperature, 0, MAX_CARS * WHEELS);
+        System.arraycopy(other.tyresPressure, 0, tyresPressure, 0, MAX_CARS * WHEELS);
+    }
+}
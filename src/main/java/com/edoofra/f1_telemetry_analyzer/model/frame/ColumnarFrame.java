@@ -0,0 +1,74 @@
+package com.edoofra.f1_telemetry_analyzer.model.frame;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.DecodedPacket;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Base class of the columnar frames: the per-car fields of one packet, stored as one primitive array per field
+ * instead of one object per car.
+ * <p>
+ * Column {@code i} holds car {@code i}, so scanning a field across the grid reads one contiguous array.
+ * Per-wheel fields are flattened into a single array of {@code MAX_CARS * WHEELS} values, car-major, in the
+ * game's wheel order (rear left, rear right, front left, front right); {@link #wheel(int, int)} gives the index.
+ * <p>
+ * Frames are filled in place from the raw packet bytes and are reused from one packet to the next; they are
+ * published to readers through a {@link com.edoofra.f1_telemetry_analyzer.buffer.FrameBuffer}.
+ *
+ * @param <F> the concrete frame type, for {@link #copyFrom(ColumnarFrame)}
+ */
+@Getter
+@Setter
+public abstract class ColumnarFrame<F extends ColumnarFrame<F>> {
+
+    /**
+     * Number of car columns, whether or not every slot is in use.
+     */
+    public static final int MAX_CARS = DecodedPacket.MAX_CARS;
+
+    /**
+     * Number of values per car in per-wheel columns.
+     */
+    public static final int WHEELS = 4;
+
+    private int packetFormat;
+
+    private long sessionUID;
+
+    /**
+     * Session timestamp, in seconds.
+     */
+    private float sessionTime;
+
+    private int frameIdentifier;
+
+    private int playerCarIndex;
+
+    /**
+     * @return the type of the packet this frame is filled from
+     */
+    public abstract PacketType packetType();
+
+    /**
+     * @param car   the car index
+     * @param wheel the wheel index, 0 rear left to 3 front right
+     * @return the index of the car's wheel in per-wheel columns
+     */
+    public static int wheel(int car, int wheel) {
+        return car * WHEELS + wheel;
+    }
+
+    /**
+     * Overwrites this frame with the contents of another, without allocating.
+     *
+     * @param other the frame to copy
+     */
+    public void copyFrom(F other) {
+        packetFormat = other.getPacketFormat();
+        sessionUID = other.getSessionUID();
+        sessionTime = other.getSessionTime();
+        frameIdentifier = other.getFrameIdentifier();
+        playerCarIndex = other.getPlayerCarIndex();
+    }
+}
@@ -0,0 +1,76 @@
+package com.edoofra.f1_telemetry_analyzer.model.frame;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+
+/**
+ * Lap state of every car, one column per field. Sector times combine the packet's minutes and milliseconds parts.
+ */
+@Getter
+public class LapDataFrame extends ColumnarFrame<LapDataFrame> {
+
+    private final int[] lastLapTimeInMs = new int[MAX_CARS];
+
+    private final int[] currentLapTimeInMs = new int[MAX_CARS];
+
+    /**
+     * Sector 1 time of the current lap, in milliseconds; 0 until the sector is complete.
+     */
+    private final int[] sector1TimeInMs = new int[MAX_CARS];
+
+    private final int[] sector2TimeInMs = new int[MAX_CARS];
+
+    /**
+     * Distance around the current lap, in metres; negative before crossing the line.
+     */
+    private final float[] lapDistance = new float[MAX_CARS];
+
+    /**
+     * Total distance travelled in the session, in metres.
+     */
+    private final float[] totalDistance = new float[MAX_CARS];
+
+    private final byte[] carPosition = new byte[MAX_CARS];
+
+    private final byte[] currentLapNum = new byte[MAX_CARS];
+
+    /**
+     * Current sector, 0 to 2.
+     */
+    private final byte[] sector = new byte[MAX_CARS];
+
+    /**
+     * 0 none, 1 pitting, 2 in pit area.
+     */
+    private final byte[] pitStatus = new byte[MAX_CARS];
+
+    private final boolean[] currentLapInvalid = new boolean[MAX_CARS];
+
+    /**
+     * Result status: 0 invalid, 1 inactive, 2 active, 3 finished, 4 did not finish, 5 disqualified,
+     * 6 not classified, 7 retired.
+     */
+    private final byte[] resultStatus = new byte[MAX_CARS];
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.LAP_DATA;
+    }
+
+    @Override
+    public void copyFrom(LapDataFrame other) {
+        super.copyFrom(other);
+        System.arraycopy(other.lastLapTimeInMs, 0, lastLapTimeInMs, 0, MAX_CARS);
+        System.arraycopy(other.currentLapTimeInMs, 0, currentLapTimeInMs, 0, MAX_CARS);
+        System.arraycopy(other.sector1TimeInMs, 0, sector1TimeInMs, 0, MAX_CARS);
+        System.arraycopy(other.sector2TimeInMs, 0, sector2TimeInMs, 0, MAX_CARS);
+        System.arraycopy(other.lapDistance, 0, lapDistance, 0, MAX_CARS);
+        System.arraycopy(other.totalDistance, 0, totalDistance, 0, MAX_CARS);
+        System.arraycopy(other.carPosition, 0, carPosition, 0, MAX_CARS);
+        System.arraycopy(other.currentLapNum, 0, currentLapNum, 0, MAX_CARS);
+        System.arraycopy(other.sector, 0, sector, 0, MAX_CARS);
+        System.arraycopy(other.pitStatus, 0, pitStatus, 0, MAX_CARS);
+        System.arraycopy(other.currentLapInvalid, 0, currentLapInvalid, 0, MAX_CARS);
+        System.arraycopy(other.resultStatus, 0, resultStatus, 0, MAX_CARS);
+    }
+}
@@ -0,0 +1,51 @@
+package com.edoofra.f1_telemetry_analyzer.model.frame;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+
+/**
+ * Position, G-forces and orientation of every car, one column per field.
+ */
+@Getter
+public class MotionFrame extends ColumnarFrame<MotionFrame> {
+
+    /**
+     * World space X position, in metres.
+     */
+    private final float[] worldPositionX = new float[MAX_CARS];
+
+    private final float[] worldPositionY = new float[MAX_CARS];
+
+    private final float[] worldPositionZ = new float[MAX_CARS];
+
+    /**
+     * Lateral G-force.
+     */
+    private final float[] gForceLateral = new float[MAX_CARS];
+
+    private final float[] gForceLongitudinal = new float[MAX_CARS];
+
+    private final float[] gForceVertical = new float[MAX_CARS];
+
+    /**
+     * Yaw angle, in radians.
+     */
+    private final float[] yaw = new float[MAX_CARS];
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.MOTION;
+    }
+
+    @Override
+    public void copyFrom(MotionFrame other) {
+        super.copyFrom(other);
+        System.arraycopy(other.worldPositionX, 0, worldPositionX, 0, MAX_CARS);
+        System.arraycopy(other.worldPositionY, 0, worldPositionY, 0, MAX_CARS);
+        System.arraycopy(other.worldPositionZ, 0, worldPositionZ, 0, MAX_CARS);
+        System.arraycopy(other.gForceLateral, 0, gForceLateral, 0, MAX_CARS);
+        System.arraycopy(other.gForceLongitudinal, 0, gForceLongitudinal, 0, MAX_CARS);
+        System.arraycopy(other.gForceVertical, 0, gForceVertical, 0, MAX_CARS);
+        System.arraycopy(other.yaw, 0, yaw, 0, MAX_CARS);
+    }
+}
@@ -0,0 +1,64 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Damage of one car, from the Car Damage packet.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class CarDamageData {
+
+    /**
+     * Tyre wear, in percent. Wheel order: rear left, rear right, front left, front right.
+     */
+    private final float[] tyresWear = new float[4];
+
+    /**
+     * Tyre damage, in percent. Wheel order: rear left, rear right, front left, front right.
+     */
+    private final int[] tyresDamage = new int[4];
+
+    /**
+     * Brake damage, in percent. Wheel order: rear left, rear right, front left, front right.
+     */
+    private final int[] brakesDamage = new int[4];
+
+    private int frontLeftWingDamage;
+
+    private int frontRightWingDamage;
+
+    private int rearWingDamage;
+
+    private int floorDamage;
+
+    private int diffuserDamage;
+
+    private int sidepodDamage;
+
+    private int drsFault;
+
+    private int ersFault;
+
+    private int gearBoxDamage;
+
+    private int engineDamage;
+
+    private int engineMguhWear;
+
+    private int engineEsWear;
+
+    private int engineCeWear;
+
+    private int engineIceWear;
+
+    private int engineMgukWear;
+
+    private int engineTcWear;
+
+    private int engineBlown;
+
+    private int engineSeized;
+}
@@ -0,0 +1,27 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+/**
+ * Damage and wear of every car.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class CarDamagePacket extends DecodedPacket {
+
+    private final CarDamageData[] cars = new CarDamageData[MAX_CARS];
+
+    public CarDamagePacket() {
+        Arrays.setAll(cars, i -> new CarDamageData());
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.CAR_DAMAGE;
+    }
+}
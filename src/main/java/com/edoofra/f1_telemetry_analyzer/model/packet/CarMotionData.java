@@ -0,0 +1,70 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Motion of one car, from the Motion packet.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class CarMotionData {
+
+    /**
+     * World space X position, in metres.
+     */
+    private float worldPositionX;
+
+    private float worldPositionY;
+
+    private float worldPositionZ;
+
+    /**
+     * Velocity in world space, in metres per second.
+     */
+    private float worldVelocityX;
+
+    private float worldVelocityY;
+
+    private float worldVelocityZ;
+
+    /**
+     * World space forward direction, normalised to 32767.
+     */
+    private int worldForwardDirX;
+
+    private int worldForwardDirY;
+
+    private int worldForwardDirZ;
+
+    /**
+     * World space right direction, normalised to 32767.
+     */
+    private int worldRightDirX;
+
+    private int worldRightDirY;
+
+    private int worldRightDirZ;
+
+    private float gForceLateral;
+
+    private float gForceLongitudinal;
+
+    private float gForceVertical;
+
+    /**
+     * Yaw angle, in radians.
+     */
+    private float yaw;
+
+    /**
+     * Pitch angle, in radians.
+     */
+    private float pitch;
+
+    /**
+     * Roll angle, in radians.
+     */
+    private float roll;
+}
@@ -0,0 +1,77 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Setup of one car, from the Car Setups packet.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class CarSetupData {
+
+    private int frontWing;
+
+    private int rearWing;
+
+    /**
+     * Differential adjustment on throttle, in percent.
+     */
+    private int onThrottle;
+
+    /**
+     * Differential adjustment off throttle, in percent.
+     */
+    private int offThrottle;
+
+    private float frontCamber;
+
+    private float rearCamber;
+
+    private float frontToe;
+
+    private float rearToe;
+
+    private int frontSuspension;
+
+    private int rearSuspension;
+
+    private int frontAntiRollBar;
+
+    private int rearAntiRollBar;
+
+    private int frontSuspensionHeight;
+
+    private int rearSuspensionHeight;
+
+    /**
+     * Brake pressure, in percent.
+     */
+    private int brakePressure;
+
+    /**
+     * Brake bias, in percent.
+     */
+    private int brakeBias;
+
+    /**
+     * Engine braking, in percent.
+     */
+    private int engineBraking;
+
+    /**
+     * Tyre pressure, in PSI.
+     */
+    private float rearLeftTyrePressure;
+
+    private float rearRightTyrePressure;
+
+    private float frontLeftTyrePressure;
+
+    private float frontRightTyrePressure;
+
+    private int ballast;
+
+    private float fuelLoad;
+}
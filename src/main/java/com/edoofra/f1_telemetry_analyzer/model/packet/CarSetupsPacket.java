@@ -0,0 +1,32 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+/**
+ * The setup of every car.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class CarSetupsPacket extends DecodedPacket {
+
+    private final CarSetupData[] cars = new CarSetupData[MAX_CARS];
+
+    /**
+     * Front wing value after the next pit stop, player only.
+     */
+    private float nextFrontWingValue;
+
+    public CarSetupsPacket() {
+        Arrays.setAll(cars, i -> new CarSetupData());
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.CAR_SETUPS;
+    }
+}
@@ -0,0 +1,90 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Status of one car, from the Car Status packet.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class CarStatusData {
+
+    /**
+     * 0 off, 1 medium, 2 full.
+     */
+    private int tractionControl;
+
+    private int antiLockBrakes;
+
+    /**
+     * 0 lean, 1 standard, 2 rich, 3 max.
+     */
+    private int fuelMix;
+
+    private int frontBrakeBias;
+
+    private int pitLimiterStatus;
+
+    /**
+     * Current fuel mass, in kilograms.
+     */
+    private float fuelInTank;
+
+    private float fuelCapacity;
+
+    /**
+     * Fuel remaining in terms of laps, as shown on the MFD.
+     */
+    private float fuelRemainingLaps;
+
+    private int maxRpm;
+
+    private int idleRpm;
+
+    private int maxGears;
+
+    private int drsAllowed;
+
+    /**
+     * Distance until DRS may be used, in metres; 0 if not available.
+     */
+    private int drsActivationDistance;
+
+    private int actualTyreCompound;
+
+    private int visualTyreCompound;
+
+    private int tyresAgeLaps;
+
+    /**
+     * -1 invalid/unknown, 0 none, 1 green, 2 blue, 3 yellow.
+     */
+    private int vehicleFiaFlags;
+
+    /**
+     * Engine power output of the ICE, in watts.
+     */
+    private float enginePowerIce;
+
+    /**
+     * Engine power output of the MGU-K, in watts.
+     */
+    private float enginePowerMguk;
+
+    /**
+     * ERS energy store, in joules.
+     */
+    private float ersStoreEnergy;
+
+    private int ersDeployMode;
+
+    private float ersHarvestedThisLapMguk;
+
+    private float ersHarvestedThisLapMguh;
+
+    private float ersDeployedThisLap;
+
+    private int networkPaused;
+}
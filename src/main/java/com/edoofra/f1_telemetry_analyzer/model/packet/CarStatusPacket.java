@@ -0,0 +1,27 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+/**
+ * Status of every car: fuel, tyres, ERS and engine.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class CarStatusPacket extends DecodedPacket {
+
+    private final CarStatusData[] cars = new CarStatusData[MAX_CARS];
+
+    public CarStatusPacket() {
+        Arrays.setAll(cars, i -> new CarStatusData());
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.CAR_STATUS;
+    }
+}
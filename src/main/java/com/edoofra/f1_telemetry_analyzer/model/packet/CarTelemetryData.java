@@ -0,0 +1,87 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Telemetry of one car, from the Car Telemetry packet.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class CarTelemetryData {
+
+    /**
+     * Speed, in km/h.
+     */
+    private int speed;
+
+    /**
+     * Throttle application, 0.0 to 1.0.
+     */
+    private float throttle;
+
+    /**
+     * Steering, -1.0 (full left) to 1.0 (full right).
+     */
+    private float steer;
+
+    /**
+     * Brake application, 0.0 to 1.0.
+     */
+    private float brake;
+
+    /**
+     * Clutch application, 0 to 100.
+     */
+    private int clutch;
+
+    /**
+     * Gear selected, 1-8, 0 neutral, -1 reverse.
+     */
+    private int gear;
+
+    private int engineRpm;
+
+    /**
+     * 0 off, 1 on.
+     */
+    private int drs;
+
+    private int revLightsPercent;
+
+    /**
+     * Bit 0 is the leftmost LED, bit 14 the rightmost.
+     */
+    private int revLightsBitValue;
+
+    /**
+     * Brake temperatures, in degrees Celsius. Wheel order: rear left, rear right, front left, front right.
+     */
+    private final int[] brakesTemperature = new int[4];
+
+    /**
+     * Tyre surface temperatures, in degrees Celsius. Wheel order: rear left, rear right, front left, front right.
+     */
+    private final int[] tyresSurfaceTemperature = new int[4];
+
+    /**
+     * Tyre inner temperatures, in degrees Celsius. Wheel order: rear left, rear right, front left, front right.
+     */
+    private final int[] tyresInnerTemperature = new int[4];
+
+    /**
+     * Engine temperature, in degrees Celsius.
+     */
+    private int engineTemperature;
+
+    /**
+     * Tyre pressures, in PSI. Wheel order: rear left, rear right, front left, front right.
+     */
+    private final float[] tyresPressure = new float[4];
+
+    /**
+     * Driving surface under each wheel. Wheel order: rear left, rear right, front left, front right.
+     */
+    private final int[] surfaceType = new int[4];
+}
@@ -0,0 +1,39 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+/**
+ * Telemetry of every car: speed, inputs, gear, RPM and temperatures.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class CarTelemetryPacket extends DecodedPacket {
+
+    private final CarTelemetryData[] cars = new CarTelemetryData[MAX_CARS];
+
+    /**
+     * MFD panel open for the player, 255 if closed.
+     */
+    private int mfdPanelIndex;
+
+    private int mfdPanelIndexSecondaryPlayer;
+
+    /**
+     * Suggested gear for the player, 1-8, 0 if none.
+     */
+    private int suggestedGear;
+
+    public CarTelemetryPacket() {
+        Arrays.setAll(cars, i -> new CarTelemetryData());
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.CAR_TELEMETRY;
+    }
+}
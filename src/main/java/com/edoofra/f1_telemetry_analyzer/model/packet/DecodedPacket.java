@@ -0,0 +1,47 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Base class of the decoded F1 24 packets.
+ * <p>
+ * Decoded packets are mutable holders that are reused from one packet to the next, so that decoding every
+ * packet at the game's maximum send rate allocates nothing. A holder is only valid until the next packet of
+ * its type is decoded into it; copy anything that must outlive the call that received it.
+ */
+@Getter
+@Setter
+public abstract class DecodedPacket {
+
+    /**
+     * Number of car entries in per-car packets, whether or not every slot is in use.
+     */
+    public static final int MAX_CARS = 22;
+
+    private int packetFormat;
+
+    private int packetVersion;
+
+    private long sessionUID;
+
+    /**
+     * Session timestamp, in seconds.
+     */
+    private float sessionTime;
+
+    private int frameIdentifier;
+
+    private int playerCarIndex;
+
+    /**
+     * Index of the secondary player's car in splitscreen, 255 if there is none.
+     */
+    private int secondaryPlayerCarIndex;
+
+    /**
+     * @return the type of the packet this holder decodes
+     */
+    public abstract PacketType packetType();
+}
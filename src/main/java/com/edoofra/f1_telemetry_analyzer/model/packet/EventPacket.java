@@ -0,0 +1,138 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A notable event of the session, identified by its four-character event code.
+ * Only the detail fields of the current event's code are meaningful; the others keep values from earlier events.
+ * Instances are reused: the decoder overwrites the fields in place for each packet.
+ */
+@Getter
+@Setter
+public class EventPacket extends DecodedPacket {
+
+    public static final int SESSION_STARTED = code("SSTA");
+    public static final int SESSION_ENDED = code("SEND");
+    public static final int FASTEST_LAP = code("FTLP");
+    public static final int RETIREMENT = code("RTMT");
+    public static final int DRS_ENABLED = code("DRSE");
+    public static final int DRS_DISABLED = code("DRSD");
+    public static final int TEAM_MATE_IN_PITS = code("TMPT");
+    public static final int CHEQUERED_FLAG = code("CHQF");
+    public static final int RACE_WINNER = code("RCWN");
+    public static final int PENALTY = code("PENA");
+    public static final int SPEED_TRAP = code("SPTP");
+    public static final int START_LIGHTS = code("STLG");
+    public static final int LIGHTS_OUT = code("LGOT");
+    public static final int DRIVE_THROUGH_SERVED = code("DTSV");
+    public static final int STOP_GO_SERVED = code("SGSV");
+    public static final int FLASHBACK = code("FLBK");
+    public static final int BUTTON_STATUS = code("BUTN");
+    public static final int RED_FLAG = code("RDFL");
+    public static final int OVERTAKE = code("OVTK");
+    public static final int SAFETY_CAR = code("SCAR");
+    public static final int COLLISION = code("COLL");
+
+    /**
+     * The four ASCII characters of the event code, read as a little-endian int; compare with the constants.
+     */
+    private int eventCode;
+
+    /**
+     * Car the event is about: the fastest lap, retirement, team mate in pits, race winner, penalised,
+     * speed trap, served penalty, overtaking and first colliding car.
+     */
+    private int vehicleIdx;
+
+    /**
+     * Other car involved: in a penalty, the overtaken car, or the second colliding car.
+     */
+    private int otherVehicleIdx;
+
+    /**
+     * Retirement or DRS disabled reason.
+     */
+    private int reason;
+
+    /**
+     * Fastest lap time, in seconds.
+     */
+    private float lapTime;
+
+    private int penaltyType;
+
+    private int infringementType;
+
+    /**
+     * Time gained or spent doing the penalty action, in seconds.
+     */
+    private int time;
+
+    private int lapNum;
+
+    private int placesGained;
+
+    /**
+     * Speed trap speed, in km/h.
+     */
+    private float speed;
+
+    private int isOverallFastestInSession;
+
+    private int isDriverFastestInSession;
+
+    private int fastestVehicleIdxInSession;
+
+    private float fastestSpeedInSession;
+
+    private int numLights;
+
+    /**
+     * Time spent serving a stop-go penalty, in seconds.
+     */
+    private float stopTime;
+
+    private long flashbackFrameIdentifier;
+
+    private float flashbackSessionTime;
+
+    /**
+     * Bit flags of the buttons currently pressed.
+     */
+    private long buttonStatus;
+
+    /**
+     * 0 no safety car, 1 full, 2 virtual, 3 formation lap.
+     */
+    private int safetyCarType;
+
+    /**
+     * 0 deployed, 1 returning, 2 returned, 3 resume race.
+     */
+    private int safetyCarEventType;
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.EVENT;
+    }
+
+    /**
+     * @return the event code as a four-character string; allocates, so keep it off the per-packet path
+     */
+    public String getEventCodeString() {
+        char[] chars = new char[4];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ((eventCode >>> (i * 8)) & 0xFF);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Converts a four-character event code into the value of {@link #getEventCode()}.
+     */
+    public static int code(String eventCode) {
+        return eventCode.charAt(0) | eventCode.charAt(1) << 8 | eventCode.charAt(2) << 16 | eventCode.charAt(3) << 24;
+    }
+}
@@ -0,0 +1,47 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Final result of one car, from the Final Classification packet.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class FinalClassificationData {
+
+    private int position;
+
+    private int numLaps;
+
+    private int gridPosition;
+
+    private int points;
+
+    private int numPitStops;
+
+    private int resultStatus;
+
+    private int bestLapTimeInMs;
+
+    /**
+     * Total race time in seconds, without penalties.
+     */
+    private double totalRaceTime;
+
+    /**
+     * Total penalties, in seconds.
+     */
+    private int penaltiesTime;
+
+    private int numPenalties;
+
+    private int numTyreStints;
+
+    private final int[] tyreStintsActual = new int[8];
+
+    private final int[] tyreStintsVisual = new int[8];
+
+    private final int[] tyreStintsEndLaps = new int[8];
+}
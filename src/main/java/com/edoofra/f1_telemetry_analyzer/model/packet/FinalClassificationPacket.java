@@ -0,0 +1,29 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+/**
+ * The final classification, sent once at the end of a race.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class FinalClassificationPacket extends DecodedPacket {
+
+    private int numCars;
+
+    private final FinalClassificationData[] classification = new FinalClassificationData[MAX_CARS];
+
+    public FinalClassificationPacket() {
+        Arrays.setAll(classification, i -> new FinalClassificationData());
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.FINAL_CLASSIFICATION;
+    }
+}
@@ -0,0 +1,123 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Lap state of one car, from the Lap Data packet.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class LapData {
+
+    private int lastLapTimeInMs;
+
+    private int currentLapTimeInMs;
+
+    private int sector1TimeMsPart;
+
+    private int sector1TimeMinutesPart;
+
+    private int sector2TimeMsPart;
+
+    private int sector2TimeMinutesPart;
+
+    private int deltaToCarInFrontMsPart;
+
+    private int deltaToCarInFrontMinutesPart;
+
+    private int deltaToRaceLeaderMsPart;
+
+    private int deltaToRaceLeaderMinutesPart;
+
+    /**
+     * Distance around the current lap, in metres; negative before crossing the line.
+     */
+    private float lapDistance;
+
+    /**
+     * Total distance travelled in the session, in metres.
+     */
+    private float totalDistance;
+
+    /**
+     * Delta to the safety car, in seconds.
+     */
+    private float safetyCarDelta;
+
+    private int carPosition;
+
+    private int currentLapNum;
+
+    /**
+     * 0 none, 1 pitting, 2 in pit area.
+     */
+    private int pitStatus;
+
+    private int numPitStops;
+
+    /**
+     * 0 sector 1, 1 sector 2, 2 sector 3.
+     */
+    private int sector;
+
+    private int currentLapInvalid;
+
+    /**
+     * Accumulated time penalties, in seconds.
+     */
+    private int penalties;
+
+    private int totalWarnings;
+
+    private int cornerCuttingWarnings;
+
+    private int numUnservedDriveThroughPens;
+
+    private int numUnservedStopGoPens;
+
+    private int gridPosition;
+
+    /**
+     * 0 in garage, 1 flying lap, 2 in lap, 3 out lap, 4 on track.
+     */
+    private int driverStatus;
+
+    /**
+     * 0 invalid, 1 inactive, 2 active, 3 finished, 4 did not finish, 5 disqualified, 6 not classified, 7 retired.
+     */
+    private int resultStatus;
+
+    private int pitLaneTimerActive;
+
+    private int pitLaneTimeInLaneInMs;
+
+    private int pitStopTimerInMs;
+
+    private int pitStopShouldServePen;
+
+    /**
+     * Fastest speed through the speed trap, in km/h.
+     */
+    private float speedTrapFastestSpeed;
+
+    /**
+     * Lap of the fastest speed trap speed, 255 if not set.
+     */
+    private int speedTrapFastestLap;
+
+    /**
+     * @return the sector 1 time of the current lap, in milliseconds
+     */
+    public int getSector1TimeInMs() {
+        return sector1TimeMinutesPart * 60_000 + sector1TimeMsPart;
+    }
+
+    /**
+     * @return the sector 2 time of the current lap, in milliseconds
+     */
+    public int getSector2TimeInMs() {
+        return sector2TimeMinutesPart * 60_000 + sector2TimeMsPart;
+    }
+}
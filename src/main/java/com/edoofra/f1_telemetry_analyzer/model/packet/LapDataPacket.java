@@ -0,0 +1,37 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+/**
+ * Lap state of every car: lap and sector times, positions, pit and penalty status.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class LapDataPacket extends DecodedPacket {
+
+    private final LapData[] cars = new LapData[MAX_CARS];
+
+    /**
+     * Index of the personal best car in time trial, 255 if invalid.
+     */
+    private int timeTrialPbCarIdx;
+
+    /**
+     * Index of the rival car in time trial, 255 if invalid.
+     */
+    private int timeTrialRivalCarIdx;
+
+    public LapDataPacket() {
+        Arrays.setAll(cars, i -> new LapData());
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.LAP_DATA;
+    }
+}
@@ -0,0 +1,48 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * One lap of a car's history, from the Session History packet.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class LapHistoryData {
+
+    private int lapTimeInMs;
+
+    private int sector1TimeMsPart;
+
+    private int sector1TimeMinutesPart;
+
+    private int sector2TimeMsPart;
+
+    private int sector2TimeMinutesPart;
+
+    private int sector3TimeMsPart;
+
+    private int sector3TimeMinutesPart;
+
+    /**
+     * Bit 0 lap valid, bits 1-3 sectors 1-3 valid.
+     */
+    private int lapValidBitFlags;
+
+    public int getSector1TimeInMs() {
+        return sector1TimeMinutesPart * 60_000 + sector1TimeMsPart;
+    }
+
+    public int getSector2TimeInMs() {
+        return sector2TimeMinutesPart * 60_000 + sector2TimeMsPart;
+    }
+
+    public int getSector3TimeInMs() {
+        return sector3TimeMinutesPart * 60_000 + sector3TimeMsPart;
+    }
+
+    public boolean isLapValid() {
+        return (lapValidBitFlags & 0x01) != 0;
+    }
+}
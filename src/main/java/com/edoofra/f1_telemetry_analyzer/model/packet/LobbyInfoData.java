@@ -0,0 +1,55 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A player in the multiplayer lobby, from the Lobby Info packet.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class LobbyInfoData {
+
+    /**
+     * Size of the name field, in bytes.
+     */
+    public static final int NAME_LENGTH = 48;
+
+    private int aiControlled;
+
+    private int teamId;
+
+    private int nationality;
+
+    private int platform;
+
+    /**
+     * UTF-8 bytes of the name, null-terminated unless the name fills the array.
+     */
+    private final byte[] nameBytes = new byte[NAME_LENGTH];
+
+    private int nameLength;
+
+    private int carNumber;
+
+    private int yourTelemetry;
+
+    private int showOnlineNames;
+
+    private int techLevel;
+
+    /**
+     * 0 not ready, 1 ready, 2 spectating.
+     */
+    private int readyStatus;
+
+    /**
+     * Builds the name from its UTF-8 bytes. Allocates, so keep it off the per-packet path.
+     */
+    public String getName() {
+        return new String(nameBytes, 0, nameLength, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,29 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+/**
+ * The players in a multiplayer lobby.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class LobbyInfoPacket extends DecodedPacket {
+
+    private int numPlayers;
+
+    private final LobbyInfoData[] lobbyPlayers = new LobbyInfoData[MAX_CARS];
+
+    public LobbyInfoPacket() {
+        Arrays.setAll(lobbyPlayers, i -> new LobbyInfoData());
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.LOBBY_INFO;
+    }
+}
@@ -0,0 +1,23 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A marshal zone of the track, from the Session packet.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class MarshalZone {
+
+    /**
+     * Fraction (0..1) of the way through the lap the zone starts.
+     */
+    private float zoneStart;
+
+    /**
+     * -1 invalid/unknown, 0 none, 1 green, 2 blue, 3 yellow.
+     */
+    private int zoneFlag;
+}
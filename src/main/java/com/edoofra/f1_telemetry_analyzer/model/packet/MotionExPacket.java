@@ -0,0 +1,84 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Extended motion data of the player car only.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class MotionExPacket extends DecodedPacket {
+
+    /**
+     * Wheel order: rear left, rear right, front left, front right.
+     */
+    private final float[] suspensionPosition = new float[4];
+
+    private final float[] suspensionVelocity = new float[4];
+
+    private final float[] suspensionAcceleration = new float[4];
+
+    /**
+     * Speed of each wheel, in metres per second.
+     */
+    private final float[] wheelSpeed = new float[4];
+
+    private final float[] wheelSlipRatio = new float[4];
+
+    private final float[] wheelSlipAngle = new float[4];
+
+    private final float[] wheelLatForce = new float[4];
+
+    private final float[] wheelLongForce = new float[4];
+
+    private float heightOfCogAboveGround;
+
+    /**
+     * Velocity in local space, in metres per second.
+     */
+    private float localVelocityX;
+
+    private float localVelocityY;
+
+    private float localVelocityZ;
+
+    /**
+     * Angular velocity, in radians per second.
+     */
+    private float angularVelocityX;
+
+    private float angularVelocityY;
+
+    private float angularVelocityZ;
+
+    private float angularAccelerationX;
+
+    private float angularAccelerationY;
+
+    private float angularAccelerationZ;
+
+    /**
+     * Current front wheels angle, in radians.
+     */
+    private float frontWheelsAngle;
+
+    private final float[] wheelVertForce = new float[4];
+
+    private float frontAeroHeight;
+
+    private float rearAeroHeight;
+
+    private float frontRollAngle;
+
+    private float rearRollAngle;
+
+    private float chassisYaw;
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.MOTION_EX;
+    }
+}
@@ -0,0 +1,27 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+/**
+ * Motion data of every car: position, velocity, orientation and g-forces.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class MotionPacket extends DecodedPacket {
+
+    private final CarMotionData[] cars = new CarMotionData[MAX_CARS];
+
+    public MotionPacket() {
+        Arrays.setAll(cars, i -> new CarMotionData());
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.MOTION;
+    }
+}
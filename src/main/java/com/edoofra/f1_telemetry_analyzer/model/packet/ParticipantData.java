@@ -0,0 +1,65 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A participant of the session, from the Participants packet.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class ParticipantData {
+
+    /**
+     * Size of the name field, in bytes.
+     */
+    public static final int NAME_LENGTH = 48;
+
+    private int aiControlled;
+
+    /**
+     * Driver id, 255 for a network human.
+     */
+    private int driverId;
+
+    private int networkId;
+
+    private int teamId;
+
+    private int myTeam;
+
+    private int raceNumber;
+
+    private int nationality;
+
+    /**
+     * UTF-8 bytes of the name, null-terminated unless the name fills the array.
+     */
+    private final byte[] nameBytes = new byte[NAME_LENGTH];
+
+    private int nameLength;
+
+    /**
+     * 0 restricted, 1 public.
+     */
+    private int yourTelemetry;
+
+    private int showOnlineNames;
+
+    private int techLevel;
+
+    /**
+     * 1 Steam, 3 PlayStation, 4 Xbox, 6 Origin, 255 unknown.
+     */
+    private int platform;
+
+    /**
+     * Builds the name from its UTF-8 bytes. Allocates, so keep it off the per-packet path.
+     */
+    public String getName() {
+        return new String(nameBytes, 0, nameLength, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,29 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+/**
+ * The participants of the session.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class ParticipantsPacket extends DecodedPacket {
+
+    private int numActiveCars;
+
+    private final ParticipantData[] participants = new ParticipantData[MAX_CARS];
+
+    public ParticipantsPacket() {
+        Arrays.setAll(participants, i -> new ParticipantData());
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.PARTICIPANTS;
+    }
+}
@@ -0,0 +1,47 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+/**
+ * Lap and tyre stint history of one car; the game cycles through the cars.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class SessionHistoryPacket extends DecodedPacket {
+
+    public static final int MAX_LAPS = 100;
+    public static final int MAX_TYRE_STINTS = 8;
+
+    private int carIdx;
+
+    private int numLaps;
+
+    private int numTyreStints;
+
+    private int bestLapTimeLapNum;
+
+    private int bestSector1LapNum;
+
+    private int bestSector2LapNum;
+
+    private int bestSector3LapNum;
+
+    private final LapHistoryData[] lapHistory = new LapHistoryData[MAX_LAPS];
+
+    private final TyreStintHistoryData[] tyreStintsHistory = new TyreStintHistoryData[MAX_TYRE_STINTS];
+
+    public SessionHistoryPacket() {
+        Arrays.setAll(lapHistory, i -> new LapHistoryData());
+        Arrays.setAll(tyreStintsHistory, i -> new TyreStintHistoryData());
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.SESSION_HISTORY;
+    }
+}
@@ -0,0 +1,225 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+/**
+ * Details about the session in progress: track, weather, rules and assists.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class SessionPacket extends DecodedPacket {
+
+    public static final int MAX_MARSHAL_ZONES = 21;
+    public static final int MAX_WEATHER_FORECAST_SAMPLES = 64;
+
+    /**
+     * 0 clear, 1 light cloud, 2 overcast, 3 light rain, 4 heavy rain, 5 storm.
+     */
+    private int weather;
+
+    /**
+     * Track temperature, in degrees Celsius.
+     */
+    private int trackTemperature;
+
+    /**
+     * Air temperature, in degrees Celsius.
+     */
+    private int airTemperature;
+
+    private int totalLaps;
+
+    /**
+     * Track length, in metres.
+     */
+    private int trackLength;
+
+    private int sessionType;
+
+    /**
+     * -1 for unknown.
+     */
+    private int trackId;
+
+    private int formula;
+
+    /**
+     * Time left in the session, in seconds.
+     */
+    private int sessionTimeLeft;
+
+    /**
+     * Session duration, in seconds.
+     */
+    private int sessionDuration;
+
+    /**
+     * Pit lane speed limit, in km/h.
+     */
+    private int pitSpeedLimit;
+
+    private int gamePaused;
+
+    private int isSpectating;
+
+    private int spectatorCarIndex;
+
+    private int sliProNativeSupport;
+
+    private int numMarshalZones;
+
+    private final MarshalZone[] marshalZones = new MarshalZone[MAX_MARSHAL_ZONES];
+
+    /**
+     * 0 none, 1 full, 2 virtual, 3 formation lap.
+     */
+    private int safetyCarStatus;
+
+    private int networkGame;
+
+    private int numWeatherForecastSamples;
+
+    private final WeatherForecastSample[] weatherForecastSamples = new WeatherForecastSample[MAX_WEATHER_FORECAST_SAMPLES];
+
+    /**
+     * 0 perfect, 1 approximate.
+     */
+    private int forecastAccuracy;
+
+    private int aiDifficulty;
+
+    private long seasonLinkIdentifier;
+
+    private long weekendLinkIdentifier;
+
+    private long sessionLinkIdentifier;
+
+    private int pitStopWindowIdealLap;
+
+    private int pitStopWindowLatestLap;
+
+    private int pitStopRejoinPosition;
+
+    private int steeringAssist;
+
+    private int brakingAssist;
+
+    private int gearboxAssist;
+
+    private int pitAssist;
+
+    private int pitReleaseAssist;
+
+    private int ersAssist;
+
+    private int drsAssist;
+
+    private int dynamicRacingLine;
+
+    private int dynamicRacingLineType;
+
+    private int gameMode;
+
+    private int ruleSet;
+
+    /**
+     * Local time of day, in minutes since midnight.
+     */
+    private long timeOfDay;
+
+    private int sessionLength;
+
+    private int speedUnitsLeadPlayer;
+
+    private int temperatureUnitsLeadPlayer;
+
+    private int speedUnitsSecondaryPlayer;
+
+    private int temperatureUnitsSecondaryPlayer;
+
+    private int numSafetyCarPeriods;
+
+    private int numVirtualSafetyCarPeriods;
+
+    private int numRedFlagPeriods;
+
+    private int equalCarPerformance;
+
+    private int recoveryMode;
+
+    private int flashbackLimit;
+
+    private int surfaceType;
+
+    private int lowFuelMode;
+
+    private int raceStarts;
+
+    private int tyreTemperature;
+
+    private int pitLaneTyreSim;
+
+    private int carDamage;
+
+    private int carDamageRate;
+
+    private int collisions;
+
+    private int collisionsOffForFirstLapOnly;
+
+    private int mpUnsafePitRelease;
+
+    private int mpOffForGriefing;
+
+    private int cornerCuttingStringency;
+
+    private int parcFermeRules;
+
+    private int pitStopExperience;
+
+    private int safetyCar;
+
+    private int safetyCarExperience;
+
+    private int formationLap;
+
+    private int formationLapExperience;
+
+    private int redFlags;
+
+    private int affectsLicenceLevelSolo;
+
+    private int affectsLicenceLevelMp;
+
+    private int numSessionsInWeekend;
+
+    /**
+     * Session types of the weekend, in order.
+     */
+    private final int[] weekendStructure = new int[12];
+
+    /**
+     * Distance at which sector 2 starts, in metres.
+     */
+    private float sector2LapDistanceStart;
+
+    /**
+     * Distance at which sector 3 starts, in metres.
+     */
+    private float sector3LapDistanceStart;
+
+    public SessionPacket() {
+        Arrays.setAll(marshalZones, i -> new MarshalZone());
+        Arrays.setAll(weatherForecastSamples, i -> new WeatherForecastSample());
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.SESSION;
+    }
+}
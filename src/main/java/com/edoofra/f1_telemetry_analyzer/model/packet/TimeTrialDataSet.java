@@ -0,0 +1,37 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * One time trial lap, from the Time Trial packet.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class TimeTrialDataSet {
+
+    private int carIdx;
+
+    private int teamId;
+
+    private int lapTimeInMs;
+
+    private int sector1TimeInMs;
+
+    private int sector2TimeInMs;
+
+    private int sector3TimeInMs;
+
+    private int tractionControl;
+
+    private int gearboxAssist;
+
+    private int antiLockBrakes;
+
+    private int equalCarPerformance;
+
+    private int customSetup;
+
+    private int valid;
+}
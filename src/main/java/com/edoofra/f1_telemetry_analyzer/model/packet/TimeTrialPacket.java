@@ -0,0 +1,25 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The session best, personal best and rival laps in time trial.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class TimeTrialPacket extends DecodedPacket {
+
+    private final TimeTrialDataSet playerSessionBest = new TimeTrialDataSet();
+
+    private final TimeTrialDataSet personalBest = new TimeTrialDataSet();
+
+    private final TimeTrialDataSet rival = new TimeTrialDataSet();
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.TIME_TRIAL;
+    }
+}
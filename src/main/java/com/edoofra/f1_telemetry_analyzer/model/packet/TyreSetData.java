@@ -0,0 +1,43 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * One tyre set available to a car, from the Tyre Sets packet.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class TyreSetData {
+
+    private int actualTyreCompound;
+
+    private int visualTyreCompound;
+
+    /**
+     * Tyre wear, in percent.
+     */
+    private int wear;
+
+    private int available;
+
+    private int recommendedSession;
+
+    /**
+     * Laps left in this tyre set.
+     */
+    private int lifeSpan;
+
+    /**
+     * Maximum number of laps recommended for this compound.
+     */
+    private int usableLife;
+
+    /**
+     * Lap delta time compared to the fitted set, in milliseconds.
+     */
+    private int lapDeltaTime;
+
+    private int fitted;
+}
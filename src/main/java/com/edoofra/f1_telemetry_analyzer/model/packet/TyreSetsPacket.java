@@ -0,0 +1,39 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Arrays;
+
+/**
+ * The tyre sets available to one car.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class TyreSetsPacket extends DecodedPacket {
+
+    /**
+     * 13 dry and 7 wet sets.
+     */
+    public static final int MAX_TYRE_SETS = 20;
+
+    private int carIdx;
+
+    private final TyreSetData[] tyreSets = new TyreSetData[MAX_TYRE_SETS];
+
+    /**
+     * Index of the fitted tyre set.
+     */
+    private int fittedIdx;
+
+    public TyreSetsPacket() {
+        Arrays.setAll(tyreSets, i -> new TyreSetData());
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.TYRE_SETS;
+    }
+}
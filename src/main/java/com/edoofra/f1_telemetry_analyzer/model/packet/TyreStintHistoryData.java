@@ -0,0 +1,22 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * One tyre stint of a car's history, from the Session History packet.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class TyreStintHistoryData {
+
+    /**
+     * Lap the stint ended on, 255 for the current stint.
+     */
+    private int endLap;
+
+    private int tyreActualCompound;
+
+    private int tyreVisualCompound;
+}
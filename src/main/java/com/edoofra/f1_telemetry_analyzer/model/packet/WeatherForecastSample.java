@@ -0,0 +1,50 @@
+package com.edoofra.f1_telemetry_analyzer.model.packet;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * A weather forecast sample, from the Session packet.
+ * Instances are reused: the decoder overwrites every field in place for each packet.
+ */
+@Getter
+@Setter
+public class WeatherForecastSample {
+
+    private int sessionType;
+
+    /**
+     * Time in minutes the forecast is for.
+     */
+    private int timeOffset;
+
+    /**
+     * 0 clear, 1 light cloud, 2 overcast, 3 light rain, 4 heavy rain, 5 storm.
+     */
+    private int weather;
+
+    /**
+     * Track temperature, in degrees Celsius.
+     */
+    private int trackTemperature;
+
+    /**
+     * 0 up, 1 down, 2 no change.
+     */
+    private int trackTemperatureChange;
+
+    /**
+     * Air temperature, in degrees Celsius.
+     */
+    private int airTemperature;
+
+    /**
+     * 0 up, 1 down, 2 no change.
+     */
+    private int airTemperatureChange;
+
+    /**
+     * Rain probability, 0-100.
+     */
+    private int rainPercentage;
+}
@@ -31,6 +31,9 @@ public class Lap {
     @JoinColumn(name = "session_id", insertable = false, updatable = false)
     private Session session;
 
+    @Column(name = "car_index")
+    private Integer carIndex;
+
     @Column(name = "lap_number")
     private Integer lapNumber;
 
@@ -0,0 +1,106 @@
+package com.edoofra.f1_telemetry_analyzer.persistence.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+
+@Data
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "lap_statistics")
+@Builder(toBuilder = true, setterPrefix = "with")
+public class LapStatistics {
+
+    @Id
+    @GeneratedValue(generator = "UUID")
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "session_id", nullable = false)
+    private UUID sessionId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "session_id", insertable = false, updatable = false)
+    private Session session;
+
+    @Column(name = "car_index", nullable = false)
+    private Integer carIndex;
+
+    @Column(name = "lap_number", nullable = false)
+    private Integer lapNumber;
+
+    @Column(name = "samples")
+    private Integer samples;
+
+    @Column(name = "min_speed_kph")
+    private Float minSpeedKph;
+
+    @Column(name = "max_speed_kph")
+    private Float maxSpeedKph;
+
+    @Column(name = "mean_speed_kph")
+    private Float meanSpeedKph;
+
+    /**
+     * Milliseconds per tenth of throttle application, from 0-10% to 90-100%.
+     */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "throttle_histogram_ms")
+    private int[] throttleHistogramMs;
+
+    /**
+     * Milliseconds per tenth of brake application, from 0-10% to 90-100%.
+     */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "brake_histogram_ms")
+    private int[] brakeHistogramMs;
+
+    /**
+     * Milliseconds per gear, from reverse and neutral to 8th.
+     */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "gear_time_ms")
+    private int[] gearTimeMs;
+
+    @Column(name = "max_lateral_g")
+    private Float maxLateralG;
+
+    @Column(name = "max_longitudinal_g")
+    private Float maxLongitudinalG;
+
+    @Column(name = "max_vertical_g")
+    private Float maxVerticalG;
+
+    /**
+     * Lowest tyre surface temperature per wheel, rear left to front right.
+     */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "tyre_surface_min_c")
+    private float[] tyreSurfaceMinC;
+
+    /**
+     * Highest tyre surface temperature per wheel, rear left to front right.
+     */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "tyre_surface_max_c")
+    private float[] tyreSurfaceMaxC;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
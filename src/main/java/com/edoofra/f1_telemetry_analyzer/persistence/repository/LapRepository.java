@@ -17,6 +17,8 @@ public interface LapRepository extends JpaRepository<Lap, UUID> {
 
     List<Lap> findBySessionIdAndLapNumber(UUID sessionId, Integer lapNumber);
 
+    Optional<Lap> findBySessionIdAndCarIndexAndLapNumber(UUID sessionId, Integer carIndex, Integer lapNumber);
+
     @Query("SELECT l FROM Lap l WHERE l.sessionId = :sessionId AND l.lapTimeMs = (SELECT MIN(l2.lapTimeMs) FROM Lap l2 WHERE l2.sessionId = :sessionId)")
     Optional<Lap> findFastestLapBySession(@Param("sessionId") UUID sessionId);
 
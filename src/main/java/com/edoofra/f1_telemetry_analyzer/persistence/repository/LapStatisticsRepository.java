@@ -0,0 +1,17 @@
+package com.edoofra.f1_telemetry_analyzer.persistence.repository;
+
+import com.edoofra.f1_telemetry_analyzer.persistence.domain.LapStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface LapStatisticsRepository extends JpaRepository<LapStatistics, UUID> {
+
+    Optional<LapStatistics> findBySessionIdAndCarIndexAndLapNumber(UUID sessionId, Integer carIndex, Integer lapNumber);
+
+    List<LapStatistics> findBySessionIdAndCarIndexOrderByLapNumber(UUID sessionId, Integer carIndex);
+}
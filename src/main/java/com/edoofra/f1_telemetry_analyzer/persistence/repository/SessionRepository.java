@@ -14,6 +14,8 @@ import java.util.UUID;
 @Repository
 public interface SessionRepository extends JpaRepository<Session, UUID> {
 
+    Optional<Session> findByGameSessionId(String gameSessionId);
+
     List<Session> findByType(String type);
 
     List<Session> findByTrackName(String trackName);
@@ -0,0 +1,39 @@
+package com.edoofra.f1_telemetry_analyzer.service.analytics;
+
+/**
+ * The aggregates of one lap of one car, frozen by the {@link LapAggregator} when the lap completed.
+ * Time-based values are measured in session time between frames; speeds and G-forces from the frames received.
+ *
+ * @param sessionUID          the header's {@code sessionUID}
+ * @param carIndex            the index of the car in the per-car packets
+ * @param lapNumber           the number of the completed lap, from 1
+ * @param samples             the number of telemetry frames aggregated
+ * @param minSpeedKph         the lowest speed, in km/h
+ * @param maxSpeedKph         the highest speed, in km/h
+ * @param meanSpeedKph        the mean speed over the frames, in km/h
+ * @param throttleHistogramMs time spent per tenth of throttle application, from 0-10% to 90-100%, in milliseconds
+ * @param brakeHistogramMs    time spent per tenth of brake application, from 0-10% to 90-100%, in milliseconds
+ * @param gearTimeMs          time spent per gear, from reverse and neutral to 8th, in milliseconds
+ * @param maxLateralG         the highest lateral G-force, either way
+ * @param maxLongitudinalG    the highest longitudinal G-force, accelerating or braking
+ * @param maxVerticalG        the highest vertical G-force, either way
+ * @param tyreSurfaceMinC     the lowest surface temperature per wheel, rear left to front right, in degrees Celsius
+ * @param tyreSurfaceMaxC     the highest surface temperature per wheel, rear left to front right, in degrees Celsius
+ */
+public record LapAggregates(
+        long sessionUID,
+        int carIndex,
+        int lapNumber,
+        int samples,
+        float minSpeedKph,
+        float maxSpeedKph,
+        float meanSpeedKph,
+        int[] throttleHistogramMs,
+        int[] brakeHistogramMs,
+        int[] gearTimeMs,
+        float maxLateralG,
+        float maxLongitudinalG,
+        float maxVerticalG,
+        float[] tyreSurfaceMinC,
+        float[] tyreSurfaceMaxC
+) {}
@@ -0,0 +1,81 @@
+package com.edoofra.f1_telemetry_analyzer.service.analytics;
+
+import com.edoofra.f1_telemetry_analyzer.model.frame.AssembledFrame;
+import com.edoofra.f1_telemetry_analyzer.service.processing.AssembledFrameStage;
+import com.edoofra.f1_telemetry_analyzer.service.session.SessionRecorder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Aggregates the assembled frames of every session into per-lap statistics, and has the {@link SessionRecorder}
+ * store them next to the lap when it completes, so lap summaries never require re-reading raw samples.
+ * <p>
+ * The aggregator of a session is dropped when another session starts after it has received no frame for the
+ * session idle timeout; the running laps of its cars are discarded.
+ */
+@Slf4j
+@Component
+public class LapAggregationStage implements AssembledFrameStage {
+
+    private final Consumer<LapAggregates> sink;
+    private final long idleTimeoutNanos;
+    private final LongSupplier clock;
+
+    /**
+     * Only accessed by the frame assembler, one frame at a time.
+     */
+    private final Map<Long, LapAggregator> sessions = new HashMap<>();
+    private LapAggregator lastSession;
+
+    @Autowired
+    public LapAggregationStage(SessionRecorder recorder,
+                               @Value("${f1.telemetry.session.idle-timeout-seconds:300}") int idleTimeoutSeconds) {
+        this(recorder::recordLapAggregates, idleTimeoutSeconds, System::nanoTime);
+    }
+
+    LapAggregationStage(Consumer<LapAggregates> sink, int idleTimeoutSeconds, LongSupplier clock) {
+        this.sink = sink;
+        this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+        this.clock = clock;
+    }
+
+    @Override
+    public void onFrame(AssembledFrame frame) {
+        long now = clock.getAsLong();
+        session(frame.getSessionUID(), now).onFrame(frame, now, sink);
+    }
+
+    private LapAggregator session(long sessionUID, long now) {
+        LapAggregator session = lastSession;
+        if (session == null || session.sessionUID() != sessionUID) {
+            session = sessions.get(sessionUID);
+            if (session == null) {
+                expireIdleSessions(now);
+                session = new LapAggregator(sessionUID);
+                sessions.put(sessionUID, session);
+                log.debug("Aggregating laps of session {}", Long.toUnsignedString(sessionUID));
+            }
+            lastSession = session;
+        }
+        return session;
+    }
+
+    private void expireIdleSessions(long now) {
+        for (Iterator<LapAggregator> it = sessions.values().iterator(); it.hasNext(); ) {
+            LapAggregator session = it.next();
+            if (now - session.lastFrameNanos() >= idleTimeoutNanos) {
+                it.remove();
+                log.debug("Stopped aggregating laps of idle session {}", Long.toUnsignedString(session.sessionUID()));
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.edoofra.f1_telemetry_analyzer.service.analytics;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.frame.AssembledFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.CarTelemetryFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.LapDataFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.MotionFrame;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Aggregates the frames of one session into running per-lap statistics for every car, and freezes them into
+ * {@link LapAggregates} when a car's {@code currentLapNum} rolls over.
+ * <p>
+ * Each statistic is a primitive accumulator per car, or per car and bin, updated in place: a frame costs a constant
+ * amount of work per car and the 60 Hz samples are never stored. Time-based statistics add the session time elapsed
+ * since the previous frame, capped so that a pause or a burst of lost packets does not inflate a single bin.
+ * A lap number that goes back, as after a flashback, discards the car's running lap.
+ * <p>
+ * Not thread-safe: the {@link LapAggregationStage} receives frames one at a time.
+ */
+final class LapAggregator {
+
+    static final int PEDAL_BINS = 10;
+
+    /**
+     * Reverse, neutral and gears 1 to 8.
+     */
+    static final int GEARS = 10;
+
+    private static final int MAX_CARS = ColumnarFrame.MAX_CARS;
+    private static final int WHEELS = ColumnarFrame.WHEELS;
+
+    /**
+     * Longest step between two frames counted in time-based statistics, in seconds.
+     */
+    private static final float MAX_STEP_SECONDS = 0.5f;
+
+    private final long sessionUID;
+    private long lastFrameNanos;
+
+    private final int[] lapNum = new int[MAX_CARS];
+    private float lastSessionTime = Float.NaN;
+
+    private final int[] samples = new int[MAX_CARS];
+    private final float[] minSpeed = new float[MAX_CARS];
+    private final float[] maxSpeed = new float[MAX_CARS];
+    private final double[] speedSum = new double[MAX_CARS];
+    private final float[] throttleSeconds = new float[MAX_CARS * PEDAL_BINS];
+    private final float[] brakeSeconds = new float[MAX_CARS * PEDAL_BINS];
+    private final float[] gearSeconds = new float[MAX_CARS * GEARS];
+    private final float[] maxLateralG = new float[MAX_CARS];
+    private final float[] maxLongitudinalG = new float[MAX_CARS];
+    private final float[] maxVerticalG = new float[MAX_CARS];
+    private final float[] minTyreSurface = new float[MAX_CARS * WHEELS];
+    private final float[] maxTyreSurface = new float[MAX_CARS * WHEELS];
+
+    LapAggregator(long sessionUID) {
+        this.sessionUID = sessionUID;
+        for (int car = 0; car < MAX_CARS; car++) {
+            startLap(car);
+        }
+    }
+
+    long sessionUID() {
+        return sessionUID;
+    }
+
+    long lastFrameNanos() {
+        return lastFrameNanos;
+    }
+
+    void onFrame(AssembledFrame frame, long nowNanos, Consumer<LapAggregates> sink) {
+        lastFrameNanos = nowNanos;
+        if (frame.has(PacketType.LAP_DATA)) {
+            onLapData(frame.getLapData(), sink);
+        }
+        if (frame.has(PacketType.CAR_TELEMETRY)) {
+            CarTelemetryFrame telemetry = frame.getCarTelemetry();
+            float step = step(telemetry.getSessionTime());
+            for (int car = 0; car < MAX_CARS; car++) {
+                if (lapNum[car] > 0) {
+                    addTelemetry(telemetry, car, step);
+                }
+            }
+        }
+        if (frame.has(PacketType.MOTION)) {
+            MotionFrame motion = frame.getMotion();
+            for (int car = 0; car < MAX_CARS; car++) {
+                if (lapNum[car] > 0) {
+                    maxLateralG[car] = Math.max(maxLateralG[car], Math.abs(motion.getGForceLateral()[car]));
+                    maxLongitudinalG[car] = Math.max(maxLongitudinalG[car], Math.abs(motion.getGForceLongitudinal()[car]));
+                    maxVerticalG[car] = Math.max(maxVerticalG[car], Math.abs(motion.getGForceVertical()[car]));
+                }
+            }
+        }
+    }
+
+    private void onLapData(LapDataFrame lapData, Consumer<LapAggregates> sink) {
+        for (int car = 0; car < MAX_CARS; car++) {
+            int current = lapData.getCurrentLapNum()[car] & 0xFF;
+            int previous = lapNum[car];
+            if (current > previous) {
+                if (previous > 0 && samples[car] > 0) {
+                    sink.accept(freeze(car, previous));
+                }
+                startLap(car);
+            } else if (current < previous) {
+                startLap(car);
+            }
+            lapNum[car] = current;
+        }
+    }
+
+    /**
+     * @return the session time elapsed since the previous telemetry frame, capped, or 0 for the first frame
+     */
+    private float step(float sessionTime) {
+        float step = Float.isNaN(lastSessionTime) ? 0 : sessionTime - lastSessionTime;
+        lastSessionTime = sessionTime;
+        return step > 0 ? Math.min(step, MAX_STEP_SECONDS) : 0;
+    }
+
+    private void addTelemetry(CarTelemetryFrame telemetry, int car, float step) {
+        float speed = telemetry.getSpeed()[car];
+        samples[car]++;
+        minSpeed[car] = Math.min(minSpeed[car], speed);
+        maxSpeed[car] = Math.max(maxSpeed[car], speed);
+        speedSum[car] += speed;
+
+        throttleSeconds[car * PEDAL_BINS + pedalBin(telemetry.getThrottle()[car])] += step;
+        brakeSeconds[car * PEDAL_BINS + pedalBin(telemetry.getBrake()[car])] += step;
+        int gear = Math.clamp(telemetry.getGear()[car] + 1, 0, GEARS - 1);
+        gearSeconds[car * GEARS + gear] += step;
+
+        float[] surface = telemetry.getTyresSurfaceTemperature();
+        for (int wheel = 0; wheel < WHEELS; wheel++) {
+            int index = ColumnarFrame.wheel(car, wheel);
+            minTyreSurface[index] = Math.min(minTyreSurface[index], surface[index]);
+            maxTyreSurface[index] = Math.max(maxTyreSurface[index], surface[index]);
+        }
+    }
+
+    private static int pedalBin(float application) {
+        return Math.clamp((int) (application * PEDAL_BINS), 0, PEDAL_BINS - 1);
+    }
+
+    private LapAggregates freeze(int car, int lapNumber) {
+        float[] tyreMin = new float[WHEELS];
+        float[] tyreMax = new float[WHEELS];
+        System.arraycopy(minTyreSurface, car * WHEELS, tyreMin, 0, WHEELS);
+        System.arraycopy(maxTyreSurface, car * WHEELS, tyreMax, 0, WHEELS);
+        return new LapAggregates(sessionUID, car, lapNumber, samples[car],
+                minSpeed[car], maxSpeed[car], (float) (speedSum[car] / samples[car]),
+                millis(throttleSeconds, car * PEDAL_BINS, PEDAL_BINS),
+                millis(brakeSeconds, car * PEDAL_BINS, PEDAL_BINS),
+                millis(gearSeconds, car * GEARS, GEARS),
+                maxLateralG[car], maxLongitudinalG[car], maxVerticalG[car],
+                tyreMin, tyreMax);
+    }
+
+    private static int[] millis(float[] seconds, int from, int length) {
+        int[] millis = new int[length];
+        for (int i = 0; i < length; i++) {
+            millis[i] = Math.round(seconds[from + i] * 1000);
+        }
+        return millis;
+    }
+
+    private void startLap(int car) {
+        samples[car] = 0;
+        minSpeed[car] = Float.MAX_VALUE;
+        maxSpeed[car] = 0;
+        speedSum[car] = 0;
+        Arrays.fill(throttleSeconds, car * PEDAL_BINS, (car + 1) * PEDAL_BINS, 0);
+        Arrays.fill(brakeSeconds, car * PEDAL_BINS, (car + 1) * PEDAL_BINS, 0);
+        Arrays.fill(gearSeconds, car * GEARS, (car + 1) * GEARS, 0);
+        maxLateralG[car] = 0;
+        maxLongitudinalG[car] = 0;
+        maxVerticalG[car] = 0;
+        Arrays.fill(minTyreSurface, car * WHEELS, (car + 1) * WHEELS, Float.MAX_VALUE);
+        Arrays.fill(maxTyreSurface, car * WHEELS, (car + 1) * WHEELS, 0);
+    }
+}
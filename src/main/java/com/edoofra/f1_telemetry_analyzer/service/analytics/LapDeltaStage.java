@@ -0,0 +1,89 @@
+package com.edoofra.f1_telemetry_analyzer.service.analytics;
+
+import com.edoofra.f1_telemetry_analyzer.model.frame.AssembledFrame;
+import com.edoofra.f1_telemetry_analyzer.service.processing.AssembledFrameStage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the live delta of every car to its session's best lap from the assembled frames, see {@link LapDeltaTracker}.
+ * <p>
+ * The tracker of a session is dropped when another session starts after it has received no frame for the
+ * session idle timeout.
+ */
+@Slf4j
+@Component
+public class LapDeltaStage implements AssembledFrameStage {
+
+    private final long idleTimeoutNanos;
+    private final LongSupplier clock;
+
+    /**
+     * Updated by the frame assembler, one frame at a time; read by {@link #snapshot(long)} from any thread.
+     */
+    private final Map<Long, LapDeltaTracker> sessions = new ConcurrentHashMap<>();
+    private LapDeltaTracker lastSession;
+
+    @Autowired
+    public LapDeltaStage(@Value("${f1.telemetry.session.idle-timeout-seconds:300}") int idleTimeoutSeconds) {
+        this(idleTimeoutSeconds, System::nanoTime);
+    }
+
+    LapDeltaStage(int idleTimeoutSeconds, LongSupplier clock) {
+        this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+        this.clock = clock;
+    }
+
+    @Override
+    public void onFrame(AssembledFrame frame) {
+        long now = clock.getAsLong();
+        session(frame.getSessionUID(), now).onFrame(frame, now);
+    }
+
+    /**
+     * @return the live deltas of the session, if it is tracked
+     */
+    public Optional<LiveDeltaSnapshot> snapshot(long sessionUID) {
+        return Optional.ofNullable(sessions.get(sessionUID)).map(LapDeltaTracker::snapshot);
+    }
+
+    /**
+     * @return the session's best lap, if one completed
+     */
+    public Optional<ReferenceLap> reference(long sessionUID) {
+        return Optional.ofNullable(sessions.get(sessionUID)).map(LapDeltaTracker::reference);
+    }
+
+    private LapDeltaTracker session(long sessionUID, long now) {
+        LapDeltaTracker session = lastSession;
+        if (session == null || session.sessionUID() != sessionUID) {
+            session = sessions.get(sessionUID);
+            if (session == null) {
+                expireIdleSessions(now);
+                session = new LapDeltaTracker(sessionUID);
+                sessions.put(sessionUID, session);
+                log.debug("Tracking lap deltas of session {}", Long.toUnsignedString(sessionUID));
+            }
+            lastSession = session;
+        }
+        return session;
+    }
+
+    private void expireIdleSessions(long now) {
+        sessions.values().removeIf(session -> {
+            boolean idle = now - session.lastFrameNanos() >= idleTimeoutNanos;
+            if (idle) {
+                log.debug("Stopped tracking lap deltas of idle session {}", Long.toUnsignedString(session.sessionUID()));
+            }
+            return idle;
+        });
+    }
+}
@@ -0,0 +1,199 @@
+package com.edoofra.f1_telemetry_analyzer.service.analytics;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.frame.AssembledFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.LapDataFrame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Computes the live delta of every car of one session to the session's best lap, from the Lap Data of each frame.
+ * <p>
+ * While a car laps, the lap time it reached at each whole metre of {@code lapDistance} is recorded in a primitive
+ * array, filled by interpolating between consecutive frames: a frame fills the few metres covered since the
+ * previous one. When the lap completes faster than the current reference, a copy of the recording becomes the new
+ * {@link ReferenceLap}, published through a volatile field so readers see either the old or the new lap whole.
+ * The delta of a car is then its current lap time minus the reference's time at its distance, a lookup and an
+ * interpolation.
+ * <p>
+ * Only laps started at the line while tracked can become the reference; a lap during which the car went back,
+ * frames were missing over more than {@link #MAX_FILL_METRES}, or the lap was invalidated, is not recorded further.
+ * <p>
+ * Updated by the {@link LapDeltaStage} one frame at a time; {@link #snapshot()} may be called from any thread and
+ * reads each car's latest delta without synchronization.
+ */
+final class LapDeltaTracker {
+
+    /**
+     * Longest lap recorded, in metres; longer than any circuit of the calendar.
+     */
+    static final int MAX_LAP_METRES = 8192;
+
+    /**
+     * Longest distance between two frames filled by interpolation, in metres.
+     */
+    static final int MAX_FILL_METRES = 250;
+
+    /**
+     * Shortest lap that can become the reference, in metres.
+     */
+    private static final int MIN_LAP_METRES = 1000;
+
+    /**
+     * How far back a car may move without ending its recording, in metres, as it jitters when stopped.
+     */
+    private static final float MAX_REVERSE_METRES = 5;
+
+    private static final int MAX_CARS = ColumnarFrame.MAX_CARS;
+
+    private final long sessionUID;
+    private long lastFrameNanos;
+
+    private final int[] lapNum = new int[MAX_CARS];
+
+    /**
+     * Lap time at each metre of the running lap per car, allocated with the car's first recorded lap.
+     */
+    private final int[][] recording = new int[MAX_CARS][];
+    private final int[] recordedTo = new int[MAX_CARS];
+    private final float[] recordedDistance = new float[MAX_CARS];
+    private final int[] recordedTimeMs = new int[MAX_CARS];
+    private final boolean[] recordable = new boolean[MAX_CARS];
+
+    private final float[] lapDistance = new float[MAX_CARS];
+    private final float[] deltaMs = new float[MAX_CARS];
+
+    private volatile ReferenceLap reference;
+
+    LapDeltaTracker(long sessionUID) {
+        this.sessionUID = sessionUID;
+        Arrays.fill(deltaMs, Float.NaN);
+    }
+
+    long sessionUID() {
+        return sessionUID;
+    }
+
+    long lastFrameNanos() {
+        return lastFrameNanos;
+    }
+
+    /**
+     * @return the session's best lap, or null before a lap completed
+     */
+    ReferenceLap reference() {
+        return reference;
+    }
+
+    /**
+     * @return the car's latest delta to the reference, in milliseconds, or NaN if unknown
+     */
+    float deltaMs(int car) {
+        return deltaMs[car];
+    }
+
+    void onFrame(AssembledFrame frame, long nowNanos) {
+        lastFrameNanos = nowNanos;
+        if (!frame.has(PacketType.LAP_DATA)) {
+            return;
+        }
+        LapDataFrame lapData = frame.getLapData();
+        for (int car = 0; car < MAX_CARS; car++) {
+            int current = lapData.getCurrentLapNum()[car] & 0xFF;
+            int previous = lapNum[car];
+            if (current > previous) {
+                if (current == previous + 1 && recordable[car] && lapData.getLastLapTimeInMs()[car] > 0) {
+                    complete(car, previous, lapData.getLastLapTimeInMs()[car]);
+                }
+                // The first lap seen may have started before the frames did
+                startLap(car, previous > 0);
+            } else if (current < previous) {
+                startLap(car, false);
+            }
+            lapNum[car] = current;
+
+            float distance = lapData.getLapDistance()[car];
+            int timeMs = lapData.getCurrentLapTimeInMs()[car];
+            lapDistance[car] = distance;
+            if (current == 0 || distance < 0) {
+                deltaMs[car] = Float.NaN;
+                continue;
+            }
+            if (recordable[car]) {
+                record(car, distance, timeMs);
+                if (lapData.getCurrentLapInvalid()[car]) {
+                    recordable[car] = false;
+                }
+            }
+            ReferenceLap lap = reference;
+            deltaMs[car] = lap != null ? timeMs - lap.timeAt(distance) : Float.NaN;
+        }
+    }
+
+    private void startLap(int car, boolean record) {
+        recordable[car] = record;
+        if (!record) {
+            return;
+        }
+        if (recording[car] == null) {
+            recording[car] = new int[MAX_LAP_METRES];
+        }
+        recording[car][0] = 0;
+        recordedTo[car] = 0;
+        recordedDistance[car] = 0;
+        recordedTimeMs[car] = 0;
+    }
+
+    /**
+     * Fills the metres from the last recorded one to the car's distance, interpolating the lap time.
+     */
+    private void record(int car, float distance, int timeMs) {
+        float fromDistance = recordedDistance[car];
+        if (distance <= fromDistance) {
+            recordable[car] = fromDistance - distance <= MAX_REVERSE_METRES;
+            return;
+        }
+        int target = (int) distance;
+        int from = recordedTo[car];
+        if (target >= MAX_LAP_METRES || target - from > MAX_FILL_METRES) {
+            recordable[car] = false;
+            return;
+        }
+        int[] times = recording[car];
+        int fromTimeMs = recordedTimeMs[car];
+        float msPerMetre = (timeMs - fromTimeMs) / (distance - fromDistance);
+        for (int metre = from + 1; metre <= target; metre++) {
+            times[metre] = fromTimeMs + Math.round(msPerMetre * (metre - fromDistance));
+        }
+        recordedTo[car] = Math.max(from, target);
+        recordedDistance[car] = distance;
+        recordedTimeMs[car] = timeMs;
+    }
+
+    private void complete(int car, int lapNumber, int lapTimeMs) {
+        ReferenceLap current = reference;
+        int metres = recordedTo[car] + 1;
+        if (metres >= MIN_LAP_METRES && (current == null || lapTimeMs < current.lapTimeMs())) {
+            reference = new ReferenceLap(car, lapNumber, lapTimeMs, Arrays.copyOf(recording[car], metres));
+        }
+    }
+
+    LiveDeltaSnapshot snapshot() {
+        ReferenceLap lap = reference;
+        List<LiveDeltaSnapshot.CarDelta> cars = new ArrayList<>();
+        for (int car = 0; car < MAX_CARS; car++) {
+            float delta = deltaMs[car];
+            if (!Float.isNaN(delta)) {
+                cars.add(new LiveDeltaSnapshot.CarDelta(car, lapNum[car], lapDistance[car], Math.round(delta)));
+            }
+        }
+        return new LiveDeltaSnapshot(Long.toUnsignedString(sessionUID),
+                lap != null ? lap.carIndex() : null,
+                lap != null ? lap.lapNumber() : null,
+                lap != null ? lap.lapTimeMs() : null,
+                cars);
+    }
+}
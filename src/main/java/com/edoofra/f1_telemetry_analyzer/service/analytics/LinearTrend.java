@@ -0,0 +1,57 @@
+package com.edoofra.f1_telemetry_analyzer.service.analytics;
+
+/**
+ * Least-squares line through a stream of samples, fitted incrementally from running sums: adding a sample and
+ * reading the slope are constant-time, and no sample is kept.
+ * <p>
+ * Callers should keep {@code x} close to 0, e.g. relative to the first sample, so that the sums stay precise.
+ */
+final class LinearTrend {
+
+    private long count;
+    private double sumX;
+    private double sumY;
+    private double sumXX;
+    private double sumXY;
+    private double minX = Double.POSITIVE_INFINITY;
+    private double maxX = Double.NEGATIVE_INFINITY;
+
+    void add(double x, double y) {
+        count++;
+        sumX += x;
+        sumY += y;
+        sumXX += x * x;
+        sumXY += x * y;
+        minX = Math.min(minX, x);
+        maxX = Math.max(maxX, x);
+    }
+
+    void reset() {
+        count = 0;
+        sumX = 0;
+        sumY = 0;
+        sumXX = 0;
+        sumXY = 0;
+        minX = Double.POSITIVE_INFINITY;
+        maxX = Double.NEGATIVE_INFINITY;
+    }
+
+    long count() {
+        return count;
+    }
+
+    /**
+     * @return the distance between the smallest and largest {@code x} added, or 0 without samples
+     */
+    double span() {
+        return count > 0 ? maxX - minX : 0;
+    }
+
+    /**
+     * @return the slope of the fitted line, or NaN if fewer than two distinct {@code x} were added
+     */
+    double slope() {
+        double denominator = count * sumXX - sumX * sumX;
+        return count > 1 && denominator > 0 ? (count * sumXY - sumX * sumY) / denominator : Double.NaN;
+    }
+}
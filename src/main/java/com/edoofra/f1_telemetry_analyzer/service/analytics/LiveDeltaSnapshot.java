@@ -0,0 +1,30 @@
+package com.edoofra.f1_telemetry_analyzer.service.analytics;
+
+import java.util.List;
+
+/**
+ * The live delta of every car of a session to the session's best lap.
+ *
+ * @param sessionUID         the unsigned {@code sessionUID}
+ * @param referenceCarIndex  the car that set the reference lap, or null before a lap completed
+ * @param referenceLapNumber the number of the reference lap, or null before a lap completed
+ * @param referenceLapTimeMs the reference lap time, in milliseconds, or null before a lap completed
+ * @param cars               the cars on a lap the reference covers, by car index
+ */
+public record LiveDeltaSnapshot(
+        String sessionUID,
+        Integer referenceCarIndex,
+        Integer referenceLapNumber,
+        Integer referenceLapTimeMs,
+        List<CarDelta> cars
+) {
+
+    /**
+     * @param carIndex    the index of the car in the per-car packets
+     * @param lapNumber   the car's current lap
+     * @param lapDistance the car's distance from the line, in metres
+     * @param deltaMs     the car's lap time minus the reference's at the same distance, in milliseconds;
+     *                    negative when the car is ahead
+     */
+    public record CarDelta(int carIndex, int lapNumber, float lapDistance, int deltaMs) {}
+}
@@ -0,0 +1,65 @@
+package com.edoofra.f1_telemetry_analyzer.service.analytics;
+
+/**
+ * A completed lap used as the reference of live deltas: the lap time reached at each whole metre of
+ * {@code lapDistance}, from the line.
+ * <p>
+ * Immutable, so a reference can be replaced by publishing a new instance while other threads read the old one.
+ */
+public final class ReferenceLap {
+
+    private final int carIndex;
+    private final int lapNumber;
+    private final int lapTimeMs;
+
+    /**
+     * Lap time in milliseconds when the car reached each metre of the lap.
+     */
+    private final int[] timeAtMetreMs;
+
+    /**
+     * @param timeAtMetreMs the lap time at each metre, owned by the reference from now on
+     */
+    ReferenceLap(int carIndex, int lapNumber, int lapTimeMs, int[] timeAtMetreMs) {
+        this.carIndex = carIndex;
+        this.lapNumber = lapNumber;
+        this.lapTimeMs = lapTimeMs;
+        this.timeAtMetreMs = timeAtMetreMs;
+    }
+
+    public int carIndex() {
+        return carIndex;
+    }
+
+    public int lapNumber() {
+        return lapNumber;
+    }
+
+    public int lapTimeMs() {
+        return lapTimeMs;
+    }
+
+    /**
+     * @return the number of metres recorded
+     */
+    public int length() {
+        return timeAtMetreMs.length;
+    }
+
+    /**
+     * Interpolates the time the reference lap reached a distance, between the two metres around it.
+     * Distances past the last recorded metre get the time at that metre.
+     *
+     * @param lapDistance a distance from the line, in metres, not negative
+     * @return the lap time at the distance, in milliseconds
+     */
+    public float timeAt(float lapDistance) {
+        int metre = (int) lapDistance;
+        int last = timeAtMetreMs.length - 1;
+        if (metre >= last) {
+            return timeAtMetreMs[last];
+        }
+        int from = timeAtMetreMs[metre];
+        return from + (timeAtMetreMs[metre + 1] - from) * (lapDistance - metre);
+    }
+}
@@ -0,0 +1,39 @@
+package com.edoofra.f1_telemetry_analyzer.service.analytics;
+
+/**
+ * The tyre and fuel projection of one car, as published by the {@link StrategyStage}.
+ * Rates and projections are null until the stint has covered enough distance to fit them.
+ *
+ * @param sessionUID         the unsigned {@code sessionUID}
+ * @param carIndex           the index of the car in the per-car packets
+ * @param lapNumber          the car's current lap
+ * @param stintStartLap      the lap the car's current tyres were fitted on, or first seen on
+ * @param tyreCompound       the visual tyre compound: 16 soft, 17 medium, 18 hard, 7 inter, 8 wet
+ * @param tyreAgeLaps        the age of the tyres, in laps
+ * @param tyreWearPercent    the wear of the most worn tyre, in percent
+ * @param wearPerLapPercent  the wear rate of the most worn tyre over the stint, in percent per lap
+ * @param tyreLapsRemaining  the laps left before the most worn tyre reaches the wear limit
+ * @param fuelInTankKg       the fuel in the tank, in kilograms
+ * @param fuelPerLapKg       the fuel burn rate, in kilograms per lap
+ * @param fuelLapsRemaining  the laps the fuel in the tank lasts at that rate
+ * @param pitWindowOpenLap   the first lap from which one more stint on the same compound reaches the end of the race,
+ *                           or null if the race length is unknown or no stop is needed
+ * @param pitWindowCloseLap  the last lap before the tyres reach the wear limit, or null if they reach the end of the
+ *                           race
+ */
+public record StrategyEstimate(
+        String sessionUID,
+        int carIndex,
+        int lapNumber,
+        int stintStartLap,
+        int tyreCompound,
+        int tyreAgeLaps,
+        float tyreWearPercent,
+        Float wearPerLapPercent,
+        Float tyreLapsRemaining,
+        float fuelInTankKg,
+        Float fuelPerLapKg,
+        Float fuelLapsRemaining,
+        Integer pitWindowOpenLap,
+        Integer pitWindowCloseLap
+) {}
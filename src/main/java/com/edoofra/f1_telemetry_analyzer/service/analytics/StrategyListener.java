@@ -0,0 +1,16 @@
+package com.edoofra.f1_telemetry_analyzer.service.analytics;
+
+/**
+ * Receives the tyre and fuel estimates of the cars, as published by the {@link StrategyStage}.
+ * Spring beans implementing this interface are called on the processing threads, one estimate at a time and only
+ * when a car's estimate changed beyond the publish threshold or its stint changed; they must return quickly.
+ */
+public interface StrategyListener {
+
+    /**
+     * Handles a new estimate for one car.
+     *
+     * @param estimate the estimate, which replaces the previous one of the car
+     */
+    void onEstimate(StrategyEstimate estimate);
+}
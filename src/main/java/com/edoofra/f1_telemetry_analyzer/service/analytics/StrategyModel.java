@@ -0,0 +1,266 @@
+package com.edoofra.f1_telemetry_analyzer.service.analytics;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.frame.AssembledFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.CarDamageFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.CarStatusFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.LapDataFrame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Models the tyre wear and fuel burn of every car of one session over distance, and projects how many laps the
+ * tyres and the fuel last and when the car should pit.
+ * <p>
+ * Each car has two {@link LinearTrend}s against its total distance: the wear of its most worn tyre since the
+ * current stint started, fed by Car Damage, and its fuel in the tank, fed by Car Status. A stint starts when the
+ * tyre compound changes, the tyre age goes down or the wear drops, as after a pit stop or a flashback; the fuel
+ * trend restarts when the fuel goes up or the car goes back. Rates are converted to laps with the track length
+ * and only used once the trend spans {@link #MIN_SPAN_KM}.
+ * <p>
+ * Car Status arrives with the assembled frames, but Car Damage is sent at a lower rate and usually after the frame
+ * it belongs to has been assembled, so it is fed on its own and placed at the distance of the latest assembled frame.
+ * <p>
+ * Every frame updates a constant number of sums per car. An estimate is only built and published when the stint
+ * changed, a projection moved by at least the publish threshold, or the pit window moved, so consumers see a
+ * handful of estimates per stint rather than one per packet.
+ * <p>
+ * Updated by the {@link StrategyStage} one frame or Car Damage packet at a time; {@link #estimates()} may be called
+ * from any thread.
+ */
+final class StrategyModel {
+
+    /**
+     * Shortest distance a trend must span before its rate is used, in kilometres.
+     */
+    static final double MIN_SPAN_KM = 1.0;
+
+    /**
+     * Drop of the most worn tyre's wear, in percent, taken as a tyre change.
+     */
+    private static final float WEAR_RESET_PERCENT = 2;
+
+    /**
+     * Rise of the fuel in the tank, in kilograms, taken as a restart of the fuel trend.
+     */
+    private static final float FUEL_RESET_KG = 0.5f;
+
+    /**
+     * How far back a car may move, in metres, before its trends restart.
+     */
+    private static final float MAX_REVERSE_METRES = 10;
+
+    private static final int MAX_CARS = ColumnarFrame.MAX_CARS;
+    private static final int WHEELS = ColumnarFrame.WHEELS;
+
+    private final long sessionUID;
+    private final String unsignedSessionUID;
+    private final float wearLimitPercent;
+    private final float publishThresholdLaps;
+    private long lastFrameNanos;
+
+    private int totalLaps;
+    private int trackLengthMetres;
+
+    private final int[] lapNum = new int[MAX_CARS];
+    private final float[] distance = new float[MAX_CARS];
+    private final boolean[] rewound = new boolean[MAX_CARS];
+
+    private final int[] stint = new int[MAX_CARS];
+    private final int[] stintStartLap = new int[MAX_CARS];
+    private final float[] stintStartDistance = new float[MAX_CARS];
+    private final int[] compound = new int[MAX_CARS];
+    private final int[] tyreAge = new int[MAX_CARS];
+    private final float[] wear = new float[MAX_CARS];
+    private final LinearTrend[] wearTrend = new LinearTrend[MAX_CARS];
+
+    private final float[] fuel = new float[MAX_CARS];
+    private final float[] fuelStartDistance = new float[MAX_CARS];
+    private final LinearTrend[] fuelTrend = new LinearTrend[MAX_CARS];
+
+    private final int[] publishedStint = new int[MAX_CARS];
+    private final float[] publishedTyreLaps = new float[MAX_CARS];
+    private final float[] publishedFuelLaps = new float[MAX_CARS];
+    private final int[] publishedWindowOpen = new int[MAX_CARS];
+    private final int[] publishedWindowClose = new int[MAX_CARS];
+    private final AtomicReferenceArray<StrategyEstimate> published = new AtomicReferenceArray<>(MAX_CARS);
+
+    StrategyModel(long sessionUID, float wearLimitPercent, float publishThresholdLaps) {
+        this.sessionUID = sessionUID;
+        this.unsignedSessionUID = Long.toUnsignedString(sessionUID);
+        this.wearLimitPercent = wearLimitPercent;
+        this.publishThresholdLaps = publishThresholdLaps;
+        for (int car = 0; car < MAX_CARS; car++) {
+            wearTrend[car] = new LinearTrend();
+            fuelTrend[car] = new LinearTrend();
+        }
+        Arrays.fill(stint, -1);
+        Arrays.fill(publishedStint, -1);
+    }
+
+    long sessionUID() {
+        return sessionUID;
+    }
+
+    long lastFrameNanos() {
+        return lastFrameNanos;
+    }
+
+    /**
+     * Sets the session details the projections depend on; 0 if not known yet.
+     */
+    void sessionDetails(int totalLaps, int trackLengthMetres) {
+        this.totalLaps = totalLaps;
+        this.trackLengthMetres = trackLengthMetres;
+    }
+
+    void onFrame(AssembledFrame frame, long nowNanos, Consumer<StrategyEstimate> listener) {
+        lastFrameNanos = nowNanos;
+        if (!frame.has(PacketType.LAP_DATA) || !frame.has(PacketType.CAR_STATUS)) {
+            return;
+        }
+        LapDataFrame lapData = frame.getLapData();
+        for (int car = 0; car < MAX_CARS; car++) {
+            int lap = lapData.getCurrentLapNum()[car] & 0xFF;
+            if (lap == 0) {
+                continue;
+            }
+            lapNum[car] = lap;
+            float totalDistance = lapData.getTotalDistance()[car];
+            boolean reversed = totalDistance < distance[car] - MAX_REVERSE_METRES;
+            // Kept until the next Car Damage, which starts a new stint
+            rewound[car] |= reversed;
+            distance[car] = totalDistance;
+            onStatus(frame.getCarStatus(), car, reversed);
+            project(car, listener);
+        }
+    }
+
+    void onCarDamage(CarDamageFrame carDamage, long nowNanos, Consumer<StrategyEstimate> listener) {
+        lastFrameNanos = nowNanos;
+        for (int car = 0; car < MAX_CARS; car++) {
+            if (stint[car] < 0) {
+                // The stint starts with the first Car Status of the car
+                continue;
+            }
+            onDamage(carDamage, car, rewound[car]);
+            rewound[car] = false;
+            project(car, listener);
+        }
+    }
+
+    private void onStatus(CarStatusFrame carStatus, int car, boolean reversed) {
+        int visualCompound = carStatus.getVisualTyreCompound()[car] & 0xFF;
+        int age = carStatus.getTyresAgeLaps()[car] & 0xFF;
+        if (stint[car] < 0 || visualCompound != compound[car] || age < tyreAge[car]) {
+            startStint(car);
+        }
+        compound[car] = visualCompound;
+        tyreAge[car] = age;
+
+        float fuelInTank = carStatus.getFuelInTank()[car];
+        if (reversed || fuelInTank > fuel[car] + FUEL_RESET_KG || fuelTrend[car].count() == 0) {
+            fuelTrend[car].reset();
+            fuelStartDistance[car] = distance[car];
+        }
+        fuel[car] = fuelInTank;
+        fuelTrend[car].add((distance[car] - fuelStartDistance[car]) / 1000.0, fuelInTank);
+    }
+
+    private void onDamage(CarDamageFrame carDamage, int car, boolean reversed) {
+        float worst = 0;
+        for (int wheel = 0; wheel < WHEELS; wheel++) {
+            worst = Math.max(worst, carDamage.getTyresWear()[ColumnarFrame.wheel(car, wheel)]);
+        }
+        if (reversed || worst < wear[car] - WEAR_RESET_PERCENT) {
+            startStint(car);
+        }
+        wear[car] = worst;
+        wearTrend[car].add((distance[car] - stintStartDistance[car]) / 1000.0, worst);
+    }
+
+    private void startStint(int car) {
+        stint[car]++;
+        stintStartLap[car] = lapNum[car];
+        stintStartDistance[car] = distance[car];
+        wear[car] = 0;
+        wearTrend[car].reset();
+    }
+
+    /**
+     * Projects the car's tyre and fuel life, and publishes an estimate if it moved beyond the threshold.
+     */
+    private void project(int car, Consumer<StrategyEstimate> listener) {
+        double lapKm = trackLengthMetres / 1000.0;
+        float wearPerLap = (float) rate(wearTrend[car], lapKm);
+        float tyreLaps = wearPerLap > 0 ? Math.max(0, (wearLimitPercent - wear[car]) / wearPerLap) : Float.NaN;
+        float fuelPerLap = (float) -rate(fuelTrend[car], lapKm);
+        float fuelLaps = fuelPerLap > 0 ? fuel[car] / fuelPerLap : Float.NaN;
+
+        int windowOpen = -1;
+        int windowClose = -1;
+        int lap = lapNum[car];
+        if (!Float.isNaN(tyreLaps) && (totalLaps == 0 || lap + tyreLaps < totalLaps)) {
+            windowClose = lap + (int) tyreLaps;
+            if (totalLaps > 0) {
+                // Pitting earlier would need fresh tyres to last more laps than they do
+                int lastOpen = (int) Math.ceil(totalLaps - wearLimitPercent / wearPerLap);
+                windowOpen = Math.min(windowClose, Math.max(lap, lastOpen));
+            }
+        }
+
+        if (stint[car] == publishedStint[car]
+                && !moved(tyreLaps, publishedTyreLaps[car]) && !moved(fuelLaps, publishedFuelLaps[car])
+                && windowOpen == publishedWindowOpen[car] && windowClose == publishedWindowClose[car]) {
+            return;
+        }
+        publishedStint[car] = stint[car];
+        publishedTyreLaps[car] = tyreLaps;
+        publishedFuelLaps[car] = fuelLaps;
+        publishedWindowOpen[car] = windowOpen;
+        publishedWindowClose[car] = windowClose;
+
+        StrategyEstimate estimate = new StrategyEstimate(unsignedSessionUID, car, lap, stintStartLap[car], compound[car],
+                tyreAge[car], wear[car], orNull(wearPerLap), orNull(tyreLaps), fuel[car], orNull(fuelPerLap),
+                orNull(fuelLaps), windowOpen >= 0 ? windowOpen : null, windowClose >= 0 ? windowClose : null);
+        published.set(car, estimate);
+        listener.accept(estimate);
+    }
+
+    /**
+     * @return the trend's slope per lap, or NaN if the track length is unknown or the trend is too short
+     */
+    private static double rate(LinearTrend trend, double lapKm) {
+        return lapKm > 0 && trend.span() >= MIN_SPAN_KM ? trend.slope() * lapKm : Double.NaN;
+    }
+
+    private boolean moved(float laps, float publishedLaps) {
+        if (Float.isNaN(laps) || Float.isNaN(publishedLaps)) {
+            return Float.isNaN(laps) != Float.isNaN(publishedLaps);
+        }
+        return Math.abs(laps - publishedLaps) >= publishThresholdLaps;
+    }
+
+    private static Float orNull(float value) {
+        return Float.isNaN(value) ? null : value;
+    }
+
+    /**
+     * @return the latest published estimate of every car that has one
+     */
+    List<StrategyEstimate> estimates() {
+        List<StrategyEstimate> estimates = new ArrayList<>();
+        for (int car = 0; car < MAX_CARS; car++) {
+            StrategyEstimate estimate = published.get(car);
+            if (estimate != null) {
+                estimates.add(estimate);
+            }
+        }
+        return estimates;
+    }
+}
@@ -0,0 +1,167 @@
+package com.edoofra.f1_telemetry_analyzer.service.analytics;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.frame.AssembledFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.CarDamageFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+import com.edoofra.f1_telemetry_analyzer.service.processing.AssembledFrameStage;
+import com.edoofra.f1_telemetry_analyzer.service.processing.FrameStage;
+import com.edoofra.f1_telemetry_analyzer.service.session.LiveSession;
+import com.edoofra.f1_telemetry_analyzer.service.session.LiveSessionRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Models the tyre wear and fuel burn of every car from the assembled frames and publishes the projections to the
+ * {@link StrategyListener} beans, see {@link StrategyModel}.
+ * <p>
+ * Car Damage is subscribed to as a {@link FrameStage} rather than read from the assembled frames: it is sent less
+ * often than the frames are assembled and would otherwise be dropped as late. Both inputs are serialized by a lock.
+ * <p>
+ * The track length and race length come from the {@link LiveSessionRegistry}, re-read once a second. The model of
+ * a session is dropped when another session starts after it has received no frame for the session idle timeout.
+ */
+@Slf4j
+@Component
+public class StrategyStage implements AssembledFrameStage, FrameStage {
+
+    private static final long SESSION_DETAILS_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final Set<PacketType> FRAME_TYPES = Set.of(PacketType.CAR_DAMAGE);
+
+    private final LiveSessionRegistry sessionRegistry;
+    private final List<StrategyListener> listeners;
+    private final float wearLimitPercent;
+    private final float publishThresholdLaps;
+    private final long idleTimeoutNanos;
+    private final LongSupplier clock;
+
+    /**
+     * Updated under the lock; read by {@link #estimates(long)} from any thread.
+     */
+    private final Map<Long, StrategyModel> sessions = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private StrategyModel lastSession;
+    private long sessionDetailsNanos;
+
+    @Autowired
+    public StrategyStage(LiveSessionRegistry sessionRegistry,
+                         ObjectProvider<StrategyListener> listenerProvider,
+                         @Value("${f1.telemetry.strategy.tyre-wear-limit-percent:70}") float wearLimitPercent,
+                         @Value("${f1.telemetry.strategy.publish-threshold-laps:0.5}") float publishThresholdLaps,
+                         @Value("${f1.telemetry.session.idle-timeout-seconds:300}") int idleTimeoutSeconds) {
+        this(sessionRegistry, listenerProvider.orderedStream().toList(), wearLimitPercent, publishThresholdLaps,
+                idleTimeoutSeconds, System::nanoTime);
+    }
+
+    StrategyStage(LiveSessionRegistry sessionRegistry, List<StrategyListener> listeners, float wearLimitPercent,
+                  float publishThresholdLaps, int idleTimeoutSeconds, LongSupplier clock) {
+        if (wearLimitPercent <= 0 || wearLimitPercent > 100) {
+            throw new IllegalArgumentException("Tyre wear limit must be in (0, 100]: " + wearLimitPercent);
+        }
+        if (publishThresholdLaps < 0) {
+            throw new IllegalArgumentException("Publish threshold must not be negative: " + publishThresholdLaps);
+        }
+        this.sessionRegistry = sessionRegistry;
+        this.listeners = listeners;
+        this.wearLimitPercent = wearLimitPercent;
+        this.publishThresholdLaps = publishThresholdLaps;
+        this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+        this.clock = clock;
+
+        log.info("Strategy stage initialized with {} listeners, tyre wear limit: {}%, publish threshold: {} laps",
+                listeners.size(), wearLimitPercent, publishThresholdLaps);
+    }
+
+    @Override
+    public void onFrame(AssembledFrame frame) {
+        lock.lock();
+        try {
+            long now = clock.getAsLong();
+            session(frame.getSessionUID(), now).onFrame(frame, now, this::publish);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Set<PacketType> packetTypes() {
+        return FRAME_TYPES;
+    }
+
+    @Override
+    public void onFrame(ColumnarFrame<?> frame) {
+        lock.lock();
+        try {
+            long now = clock.getAsLong();
+            session(frame.getSessionUID(), now).onCarDamage((CarDamageFrame) frame, now, this::publish);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the latest estimate of every car of the session that has one, if the session is modelled
+     */
+    public Optional<List<StrategyEstimate>> estimates(long sessionUID) {
+        return Optional.ofNullable(sessions.get(sessionUID)).map(StrategyModel::estimates);
+    }
+
+    private void publish(StrategyEstimate estimate) {
+        for (StrategyListener listener : listeners) {
+            try {
+                listener.onEstimate(estimate);
+            } catch (Exception e) {
+                log.error("Strategy listener {} failed to handle estimate", listener.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private void refreshSessionDetails(StrategyModel session) {
+        LiveSession live = sessionRegistry.find(session.sessionUID());
+        if (live != null) {
+            session.sessionDetails(live.totalLaps(), live.trackLength());
+        }
+    }
+
+    private StrategyModel session(long sessionUID, long now) {
+        StrategyModel session = lastSession;
+        if (session == null || session.sessionUID() != sessionUID) {
+            session = sessions.get(sessionUID);
+            if (session == null) {
+                expireIdleSessions(now);
+                session = new StrategyModel(sessionUID, wearLimitPercent, publishThresholdLaps);
+                sessions.put(sessionUID, session);
+                log.debug("Modelling tyre and fuel strategy of session {}", Long.toUnsignedString(sessionUID));
+            }
+            lastSession = session;
+            refreshSessionDetails(session);
+            sessionDetailsNanos = now;
+        } else if (now - sessionDetailsNanos >= SESSION_DETAILS_REFRESH_NANOS) {
+            refreshSessionDetails(session);
+            sessionDetailsNanos = now;
+        }
+        return session;
+    }
+
+    private void expireIdleSessions(long now) {
+        sessions.values().removeIf(session -> {
+            boolean idle = now - session.lastFrameNanos() >= idleTimeoutNanos;
+            if (idle) {
+                log.debug("Stopped modelling strategy of idle session {}", Long.toUnsignedString(session.sessionUID()));
+            }
+            return idle;
+        });
+    }
+}
@@ -5,18 +5,219 @@ import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+
 /**
- * Service responsible for parsing F1 2024 telemetry packet headers.
+ * Service responsible for parsing F1 23 and F1 24 telemetry packet headers.
  * Extracts header information from raw UDP packet data.
  */
 @Slf4j
 @Service
 public class HeaderParsingService {
 
-    public static final int HEADER_SIZE = 24;
+    /**
+     * Size of the header shared by every packet of the F1 23 and F1 24 formats.
+     */
+    public static final int HEADER_SIZE = 29;
+
+    /**
+     * Offset of the {@code packetFormat} field within the header.
+     */
+    public static final int PACKET_FORMAT_OFFSET = 0;
+
+    /**
+     * Offset of the {@code gameYear} byte within the header, the last two digits of the year (e.g. 24).
+     */
+    public static final int GAME_YEAR_OFFSET = 2;
+
+    /**
+     * Offset of the {@code gameMajorVersion} byte within the header.
+     */
+    public static final int GAME_MAJOR_VERSION_OFFSET = 3;
+
+    /**
+     * Offset of the {@code gameMinorVersion} byte within the header.
+     */
+    public static final int GAME_MINOR_VERSION_OFFSET = 4;
+
+    /**
+     * Offset of the {@code packetVersion} byte within the header.
+     */
+    public static final int PACKET_VERSION_OFFSET = 5;
+
+    /**
+     * Offset of the {@code packetId} byte within the header.
+     */
+    public static final int PACKET_ID_OFFSET = 6;
+
+    /**
+     * Offset of the {@code sessionUID} field within the header.
+     */
+    public static final int SESSION_UID_OFFSET = 7;
+
+    /**
+     * Offset of the {@code sessionTime} field within the header.
+     */
+    public static final int SESSION_TIME_OFFSET = 15;
+
+    /**
+     * Offset of the {@code frameIdentifier} field within the header.
+     */
+    public static final int FRAME_IDENTIFIER_OFFSET = 19;
+
+    /**
+     * Offset of the {@code overallFrameIdentifier} field within the header, which unlike the frame identifier
+     * keeps counting up when a flashback rewinds the session.
+     */
+    public static final int OVERALL_FRAME_IDENTIFIER_OFFSET = 23;
+
+    /**
+     * Offset of the {@code playerCarIndex} byte within the header.
+     */
+    public static final int PLAYER_CAR_INDEX_OFFSET = 27;
+
+    /**
+     * Offset of the {@code secondaryPlayerCarIndex} byte within the header.
+     */
+    public static final int SECONDARY_PLAYER_CAR_INDEX_OFFSET = 28;
+
+    /**
+     * Reads only the packet format, without parsing the rest of the header.
+     * Used on the ingest path to reject game years the analyzer cannot decode.
+     *
+     * @param data Raw packet data
+     * @return the packet format (e.g. 2024), or -1 if the packet is too small to contain a full header
+     */
+    public static int peekPacketFormat(byte[] data) {
+        return data.length >= HEADER_SIZE ? BinaryDataUtils.getUnsignedShort(data, PACKET_FORMAT_OFFSET) : -1;
+    }
+
+    /**
+     * Reads only the packet format from a packet view, without changing its position.
+     *
+     * @param packet Packet bytes starting at the view's position
+     * @return the packet format (e.g. 2024), or -1 if the packet is too small to contain a full header
+     */
+    public static int peekPacketFormat(ByteBuffer packet) {
+        return packet.remaining() >= HEADER_SIZE
+                ? BinaryDataUtils.getUnsignedShort(packet, packet.position() + PACKET_FORMAT_OFFSET)
+                : -1;
+    }
+
+    /**
+     * Reads only the packet version, without parsing the rest of the header.
+     *
+     * @param data Raw packet data
+     * @return the packet version, or -1 if the packet is too small to contain one
+     */
+    public static int peekPacketVersion(byte[] data) {
+        return data.length > PACKET_VERSION_OFFSET ? data[PACKET_VERSION_OFFSET] & 0xFF : -1;
+    }
+
+    /**
+     * Reads only the packet version from a packet view, without changing its position.
+     *
+     * @param packet Packet bytes starting at the view's position
+     * @return the packet version, or -1 if the packet is too small to contain one
+     */
+    public static int peekPacketVersion(ByteBuffer packet) {
+        return packet.remaining() > PACKET_VERSION_OFFSET ? packet.get(packet.position() + PACKET_VERSION_OFFSET) & 0xFF : -1;
+    }
+
+    /**
+     * Reads only the packet id, without parsing the rest of the header.
+     * Used on the ingest path to route packets by type.
+     *
+     * @param data Raw packet data
+     * @return the packet id, or -1 if the packet is too small to contain one
+     */
+    public static int peekPacketId(byte[] data) {
+        return data.length > PACKET_ID_OFFSET ? data[PACKET_ID_OFFSET] & 0xFF : -1;
+    }
+
+    /**
+     * Reads only the packet id from a packet view, without changing its position.
+     *
+     * @param packet Packet bytes starting at the view's position
+     * @return the packet id, or -1 if the packet is too small to contain one
+     */
+    public static int peekPacketId(ByteBuffer packet) {
+        return packet.remaining() > PACKET_ID_OFFSET ? packet.get(packet.position() + PACKET_ID_OFFSET) & 0xFF : -1;
+    }
+
+    /**
+     * Reads only the session id, without parsing the rest of the header.
+     *
+     * @param data Raw packet data
+     * @return the session id, or 0 if the packet is too small to contain one
+     */
+    public static long peekSessionUID(byte[] data) {
+        return data.length >= SESSION_UID_OFFSET + Long.BYTES ? BinaryDataUtils.getLong(data, SESSION_UID_OFFSET) : 0;
+    }
+
+    /**
+     * Reads only the session id from a little-endian packet view, without changing its position.
+     *
+     * @param packet Packet bytes starting at the view's position
+     * @return the session id, or 0 if the packet is too small to contain one
+     */
+    public static long peekSessionUID(ByteBuffer packet) {
+        return packet.remaining() >= SESSION_UID_OFFSET + Long.BYTES
+                ? packet.getLong(packet.position() + SESSION_UID_OFFSET)
+                : 0;
+    }
+
+    /**
+     * Reads only the frame identifier, without parsing the rest of the header.
+     *
+     * @param data Raw packet data
+     * @return the unsigned frame identifier, or -1 if the packet is too small to contain one
+     */
+    public static long peekFrameIdentifier(byte[] data) {
+        return data.length >= FRAME_IDENTIFIER_OFFSET + Integer.BYTES
+                ? Integer.toUnsignedLong(BinaryDataUtils.getInt(data, FRAME_IDENTIFIER_OFFSET))
+                : -1;
+    }
+
+    /**
+     * Reads only the frame identifier from a little-endian packet view, without changing its position.
+     *
+     * @param packet Packet bytes starting at the view's position
+     * @return the unsigned frame identifier, or -1 if the packet is too small to contain one
+     */
+    public static long peekFrameIdentifier(ByteBuffer packet) {
+        return packet.remaining() >= FRAME_IDENTIFIER_OFFSET + Integer.BYTES
+                ? Integer.toUnsignedLong(packet.getInt(packet.position() + FRAME_IDENTIFIER_OFFSET))
+                : -1;
+    }
+
+    /**
+     * Reads only the overall frame identifier, without parsing the rest of the header.
+     *
+     * @param data Raw packet data
+     * @return the unsigned overall frame identifier, or -1 if the packet is too small to contain one
+     */
+    public static long peekOverallFrameIdentifier(byte[] data) {
+        return data.length >= OVERALL_FRAME_IDENTIFIER_OFFSET + Integer.BYTES
+                ? Integer.toUnsignedLong(BinaryDataUtils.getInt(data, OVERALL_FRAME_IDENTIFIER_OFFSET))
+                : -1;
+    }
+
+    /**
+     * Reads only the overall frame identifier from a little-endian packet view, without changing its position.
+     *
+     * @param packet Packet bytes starting at the view's position
+     * @return the unsigned overall frame identifier, or -1 if the packet is too small to contain one
+     */
+    public static long peekOverallFrameIdentifier(ByteBuffer packet) {
+        return packet.remaining() >= OVERALL_FRAME_IDENTIFIER_OFFSET + Integer.BYTES
+                ? Integer.toUnsignedLong(packet.getInt(packet.position() + OVERALL_FRAME_IDENTIFIER_OFFSET))
+                : -1;
+    }
 
     /**
      * Parses the header from a raw telemetry packet.
+     * Builds a new record on every call; the processing hot path reads headers through a {@link PacketHeaderView} instead.
      *
      * @param data Raw packet data
      * @return Parsed header object, or null if packet is too small
@@ -29,16 +230,18 @@ public class HeaderParsingService {
 
         try {
             return TelemetryPacketHeader.builder()
-                    .withPacketFormat(BinaryDataUtils.getUnsignedShort(data, 0))
-                    .withGameMajorVersion(data[2] & 0xFF)
-                    .withGameMinorVersion(data[3] & 0xFF)
-                    .withPacketVersion(data[4] & 0xFF)
-                    .withPacketId(data[5] & 0xFF)
-                    .withSessionUID(BinaryDataUtils.getLong(data, 6))
-                    .withSessionTime(BinaryDataUtils.getFloat(data, 14))
-                    .withFrameIdentifier(BinaryDataUtils.getInt(data, 18))
-                    .withPlayerCarIndex(data[22] & 0xFF)
-                    .withSecondaryPlayerCarIndex(data[23] & 0xFF)
+                    .withPacketFormat(BinaryDataUtils.getUnsignedShort(data, PACKET_FORMAT_OFFSET))
+                    .withGameYear(data[GAME_YEAR_OFFSET] & 0xFF)
+                    .withGameMajorVersion(data[GAME_MAJOR_VERSION_OFFSET] & 0xFF)
+                    .withGameMinorVersion(data[GAME_MINOR_VERSION_OFFSET] & 0xFF)
+                    .withPacketVersion(data[PACKET_VERSION_OFFSET] & 0xFF)
+                    .withPacketId(data[PACKET_ID_OFFSET] & 0xFF)
+                    .withSessionUID(BinaryDataUtils.getLong(data, SESSION_UID_OFFSET))
+                    .withSessionTime(BinaryDataUtils.getFloat(data, SESSION_TIME_OFFSET))
+                    .withFrameIdentifier(BinaryDataUtils.getInt(data, FRAME_IDENTIFIER_OFFSET))
+                    .withOverallFrameIdentifier(BinaryDataUtils.getInt(data, OVERALL_FRAME_IDENTIFIER_OFFSET))
+                    .withPlayerCarIndex(data[PLAYER_CAR_INDEX_OFFSET] & 0xFF)
+                    .withSecondaryPlayerCarIndex(data[SECONDARY_PLAYER_CAR_INDEX_OFFSET] & 0xFF)
                     .build();
 
         } catch (Exception e) {
@@ -0,0 +1,78 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Dispatch table from {@code packetId} to the {@link PacketHandler} registered for that packet type.
+ * <p>
+ * Dispatching wraps the caller's {@link PacketHeaderView} around the packet and indexes an array with the packet id,
+ * so it allocates nothing; callers keep one header view per thread. Handlers are registered up front, before packets
+ * are dispatched, and a table is safe to share between threads once it is published.
+ */
+public final class PacketDispatchTable {
+
+    private static final PacketHandler IGNORE = (header, packet) -> {
+    };
+
+    private final PacketHandler[] handlers = new PacketHandler[PacketType.values().length];
+    private PacketHandler unknownHandler = IGNORE;
+
+    public PacketDispatchTable() {
+        Arrays.fill(handlers, IGNORE);
+    }
+
+    /**
+     * Registers the handler for a packet type.
+     *
+     * @param type    the packet type
+     * @param handler the handler
+     * @return this table
+     * @throws IllegalStateException if the type already has a handler
+     */
+    public PacketDispatchTable register(PacketType type, PacketHandler handler) {
+        if (handlers[type.getId()] != IGNORE) {
+            throw new IllegalStateException("A handler is already registered for " + type);
+        }
+        handlers[type.getId()] = handler;
+        return this;
+    }
+
+    /**
+     * Registers the handler for packets whose id is unknown or missing. By default they are ignored.
+     *
+     * @param handler the handler
+     * @return this table
+     */
+    public PacketDispatchTable registerUnknown(PacketHandler handler) {
+        this.unknownHandler = handler;
+        return this;
+    }
+
+    /**
+     * @return true if a handler is registered for the packet type
+     */
+    public boolean isRegistered(PacketType type) {
+        return handlers[type.getId()] != IGNORE;
+    }
+
+    /**
+     * Hands the packet to the handler of its type.
+     *
+     * @param packet the packet bytes, little-endian, starting at the view's position
+     * @param header the calling thread's reusable header view, re-pointed at the packet
+     * @return the packet id, or -1 if the packet is too small to contain one
+     * @throws InterruptedException if the handler is interrupted while waiting to hand the packet on
+     */
+    public int dispatch(ByteBuffer packet, PacketHeaderView header) throws InterruptedException {
+        int packetId = header.wrap(packet).packetId();
+        handlerFor(packetId).handle(header, packet);
+        return packetId;
+    }
+
+    private PacketHandler handlerFor(int packetId) {
+        return packetId >= 0 && packetId < handlers.length ? handlers[packetId] : unknownHandler;
+    }
+}
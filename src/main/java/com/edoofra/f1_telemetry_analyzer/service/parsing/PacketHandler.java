@@ -0,0 +1,20 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Handles packets of one type dispatched by a {@link PacketDispatchTable}.
+ */
+@FunctionalInterface
+public interface PacketHandler {
+
+    /**
+     * Handles one packet.
+     * Both the header view and the packet view are only valid until this method returns.
+     *
+     * @param header the packet's header, already wrapped around the packet
+     * @param packet the packet bytes, little-endian, starting at the view's position
+     * @throws InterruptedException if the handler is interrupted while waiting to hand the packet on
+     */
+    void handle(PacketHeaderView header, ByteBuffer packet) throws InterruptedException;
+}
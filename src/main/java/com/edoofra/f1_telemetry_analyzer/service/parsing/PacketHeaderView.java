@@ -0,0 +1,159 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.TelemetryPacketHeader;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reusable, zero-allocation view over the header of a telemetry packet.
+ * <p>
+ * Unlike {@link HeaderParsingService#parseHeader(byte[])}, wrapping a packet copies nothing and builds no record:
+ * each accessor reads its field straight from the packet bytes when called, so the hot path only pays for the
+ * fields it reads. A view is re-pointed at the next packet with {@code wrap}, and is meant to be owned by one thread.
+ * {@link #toHeader()} materialises the {@link TelemetryPacketHeader} record for REST responses and tests.
+ * <p>
+ * Accessors must only be called on a wrapped packet with {@link #isComplete() a complete header}.
+ */
+public final class PacketHeaderView {
+
+    private byte[] array;
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+
+    /**
+     * Points the view at a raw packet.
+     *
+     * @param data the packet bytes
+     * @return this view
+     */
+    public PacketHeaderView wrap(byte[] data) {
+        this.array = data;
+        this.buffer = null;
+        this.offset = 0;
+        this.length = data.length;
+        return this;
+    }
+
+    /**
+     * Points the view at a little-endian packet view, starting at its position. The position is left unchanged.
+     *
+     * @param packet the packet bytes between the buffer's position and limit
+     * @return this view
+     */
+    public PacketHeaderView wrap(ByteBuffer packet) {
+        this.array = null;
+        this.buffer = packet;
+        this.offset = packet.position();
+        this.length = packet.remaining();
+        return this;
+    }
+
+    /**
+     * @return true if the wrapped packet is long enough to hold a full header
+     */
+    public boolean isComplete() {
+        return length >= HeaderParsingService.HEADER_SIZE;
+    }
+
+    public int packetFormat() {
+        return array != null
+                ? BinaryDataUtils.getUnsignedShort(array, HeaderParsingService.PACKET_FORMAT_OFFSET)
+                : Short.toUnsignedInt(buffer.getShort(offset + HeaderParsingService.PACKET_FORMAT_OFFSET));
+    }
+
+    public int gameYear() {
+        return unsignedByte(HeaderParsingService.GAME_YEAR_OFFSET);
+    }
+
+    public int gameMajorVersion() {
+        return unsignedByte(HeaderParsingService.GAME_MAJOR_VERSION_OFFSET);
+    }
+
+    public int gameMinorVersion() {
+        return unsignedByte(HeaderParsingService.GAME_MINOR_VERSION_OFFSET);
+    }
+
+    public int packetVersion() {
+        return unsignedByte(HeaderParsingService.PACKET_VERSION_OFFSET);
+    }
+
+    /**
+     * Unlike the other accessors, safe to call on any packet.
+     *
+     * @return the packet id, or -1 if the packet is too small to contain one
+     */
+    public int packetId() {
+        return length > HeaderParsingService.PACKET_ID_OFFSET ? unsignedByte(HeaderParsingService.PACKET_ID_OFFSET) : -1;
+    }
+
+    /**
+     * @return the packet type, or null if the packet id is unknown
+     */
+    public PacketType packetType() {
+        return PacketType.fromId(packetId());
+    }
+
+    public long sessionUID() {
+        return array != null
+                ? BinaryDataUtils.getLong(array, HeaderParsingService.SESSION_UID_OFFSET)
+                : buffer.getLong(offset + HeaderParsingService.SESSION_UID_OFFSET);
+    }
+
+    public float sessionTime() {
+        return array != null
+                ? BinaryDataUtils.getFloat(array, HeaderParsingService.SESSION_TIME_OFFSET)
+                : buffer.getFloat(offset + HeaderParsingService.SESSION_TIME_OFFSET);
+    }
+
+    public int frameIdentifier() {
+        return array != null
+                ? BinaryDataUtils.getInt(array, HeaderParsingService.FRAME_IDENTIFIER_OFFSET)
+                : buffer.getInt(offset + HeaderParsingService.FRAME_IDENTIFIER_OFFSET);
+    }
+
+    public int overallFrameIdentifier() {
+        return array != null
+                ? BinaryDataUtils.getInt(array, HeaderParsingService.OVERALL_FRAME_IDENTIFIER_OFFSET)
+                : buffer.getInt(offset + HeaderParsingService.OVERALL_FRAME_IDENTIFIER_OFFSET);
+    }
+
+    public int playerCarIndex() {
+        return unsignedByte(HeaderParsingService.PLAYER_CAR_INDEX_OFFSET);
+    }
+
+    public int secondaryPlayerCarIndex() {
+        return unsignedByte(HeaderParsingService.SECONDARY_PLAYER_CAR_INDEX_OFFSET);
+    }
+
+    /**
+     * Copies every field into a new header record.
+     *
+     * @return the header, or null if the packet is too small to contain one
+     */
+    public TelemetryPacketHeader toHeader() {
+        if (!isComplete()) {
+            return null;
+        }
+        return TelemetryPacketHeader.builder()
+                .withPacketFormat(packetFormat())
+                .withGameYear(gameYear())
+                .withGameMajorVersion(gameMajorVersion())
+                .withGameMinorVersion(gameMinorVersion())
+                .withPacketVersion(packetVersion())
+                .withPacketId(packetId())
+                .withSessionUID(sessionUID())
+                .withSessionTime(sessionTime())
+                .withFrameIdentifier(frameIdentifier())
+                .withOverallFrameIdentifier(overallFrameIdentifier())
+                .withPlayerCarIndex(playerCarIndex())
+                .withSecondaryPlayerCarIndex(secondaryPlayerCarIndex())
+                .build();
+    }
+
+    private int unsignedByte(int fieldOffset) {
+        return (array != null ? array[fieldOffset] : buffer.get(offset + fieldOffset)) & 0xFF;
+    }
+}
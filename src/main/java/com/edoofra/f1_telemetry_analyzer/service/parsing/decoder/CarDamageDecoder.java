@@ -0,0 +1,84 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.CarDamageData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.CarDamagePacket;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Decodes the body of Car Damage packets (id 10) into a reusable {@link CarDamagePacket}.
+ */
+@Component
+public class CarDamageDecoder implements PacketDecoder<CarDamagePacket> {
+
+    static final int CAR_DAMAGE_DATA_SIZE = 42;
+    static final int BODY_SIZE = 924;
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.CAR_DAMAGE;
+    }
+
+    /**
+     * The layout is the same in F1 23.
+     */
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public int bodySize() {
+        return BODY_SIZE;
+    }
+
+    @Override
+    public CarDamagePacket createPacket() {
+        return new CarDamagePacket();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, CarDamagePacket target) {
+        decode(packet, offset, target, ALL, ALL);
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, CarDamagePacket target, long carMask, long fieldMask) {
+        CarDamageData[] cars = target.getCars();
+        for (int car = 0; car < cars.length; car++) {
+            if ((carMask & (1L << car)) != 0) {
+                decodeCarDamageData(packet, offset + car * CAR_DAMAGE_DATA_SIZE, cars[car]);
+            }
+        }
+    }
+
+    private static void decodeCarDamageData(ByteBuffer packet, int offset, CarDamageData car) {
+        BinaryDataUtils.getFloats(packet, offset, car.getTyresWear(), 4);
+        BinaryDataUtils.getUnsignedBytes(packet, offset + 16, car.getTyresDamage(), 4);
+        BinaryDataUtils.getUnsignedBytes(packet, offset + 20, car.getBrakesDamage(), 4);
+        car.setFrontLeftWingDamage(BinaryDataUtils.getUnsignedByte(packet, offset + 24));
+        car.setFrontRightWingDamage(BinaryDataUtils.getUnsignedByte(packet, offset + 25));
+        car.setRearWingDamage(BinaryDataUtils.getUnsignedByte(packet, offset + 26));
+        car.setFloorDamage(BinaryDataUtils.getUnsignedByte(packet, offset + 27));
+        car.setDiffuserDamage(BinaryDataUtils.getUnsignedByte(packet, offset + 28));
+        car.setSidepodDamage(BinaryDataUtils.getUnsignedByte(packet, offset + 29));
+        car.setDrsFault(BinaryDataUtils.getUnsignedByte(packet, offset + 30));
+        car.setErsFault(BinaryDataUtils.getUnsignedByte(packet, offset + 31));
+        car.setGearBoxDamage(BinaryDataUtils.getUnsignedByte(packet, offset + 32));
+        car.setEngineDamage(BinaryDataUtils.getUnsignedByte(packet, offset + 33));
+        car.setEngineMguhWear(BinaryDataUtils.getUnsignedByte(packet, offset + 34));
+        car.setEngineEsWear(BinaryDataUtils.getUnsignedByte(packet, offset + 35));
+        car.setEngineCeWear(BinaryDataUtils.getUnsignedByte(packet, offset + 36));
+        car.setEngineIceWear(BinaryDataUtils.getUnsignedByte(packet, offset + 37));
+        car.setEngineMgukWear(BinaryDataUtils.getUnsignedByte(packet, offset + 38));
+        car.setEngineTcWear(BinaryDataUtils.getUnsignedByte(packet, offset + 39));
+        car.setEngineBlown(BinaryDataUtils.getUnsignedByte(packet, offset + 40));
+        car.setEngineSeized(BinaryDataUtils.getUnsignedByte(packet, offset + 41));
+    }
+}
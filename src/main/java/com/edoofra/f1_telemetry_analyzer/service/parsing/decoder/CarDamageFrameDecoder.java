@@ -0,0 +1,61 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.frame.CarDamageFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Fills a {@link CarDamageFrame} from the body of Car Damage packets (id 10).
+ */
+@Component
+public class CarDamageFrameDecoder implements FrameDecoder<CarDamageFrame> {
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.CAR_DAMAGE;
+    }
+
+    /**
+     * The layout is the same in F1 23.
+     */
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public int bodySize() {
+        return CarDamageDecoder.BODY_SIZE;
+    }
+
+    @Override
+    public CarDamageFrame createFrame() {
+        return new CarDamageFrame();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, CarDamageFrame frame) {
+        float[] tyresWear = frame.getTyresWear();
+        byte[] tyresDamage = frame.getTyresDamage();
+        byte[] gearBoxDamage = frame.getGearBoxDamage();
+        byte[] engineDamage = frame.getEngineDamage();
+
+        for (int car = 0; car < ColumnarFrame.MAX_CARS; car++) {
+            int index = offset + car * CarDamageDecoder.CAR_DAMAGE_DATA_SIZE;
+            for (int wheel = 0; wheel < ColumnarFrame.WHEELS; wheel++) {
+                int column = ColumnarFrame.wheel(car, wheel);
+                tyresWear[column] = BinaryDataUtils.getFloat(packet, index + wheel * 4);
+                tyresDamage[column] = (byte) BinaryDataUtils.getByte(packet, index + 16 + wheel);
+            }
+            gearBoxDamage[car] = (byte) BinaryDataUtils.getByte(packet, index + 32);
+            engineDamage[car] = (byte) BinaryDataUtils.getByte(packet, index + 33);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.CarSetupData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.CarSetupsPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.DecodedPacket;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Decodes the body of Car Setups packets (id 5) into a reusable {@link CarSetupsPacket}.
+ * <p>
+ * F1 24 added the engine braking setting after the brake bias, and the player's next front wing value after the
+ * car entries; the fields that moved are read through a per-format {@link Layout}. Fields a format lacks are decoded as 0.
+ */
+@Component
+public class CarSetupsDecoder implements PacketDecoder<CarSetupsPacket> {
+
+    static final int CAR_SETUP_DATA_SIZE = 50;
+
+    /**
+     * Offsets of the fields whose position differs between formats, within a car's entry; -1 if the format lacks
+     * the field. The fields from {@code rearLeftTyrePressure} to {@code fuelLoad} keep their relative positions.
+     */
+    record Layout(int carSetupDataSize,
+                  int engineBrakingOffset,
+                  int tyrePressuresOffset,
+                  boolean hasNextFrontWingValue) {
+
+        static final Layout F1_23 = new Layout(49, -1, 28, false);
+        static final Layout F1_24 = new Layout(CAR_SETUP_DATA_SIZE, 28, 29, true);
+
+        /**
+         * @return the body size: the car entries, then the next front wing value if the format has it
+         */
+        int bodySize() {
+            return DecodedPacket.MAX_CARS * carSetupDataSize + (hasNextFrontWingValue ? Float.BYTES : 0);
+        }
+    }
+
+    private final Layout layout;
+
+    public CarSetupsDecoder() {
+        this(Layout.F1_24);
+    }
+
+    private CarSetupsDecoder(Layout layout) {
+        this.layout = layout;
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.CAR_SETUPS;
+    }
+
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public PacketDecoder<CarSetupsPacket> forFormat(PacketFormat format) {
+        return switch (format) {
+            case F1_23 -> new CarSetupsDecoder(Layout.F1_23);
+            case F1_24 -> this;
+        };
+    }
+
+    @Override
+    public int bodySize() {
+        return layout.bodySize();
+    }
+
+    @Override
+    public CarSetupsPacket createPacket() {
+        return new CarSetupsPacket();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, CarSetupsPacket target) {
+        decode(packet, offset, target, ALL, ALL);
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, CarSetupsPacket target, long carMask, long fieldMask) {
+        CarSetupData[] cars = target.getCars();
+        for (int car = 0; car < cars.length; car++) {
+            if ((carMask & (1L << car)) != 0) {
+                decodeCarSetupData(packet, offset + car * layout.carSetupDataSize(), cars[car]);
+            }
+        }
+        target.setNextFrontWingValue(layout.hasNextFrontWingValue()
+                ? BinaryDataUtils.getFloat(packet, offset + cars.length * layout.carSetupDataSize())
+                : 0);
+    }
+
+    private void decodeCarSetupData(ByteBuffer packet, int offset, CarSetupData car) {
+        car.setFrontWing(BinaryDataUtils.getUnsignedByte(packet, offset));
+        car.setRearWing(BinaryDataUtils.getUnsignedByte(packet, offset + 1));
+        car.setOnThrottle(BinaryDataUtils.getUnsignedByte(packet, offset + 2));
+        car.setOffThrottle(BinaryDataUtils.getUnsignedByte(packet, offset + 3));
+        car.setFrontCamber(BinaryDataUtils.getFloat(packet, offset + 4));
+        car.setRearCamber(BinaryDataUtils.getFloat(packet, offset + 8));
+        car.setFrontToe(BinaryDataUtils.getFloat(packet, offset + 12));
+        car.setRearToe(BinaryDataUtils.getFloat(packet, offset + 16));
+        car.setFrontSuspension(BinaryDataUtils.getUnsignedByte(packet, offset + 20));
+        car.setRearSuspension(BinaryDataUtils.getUnsignedByte(packet, offset + 21));
+        car.setFrontAntiRollBar(BinaryDataUtils.getUnsignedByte(packet, offset + 22));
+        car.setRearAntiRollBar(BinaryDataUtils.getUnsignedByte(packet, offset + 23));
+        car.setFrontSuspensionHeight(BinaryDataUtils.getUnsignedByte(packet, offset + 24));
+        car.setRearSuspensionHeight(BinaryDataUtils.getUnsignedByte(packet, offset + 25));
+        car.setBrakePressure(BinaryDataUtils.getUnsignedByte(packet, offset + 26));
+        car.setBrakeBias(BinaryDataUtils.getUnsignedByte(packet, offset + 27));
+        car.setEngineBraking(layout.engineBrakingOffset() >= 0
+                ? BinaryDataUtils.getUnsignedByte(packet, offset + layout.engineBrakingOffset())
+                : 0);
+        int block = offset + layout.tyrePressuresOffset();
+        car.setRearLeftTyrePressure(BinaryDataUtils.getFloat(packet, block));
+        car.setRearRightTyrePressure(BinaryDataUtils.getFloat(packet, block + 4));
+        car.setFrontLeftTyrePressure(BinaryDataUtils.getFloat(packet, block + 8));
+        car.setFrontRightTyrePressure(BinaryDataUtils.getFloat(packet, block + 12));
+        car.setBallast(BinaryDataUtils.getUnsignedByte(packet, block + 16));
+        car.setFuelLoad(BinaryDataUtils.getFloat(packet, block + 17));
+    }
+}
@@ -0,0 +1,88 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.CarStatusData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.CarStatusPacket;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Decodes the body of Car Status packets (id 7) into a reusable {@link CarStatusPacket}.
+ */
+@Component
+public class CarStatusDecoder implements PacketDecoder<CarStatusPacket> {
+
+    static final int CAR_STATUS_DATA_SIZE = 55;
+    static final int BODY_SIZE = 1210;
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.CAR_STATUS;
+    }
+
+    /**
+     * The layout is the same in F1 23.
+     */
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public int bodySize() {
+        return BODY_SIZE;
+    }
+
+    @Override
+    public CarStatusPacket createPacket() {
+        return new CarStatusPacket();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, CarStatusPacket target) {
+        decode(packet, offset, target, ALL, ALL);
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, CarStatusPacket target, long carMask, long fieldMask) {
+        CarStatusData[] cars = target.getCars();
+        for (int car = 0; car < cars.length; car++) {
+            if ((carMask & (1L << car)) != 0) {
+                decodeCarStatusData(packet, offset + car * CAR_STATUS_DATA_SIZE, cars[car]);
+            }
+        }
+    }
+
+    private static void decodeCarStatusData(ByteBuffer packet, int offset, CarStatusData car) {
+        car.setTractionControl(BinaryDataUtils.getUnsignedByte(packet, offset));
+        car.setAntiLockBrakes(BinaryDataUtils.getUnsignedByte(packet, offset + 1));
+        car.setFuelMix(BinaryDataUtils.getUnsignedByte(packet, offset + 2));
+        car.setFrontBrakeBias(BinaryDataUtils.getUnsignedByte(packet, offset + 3));
+        car.setPitLimiterStatus(BinaryDataUtils.getUnsignedByte(packet, offset + 4));
+        car.setFuelInTank(BinaryDataUtils.getFloat(packet, offset + 5));
+        car.setFuelCapacity(BinaryDataUtils.getFloat(packet, offset + 9));
+        car.setFuelRemainingLaps(BinaryDataUtils.getFloat(packet, offset + 13));
+        car.setMaxRpm(BinaryDataUtils.getUnsignedShort(packet, offset + 17));
+        car.setIdleRpm(BinaryDataUtils.getUnsignedShort(packet, offset + 19));
+        car.setMaxGears(BinaryDataUtils.getUnsignedByte(packet, offset + 21));
+        car.setDrsAllowed(BinaryDataUtils.getUnsignedByte(packet, offset + 22));
+        car.setDrsActivationDistance(BinaryDataUtils.getUnsignedShort(packet, offset + 23));
+        car.setActualTyreCompound(BinaryDataUtils.getUnsignedByte(packet, offset + 25));
+        car.setVisualTyreCompound(BinaryDataUtils.getUnsignedByte(packet, offset + 26));
+        car.setTyresAgeLaps(BinaryDataUtils.getUnsignedByte(packet, offset + 27));
+        car.setVehicleFiaFlags(BinaryDataUtils.getByte(packet, offset + 28));
+        car.setEnginePowerIce(BinaryDataUtils.getFloat(packet, offset + 29));
+        car.setEnginePowerMguk(BinaryDataUtils.getFloat(packet, offset + 33));
+        car.setErsStoreEnergy(BinaryDataUtils.getFloat(packet, offset + 37));
+        car.setErsDeployMode(BinaryDataUtils.getUnsignedByte(packet, offset + 41));
+        car.setErsHarvestedThisLapMguk(BinaryDataUtils.getFloat(packet, offset + 42));
+        car.setErsHarvestedThisLapMguh(BinaryDataUtils.getFloat(packet, offset + 46));
+        car.setErsDeployedThisLap(BinaryDataUtils.getFloat(packet, offset + 50));
+        car.setNetworkPaused(BinaryDataUtils.getUnsignedByte(packet, offset + 54));
+    }
+}
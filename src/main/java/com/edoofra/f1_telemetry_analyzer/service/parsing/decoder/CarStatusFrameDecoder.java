@@ -0,0 +1,62 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.frame.CarStatusFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Fills a {@link CarStatusFrame} from the body of Car Status packets (id 7).
+ */
+@Component
+public class CarStatusFrameDecoder implements FrameDecoder<CarStatusFrame> {
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.CAR_STATUS;
+    }
+
+    /**
+     * The layout is the same in F1 23.
+     */
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public int bodySize() {
+        return CarStatusDecoder.BODY_SIZE;
+    }
+
+    @Override
+    public CarStatusFrame createFrame() {
+        return new CarStatusFrame();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, CarStatusFrame frame) {
+        float[] fuelInTank = frame.getFuelInTank();
+        float[] fuelRemainingLaps = frame.getFuelRemainingLaps();
+        byte[] actualTyreCompound = frame.getActualTyreCompound();
+        byte[] visualTyreCompound = frame.getVisualTyreCompound();
+        byte[] tyresAgeLaps = frame.getTyresAgeLaps();
+        float[] ersStoreEnergy = frame.getErsStoreEnergy();
+
+        for (int car = 0; car < ColumnarFrame.MAX_CARS; car++) {
+            int index = offset + car * CarStatusDecoder.CAR_STATUS_DATA_SIZE;
+            fuelInTank[car] = BinaryDataUtils.getFloat(packet, index + 5);
+            fuelRemainingLaps[car] = BinaryDataUtils.getFloat(packet, index + 13);
+            actualTyreCompound[car] = (byte) BinaryDataUtils.getByte(packet, index + 25);
+            visualTyreCompound[car] = (byte) BinaryDataUtils.getByte(packet, index + 26);
+            tyresAgeLaps[car] = (byte) BinaryDataUtils.getByte(packet, index + 27);
+            ersStoreEnergy[car] = BinaryDataUtils.getFloat(packet, index + 37);
+        }
+    }
+}
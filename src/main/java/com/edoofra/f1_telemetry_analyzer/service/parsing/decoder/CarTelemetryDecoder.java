@@ -0,0 +1,171 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.CarTelemetryData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.CarTelemetryPacket;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Decodes the body of Car Telemetry packets (id 6) into a reusable {@link CarTelemetryPacket}.
+ * Every per-car field can be selected on its own, so a consumer of the player's speed, throttle and brake
+ * only pays for those three reads.
+ */
+@Component
+public class CarTelemetryDecoder implements PacketDecoder<CarTelemetryPacket> {
+
+    static final int CAR_TELEMETRY_DATA_SIZE = 60;
+    static final int BODY_SIZE = 1323;
+
+    private static final List<String> FIELDS = List.of(
+            "speed", "throttle", "steer", "brake", "clutch", "gear", "engineRpm", "drs",
+            "revLightsPercent", "revLightsBitValue", "brakesTemperature", "tyresSurfaceTemperature",
+            "tyresInnerTemperature", "engineTemperature", "tyresPressure", "surfaceType");
+
+    private static final long SPEED = 1L;
+    private static final long THROTTLE = 1L << 1;
+    private static final long STEER = 1L << 2;
+    private static final long BRAKE = 1L << 3;
+    private static final long CLUTCH = 1L << 4;
+    private static final long GEAR = 1L << 5;
+    private static final long ENGINE_RPM = 1L << 6;
+    private static final long DRS = 1L << 7;
+    private static final long REV_LIGHTS_PERCENT = 1L << 8;
+    private static final long REV_LIGHTS_BIT_VALUE = 1L << 9;
+    private static final long BRAKES_TEMPERATURE = 1L << 10;
+    private static final long TYRES_SURFACE_TEMPERATURE = 1L << 11;
+    private static final long TYRES_INNER_TEMPERATURE = 1L << 12;
+    private static final long ENGINE_TEMPERATURE = 1L << 13;
+    private static final long TYRES_PRESSURE = 1L << 14;
+    private static final long SURFACE_TYPE = 1L << 15;
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.CAR_TELEMETRY;
+    }
+
+    /**
+     * The layout is the same in F1 23.
+     */
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public int bodySize() {
+        return BODY_SIZE;
+    }
+
+    @Override
+    public CarTelemetryPacket createPacket() {
+        return new CarTelemetryPacket();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, CarTelemetryPacket target) {
+        decode(packet, offset, target, ALL, ALL);
+    }
+
+    /**
+     * The per-car fields, in field mask bit order.
+     */
+    @Override
+    public List<String> fields() {
+        return FIELDS;
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, CarTelemetryPacket target, long carMask, long fieldMask) {
+        CarTelemetryData[] cars = target.getCars();
+        for (int car = 0; car < cars.length; car++) {
+            if ((carMask & (1L << car)) != 0) {
+                int carOffset = offset + car * CAR_TELEMETRY_DATA_SIZE;
+                if (fieldMask == ALL) {
+                    decodeCarTelemetryData(packet, carOffset, cars[car]);
+                } else {
+                    decodeCarTelemetryFields(packet, carOffset, cars[car], fieldMask);
+                }
+            }
+        }
+        target.setMfdPanelIndex(BinaryDataUtils.getUnsignedByte(packet, offset + 1320));
+        target.setMfdPanelIndexSecondaryPlayer(BinaryDataUtils.getUnsignedByte(packet, offset + 1321));
+        target.setSuggestedGear(BinaryDataUtils.getByte(packet, offset + 1322));
+    }
+
+    private static void decodeCarTelemetryData(ByteBuffer packet, int offset, CarTelemetryData car) {
+        car.setSpeed(BinaryDataUtils.getUnsignedShort(packet, offset));
+        car.setThrottle(BinaryDataUtils.getFloat(packet, offset + 2));
+        car.setSteer(BinaryDataUtils.getFloat(packet, offset + 6));
+        car.setBrake(BinaryDataUtils.getFloat(packet, offset + 10));
+        car.setClutch(BinaryDataUtils.getUnsignedByte(packet, offset + 14));
+        car.setGear(BinaryDataUtils.getByte(packet, offset + 15));
+        car.setEngineRpm(BinaryDataUtils.getUnsignedShort(packet, offset + 16));
+        car.setDrs(BinaryDataUtils.getUnsignedByte(packet, offset + 18));
+        car.setRevLightsPercent(BinaryDataUtils.getUnsignedByte(packet, offset + 19));
+        car.setRevLightsBitValue(BinaryDataUtils.getUnsignedShort(packet, offset + 20));
+        BinaryDataUtils.getUnsignedShorts(packet, offset + 22, car.getBrakesTemperature(), 4);
+        BinaryDataUtils.getUnsignedBytes(packet, offset + 30, car.getTyresSurfaceTemperature(), 4);
+        BinaryDataUtils.getUnsignedBytes(packet, offset + 34, car.getTyresInnerTemperature(), 4);
+        car.setEngineTemperature(BinaryDataUtils.getUnsignedShort(packet, offset + 38));
+        BinaryDataUtils.getFloats(packet, offset + 40, car.getTyresPressure(), 4);
+        BinaryDataUtils.getUnsignedBytes(packet, offset + 56, car.getSurfaceType(), 4);
+    }
+
+    private static void decodeCarTelemetryFields(ByteBuffer packet, int offset, CarTelemetryData car, long fieldMask) {
+        if ((fieldMask & SPEED) != 0) {
+            car.setSpeed(BinaryDataUtils.getUnsignedShort(packet, offset));
+        }
+        if ((fieldMask & THROTTLE) != 0) {
+            car.setThrottle(BinaryDataUtils.getFloat(packet, offset + 2));
+        }
+        if ((fieldMask & STEER) != 0) {
+            car.setSteer(BinaryDataUtils.getFloat(packet, offset + 6));
+        }
+        if ((fieldMask & BRAKE) != 0) {
+            car.setBrake(BinaryDataUtils.getFloat(packet, offset + 10));
+        }
+        if ((fieldMask & CLUTCH) != 0) {
+            car.setClutch(BinaryDataUtils.getUnsignedByte(packet, offset + 14));
+        }
+        if ((fieldMask & GEAR) != 0) {
+            car.setGear(BinaryDataUtils.getByte(packet, offset + 15));
+        }
+        if ((fieldMask & ENGINE_RPM) != 0) {
+            car.setEngineRpm(BinaryDataUtils.getUnsignedShort(packet, offset + 16));
+        }
+        if ((fieldMask & DRS) != 0) {
+            car.setDrs(BinaryDataUtils.getUnsignedByte(packet, offset + 18));
+        }
+        if ((fieldMask & REV_LIGHTS_PERCENT) != 0) {
+            car.setRevLightsPercent(BinaryDataUtils.getUnsignedByte(packet, offset + 19));
+        }
+        if ((fieldMask & REV_LIGHTS_BIT_VALUE) != 0) {
+            car.setRevLightsBitValue(BinaryDataUtils.getUnsignedShort(packet, offset + 20));
+        }
+        if ((fieldMask & BRAKES_TEMPERATURE) != 0) {
+            BinaryDataUtils.getUnsignedShorts(packet, offset + 22, car.getBrakesTemperature(), 4);
+        }
+        if ((fieldMask & TYRES_SURFACE_TEMPERATURE) != 0) {
+            BinaryDataUtils.getUnsignedBytes(packet, offset + 30, car.getTyresSurfaceTemperature(), 4);
+        }
+        if ((fieldMask & TYRES_INNER_TEMPERATURE) != 0) {
+            BinaryDataUtils.getUnsignedBytes(packet, offset + 34, car.getTyresInnerTemperature(), 4);
+        }
+        if ((fieldMask & ENGINE_TEMPERATURE) != 0) {
+            car.setEngineTemperature(BinaryDataUtils.getUnsignedShort(packet, offset + 38));
+        }
+        if ((fieldMask & TYRES_PRESSURE) != 0) {
+            BinaryDataUtils.getFloats(packet, offset + 40, car.getTyresPressure(), 4);
+        }
+        if ((fieldMask & SURFACE_TYPE) != 0) {
+            BinaryDataUtils.getUnsignedBytes(packet, offset + 56, car.getSurfaceType(), 4);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.frame.CarTelemetryFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Fills a {@link CarTelemetryFrame} from the body of Car Telemetry packets (id 6).
+ */
+@Component
+public class CarTelemetryFrameDecoder implements FrameDecoder<CarTelemetryFrame> {
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.CAR_TELEMETRY;
+    }
+
+    /**
+     * The layout is the same in F1 23.
+     */
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public int bodySize() {
+        return CarTelemetryDecoder.BODY_SIZE;
+    }
+
+    @Override
+    public CarTelemetryFrame createFrame() {
+        return new CarTelemetryFrame();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, CarTelemetryFrame frame) {
+        float[] speed = frame.getSpeed();
+        float[] throttle = frame.getThrottle();
+        float[] steer = frame.getSteer();
+        float[] brake = frame.getBrake();
+        byte[] gear = frame.getGear();
+        short[] engineRpm = frame.getEngineRpm();
+        boolean[] drs = frame.getDrs();
+        short[] engineTemperature = frame.getEngineTemperature();
+        short[] brakesTemperature = frame.getBrakesTemperature();
+        float[] tyresSurfaceTemperature = frame.getTyresSurfaceTemperature();
+        float[] tyresInnerTemperature = frame.getTyresInnerTemperature();
+        float[] tyresPressure = frame.getTyresPressure();
+
+        for (int car = 0; car < ColumnarFrame.MAX_CARS; car++) {
+            int index = offset + car * CarTelemetryDecoder.CAR_TELEMETRY_DATA_SIZE;
+            speed[car] = BinaryDataUtils.getUnsignedShort(packet, index);
+            throttle[car] = BinaryDataUtils.getFloat(packet, index + 2);
+            steer[car] = BinaryDataUtils.getFloat(packet, index + 6);
+            brake[car] = BinaryDataUtils.getFloat(packet, index + 10);
+            gear[car] = (byte) BinaryDataUtils.getByte(packet, index + 15);
+            engineRpm[car] = BinaryDataUtils.getShort(packet, index + 16);
+            drs[car] = BinaryDataUtils.getUnsignedByte(packet, index + 18) != 0;
+            engineTemperature[car] = BinaryDataUtils.getShort(packet, index + 38);
+            for (int wheel = 0; wheel < ColumnarFrame.WHEELS; wheel++) {
+                int column = ColumnarFrame.wheel(car, wheel);
+                brakesTemperature[column] = BinaryDataUtils.getShort(packet, index + 22 + wheel * 2);
+                tyresSurfaceTemperature[column] = BinaryDataUtils.getUnsignedByte(packet, index + 30 + wheel);
+                tyresInnerTemperature[column] = BinaryDataUtils.getUnsignedByte(packet, index + 34 + wheel);
+                tyresPressure[column] = BinaryDataUtils.getFloat(packet, index + 40 + wheel * 4);
+            }
+        }
+    }
+}
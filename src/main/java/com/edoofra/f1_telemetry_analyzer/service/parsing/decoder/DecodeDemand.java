@@ -0,0 +1,81 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The part of a packet type a consumer needs decoded: which car entries, and which of their fields.
+ * <p>
+ * Cars are selected by index, or as the player's car, resolved from the {@code playerCarIndex} of each packet's header.
+ * Fields are named after the holder's per-car properties (e.g. {@code "speed"}); an empty set demands every field.
+ * The demands of all consumers of a type are merged with {@link #merge(DecodeDemand)} and compiled once into a
+ * {@link DecodePlan} by {@link PacketDecoderRegistry#plan}.
+ *
+ * @param allCars   whether every car entry is needed
+ * @param cars      the indexes of the car entries needed, when not every car is
+ * @param playerCar whether the player's car entry is needed
+ * @param fields    the per-car fields needed, empty for every field
+ */
+public record DecodeDemand(boolean allCars, Set<Integer> cars, boolean playerCar, Set<String> fields) {
+
+    private static final DecodeDemand ALL = new DecodeDemand(true, Set.of(), false, Set.of());
+
+    public DecodeDemand {
+        cars = Set.copyOf(cars);
+        fields = Set.copyOf(fields);
+    }
+
+    /**
+     * @return a demand for every field of every car
+     */
+    public static DecodeDemand all() {
+        return ALL;
+    }
+
+    /**
+     * @return a demand for every field of the player's car
+     */
+    public static DecodeDemand forPlayerCar() {
+        return new DecodeDemand(false, Set.of(), true, Set.of());
+    }
+
+    /**
+     * @param indexes car indexes, from 0 to 21
+     * @return a demand for every field of the given cars
+     */
+    public static DecodeDemand cars(int... indexes) {
+        return new DecodeDemand(false, IntStream.of(indexes).boxed().collect(Collectors.toSet()), false, Set.of());
+    }
+
+    /**
+     * @param fields the per-car fields needed
+     * @return this demand, restricted to the given fields
+     */
+    public DecodeDemand withFields(String... fields) {
+        return new DecodeDemand(allCars, cars, playerCar, Set.of(fields));
+    }
+
+    /**
+     * @return true if every per-car field is needed
+     */
+    public boolean allFields() {
+        return fields.isEmpty();
+    }
+
+    /**
+     * @return a demand for everything this demand or the other one needs
+     */
+    public DecodeDemand merge(DecodeDemand other) {
+        Set<Integer> mergedCars = new HashSet<>(cars);
+        mergedCars.addAll(other.cars);
+        Set<String> mergedFields = new HashSet<>(fields);
+        mergedFields.addAll(other.fields);
+        return new DecodeDemand(
+                allCars || other.allCars,
+                mergedCars,
+                playerCar || other.playerCar,
+                allFields() || other.allFields() ? Set.of() : mergedFields);
+    }
+}
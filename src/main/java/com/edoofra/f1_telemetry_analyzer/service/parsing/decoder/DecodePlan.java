@@ -0,0 +1,37 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.packet.DecodedPacket;
+
+/**
+ * A {@link DecodeDemand} compiled into the masks a {@link PacketDecoder} reads,
+ * by {@link PacketDecoderRegistry#plan}. Immutable and shared by every decoding thread.
+ */
+public final class DecodePlan {
+
+    /**
+     * Decodes every field of every car.
+     */
+    public static final DecodePlan ALL = new DecodePlan(PacketDecoder.ALL, false, PacketDecoder.ALL);
+
+    private final long carMask;
+    private final boolean playerCar;
+    private final long fieldMask;
+
+    DecodePlan(long carMask, boolean playerCar, long fieldMask) {
+        this.carMask = carMask;
+        this.playerCar = playerCar;
+        this.fieldMask = fieldMask;
+    }
+
+    /**
+     * @param playerCarIndex the {@code playerCarIndex} of the packet's header, 255 when spectating
+     * @return the car mask for the packet, with the player's car added if it is demanded
+     */
+    public long carMask(int playerCarIndex) {
+        return playerCar && playerCarIndex < DecodedPacket.MAX_CARS ? carMask | 1L << playerCarIndex : carMask;
+    }
+
+    public long fieldMask() {
+        return fieldMask;
+    }
+}
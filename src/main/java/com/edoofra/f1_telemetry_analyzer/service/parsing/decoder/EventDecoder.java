@@ -0,0 +1,100 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.EventPacket;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Decodes the body of Event packets (id 3) into a reusable {@link EventPacket}.
+ * The details after the event code are a union whose layout depends on the code.
+ */
+@Component
+public class EventDecoder implements PacketDecoder<EventPacket> {
+
+    static final int BODY_SIZE = 16;
+
+    /**
+     * Offset of the event details, after the four-character event code.
+     */
+    private static final int DETAILS = 4;
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.EVENT;
+    }
+
+    /**
+     * The layout is the same in F1 23.
+     */
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public int bodySize() {
+        return BODY_SIZE;
+    }
+
+    @Override
+    public EventPacket createPacket() {
+        return new EventPacket();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, EventPacket target) {
+        int code = BinaryDataUtils.getInt(packet, offset);
+        int details = offset + DETAILS;
+        target.setEventCode(code);
+
+        if (code == EventPacket.FASTEST_LAP) {
+            target.setVehicleIdx(BinaryDataUtils.getUnsignedByte(packet, details));
+            target.setLapTime(BinaryDataUtils.getFloat(packet, details + 1));
+        } else if (code == EventPacket.RETIREMENT) {
+            target.setVehicleIdx(BinaryDataUtils.getUnsignedByte(packet, details));
+            target.setReason(BinaryDataUtils.getUnsignedByte(packet, details + 1));
+        } else if (code == EventPacket.DRS_DISABLED) {
+            target.setReason(BinaryDataUtils.getUnsignedByte(packet, details));
+        } else if (code == EventPacket.TEAM_MATE_IN_PITS || code == EventPacket.RACE_WINNER
+                || code == EventPacket.DRIVE_THROUGH_SERVED) {
+            target.setVehicleIdx(BinaryDataUtils.getUnsignedByte(packet, details));
+        } else if (code == EventPacket.PENALTY) {
+            target.setPenaltyType(BinaryDataUtils.getUnsignedByte(packet, details));
+            target.setInfringementType(BinaryDataUtils.getUnsignedByte(packet, details + 1));
+            target.setVehicleIdx(BinaryDataUtils.getUnsignedByte(packet, details + 2));
+            target.setOtherVehicleIdx(BinaryDataUtils.getUnsignedByte(packet, details + 3));
+            target.setTime(BinaryDataUtils.getUnsignedByte(packet, details + 4));
+            target.setLapNum(BinaryDataUtils.getUnsignedByte(packet, details + 5));
+            target.setPlacesGained(BinaryDataUtils.getUnsignedByte(packet, details + 6));
+        } else if (code == EventPacket.SPEED_TRAP) {
+            target.setVehicleIdx(BinaryDataUtils.getUnsignedByte(packet, details));
+            target.setSpeed(BinaryDataUtils.getFloat(packet, details + 1));
+            target.setIsOverallFastestInSession(BinaryDataUtils.getUnsignedByte(packet, details + 5));
+            target.setIsDriverFastestInSession(BinaryDataUtils.getUnsignedByte(packet, details + 6));
+            target.setFastestVehicleIdxInSession(BinaryDataUtils.getUnsignedByte(packet, details + 7));
+            target.setFastestSpeedInSession(BinaryDataUtils.getFloat(packet, details + 8));
+        } else if (code == EventPacket.START_LIGHTS) {
+            target.setNumLights(BinaryDataUtils.getUnsignedByte(packet, details));
+        } else if (code == EventPacket.STOP_GO_SERVED) {
+            target.setVehicleIdx(BinaryDataUtils.getUnsignedByte(packet, details));
+            target.setStopTime(BinaryDataUtils.getFloat(packet, details + 1));
+        } else if (code == EventPacket.FLASHBACK) {
+            target.setFlashbackFrameIdentifier(BinaryDataUtils.getUnsignedInt(packet, details));
+            target.setFlashbackSessionTime(BinaryDataUtils.getFloat(packet, details + 4));
+        } else if (code == EventPacket.BUTTON_STATUS) {
+            target.setButtonStatus(BinaryDataUtils.getUnsignedInt(packet, details));
+        } else if (code == EventPacket.OVERTAKE || code == EventPacket.COLLISION) {
+            target.setVehicleIdx(BinaryDataUtils.getUnsignedByte(packet, details));
+            target.setOtherVehicleIdx(BinaryDataUtils.getUnsignedByte(packet, details + 1));
+        } else if (code == EventPacket.SAFETY_CAR) {
+            target.setSafetyCarType(BinaryDataUtils.getUnsignedByte(packet, details));
+            target.setSafetyCarEventType(BinaryDataUtils.getUnsignedByte(packet, details + 1));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.FinalClassificationData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.FinalClassificationPacket;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Decodes the body of Final Classification packets (id 8) into a reusable {@link FinalClassificationPacket}.
+ */
+@Component
+public class FinalClassificationDecoder implements PacketDecoder<FinalClassificationPacket> {
+
+    static final int FINAL_CLASSIFICATION_DATA_SIZE = 45;
+    static final int BODY_SIZE = 991;
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.FINAL_CLASSIFICATION;
+    }
+
+    /**
+     * The layout is the same in F1 23.
+     */
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public int bodySize() {
+        return BODY_SIZE;
+    }
+
+    @Override
+    public FinalClassificationPacket createPacket() {
+        return new FinalClassificationPacket();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, FinalClassificationPacket target) {
+        decode(packet, offset, target, ALL, ALL);
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, FinalClassificationPacket target, long carMask, long fieldMask) {
+        target.setNumCars(BinaryDataUtils.getUnsignedByte(packet, offset));
+        FinalClassificationData[] classification = target.getClassification();
+        for (int car = 0; car < classification.length; car++) {
+            if ((carMask & (1L << car)) != 0) {
+                decodeFinalClassificationData(packet, offset + 1 + car * FINAL_CLASSIFICATION_DATA_SIZE, classification[car]);
+            }
+        }
+    }
+
+    private static void decodeFinalClassificationData(ByteBuffer packet, int offset, FinalClassificationData entry) {
+        entry.setPosition(BinaryDataUtils.getUnsignedByte(packet, offset));
+        entry.setNumLaps(BinaryDataUtils.getUnsignedByte(packet, offset + 1));
+        entry.setGridPosition(BinaryDataUtils.getUnsignedByte(packet, offset + 2));
+        entry.setPoints(BinaryDataUtils.getUnsignedByte(packet, offset + 3));
+        entry.setNumPitStops(BinaryDataUtils.getUnsignedByte(packet, offset + 4));
+        entry.setResultStatus(BinaryDataUtils.getUnsignedByte(packet, offset + 5));
+        entry.setBestLapTimeInMs(BinaryDataUtils.getInt(packet, offset + 6));
+        entry.setTotalRaceTime(BinaryDataUtils.getDouble(packet, offset + 10));
+        entry.setPenaltiesTime(BinaryDataUtils.getUnsignedByte(packet, offset + 18));
+        entry.setNumPenalties(BinaryDataUtils.getUnsignedByte(packet, offset + 19));
+        entry.setNumTyreStints(BinaryDataUtils.getUnsignedByte(packet, offset + 20));
+        BinaryDataUtils.getUnsignedBytes(packet, offset + 21, entry.getTyreStintsActual(), 8);
+        BinaryDataUtils.getUnsignedBytes(packet, offset + 29, entry.getTyreStintsVisual(), 8);
+        BinaryDataUtils.getUnsignedBytes(packet, offset + 37, entry.getTyreStintsEndLaps(), 8);
+    }
+}
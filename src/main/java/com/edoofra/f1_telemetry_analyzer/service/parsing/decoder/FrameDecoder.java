@@ -0,0 +1,62 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+
+import java.nio.ByteBuffer;
+import java.util.Set;
+
+/**
+ * Fills the columns of a reusable {@link ColumnarFrame} straight from the body of one packet type.
+ * <p>
+ * Frame decoders are the columnar counterpart of the {@link PacketDecoder}s: stateless Spring beans that overwrite
+ * the frame in place and never allocate, bound to a {@link PacketFormat}'s layout with {@link #forFormat(PacketFormat)}.
+ * They read the same offsets as the packet type's {@code PacketDecoder}, but only the fields the frame has columns for.
+ *
+ * @param <F> the frame type
+ */
+public interface FrameDecoder<F extends ColumnarFrame<F>> {
+
+    /**
+     * @return the packet type this decoder handles
+     */
+    PacketType packetType();
+
+    /**
+     * @return the game formats this decoder can read
+     */
+    default Set<PacketFormat> packetFormats() {
+        return Set.of(PacketFormat.F1_24);
+    }
+
+    /**
+     * Returns the decoder reading this packet type in a game format. Called once per format, never per packet.
+     *
+     * @param format the game format
+     * @return a decoder bound to the format's layout, or null if this decoder cannot read the format
+     */
+    default FrameDecoder<F> forFormat(PacketFormat format) {
+        return packetFormats().contains(format) ? this : null;
+    }
+
+    /**
+     * @return the size of the packet body after the header, in bytes, in the layout this decoder reads
+     */
+    int bodySize();
+
+    /**
+     * @return a new frame to decode packets into
+     */
+    F createFrame();
+
+    /**
+     * Fills the frame's columns from a packet body; the header fields are set by the caller.
+     * The caller has checked that the packet holds at least {@link #bodySize()} bytes from {@code offset}.
+     *
+     * @param packet the little-endian packet bytes; read with absolute indexes, its position is left unchanged
+     * @param offset the absolute index of the body, just after the header
+     * @param frame  the frame to overwrite
+     */
+    void decode(ByteBuffer packet, int offset, F frame);
+}
@@ -0,0 +1,149 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.DecodedPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LapData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LapDataPacket;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Decodes the body of Lap Data packets (id 2) into a reusable {@link LapDataPacket}.
+ * <p>
+ * F1 24 added the minutes parts of the gaps to the car in front and to the race leader, and the speed trap fields;
+ * the fields that moved are read through a per-format {@link Layout}. Fields a format lacks are decoded as 0.
+ */
+@Component
+public class LapDataDecoder implements PacketDecoder<LapDataPacket> {
+
+    static final int LAP_DATA_SIZE = 57;
+
+    /**
+     * Offsets of the fields whose position differs between formats, within a car's entry; -1 if the format lacks
+     * the field. The fields from {@code lapDistance} to {@code pitStopShouldServePen} keep their relative positions.
+     */
+    record Layout(int lapDataSize,
+                  int deltaToCarInFrontMinutesOffset,
+                  int deltaToRaceLeaderOffset,
+                  int deltaToRaceLeaderMinutesOffset,
+                  int lapDistanceOffset,
+                  int speedTrapOffset) {
+
+        static final Layout F1_23 = new Layout(50, -1, 16, -1, 18, -1);
+        static final Layout F1_24 = new Layout(LAP_DATA_SIZE, 16, 17, 19, 20, 52);
+
+        /**
+         * @return the body size: the car entries, then the time trial car indexes
+         */
+        int bodySize() {
+            return DecodedPacket.MAX_CARS * lapDataSize + 2;
+        }
+    }
+
+    private final Layout layout;
+
+    public LapDataDecoder() {
+        this(Layout.F1_24);
+    }
+
+    private LapDataDecoder(Layout layout) {
+        this.layout = layout;
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.LAP_DATA;
+    }
+
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public PacketDecoder<LapDataPacket> forFormat(PacketFormat format) {
+        return switch (format) {
+            case F1_23 -> new LapDataDecoder(Layout.F1_23);
+            case F1_24 -> this;
+        };
+    }
+
+    @Override
+    public int bodySize() {
+        return layout.bodySize();
+    }
+
+    @Override
+    public LapDataPacket createPacket() {
+        return new LapDataPacket();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, LapDataPacket target) {
+        decode(packet, offset, target, ALL, ALL);
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, LapDataPacket target, long carMask, long fieldMask) {
+        LapData[] cars = target.getCars();
+        for (int car = 0; car < cars.length; car++) {
+            if ((carMask & (1L << car)) != 0) {
+                decodeLapData(packet, offset + car * layout.lapDataSize(), cars[car]);
+            }
+        }
+        int timeTrialOffset = offset + cars.length * layout.lapDataSize();
+        target.setTimeTrialPbCarIdx(BinaryDataUtils.getUnsignedByte(packet, timeTrialOffset));
+        target.setTimeTrialRivalCarIdx(BinaryDataUtils.getUnsignedByte(packet, timeTrialOffset + 1));
+    }
+
+    private void decodeLapData(ByteBuffer packet, int offset, LapData car) {
+        car.setLastLapTimeInMs(BinaryDataUtils.getInt(packet, offset));
+        car.setCurrentLapTimeInMs(BinaryDataUtils.getInt(packet, offset + 4));
+        car.setSector1TimeMsPart(BinaryDataUtils.getUnsignedShort(packet, offset + 8));
+        car.setSector1TimeMinutesPart(BinaryDataUtils.getUnsignedByte(packet, offset + 10));
+        car.setSector2TimeMsPart(BinaryDataUtils.getUnsignedShort(packet, offset + 11));
+        car.setSector2TimeMinutesPart(BinaryDataUtils.getUnsignedByte(packet, offset + 13));
+        car.setDeltaToCarInFrontMsPart(BinaryDataUtils.getUnsignedShort(packet, offset + 14));
+        car.setDeltaToCarInFrontMinutesPart(unsignedByteOrZero(packet, offset, layout.deltaToCarInFrontMinutesOffset()));
+        car.setDeltaToRaceLeaderMsPart(BinaryDataUtils.getUnsignedShort(packet, offset + layout.deltaToRaceLeaderOffset()));
+        car.setDeltaToRaceLeaderMinutesPart(unsignedByteOrZero(packet, offset, layout.deltaToRaceLeaderMinutesOffset()));
+        int block = offset + layout.lapDistanceOffset();
+        car.setLapDistance(BinaryDataUtils.getFloat(packet, block));
+        car.setTotalDistance(BinaryDataUtils.getFloat(packet, block + 4));
+        car.setSafetyCarDelta(BinaryDataUtils.getFloat(packet, block + 8));
+        car.setCarPosition(BinaryDataUtils.getUnsignedByte(packet, block + 12));
+        car.setCurrentLapNum(BinaryDataUtils.getUnsignedByte(packet, block + 13));
+        car.setPitStatus(BinaryDataUtils.getUnsignedByte(packet, block + 14));
+        car.setNumPitStops(BinaryDataUtils.getUnsignedByte(packet, block + 15));
+        car.setSector(BinaryDataUtils.getUnsignedByte(packet, block + 16));
+        car.setCurrentLapInvalid(BinaryDataUtils.getUnsignedByte(packet, block + 17));
+        car.setPenalties(BinaryDataUtils.getUnsignedByte(packet, block + 18));
+        car.setTotalWarnings(BinaryDataUtils.getUnsignedByte(packet, block + 19));
+        car.setCornerCuttingWarnings(BinaryDataUtils.getUnsignedByte(packet, block + 20));
+        car.setNumUnservedDriveThroughPens(BinaryDataUtils.getUnsignedByte(packet, block + 21));
+        car.setNumUnservedStopGoPens(BinaryDataUtils.getUnsignedByte(packet, block + 22));
+        car.setGridPosition(BinaryDataUtils.getUnsignedByte(packet, block + 23));
+        car.setDriverStatus(BinaryDataUtils.getUnsignedByte(packet, block + 24));
+        car.setResultStatus(BinaryDataUtils.getUnsignedByte(packet, block + 25));
+        car.setPitLaneTimerActive(BinaryDataUtils.getUnsignedByte(packet, block + 26));
+        car.setPitLaneTimeInLaneInMs(BinaryDataUtils.getUnsignedShort(packet, block + 27));
+        car.setPitStopTimerInMs(BinaryDataUtils.getUnsignedShort(packet, block + 29));
+        car.setPitStopShouldServePen(BinaryDataUtils.getUnsignedByte(packet, block + 31));
+        if (layout.speedTrapOffset() >= 0) {
+            car.setSpeedTrapFastestSpeed(BinaryDataUtils.getFloat(packet, offset + layout.speedTrapOffset()));
+            car.setSpeedTrapFastestLap(BinaryDataUtils.getUnsignedByte(packet, offset + layout.speedTrapOffset() + 4));
+        } else {
+            car.setSpeedTrapFastestSpeed(0);
+            car.setSpeedTrapFastestLap(0);
+        }
+    }
+
+    private static int unsignedByteOrZero(ByteBuffer packet, int offset, int fieldOffset) {
+        return fieldOffset >= 0 ? BinaryDataUtils.getUnsignedByte(packet, offset + fieldOffset) : 0;
+    }
+}
@@ -0,0 +1,93 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.LapDataFrame;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Fills a {@link LapDataFrame} from the body of Lap Data packets (id 2), through the same per-format
+ * {@link LapDataDecoder.Layout} as the {@link LapDataDecoder}.
+ */
+@Component
+public class LapDataFrameDecoder implements FrameDecoder<LapDataFrame> {
+
+    private final LapDataDecoder.Layout layout;
+
+    public LapDataFrameDecoder() {
+        this(LapDataDecoder.Layout.F1_24);
+    }
+
+    private LapDataFrameDecoder(LapDataDecoder.Layout layout) {
+        this.layout = layout;
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.LAP_DATA;
+    }
+
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public FrameDecoder<LapDataFrame> forFormat(PacketFormat format) {
+        return switch (format) {
+            case F1_23 -> new LapDataFrameDecoder(LapDataDecoder.Layout.F1_23);
+            case F1_24 -> this;
+        };
+    }
+
+    @Override
+    public int bodySize() {
+        return layout.bodySize();
+    }
+
+    @Override
+    public LapDataFrame createFrame() {
+        return new LapDataFrame();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, LapDataFrame frame) {
+        int[] lastLapTimeInMs = frame.getLastLapTimeInMs();
+        int[] currentLapTimeInMs = frame.getCurrentLapTimeInMs();
+        int[] sector1TimeInMs = frame.getSector1TimeInMs();
+        int[] sector2TimeInMs = frame.getSector2TimeInMs();
+        float[] lapDistance = frame.getLapDistance();
+        float[] totalDistance = frame.getTotalDistance();
+        byte[] carPosition = frame.getCarPosition();
+        byte[] currentLapNum = frame.getCurrentLapNum();
+        byte[] sector = frame.getSector();
+        byte[] pitStatus = frame.getPitStatus();
+        boolean[] currentLapInvalid = frame.getCurrentLapInvalid();
+        byte[] resultStatus = frame.getResultStatus();
+
+        for (int car = 0; car < ColumnarFrame.MAX_CARS; car++) {
+            int index = offset + car * layout.lapDataSize();
+            lastLapTimeInMs[car] = BinaryDataUtils.getInt(packet, index);
+            currentLapTimeInMs[car] = BinaryDataUtils.getInt(packet, index + 4);
+            sector1TimeInMs[car] = BinaryDataUtils.getUnsignedByte(packet, index + 10) * 60_000
+                    + BinaryDataUtils.getUnsignedShort(packet, index + 8);
+            sector2TimeInMs[car] = BinaryDataUtils.getUnsignedByte(packet, index + 13) * 60_000
+                    + BinaryDataUtils.getUnsignedShort(packet, index + 11);
+            int block = index + layout.lapDistanceOffset();
+            lapDistance[car] = BinaryDataUtils.getFloat(packet, block);
+            totalDistance[car] = BinaryDataUtils.getFloat(packet, block + 4);
+            carPosition[car] = (byte) BinaryDataUtils.getByte(packet, block + 12);
+            currentLapNum[car] = (byte) BinaryDataUtils.getByte(packet, block + 13);
+            pitStatus[car] = (byte) BinaryDataUtils.getByte(packet, block + 14);
+            sector[car] = (byte) BinaryDataUtils.getByte(packet, block + 16);
+            currentLapInvalid[car] = BinaryDataUtils.getUnsignedByte(packet, block + 17) != 0;
+            resultStatus[car] = (byte) BinaryDataUtils.getByte(packet, block + 25);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.DecodedPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LobbyInfoData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LobbyInfoPacket;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Decodes the body of Lobby Info packets (id 9) into a reusable {@link LobbyInfoPacket}.
+ * <p>
+ * F1 24 added the telemetry and online name settings and the tech level before the ready status; the fields that
+ * moved are read through a per-format {@link Layout}. Fields a format lacks are decoded as 0.
+ */
+@Component
+public class LobbyInfoDecoder implements PacketDecoder<LobbyInfoPacket> {
+
+    static final int LOBBY_INFO_DATA_SIZE = 58;
+
+    /**
+     * Offsets of the fields whose position differs between formats, within a player's entry; -1 if the format lacks
+     * the field. The fields from {@code yourTelemetry} to {@code techLevel} keep their relative positions.
+     */
+    record Layout(int lobbyInfoDataSize, int yourTelemetryOffset, int readyStatusOffset) {
+
+        static final Layout F1_23 = new Layout(54, -1, 53);
+        static final Layout F1_24 = new Layout(LOBBY_INFO_DATA_SIZE, 53, 57);
+
+        /**
+         * @return the body size: the number of players, then the player entries
+         */
+        int bodySize() {
+            return 1 + DecodedPacket.MAX_CARS * lobbyInfoDataSize;
+        }
+    }
+
+    private final Layout layout;
+
+    public LobbyInfoDecoder() {
+        this(Layout.F1_24);
+    }
+
+    private LobbyInfoDecoder(Layout layout) {
+        this.layout = layout;
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.LOBBY_INFO;
+    }
+
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public PacketDecoder<LobbyInfoPacket> forFormat(PacketFormat format) {
+        return switch (format) {
+            case F1_23 -> new LobbyInfoDecoder(Layout.F1_23);
+            case F1_24 -> this;
+        };
+    }
+
+    @Override
+    public int bodySize() {
+        return layout.bodySize();
+    }
+
+    @Override
+    public LobbyInfoPacket createPacket() {
+        return new LobbyInfoPacket();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, LobbyInfoPacket target) {
+        target.setNumPlayers(BinaryDataUtils.getUnsignedByte(packet, offset));
+        LobbyInfoData[] lobbyPlayers = target.getLobbyPlayers();
+        for (int car = 0; car < lobbyPlayers.length; car++) {
+            decodeLobbyInfoData(packet, offset + 1 + car * layout.lobbyInfoDataSize(), lobbyPlayers[car]);
+        }
+    }
+
+    private void decodeLobbyInfoData(ByteBuffer packet, int offset, LobbyInfoData entry) {
+        entry.setAiControlled(BinaryDataUtils.getUnsignedByte(packet, offset));
+        entry.setTeamId(BinaryDataUtils.getUnsignedByte(packet, offset + 1));
+        entry.setNationality(BinaryDataUtils.getUnsignedByte(packet, offset + 2));
+        entry.setPlatform(BinaryDataUtils.getUnsignedByte(packet, offset + 3));
+        entry.setNameLength(PacketDecoder.readString(packet, offset + 4, entry.getNameBytes()));
+        entry.setCarNumber(BinaryDataUtils.getUnsignedByte(packet, offset + 52));
+        if (layout.yourTelemetryOffset() >= 0) {
+            int settings = offset + layout.yourTelemetryOffset();
+            entry.setYourTelemetry(BinaryDataUtils.getUnsignedByte(packet, settings));
+            entry.setShowOnlineNames(BinaryDataUtils.getUnsignedByte(packet, settings + 1));
+            entry.setTechLevel(BinaryDataUtils.getUnsignedShort(packet, settings + 2));
+        } else {
+            entry.setYourTelemetry(0);
+            entry.setShowOnlineNames(0);
+            entry.setTechLevel(0);
+        }
+        entry.setReadyStatus(BinaryDataUtils.getUnsignedByte(packet, offset + layout.readyStatusOffset()));
+    }
+}
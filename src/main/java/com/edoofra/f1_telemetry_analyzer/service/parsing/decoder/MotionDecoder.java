@@ -0,0 +1,81 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.CarMotionData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.MotionPacket;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Decodes the body of Motion packets (id 0) into a reusable {@link MotionPacket}.
+ */
+@Component
+public class MotionDecoder implements PacketDecoder<MotionPacket> {
+
+    static final int CAR_MOTION_DATA_SIZE = 60;
+    static final int BODY_SIZE = 1320;
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.MOTION;
+    }
+
+    /**
+     * The layout is the same in F1 23.
+     */
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public int bodySize() {
+        return BODY_SIZE;
+    }
+
+    @Override
+    public MotionPacket createPacket() {
+        return new MotionPacket();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, MotionPacket target) {
+        decode(packet, offset, target, ALL, ALL);
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, MotionPacket target, long carMask, long fieldMask) {
+        CarMotionData[] cars = target.getCars();
+        for (int car = 0; car < cars.length; car++) {
+            if ((carMask & (1L << car)) != 0) {
+                decodeCarMotionData(packet, offset + car * CAR_MOTION_DATA_SIZE, cars[car]);
+            }
+        }
+    }
+
+    private static void decodeCarMotionData(ByteBuffer packet, int offset, CarMotionData car) {
+        car.setWorldPositionX(BinaryDataUtils.getFloat(packet, offset));
+        car.setWorldPositionY(BinaryDataUtils.getFloat(packet, offset + 4));
+        car.setWorldPositionZ(BinaryDataUtils.getFloat(packet, offset + 8));
+        car.setWorldVelocityX(BinaryDataUtils.getFloat(packet, offset + 12));
+        car.setWorldVelocityY(BinaryDataUtils.getFloat(packet, offset + 16));
+        car.setWorldVelocityZ(BinaryDataUtils.getFloat(packet, offset + 20));
+        car.setWorldForwardDirX(BinaryDataUtils.getShort(packet, offset + 24));
+        car.setWorldForwardDirY(BinaryDataUtils.getShort(packet, offset + 26));
+        car.setWorldForwardDirZ(BinaryDataUtils.getShort(packet, offset + 28));
+        car.setWorldRightDirX(BinaryDataUtils.getShort(packet, offset + 30));
+        car.setWorldRightDirY(BinaryDataUtils.getShort(packet, offset + 32));
+        car.setWorldRightDirZ(BinaryDataUtils.getShort(packet, offset + 34));
+        car.setGForceLateral(BinaryDataUtils.getFloat(packet, offset + 36));
+        car.setGForceLongitudinal(BinaryDataUtils.getFloat(packet, offset + 40));
+        car.setGForceVertical(BinaryDataUtils.getFloat(packet, offset + 44));
+        car.setYaw(BinaryDataUtils.getFloat(packet, offset + 48));
+        car.setPitch(BinaryDataUtils.getFloat(packet, offset + 52));
+        car.setRoll(BinaryDataUtils.getFloat(packet, offset + 56));
+    }
+}
@@ -0,0 +1,99 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.MotionExPacket;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Decodes the body of Motion Ex packets (id 13) into a reusable {@link MotionExPacket}.
+ * <p>
+ * F1 23 packets end after the vertical wheel forces; the aero heights, roll angles and chassis yaw that F1 24
+ * appended are decoded as 0.
+ */
+@Component
+public class MotionExDecoder implements PacketDecoder<MotionExPacket> {
+
+    static final int BODY_SIZE = 208;
+    static final int F1_23_BODY_SIZE = 188;
+
+    private final int bodySize;
+
+    public MotionExDecoder() {
+        this(BODY_SIZE);
+    }
+
+    private MotionExDecoder(int bodySize) {
+        this.bodySize = bodySize;
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.MOTION_EX;
+    }
+
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public PacketDecoder<MotionExPacket> forFormat(PacketFormat format) {
+        return switch (format) {
+            case F1_23 -> new MotionExDecoder(F1_23_BODY_SIZE);
+            case F1_24 -> this;
+        };
+    }
+
+    @Override
+    public int bodySize() {
+        return bodySize;
+    }
+
+    @Override
+    public MotionExPacket createPacket() {
+        return new MotionExPacket();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, MotionExPacket target) {
+        BinaryDataUtils.getFloats(packet, offset, target.getSuspensionPosition(), 4);
+        BinaryDataUtils.getFloats(packet, offset + 16, target.getSuspensionVelocity(), 4);
+        BinaryDataUtils.getFloats(packet, offset + 32, target.getSuspensionAcceleration(), 4);
+        BinaryDataUtils.getFloats(packet, offset + 48, target.getWheelSpeed(), 4);
+        BinaryDataUtils.getFloats(packet, offset + 64, target.getWheelSlipRatio(), 4);
+        BinaryDataUtils.getFloats(packet, offset + 80, target.getWheelSlipAngle(), 4);
+        BinaryDataUtils.getFloats(packet, offset + 96, target.getWheelLatForce(), 4);
+        BinaryDataUtils.getFloats(packet, offset + 112, target.getWheelLongForce(), 4);
+        target.setHeightOfCogAboveGround(BinaryDataUtils.getFloat(packet, offset + 128));
+        target.setLocalVelocityX(BinaryDataUtils.getFloat(packet, offset + 132));
+        target.setLocalVelocityY(BinaryDataUtils.getFloat(packet, offset + 136));
+        target.setLocalVelocityZ(BinaryDataUtils.getFloat(packet, offset + 140));
+        target.setAngularVelocityX(BinaryDataUtils.getFloat(packet, offset + 144));
+        target.setAngularVelocityY(BinaryDataUtils.getFloat(packet, offset + 148));
+        target.setAngularVelocityZ(BinaryDataUtils.getFloat(packet, offset + 152));
+        target.setAngularAccelerationX(BinaryDataUtils.getFloat(packet, offset + 156));
+        target.setAngularAccelerationY(BinaryDataUtils.getFloat(packet, offset + 160));
+        target.setAngularAccelerationZ(BinaryDataUtils.getFloat(packet, offset + 164));
+        target.setFrontWheelsAngle(BinaryDataUtils.getFloat(packet, offset + 168));
+        BinaryDataUtils.getFloats(packet, offset + 172, target.getWheelVertForce(), 4);
+        if (bodySize == F1_23_BODY_SIZE) {
+            target.setFrontAeroHeight(0);
+            target.setRearAeroHeight(0);
+            target.setFrontRollAngle(0);
+            target.setRearRollAngle(0);
+            target.setChassisYaw(0);
+            return;
+        }
+        target.setFrontAeroHeight(BinaryDataUtils.getFloat(packet, offset + 188));
+        target.setRearAeroHeight(BinaryDataUtils.getFloat(packet, offset + 192));
+        target.setFrontRollAngle(BinaryDataUtils.getFloat(packet, offset + 196));
+        target.setRearRollAngle(BinaryDataUtils.getFloat(packet, offset + 200));
+        target.setChassisYaw(BinaryDataUtils.getFloat(packet, offset + 204));
+    }
+}
@@ -0,0 +1,64 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.MotionFrame;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Fills a {@link MotionFrame} from the body of Motion packets (id 0).
+ */
+@Component
+public class MotionFrameDecoder implements FrameDecoder<MotionFrame> {
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.MOTION;
+    }
+
+    /**
+     * The layout is the same in F1 23.
+     */
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public int bodySize() {
+        return MotionDecoder.BODY_SIZE;
+    }
+
+    @Override
+    public MotionFrame createFrame() {
+        return new MotionFrame();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, MotionFrame frame) {
+        float[] worldPositionX = frame.getWorldPositionX();
+        float[] worldPositionY = frame.getWorldPositionY();
+        float[] worldPositionZ = frame.getWorldPositionZ();
+        float[] gForceLateral = frame.getGForceLateral();
+        float[] gForceLongitudinal = frame.getGForceLongitudinal();
+        float[] gForceVertical = frame.getGForceVertical();
+        float[] yaw = frame.getYaw();
+
+        for (int car = 0; car < ColumnarFrame.MAX_CARS; car++) {
+            int index = offset + car * MotionDecoder.CAR_MOTION_DATA_SIZE;
+            worldPositionX[car] = BinaryDataUtils.getFloat(packet, index);
+            worldPositionY[car] = BinaryDataUtils.getFloat(packet, index + 4);
+            worldPositionZ[car] = BinaryDataUtils.getFloat(packet, index + 8);
+            gForceLateral[car] = BinaryDataUtils.getFloat(packet, index + 36);
+            gForceLongitudinal[car] = BinaryDataUtils.getFloat(packet, index + 40);
+            gForceVertical[car] = BinaryDataUtils.getFloat(packet, index + 44);
+            yaw[car] = BinaryDataUtils.getFloat(packet, index + 48);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+
+import java.util.Arrays;
+
+/**
+ * The decoders of one {@link PacketFormat}, indexed by {@code packetId} and {@code packetVersion}.
+ * <p>
+ * Each decoder is bound to the format's layout when the codec is built, so looking one up is two array accesses.
+ * Codecs are built by the {@link PacketDecoderRegistry} and resolved once per session by each
+ * {@link PacketDecodingContext}.
+ */
+public final class PacketCodec {
+
+    private static final PacketDecoder<?>[] NO_DECODERS = new PacketDecoder<?>[0];
+
+    private final PacketFormat format;
+
+    /**
+     * Decoders per packet id, each indexed by the packet version it reads.
+     */
+    private final PacketDecoder<?>[][] decoders;
+
+    PacketCodec(PacketFormat format) {
+        this.format = format;
+        this.decoders = new PacketDecoder<?>[PacketType.values().length][];
+        Arrays.fill(decoders, NO_DECODERS);
+    }
+
+    void register(PacketDecoder<?> decoder) {
+        int id = decoder.packetType().getId();
+        int version = decoder.packetVersion();
+        if (version >= decoders[id].length) {
+            decoders[id] = Arrays.copyOf(decoders[id], version + 1);
+        }
+        if (decoders[id][version] != null) {
+            throw new IllegalStateException("Several decoders registered for " + format + " " + decoder.packetType()
+                    + " version " + version + ": " + decoders[id][version].getClass().getSimpleName()
+                    + " and " + decoder.getClass().getSimpleName());
+        }
+        decoders[id][version] = decoder;
+    }
+
+    /**
+     * @return the game format this codec decodes
+     */
+    public PacketFormat format() {
+        return format;
+    }
+
+    /**
+     * @return the decoder for the packet id and version, or null if this format has none
+     */
+    PacketDecoder<?> decoder(int packetId, int packetVersion) {
+        if (packetId < 0 || packetId >= decoders.length) {
+            return null;
+        }
+        PacketDecoder<?>[] versions = decoders[packetId];
+        return packetVersion < versions.length ? versions[packetVersion] : null;
+    }
+
+    /**
+     * @return true if packets of the type can be decoded in this format, in at least one packet version
+     */
+    public boolean canDecode(PacketType type) {
+        return anyDecoder(type) != null;
+    }
+
+    /**
+     * @return the body size of the packet type and version in this format, or -1 if it has no decoder
+     */
+    public int bodySize(PacketType type, int packetVersion) {
+        PacketDecoder<?> decoder = decoder(type.getId(), packetVersion);
+        return decoder != null ? decoder.bodySize() : -1;
+    }
+
+    /**
+     * @return a decoder of the packet type, in any packet version, or null if this format has none
+     */
+    PacketDecoder<?> anyDecoder(PacketType type) {
+        for (PacketDecoder<?> decoder : decoders[type.getId()]) {
+            if (decoder != null) {
+                return decoder;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,127 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.DecodedPacket;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Decodes the body of one packet type into a reusable {@link DecodedPacket}.
+ * <p>
+ * Decoders are stateless Spring beans registered by packet id in the {@link PacketDecoderRegistry}.
+ * They overwrite the holder's fields in place and never allocate, so the same holder can be decoded into for
+ * every packet of its type; holders are not thread-safe and belong to one {@link PacketDecodingContext}.
+ * <p>
+ * A decoder reads the layout of one packet version in one or more {@link PacketFormat game formats}.
+ * Decoders whose layout moves between formats read it through a per-format offset table, and
+ * {@link #forFormat(PacketFormat)} returns a decoder bound to the table of the requested format.
+ * <p>
+ * Decoders of per-car packets can decode only the car entries, and sometimes only the {@link #fields() fields},
+ * that consumers demand: see {@link #decode(ByteBuffer, int, DecodedPacket, long, long)} and {@link DecodePlan}.
+ *
+ * @param <T> the decoded packet type
+ */
+public interface PacketDecoder<T extends DecodedPacket> {
+
+    /**
+     * Car or field mask selecting every car entry or every field.
+     */
+    long ALL = -1L;
+
+    /**
+     * @return the packet type this decoder handles
+     */
+    PacketType packetType();
+
+    /**
+     * @return the {@code packetVersion} whose layout this decoder reads
+     */
+    default int packetVersion() {
+        return 1;
+    }
+
+    /**
+     * @return the game formats this decoder can read
+     */
+    default Set<PacketFormat> packetFormats() {
+        return Set.of(PacketFormat.F1_24);
+    }
+
+    /**
+     * Returns the decoder reading this packet type in a game format.
+     * Called once per format when the {@link PacketDecoderRegistry} builds its codecs, never per packet.
+     *
+     * @param format the game format
+     * @return a decoder bound to the format's layout, or null if this decoder cannot read the format
+     */
+    default PacketDecoder<T> forFormat(PacketFormat format) {
+        return packetFormats().contains(format) ? this : null;
+    }
+
+    /**
+     * @return the size of the packet body after the header, in bytes, in the layout this decoder reads
+     */
+    int bodySize();
+
+    /**
+     * @return a new holder to decode packets into
+     */
+    T createPacket();
+
+    /**
+     * Decodes a packet body into the holder.
+     * The caller has checked that the packet holds at least {@link #bodySize()} bytes from {@code offset}.
+     *
+     * @param packet the little-endian packet bytes; read with absolute indexes, its position is left unchanged
+     * @param offset the absolute index of the body, just after the header
+     * @param target the holder to overwrite
+     */
+    void decode(ByteBuffer packet, int offset, T target);
+
+    /**
+     * Names of the fields this decoder can decode selectively, matching the holder's per-car properties.
+     * Field {@code i} is selected by bit {@code i} of the field mask.
+     *
+     * @return the selectable fields, empty if the decoder always decodes every field
+     */
+    default List<String> fields() {
+        return List.of();
+    }
+
+    /**
+     * Decodes the demanded part of a packet body into the holder.
+     * Car entries and fields outside the masks are left untouched, still holding values of an earlier packet.
+     * Decoders of packets without car entries ignore the car mask, those without {@link #fields() selectable fields}
+     * the field mask; by default the whole body is decoded.
+     *
+     * @param packet    the little-endian packet bytes; read with absolute indexes, its position is left unchanged
+     * @param offset    the absolute index of the body, just after the header
+     * @param target    the holder to overwrite
+     * @param carMask   bit {@code i} selects the entry of car {@code i}
+     * @param fieldMask bit {@code i} selects field {@code i} of {@link #fields()}
+     */
+    default void decode(ByteBuffer packet, int offset, T target, long carMask, long fieldMask) {
+        decode(packet, offset, target);
+    }
+
+    /**
+     * Copies a null-terminated UTF-8 string field into a reusable byte array.
+     *
+     * @param packet the packet bytes
+     * @param index  the absolute index of the field, which is {@code target.length} bytes long
+     * @param target the array to copy the field into
+     * @return the length of the string, up to the first null byte
+     */
+    static int readString(ByteBuffer packet, int index, byte[] target) {
+        packet.get(index, target);
+        for (int i = 0; i < target.length; i++) {
+            if (target[i] == 0) {
+                return i;
+            }
+        }
+        return target.length;
+    }
+}
@@ -0,0 +1,232 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.DecodedPacket;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.HeaderParsingService;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.PacketHeaderView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Registry of the {@link PacketDecoder} beans, grouped into one {@link PacketCodec} per {@link PacketFormat}.
+ * <p>
+ * Decoding reads the header through the context's {@link PacketHeaderView} and picks the codec matching the
+ * packet's {@code packetFormat}. The codec, with its per-format offset tables, is resolved once per session and
+ * cached in the {@link PacketDecodingContext}; the decoder is then found by {@code packetId} and
+ * {@code packetVersion} with two array accesses, and overwrites the context's holder for the type,
+ * so a fully decoded packet costs no allocation. A {@link DecodePlan} restricts decoding to the car entries and
+ * fields consumers demand, with the player's car taken from each packet's header.
+ * Packets of unknown formats, types or versions, or too short for their layout's body, are skipped.
+ */
+@Slf4j
+@Service
+public class PacketDecoderRegistry {
+
+    private static final PacketFormat[] FORMATS = PacketFormat.values();
+
+    /**
+     * Codecs indexed by {@link PacketFormat#ordinal()}.
+     */
+    private final PacketCodec[] codecs = new PacketCodec[FORMATS.length];
+
+    public PacketDecoderRegistry(List<PacketDecoder<?>> decoders) {
+        for (PacketFormat format : FORMATS) {
+            PacketCodec codec = new PacketCodec(format);
+            for (PacketDecoder<?> decoder : decoders) {
+                PacketDecoder<?> bound = decoder.forFormat(format);
+                if (bound != null) {
+                    codec.register(bound);
+                }
+            }
+            codecs[format.ordinal()] = codec;
+
+            List<PacketType> missing = Arrays.stream(PacketType.values())
+                    .filter(type -> !codec.canDecode(type))
+                    .toList();
+            if (!missing.isEmpty()) {
+                log.warn("No {} packet decoder registered for {}", format, missing);
+            }
+        }
+        log.info("Packet decoder registry initialized with {} decoders for formats {}", decoders.size(), Arrays.toString(FORMATS));
+    }
+
+    /**
+     * @return the decoders of a game format
+     */
+    public PacketCodec codec(PacketFormat format) {
+        return codecs[format.ordinal()];
+    }
+
+    /**
+     * @return true if packets of the type can be decoded in at least one game format
+     */
+    public boolean canDecode(PacketType type) {
+        for (PacketCodec codec : codecs) {
+            if (codec.canDecode(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Creates the holders for one decoding thread.
+     *
+     * @return a new context with one holder per decodable packet type
+     */
+    public PacketDecodingContext newContext() {
+        DecodedPacket[] packets = new DecodedPacket[PacketType.values().length];
+        for (PacketType type : PacketType.values()) {
+            packets[type.getId()] = createPacket(type);
+        }
+        return new PacketDecodingContext(packets);
+    }
+
+    /**
+     * Compiles a consumer demand into the masks the decoders of a packet type read.
+     * Called when stages are wired, never per packet.
+     *
+     * @param type   the packet type
+     * @param demand the car entries and fields needed
+     * @return the plan; it decodes every field if the type's decoders cannot select fields
+     * @throws IllegalArgumentException if the demand names a car index out of range, or a field the type's
+     *                                  decoders do not know
+     */
+    public DecodePlan plan(PacketType type, DecodeDemand demand) {
+        long carMask = demand.allCars() ? PacketDecoder.ALL : 0L;
+        for (int car : demand.cars()) {
+            if (car < 0 || car >= DecodedPacket.MAX_CARS) {
+                throw new IllegalArgumentException("Car index out of range for " + type + ": " + car);
+            }
+            carMask |= 1L << car;
+        }
+
+        List<String> fields = fields(type);
+        long fieldMask = PacketDecoder.ALL;
+        if (!demand.allFields() && !fields.isEmpty()) {
+            fieldMask = 0L;
+            for (String field : demand.fields()) {
+                int bit = fields.indexOf(field);
+                if (bit < 0) {
+                    throw new IllegalArgumentException("Unknown " + type + " field '" + field + "', expected one of " + fields);
+                }
+                fieldMask |= 1L << bit;
+            }
+        }
+        return new DecodePlan(carMask, demand.playerCar(), fieldMask);
+    }
+
+    /**
+     * Decodes a packet into the context's holder for its type.
+     *
+     * @param packet  the little-endian packet bytes, from the view's position to its limit; the position is left unchanged
+     * @param context the calling thread's holders
+     * @return the holder, valid until the next packet of the same type is decoded with this context,
+     *         or null if the packet format, type or version is unknown or the packet is too short
+     */
+    public DecodedPacket decode(ByteBuffer packet, PacketDecodingContext context) {
+        return decode(packet, context, DecodePlan.ALL);
+    }
+
+    /**
+     * Decodes the planned part of a packet into the context's holder for its type.
+     * Car entries and fields outside the plan keep the values of an earlier packet.
+     *
+     * @param packet  the little-endian packet bytes, from the view's position to its limit; the position is left unchanged
+     * @param context the calling thread's holders
+     * @param plan    the plan for the packet's type, from {@link #plan(PacketType, DecodeDemand)}
+     * @return the holder, valid until the next packet of the same type is decoded with this context,
+     *         or null if the packet format, type or version is unknown or the packet is too short
+     */
+    public DecodedPacket decode(ByteBuffer packet, PacketDecodingContext context, DecodePlan plan) {
+        PacketHeaderView header = context.header().wrap(packet);
+        if (!header.isComplete()) {
+            return null;
+        }
+        PacketCodec codec = resolveCodec(header, context);
+        if (codec == null) {
+            return null;
+        }
+        int packetId = header.packetId();
+        PacketDecoder<?> decoder = codec.decoder(packetId, header.packetVersion());
+        if (decoder == null) {
+            return null;
+        }
+        if (packet.remaining() < HeaderParsingService.HEADER_SIZE + decoder.bodySize()) {
+            log.debug("{} {} packet too short to decode: {} bytes", codec.format(), decoder.packetType(), packet.remaining());
+            return null;
+        }
+
+        DecodedPacket target = context.packet(packetId);
+        copyHeader(header, target);
+        decodeBody(decoder, packet, packet.position() + HeaderParsingService.HEADER_SIZE, target,
+                plan.carMask(header.playerCarIndex()), plan.fieldMask());
+        return target;
+    }
+
+    /**
+     * Returns the codec of the packet's format, looking it up only when the session or format differs from the
+     * previous packet decoded with the context.
+     *
+     * @return the codec, or null if the format is not supported
+     */
+    private PacketCodec resolveCodec(PacketHeaderView header, PacketDecodingContext context) {
+        long sessionUID = header.sessionUID();
+        int packetFormat = header.packetFormat();
+        if (context.isResolvedFor(sessionUID, packetFormat)) {
+            return context.codec();
+        }
+        PacketFormat format = PacketFormat.fromValue(packetFormat);
+        PacketCodec codec = format != null ? codecs[format.ordinal()] : null;
+        if (codec == null) {
+            log.debug("Session {} uses unsupported packet format {}", Long.toUnsignedString(sessionUID), packetFormat);
+        }
+        context.resolve(sessionUID, packetFormat, codec);
+        return codec;
+    }
+
+    /**
+     * @return the selectable fields of the type; they are the same in every format
+     */
+    private List<String> fields(PacketType type) {
+        for (PacketCodec codec : codecs) {
+            PacketDecoder<?> decoder = codec.anyDecoder(type);
+            if (decoder != null) {
+                return decoder.fields();
+            }
+        }
+        return List.of();
+    }
+
+    private DecodedPacket createPacket(PacketType type) {
+        for (PacketCodec codec : codecs) {
+            PacketDecoder<?> decoder = codec.anyDecoder(type);
+            if (decoder != null) {
+                return decoder.createPacket();
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends DecodedPacket> void decodeBody(PacketDecoder<T> decoder, ByteBuffer packet,
+                                                            int offset, DecodedPacket target,
+                                                            long carMask, long fieldMask) {
+        decoder.decode(packet, offset, (T) target, carMask, fieldMask);
+    }
+
+    private static void copyHeader(PacketHeaderView header, DecodedPacket target) {
+        target.setPacketFormat(header.packetFormat());
+        target.setPacketVersion(header.packetVersion());
+        target.setSessionUID(header.sessionUID());
+        target.setSessionTime(header.sessionTime());
+        target.setFrameIdentifier(header.frameIdentifier());
+        target.setPlayerCarIndex(header.playerCarIndex());
+        target.setSecondaryPlayerCarIndex(header.secondaryPlayerCarIndex());
+    }
+}
@@ -0,0 +1,66 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.DecodedPacket;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.PacketHeaderView;
+
+/**
+ * The reusable holders one thread decodes packets into: a header view and one {@link DecodedPacket} per packet type.
+ * It also caches the {@link PacketCodec} of the session decoded last, so that a codec is resolved once per session
+ * (or format change) rather than once per packet.
+ * Created by {@link PacketDecoderRegistry#newContext()}; not thread-safe, so each decoding thread owns one.
+ */
+public final class PacketDecodingContext {
+
+    private final PacketHeaderView header = new PacketHeaderView();
+    private final DecodedPacket[] packets;
+
+    private boolean resolved;
+    private long sessionUID;
+    private int packetFormat;
+    private PacketCodec codec;
+
+    PacketDecodingContext(DecodedPacket[] packets) {
+        this.packets = packets;
+    }
+
+    /**
+     * @return the header view, wrapped around the packet decoded last
+     */
+    public PacketHeaderView header() {
+        return header;
+    }
+
+    /**
+     * Returns the holder of a packet type, holding the packet of that type decoded last.
+     *
+     * @param type the packet type
+     * @return the holder, or null if the type has no decoder
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends DecodedPacket> T packet(PacketType type) {
+        return (T) packets[type.ordinal()];
+    }
+
+    DecodedPacket packet(int packetId) {
+        return packets[packetId];
+    }
+
+    /**
+     * @return the codec resolved for the session decoded last, null if its format is not supported
+     */
+    PacketCodec codec() {
+        return codec;
+    }
+
+    boolean isResolvedFor(long sessionUID, int packetFormat) {
+        return resolved && this.sessionUID == sessionUID && this.packetFormat == packetFormat;
+    }
+
+    void resolve(long sessionUID, int packetFormat, PacketCodec codec) {
+        this.resolved = true;
+        this.sessionUID = sessionUID;
+        this.packetFormat = packetFormat;
+        this.codec = codec;
+    }
+}
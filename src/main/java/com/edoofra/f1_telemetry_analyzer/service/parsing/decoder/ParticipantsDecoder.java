@@ -0,0 +1,113 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.DecodedPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.ParticipantData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.ParticipantsPacket;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Decodes the body of Participants packets (id 4) into a reusable {@link ParticipantsPacket}.
+ * <p>
+ * F1 24 added the tech level before the platform; the fields that moved are read through a per-format
+ * {@link Layout}. Fields a format lacks are decoded as 0.
+ */
+@Component
+public class ParticipantsDecoder implements PacketDecoder<ParticipantsPacket> {
+
+    static final int PARTICIPANT_DATA_SIZE = 60;
+
+    /**
+     * Offsets of the fields whose position differs between formats, within a car's entry; -1 if the format lacks
+     * the field.
+     */
+    record Layout(int participantDataSize, int techLevelOffset, int platformOffset) {
+
+        static final Layout F1_23 = new Layout(58, -1, 57);
+        static final Layout F1_24 = new Layout(PARTICIPANT_DATA_SIZE, 57, 59);
+
+        /**
+         * @return the body size: the number of active cars, then the car entries
+         */
+        int bodySize() {
+            return 1 + DecodedPacket.MAX_CARS * participantDataSize;
+        }
+    }
+
+    private final Layout layout;
+
+    public ParticipantsDecoder() {
+        this(Layout.F1_24);
+    }
+
+    private ParticipantsDecoder(Layout layout) {
+        this.layout = layout;
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.PARTICIPANTS;
+    }
+
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public PacketDecoder<ParticipantsPacket> forFormat(PacketFormat format) {
+        return switch (format) {
+            case F1_23 -> new ParticipantsDecoder(Layout.F1_23);
+            case F1_24 -> this;
+        };
+    }
+
+    @Override
+    public int bodySize() {
+        return layout.bodySize();
+    }
+
+    @Override
+    public ParticipantsPacket createPacket() {
+        return new ParticipantsPacket();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, ParticipantsPacket target) {
+        decode(packet, offset, target, ALL, ALL);
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, ParticipantsPacket target, long carMask, long fieldMask) {
+        target.setNumActiveCars(BinaryDataUtils.getUnsignedByte(packet, offset));
+        ParticipantData[] participants = target.getParticipants();
+        for (int car = 0; car < participants.length; car++) {
+            if ((carMask & (1L << car)) != 0) {
+                decodeParticipantData(packet, offset + 1 + car * layout.participantDataSize(), participants[car]);
+            }
+        }
+    }
+
+    private void decodeParticipantData(ByteBuffer packet, int offset, ParticipantData entry) {
+        entry.setAiControlled(BinaryDataUtils.getUnsignedByte(packet, offset));
+        entry.setDriverId(BinaryDataUtils.getUnsignedByte(packet, offset + 1));
+        entry.setNetworkId(BinaryDataUtils.getUnsignedByte(packet, offset + 2));
+        entry.setTeamId(BinaryDataUtils.getUnsignedByte(packet, offset + 3));
+        entry.setMyTeam(BinaryDataUtils.getUnsignedByte(packet, offset + 4));
+        entry.setRaceNumber(BinaryDataUtils.getUnsignedByte(packet, offset + 5));
+        entry.setNationality(BinaryDataUtils.getUnsignedByte(packet, offset + 6));
+        entry.setNameLength(PacketDecoder.readString(packet, offset + 7, entry.getNameBytes()));
+        entry.setYourTelemetry(BinaryDataUtils.getUnsignedByte(packet, offset + 55));
+        entry.setShowOnlineNames(BinaryDataUtils.getUnsignedByte(packet, offset + 56));
+        entry.setTechLevel(layout.techLevelOffset() >= 0
+                ? BinaryDataUtils.getUnsignedShort(packet, offset + layout.techLevelOffset())
+                : 0);
+        entry.setPlatform(BinaryDataUtils.getUnsignedByte(packet, offset + layout.platformOffset()));
+    }
+}
@@ -0,0 +1,249 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.MarshalZone;
+import com.edoofra.f1_telemetry_analyzer.model.packet.SessionPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.WeatherForecastSample;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Decodes the body of Session packets (id 1) into a reusable {@link SessionPacket}.
+ * <p>
+ * F1 24 raised the weather forecast samples from 56 to 64 and added the rule options from {@code equalCarPerformance}
+ * to the sector start distances; the fields that moved are read through a per-format {@link Layout}. Fields a format
+ * lacks are decoded as 0, and forecast samples beyond the format's count are left as they are.
+ */
+@Component
+public class SessionDecoder implements PacketDecoder<SessionPacket> {
+
+    static final int MARSHAL_ZONE_SIZE = 5;
+    static final int WEATHER_FORECAST_SAMPLE_SIZE = 8;
+
+    /**
+     * Offset of the weather forecast samples; the fields before them keep their positions in every format.
+     */
+    private static final int WEATHER_FORECAST_OFFSET = 127;
+
+    /**
+     * Size of the fields from {@code forecastAccuracy} to {@code numRedFlagPeriods}, which keep their relative positions.
+     */
+    private static final int SETTINGS_SIZE = 40;
+
+    /**
+     * Size of the rule options from {@code equalCarPerformance} to {@code sector3LapDistanceStart}.
+     */
+    private static final int RULE_OPTIONS_SIZE = 45;
+
+    /**
+     * The number of weather forecast samples, and whether the format has the rule options after the settings.
+     */
+    record Layout(int weatherForecastSamples, boolean hasRuleOptions) {
+
+        static final Layout F1_23 = new Layout(56, false);
+        static final Layout F1_24 = new Layout(SessionPacket.MAX_WEATHER_FORECAST_SAMPLES, true);
+
+        int forecastAccuracyOffset() {
+            return WEATHER_FORECAST_OFFSET + weatherForecastSamples * WEATHER_FORECAST_SAMPLE_SIZE;
+        }
+
+        int ruleOptionsOffset() {
+            return forecastAccuracyOffset() + SETTINGS_SIZE;
+        }
+
+        int bodySize() {
+            return ruleOptionsOffset() + (hasRuleOptions ? RULE_OPTIONS_SIZE : 0);
+        }
+    }
+
+    private final Layout layout;
+
+    public SessionDecoder() {
+        this(Layout.F1_24);
+    }
+
+    private SessionDecoder(Layout layout) {
+        this.layout = layout;
+    }
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.SESSION;
+    }
+
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public PacketDecoder<SessionPacket> forFormat(PacketFormat format) {
+        return switch (format) {
+            case F1_23 -> new SessionDecoder(Layout.F1_23);
+            case F1_24 -> this;
+        };
+    }
+
+    @Override
+    public int bodySize() {
+        return layout.bodySize();
+    }
+
+    @Override
+    public SessionPacket createPacket() {
+        return new SessionPacket();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, SessionPacket target) {
+        target.setWeather(BinaryDataUtils.getUnsignedByte(packet, offset));
+        target.setTrackTemperature(BinaryDataUtils.getByte(packet, offset + 1));
+        target.setAirTemperature(BinaryDataUtils.getByte(packet, offset + 2));
+        target.setTotalLaps(BinaryDataUtils.getUnsignedByte(packet, offset + 3));
+        target.setTrackLength(BinaryDataUtils.getUnsignedShort(packet, offset + 4));
+        target.setSessionType(BinaryDataUtils.getUnsignedByte(packet, offset + 6));
+        target.setTrackId(BinaryDataUtils.getByte(packet, offset + 7));
+        target.setFormula(BinaryDataUtils.getUnsignedByte(packet, offset + 8));
+        target.setSessionTimeLeft(BinaryDataUtils.getUnsignedShort(packet, offset + 9));
+        target.setSessionDuration(BinaryDataUtils.getUnsignedShort(packet, offset + 11));
+        target.setPitSpeedLimit(BinaryDataUtils.getUnsignedByte(packet, offset + 13));
+        target.setGamePaused(BinaryDataUtils.getUnsignedByte(packet, offset + 14));
+        target.setIsSpectating(BinaryDataUtils.getUnsignedByte(packet, offset + 15));
+        target.setSpectatorCarIndex(BinaryDataUtils.getUnsignedByte(packet, offset + 16));
+        target.setSliProNativeSupport(BinaryDataUtils.getUnsignedByte(packet, offset + 17));
+        target.setNumMarshalZones(BinaryDataUtils.getUnsignedByte(packet, offset + 18));
+        MarshalZone[] marshalZones = target.getMarshalZones();
+        for (int i = 0; i < marshalZones.length; i++) {
+            decodeMarshalZone(packet, offset + 19 + i * MARSHAL_ZONE_SIZE, marshalZones[i]);
+        }
+        target.setSafetyCarStatus(BinaryDataUtils.getUnsignedByte(packet, offset + 124));
+        target.setNetworkGame(BinaryDataUtils.getUnsignedByte(packet, offset + 125));
+        target.setNumWeatherForecastSamples(BinaryDataUtils.getUnsignedByte(packet, offset + 126));
+        WeatherForecastSample[] weatherForecastSamples = target.getWeatherForecastSamples();
+        for (int i = 0; i < layout.weatherForecastSamples(); i++) {
+            decodeWeatherForecastSample(packet, offset + WEATHER_FORECAST_OFFSET + i * WEATHER_FORECAST_SAMPLE_SIZE,
+                    weatherForecastSamples[i]);
+        }
+        decodeSettings(packet, offset + layout.forecastAccuracyOffset(), target);
+        if (layout.hasRuleOptions()) {
+            decodeRuleOptions(packet, offset + layout.ruleOptionsOffset(), target);
+        } else {
+            clearRuleOptions(target);
+        }
+    }
+
+    private static void decodeSettings(ByteBuffer packet, int offset, SessionPacket target) {
+        target.setForecastAccuracy(BinaryDataUtils.getUnsignedByte(packet, offset));
+        target.setAiDifficulty(BinaryDataUtils.getUnsignedByte(packet, offset + 1));
+        target.setSeasonLinkIdentifier(BinaryDataUtils.getUnsignedInt(packet, offset + 2));
+        target.setWeekendLinkIdentifier(BinaryDataUtils.getUnsignedInt(packet, offset + 6));
+        target.setSessionLinkIdentifier(BinaryDataUtils.getUnsignedInt(packet, offset + 10));
+        target.setPitStopWindowIdealLap(BinaryDataUtils.getUnsignedByte(packet, offset + 14));
+        target.setPitStopWindowLatestLap(BinaryDataUtils.getUnsignedByte(packet, offset + 15));
+        target.setPitStopRejoinPosition(BinaryDataUtils.getUnsignedByte(packet, offset + 16));
+        target.setSteeringAssist(BinaryDataUtils.getUnsignedByte(packet, offset + 17));
+        target.setBrakingAssist(BinaryDataUtils.getUnsignedByte(packet, offset + 18));
+        target.setGearboxAssist(BinaryDataUtils.getUnsignedByte(packet, offset + 19));
+        target.setPitAssist(BinaryDataUtils.getUnsignedByte(packet, offset + 20));
+        target.setPitReleaseAssist(BinaryDataUtils.getUnsignedByte(packet, offset + 21));
+        target.setErsAssist(BinaryDataUtils.getUnsignedByte(packet, offset + 22));
+        target.setDrsAssist(BinaryDataUtils.getUnsignedByte(packet, offset + 23));
+        target.setDynamicRacingLine(BinaryDataUtils.getUnsignedByte(packet, offset + 24));
+        target.setDynamicRacingLineType(BinaryDataUtils.getUnsignedByte(packet, offset + 25));
+        target.setGameMode(BinaryDataUtils.getUnsignedByte(packet, offset + 26));
+        target.setRuleSet(BinaryDataUtils.getUnsignedByte(packet, offset + 27));
+        target.setTimeOfDay(BinaryDataUtils.getUnsignedInt(packet, offset + 28));
+        target.setSessionLength(BinaryDataUtils.getUnsignedByte(packet, offset + 32));
+        target.setSpeedUnitsLeadPlayer(BinaryDataUtils.getUnsignedByte(packet, offset + 33));
+        target.setTemperatureUnitsLeadPlayer(BinaryDataUtils.getUnsignedByte(packet, offset + 34));
+        target.setSpeedUnitsSecondaryPlayer(BinaryDataUtils.getUnsignedByte(packet, offset + 35));
+        target.setTemperatureUnitsSecondaryPlayer(BinaryDataUtils.getUnsignedByte(packet, offset + 36));
+        target.setNumSafetyCarPeriods(BinaryDataUtils.getUnsignedByte(packet, offset + 37));
+        target.setNumVirtualSafetyCarPeriods(BinaryDataUtils.getUnsignedByte(packet, offset + 38));
+        target.setNumRedFlagPeriods(BinaryDataUtils.getUnsignedByte(packet, offset + 39));
+    }
+
+    private static void decodeRuleOptions(ByteBuffer packet, int offset, SessionPacket target) {
+        target.setEqualCarPerformance(BinaryDataUtils.getUnsignedByte(packet, offset));
+        target.setRecoveryMode(BinaryDataUtils.getUnsignedByte(packet, offset + 1));
+        target.setFlashbackLimit(BinaryDataUtils.getUnsignedByte(packet, offset + 2));
+        target.setSurfaceType(BinaryDataUtils.getUnsignedByte(packet, offset + 3));
+        target.setLowFuelMode(BinaryDataUtils.getUnsignedByte(packet, offset + 4));
+        target.setRaceStarts(BinaryDataUtils.getUnsignedByte(packet, offset + 5));
+        target.setTyreTemperature(BinaryDataUtils.getUnsignedByte(packet, offset + 6));
+        target.setPitLaneTyreSim(BinaryDataUtils.getUnsignedByte(packet, offset + 7));
+        target.setCarDamage(BinaryDataUtils.getUnsignedByte(packet, offset + 8));
+        target.setCarDamageRate(BinaryDataUtils.getUnsignedByte(packet, offset + 9));
+        target.setCollisions(BinaryDataUtils.getUnsignedByte(packet, offset + 10));
+        target.setCollisionsOffForFirstLapOnly(BinaryDataUtils.getUnsignedByte(packet, offset + 11));
+        target.setMpUnsafePitRelease(BinaryDataUtils.getUnsignedByte(packet, offset + 12));
+        target.setMpOffForGriefing(BinaryDataUtils.getUnsignedByte(packet, offset + 13));
+        target.setCornerCuttingStringency(BinaryDataUtils.getUnsignedByte(packet, offset + 14));
+        target.setParcFermeRules(BinaryDataUtils.getUnsignedByte(packet, offset + 15));
+        target.setPitStopExperience(BinaryDataUtils.getUnsignedByte(packet, offset + 16));
+        target.setSafetyCar(BinaryDataUtils.getUnsignedByte(packet, offset + 17));
+        target.setSafetyCarExperience(BinaryDataUtils.getUnsignedByte(packet, offset + 18));
+        target.setFormationLap(BinaryDataUtils.getUnsignedByte(packet, offset + 19));
+        target.setFormationLapExperience(BinaryDataUtils.getUnsignedByte(packet, offset + 20));
+        target.setRedFlags(BinaryDataUtils.getUnsignedByte(packet, offset + 21));
+        target.setAffectsLicenceLevelSolo(BinaryDataUtils.getUnsignedByte(packet, offset + 22));
+        target.setAffectsLicenceLevelMp(BinaryDataUtils.getUnsignedByte(packet, offset + 23));
+        target.setNumSessionsInWeekend(BinaryDataUtils.getUnsignedByte(packet, offset + 24));
+        BinaryDataUtils.getUnsignedBytes(packet, offset + 25, target.getWeekendStructure(), 12);
+        target.setSector2LapDistanceStart(BinaryDataUtils.getFloat(packet, offset + 37));
+        target.setSector3LapDistanceStart(BinaryDataUtils.getFloat(packet, offset + 41));
+    }
+
+    private static void clearRuleOptions(SessionPacket target) {
+        target.setEqualCarPerformance(0);
+        target.setRecoveryMode(0);
+        target.setFlashbackLimit(0);
+        target.setSurfaceType(0);
+        target.setLowFuelMode(0);
+        target.setRaceStarts(0);
+        target.setTyreTemperature(0);
+        target.setPitLaneTyreSim(0);
+        target.setCarDamage(0);
+        target.setCarDamageRate(0);
+        target.setCollisions(0);
+        target.setCollisionsOffForFirstLapOnly(0);
+        target.setMpUnsafePitRelease(0);
+        target.setMpOffForGriefing(0);
+        target.setCornerCuttingStringency(0);
+        target.setParcFermeRules(0);
+        target.setPitStopExperience(0);
+        target.setSafetyCar(0);
+        target.setSafetyCarExperience(0);
+        target.setFormationLap(0);
+        target.setFormationLapExperience(0);
+        target.setRedFlags(0);
+        target.setAffectsLicenceLevelSolo(0);
+        target.setAffectsLicenceLevelMp(0);
+        target.setNumSessionsInWeekend(0);
+        Arrays.fill(target.getWeekendStructure(), 0);
+        target.setSector2LapDistanceStart(0);
+        target.setSector3LapDistanceStart(0);
+    }
+
+    private static void decodeMarshalZone(ByteBuffer packet, int offset, MarshalZone entry) {
+        entry.setZoneStart(BinaryDataUtils.getFloat(packet, offset));
+        entry.setZoneFlag(BinaryDataUtils.getByte(packet, offset + 4));
+    }
+
+    private static void decodeWeatherForecastSample(ByteBuffer packet, int offset, WeatherForecastSample entry) {
+        entry.setSessionType(BinaryDataUtils.getUnsignedByte(packet, offset));
+        entry.setTimeOffset(BinaryDataUtils.getUnsignedByte(packet, offset + 1));
+        entry.setWeather(BinaryDataUtils.getUnsignedByte(packet, offset + 2));
+        entry.setTrackTemperature(BinaryDataUtils.getByte(packet, offset + 3));
+        entry.setTrackTemperatureChange(BinaryDataUtils.getByte(packet, offset + 4));
+        entry.setAirTemperature(BinaryDataUtils.getByte(packet, offset + 5));
+        entry.setAirTemperatureChange(BinaryDataUtils.getByte(packet, offset + 6));
+        entry.setRainPercentage(BinaryDataUtils.getUnsignedByte(packet, offset + 7));
+    }
+}
@@ -0,0 +1,83 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LapHistoryData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.SessionHistoryPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.TyreStintHistoryData;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Decodes the body of Session History packets (id 11) into a reusable {@link SessionHistoryPacket}.
+ */
+@Component
+public class SessionHistoryDecoder implements PacketDecoder<SessionHistoryPacket> {
+
+    static final int LAP_HISTORY_DATA_SIZE = 14;
+    static final int TYRE_STINT_HISTORY_DATA_SIZE = 3;
+    static final int BODY_SIZE = 1431;
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.SESSION_HISTORY;
+    }
+
+    /**
+     * The layout is the same in F1 23.
+     */
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public int bodySize() {
+        return BODY_SIZE;
+    }
+
+    @Override
+    public SessionHistoryPacket createPacket() {
+        return new SessionHistoryPacket();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, SessionHistoryPacket target) {
+        target.setCarIdx(BinaryDataUtils.getUnsignedByte(packet, offset));
+        target.setNumLaps(BinaryDataUtils.getUnsignedByte(packet, offset + 1));
+        target.setNumTyreStints(BinaryDataUtils.getUnsignedByte(packet, offset + 2));
+        target.setBestLapTimeLapNum(BinaryDataUtils.getUnsignedByte(packet, offset + 3));
+        target.setBestSector1LapNum(BinaryDataUtils.getUnsignedByte(packet, offset + 4));
+        target.setBestSector2LapNum(BinaryDataUtils.getUnsignedByte(packet, offset + 5));
+        target.setBestSector3LapNum(BinaryDataUtils.getUnsignedByte(packet, offset + 6));
+        LapHistoryData[] lapHistory = target.getLapHistory();
+        for (int i = 0; i < lapHistory.length; i++) {
+            decodeLapHistoryData(packet, offset + 7 + i * LAP_HISTORY_DATA_SIZE, lapHistory[i]);
+        }
+        TyreStintHistoryData[] tyreStintsHistory = target.getTyreStintsHistory();
+        for (int i = 0; i < tyreStintsHistory.length; i++) {
+            decodeTyreStintHistoryData(packet, offset + 1407 + i * TYRE_STINT_HISTORY_DATA_SIZE, tyreStintsHistory[i]);
+        }
+    }
+
+    private static void decodeLapHistoryData(ByteBuffer packet, int offset, LapHistoryData entry) {
+        entry.setLapTimeInMs(BinaryDataUtils.getInt(packet, offset));
+        entry.setSector1TimeMsPart(BinaryDataUtils.getUnsignedShort(packet, offset + 4));
+        entry.setSector1TimeMinutesPart(BinaryDataUtils.getUnsignedByte(packet, offset + 6));
+        entry.setSector2TimeMsPart(BinaryDataUtils.getUnsignedShort(packet, offset + 7));
+        entry.setSector2TimeMinutesPart(BinaryDataUtils.getUnsignedByte(packet, offset + 9));
+        entry.setSector3TimeMsPart(BinaryDataUtils.getUnsignedShort(packet, offset + 10));
+        entry.setSector3TimeMinutesPart(BinaryDataUtils.getUnsignedByte(packet, offset + 12));
+        entry.setLapValidBitFlags(BinaryDataUtils.getUnsignedByte(packet, offset + 13));
+    }
+
+    private static void decodeTyreStintHistoryData(ByteBuffer packet, int offset, TyreStintHistoryData entry) {
+        entry.setEndLap(BinaryDataUtils.getUnsignedByte(packet, offset));
+        entry.setTyreActualCompound(BinaryDataUtils.getUnsignedByte(packet, offset + 1));
+        entry.setTyreVisualCompound(BinaryDataUtils.getUnsignedByte(packet, offset + 2));
+    }
+}
@@ -0,0 +1,56 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.TimeTrialDataSet;
+import com.edoofra.f1_telemetry_analyzer.model.packet.TimeTrialPacket;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes the body of Time Trial packets (id 14) into a reusable {@link TimeTrialPacket}.
+ */
+@Component
+public class TimeTrialDecoder implements PacketDecoder<TimeTrialPacket> {
+
+    static final int TIME_TRIAL_DATA_SET_SIZE = 24;
+    static final int BODY_SIZE = 72;
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.TIME_TRIAL;
+    }
+
+    @Override
+    public int bodySize() {
+        return BODY_SIZE;
+    }
+
+    @Override
+    public TimeTrialPacket createPacket() {
+        return new TimeTrialPacket();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, TimeTrialPacket target) {
+        decodeTimeTrialDataSet(packet, offset, target.getPlayerSessionBest());
+        decodeTimeTrialDataSet(packet, offset + 24, target.getPersonalBest());
+        decodeTimeTrialDataSet(packet, offset + 48, target.getRival());
+    }
+
+    private static void decodeTimeTrialDataSet(ByteBuffer packet, int offset, TimeTrialDataSet entry) {
+        entry.setCarIdx(BinaryDataUtils.getUnsignedByte(packet, offset));
+        entry.setTeamId(BinaryDataUtils.getUnsignedByte(packet, offset + 1));
+        entry.setLapTimeInMs(BinaryDataUtils.getInt(packet, offset + 2));
+        entry.setSector1TimeInMs(BinaryDataUtils.getInt(packet, offset + 6));
+        entry.setSector2TimeInMs(BinaryDataUtils.getInt(packet, offset + 10));
+        entry.setSector3TimeInMs(BinaryDataUtils.getInt(packet, offset + 14));
+        entry.setTractionControl(BinaryDataUtils.getUnsignedByte(packet, offset + 18));
+        entry.setGearboxAssist(BinaryDataUtils.getUnsignedByte(packet, offset + 19));
+        entry.setAntiLockBrakes(BinaryDataUtils.getUnsignedByte(packet, offset + 20));
+        entry.setEqualCarPerformance(BinaryDataUtils.getUnsignedByte(packet, offset + 21));
+        entry.setCustomSetup(BinaryDataUtils.getUnsignedByte(packet, offset + 22));
+        entry.setValid(BinaryDataUtils.getUnsignedByte(packet, offset + 23));
+    }
+}
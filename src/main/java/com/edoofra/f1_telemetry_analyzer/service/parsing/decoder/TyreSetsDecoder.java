@@ -0,0 +1,67 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.TyreSetData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.TyreSetsPacket;
+import com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtils;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Decodes the body of Tyre Sets packets (id 12) into a reusable {@link TyreSetsPacket}.
+ */
+@Component
+public class TyreSetsDecoder implements PacketDecoder<TyreSetsPacket> {
+
+    static final int TYRE_SET_DATA_SIZE = 10;
+    static final int BODY_SIZE = 202;
+
+    @Override
+    public PacketType packetType() {
+        return PacketType.TYRE_SETS;
+    }
+
+    /**
+     * The layout is the same in F1 23.
+     */
+    @Override
+    public Set<PacketFormat> packetFormats() {
+        return EnumSet.of(PacketFormat.F1_23, PacketFormat.F1_24);
+    }
+
+    @Override
+    public int bodySize() {
+        return BODY_SIZE;
+    }
+
+    @Override
+    public TyreSetsPacket createPacket() {
+        return new TyreSetsPacket();
+    }
+
+    @Override
+    public void decode(ByteBuffer packet, int offset, TyreSetsPacket target) {
+        target.setCarIdx(BinaryDataUtils.getUnsignedByte(packet, offset));
+        TyreSetData[] tyreSets = target.getTyreSets();
+        for (int i = 0; i < tyreSets.length; i++) {
+            decodeTyreSetData(packet, offset + 1 + i * TYRE_SET_DATA_SIZE, tyreSets[i]);
+        }
+        target.setFittedIdx(BinaryDataUtils.getUnsignedByte(packet, offset + 201));
+    }
+
+    private static void decodeTyreSetData(ByteBuffer packet, int offset, TyreSetData entry) {
+        entry.setActualTyreCompound(BinaryDataUtils.getUnsignedByte(packet, offset));
+        entry.setVisualTyreCompound(BinaryDataUtils.getUnsignedByte(packet, offset + 1));
+        entry.setWear(BinaryDataUtils.getUnsignedByte(packet, offset + 2));
+        entry.setAvailable(BinaryDataUtils.getUnsignedByte(packet, offset + 3));
+        entry.setRecommendedSession(BinaryDataUtils.getUnsignedByte(packet, offset + 4));
+        entry.setLifeSpan(BinaryDataUtils.getUnsignedByte(packet, offset + 5));
+        entry.setUsableLife(BinaryDataUtils.getUnsignedByte(packet, offset + 6));
+        entry.setLapDeltaTime(BinaryDataUtils.getShort(packet, offset + 7));
+        entry.setFitted(BinaryDataUtils.getUnsignedByte(packet, offset + 9));
+    }
+}
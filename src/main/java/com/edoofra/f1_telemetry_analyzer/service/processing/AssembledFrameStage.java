@@ -0,0 +1,21 @@
+package com.edoofra.f1_telemetry_analyzer.service.processing;
+
+import com.edoofra.f1_telemetry_analyzer.model.frame.AssembledFrame;
+
+/**
+ * A downstream stage that consumes the frames joined by {@link FrameAssemblyStage}: the packets of one
+ * {@code frameIdentifier} of one session, for metrics that combine several packet types.
+ * <p>
+ * Frames are handed over one at a time, complete or, when packets were lost, after the assembly timeout;
+ * check {@link AssembledFrame#has(com.edoofra.f1_telemetry_analyzer.model.PacketType)} before reading a packet type.
+ */
+public interface AssembledFrameStage {
+
+    /**
+     * Handles one assembled frame.
+     * The frame returns to the assembler's pool when this method returns; copy anything that must outlive the call.
+     *
+     * @param frame the assembled frame
+     */
+    void onFrame(AssembledFrame frame);
+}
@@ -0,0 +1,148 @@
+package com.edoofra.f1_telemetry_analyzer.service.processing;
+
+import com.edoofra.f1_telemetry_analyzer.buffer.FrameBuffer;
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.HeaderParsingService;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.PacketHeaderView;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.FrameDecoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fills one double-buffered {@link ColumnarFrame} per packet type straight from the raw packets, with the
+ * {@link FrameDecoder} beans, and hands each published frame to the {@link FrameStage}s subscribed to its type.
+ * <p>
+ * The latest frame of each type can be read from any thread through {@link #frames(Class)}; it is the frame of
+ * whichever session sent the packet last, as recorded in its header fields. Filling a frame allocates nothing.
+ */
+@Slf4j
+@Component
+public class ColumnarFrameStage implements TelemetryPacketStage {
+
+    private static final PacketFormat[] FORMATS = PacketFormat.values();
+
+    /**
+     * Frame buffer and format-bound decoders per packet type, indexed by {@link PacketType#getId()}; null for types
+     * without a frame decoder.
+     */
+    private final FrameSlot<?>[] slots = new FrameSlot<?>[PacketType.values().length];
+    private final Map<Class<?>, FrameBuffer<?>> buffersByFrameClass = new HashMap<>();
+    private final Set<PacketType> packetTypes;
+    private final List<FrameStage> stages;
+
+    private final ThreadLocal<PacketHeaderView> headers = ThreadLocal.withInitial(PacketHeaderView::new);
+
+    public ColumnarFrameStage(List<FrameDecoder<?>> decoders, ObjectProvider<FrameStage> stageProvider) {
+        this.stages = stageProvider.orderedStream().toList();
+        Set<PacketType> types = EnumSet.noneOf(PacketType.class);
+        for (FrameDecoder<?> decoder : decoders) {
+            PacketType type = decoder.packetType();
+            if (slots[type.getId()] != null) {
+                throw new IllegalStateException("Several frame decoders registered for " + type);
+            }
+            FrameSlot<?> slot = FrameSlot.of(decoder, stages);
+            slots[type.getId()] = slot;
+            buffersByFrameClass.put(slot.frameClass(), slot.buffer());
+            types.add(type);
+        }
+        this.packetTypes = Set.copyOf(types);
+
+        log.info("Columnar frame stage initialized for {} with {} frame stages", types, stages.size());
+    }
+
+    @Override
+    public Set<PacketType> packetTypes() {
+        return packetTypes;
+    }
+
+    /**
+     * @param frameClass the frame type, e.g. {@code CarTelemetryFrame.class}
+     * @return the frame buffer of the type, or null if no frame decoder fills it
+     */
+    @SuppressWarnings("unchecked")
+    public <F extends ColumnarFrame<F>> FrameBuffer<F> frames(Class<F> frameClass) {
+        return (FrameBuffer<F>) buffersByFrameClass.get(frameClass);
+    }
+
+    @Override
+    public void onPacket(ByteBuffer packet) {
+        PacketHeaderView header = headers.get().wrap(packet);
+        if (!header.isComplete()) {
+            return;
+        }
+        int packetId = header.packetId();
+        if (packetId < 0 || packetId >= slots.length || slots[packetId] == null) {
+            return;
+        }
+        PacketFormat format = PacketFormat.fromValue(header.packetFormat());
+        if (format != null) {
+            slots[packetId].write(packet, header, format);
+        }
+    }
+
+    @Override
+    public void onBatchEnd() {
+        for (FrameStage stage : stages) {
+            try {
+                stage.onBatchEnd();
+            } catch (Exception e) {
+                log.error("Frame stage {} failed to complete batch", stage.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    /**
+     * The frame buffer of one packet type, its decoders indexed by {@link PacketFormat#ordinal()}, and its
+     * subscribed frame stages.
+     */
+    private record FrameSlot<F extends ColumnarFrame<F>>(FrameBuffer<F> buffer,
+                                                         Class<?> frameClass,
+                                                         List<FrameDecoder<F>> decoders,
+                                                         FrameStage[] stages) {
+
+        static <F extends ColumnarFrame<F>> FrameSlot<F> of(FrameDecoder<F> decoder, List<FrameStage> allStages) {
+            FrameBuffer<F> buffer = new FrameBuffer<>(decoder::createFrame);
+            List<FrameDecoder<F>> decoders = new ArrayList<>();
+            for (PacketFormat format : FORMATS) {
+                decoders.add(decoder.forFormat(format));
+            }
+            FrameStage[] stages = allStages.stream()
+                    .filter(stage -> stage.packetTypes().isEmpty() || stage.packetTypes().contains(decoder.packetType()))
+                    .toArray(FrameStage[]::new);
+            return new FrameSlot<>(buffer, buffer.current().getClass(), decoders, stages);
+        }
+
+        void write(ByteBuffer packet, PacketHeaderView header, PacketFormat format) {
+            FrameDecoder<F> decoder = decoders.get(format.ordinal());
+            if (decoder == null || packet.remaining() < HeaderParsingService.HEADER_SIZE + decoder.bodySize()) {
+                return;
+            }
+            F frame = buffer.beginWrite();
+            try {
+                frame.setPacketFormat(header.packetFormat());
+                frame.setSessionUID(header.sessionUID());
+                frame.setSessionTime(header.sessionTime());
+                frame.setFrameIdentifier(header.frameIdentifier());
+                frame.setPlayerCarIndex(header.playerCarIndex());
+                decoder.decode(packet, packet.position() + HeaderParsingService.HEADER_SIZE, frame);
+                buffer.publish();
+                for (FrameStage stage : stages) {
+                    stage.onFrame(frame);
+                }
+            } finally {
+                buffer.endWrite();
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.edoofra.f1_telemetry_analyzer.service.processing;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.DecodedPacket;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.DecodeDemand;
+
+import java.util.Set;
+
+/**
+ * A downstream stage that consumes decoded packets rather than raw bytes.
+ * Spring beans implementing this interface receive the packets decoded by {@link PacketDecodingStage}:
+ * every decodable packet, or only those of the types returned by {@link #packetTypes()}.
+ * Packet types no stage subscribes to are never decoded, and of the others only the car entries and fields some
+ * stage {@link #demand(PacketType) demands}.
+ * <p>
+ * Batches work as for {@link TelemetryPacketStage}: {@link #onPacket(DecodedPacket)} for each packet of a batch,
+ * then {@link #onBatchEnd()}. Stages are shared by all processing threads and must be thread-safe.
+ */
+public interface DecodedPacketStage {
+
+    /**
+     * Handles one decoded packet.
+     * The packet is a reused holder that is only valid until this method returns;
+     * cast it to the class of its {@link DecodedPacket#packetType() type} and copy anything that must outlive the call.
+     *
+     * @param packet the decoded packet
+     */
+    void onPacket(DecodedPacket packet);
+
+    /**
+     * The packet types this stage subscribes to.
+     * An empty set, the default, subscribes to every decodable packet.
+     *
+     * @return the subscribed packet types
+     */
+    default Set<PacketType> packetTypes() {
+        return Set.of();
+    }
+
+    /**
+     * The part of a subscribed packet type this stage reads.
+     * Packets are decoded for the union of the demands of their subscribers, so a stage must not read car entries
+     * or fields it does not demand: they may hold values of an earlier packet.
+     * The default demands every field of every car.
+     *
+     * @param type a subscribed packet type
+     * @return the car entries and fields needed
+     */
+    default DecodeDemand demand(PacketType type) {
+        return DecodeDemand.all();
+    }
+
+    /**
+     * Called after the last packet of a batch has been handed to {@link #onPacket(DecodedPacket)}.
+     */
+    default void onBatchEnd() {
+    }
+}
@@ -0,0 +1,223 @@
+package com.edoofra.f1_telemetry_analyzer.service.processing;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.frame.AssembledFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Joins the columnar frames of the packets sharing a ({@code sessionUID}, {@code frameIdentifier}) into one
+ * {@link AssembledFrame}, and hands it to the {@link AssembledFrameStage}s.
+ * <p>
+ * A frame is emitted as soon as the packets of every required type have arrived. Frames missing a packet are
+ * emitted incomplete once they are older than the timeout, checked on every frame and batch end, or when a new frame
+ * needs their slot: the assembler holds a fixed window of frames taken from a pool, so lost packets cost at most
+ * one incomplete frame per slot and never more memory. Packets arriving for a frame of the same session that was
+ * already emitted, within a second at the maximum send rate, are dropped as late. Frames emitted incomplete may
+ * follow later frames that completed first.
+ * <p>
+ * Assembly is serialized by a lock, and the assembled frame stages run under it.
+ */
+@Slf4j
+@Component
+public class FrameAssemblyStage implements FrameStage {
+
+    /**
+     * How far behind the latest emitted frame of a session a packet is considered late rather than, as after a
+     * flashback, the start of a new run of frames.
+     */
+    static final int LATE_FRAMES = 60;
+
+    private static final Set<PacketType> SUPPORTED_TYPES = Set.of(
+            PacketType.MOTION, PacketType.LAP_DATA, PacketType.CAR_TELEMETRY, PacketType.CAR_STATUS, PacketType.CAR_DAMAGE);
+
+    private final List<AssembledFrameStage> stages;
+    private final int requiredPackets;
+    private final long timeoutNanos;
+    private final LongSupplier clock;
+
+    private final AssembledFrame[] window;
+    private final boolean[] assembling;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long lastEmittedSession;
+    private int lastEmittedFrame = -1;
+
+    private final Counter completeCounter;
+    private final Counter timedOutCounter;
+    private final Counter evictedCounter;
+    private final Counter lateCounter;
+
+    @Autowired
+    public FrameAssemblyStage(ObjectProvider<AssembledFrameStage> stageProvider, MeterRegistry meterRegistry,
+                              @Value("${f1.telemetry.frames.assembly.window:8}") int windowSize,
+                              @Value("${f1.telemetry.frames.assembly.timeout-ms:50}") int timeoutMs,
+                              @Value("${f1.telemetry.frames.assembly.required-types:MOTION,LAP_DATA,CAR_TELEMETRY,CAR_STATUS}")
+                              List<PacketType> requiredTypes) {
+        this(stageProvider.orderedStream().toList(), meterRegistry, windowSize, timeoutMs, requiredTypes, System::nanoTime);
+    }
+
+    FrameAssemblyStage(List<AssembledFrameStage> stages, MeterRegistry meterRegistry, int windowSize, int timeoutMs,
+                       List<PacketType> requiredTypes, LongSupplier clock) {
+        this.stages = stages;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        this.clock = clock;
+        this.window = new AssembledFrame[windowSize];
+        this.assembling = new boolean[windowSize];
+        for (int i = 0; i < windowSize; i++) {
+            window[i] = new AssembledFrame();
+        }
+        int required = 0;
+        for (PacketType type : requiredTypes) {
+            if (!window[0].supports(type)) {
+                throw new IllegalArgumentException("Packet type " + type + " cannot be assembled into frames");
+            }
+            required |= AssembledFrame.bit(type);
+        }
+        this.requiredPackets = required;
+
+        this.completeCounter = assembledCounter(meterRegistry, "complete");
+        this.timedOutCounter = assembledCounter(meterRegistry, "timeout");
+        this.evictedCounter = assembledCounter(meterRegistry, "evicted");
+        this.lateCounter = Counter.builder("telemetry.frames.late")
+                .description("Number of packets dropped because their frame was already assembled")
+                .register(meterRegistry);
+
+        log.info("Frame assembly stage initialized with {} assembled frame stages, window: {}, timeout: {}ms, required: {}",
+                stages.size(), windowSize, timeoutMs, requiredTypes);
+    }
+
+    private static Counter assembledCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("telemetry.frames.assembled")
+                .description("Number of assembled frames emitted, by whether all required packets arrived")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Set<PacketType> packetTypes() {
+        return SUPPORTED_TYPES;
+    }
+
+    @Override
+    public void onFrame(ColumnarFrame<?> frame) {
+        if (stages.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            long now = clock.getAsLong();
+            expire(now);
+            long sessionUID = frame.getSessionUID();
+            int frameIdentifier = frame.getFrameIdentifier();
+            int slot = find(sessionUID, frameIdentifier);
+            if (slot < 0) {
+                if (isLate(sessionUID, frameIdentifier)) {
+                    lateCounter.increment();
+                    return;
+                }
+                slot = open(sessionUID, frameIdentifier, now);
+            }
+            window[slot].add(frame);
+            if (window[slot].hasAll(requiredPackets)) {
+                emit(slot);
+                completeCounter.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onBatchEnd() {
+        if (stages.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            expire(clock.getAsLong());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int find(long sessionUID, int frameIdentifier) {
+        for (int i = 0; i < window.length; i++) {
+            if (assembling[i] && window[i].getFrameIdentifier() == frameIdentifier && window[i].getSessionUID() == sessionUID) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean isLate(long sessionUID, int frameIdentifier) {
+        if (sessionUID != lastEmittedSession || lastEmittedFrame < 0) {
+            return false;
+        }
+        int behind = lastEmittedFrame - frameIdentifier;
+        return behind >= 0 && behind < LATE_FRAMES;
+    }
+
+    /**
+     * Takes a free slot of the window, evicting the oldest frame if every slot is assembling.
+     */
+    private int open(long sessionUID, int frameIdentifier, long now) {
+        int slot = -1;
+        int oldest = 0;
+        for (int i = 0; i < window.length; i++) {
+            if (!assembling[i]) {
+                slot = i;
+                break;
+            }
+            if (window[i].getOpenedAtNanos() - window[oldest].getOpenedAtNanos() < 0) {
+                oldest = i;
+            }
+        }
+        if (slot < 0) {
+            slot = oldest;
+            emit(slot);
+            evictedCounter.increment();
+        }
+        window[slot].open(sessionUID, frameIdentifier, now);
+        assembling[slot] = true;
+        return slot;
+    }
+
+    private void expire(long now) {
+        for (int i = 0; i < window.length; i++) {
+            if (assembling[i] && now - window[i].getOpenedAtNanos() >= timeoutNanos) {
+                emit(i);
+                timedOutCounter.increment();
+            }
+        }
+    }
+
+    private void emit(int slot) {
+        AssembledFrame frame = window[slot];
+        assembling[slot] = false;
+        if (frame.getSessionUID() != lastEmittedSession || frame.getFrameIdentifier() > lastEmittedFrame
+                || lastEmittedFrame - frame.getFrameIdentifier() >= LATE_FRAMES) {
+            lastEmittedSession = frame.getSessionUID();
+            lastEmittedFrame = frame.getFrameIdentifier();
+        }
+        for (AssembledFrameStage stage : stages) {
+            try {
+                stage.onFrame(frame);
+            } catch (Exception e) {
+                log.error("Assembled frame stage {} failed to process frame", stage.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
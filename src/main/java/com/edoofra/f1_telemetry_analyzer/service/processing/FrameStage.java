@@ -0,0 +1,42 @@
+package com.edoofra.f1_telemetry_analyzer.service.processing;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+
+import java.util.Set;
+
+/**
+ * A downstream stage that consumes columnar frames, the main input of the analytics.
+ * Spring beans implementing this interface receive each frame published by {@link ColumnarFrameStage}:
+ * every frame type, or only those filled from the types returned by {@link #packetTypes()}.
+ * <p>
+ * Batches work as for {@link TelemetryPacketStage}. Stages are shared by all processing threads and must be
+ * thread-safe; frames of one packet type are handed over one at a time.
+ */
+public interface FrameStage {
+
+    /**
+     * Handles one published frame.
+     * The frame stays unchanged until this method returns, but is then reused for later packets;
+     * cast it to the class of its {@link ColumnarFrame#packetType() type} and copy anything that must outlive the call.
+     *
+     * @param frame the published frame
+     */
+    void onFrame(ColumnarFrame<?> frame);
+
+    /**
+     * The packet types this stage subscribes to.
+     * An empty set, the default, subscribes to every frame type.
+     *
+     * @return the subscribed packet types
+     */
+    default Set<PacketType> packetTypes() {
+        return Set.of();
+    }
+
+    /**
+     * Called after the last frame of a batch has been handed to {@link #onFrame(ColumnarFrame)}.
+     */
+    default void onBatchEnd() {
+    }
+}
@@ -0,0 +1,111 @@
+package com.edoofra.f1_telemetry_analyzer.service.processing;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.DecodedPacket;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.HeaderParsingService;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.DecodeDemand;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.DecodePlan;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.PacketDecoderRegistry;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.PacketDecodingContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Decodes raw packets with the {@link PacketDecoderRegistry} and hands them to the {@link DecodedPacketStage}s
+ * subscribed to their type.
+ * <p>
+ * Each processing thread decodes into its own {@link PacketDecodingContext}, so decoding reuses the same holders
+ * for every packet and allocates nothing. Only the packet types some stage subscribes to are decoded, and of those
+ * only the car entries and fields the subscribers {@link DecodedPacketStage#demand(PacketType) demand}.
+ */
+@Slf4j
+@Component
+public class PacketDecodingStage implements TelemetryPacketStage {
+
+    private final PacketDecoderRegistry decoderRegistry;
+    private final List<DecodedPacketStage> stages;
+
+    /**
+     * Subscribed stages per packet type, indexed by {@link PacketType#getId()}.
+     */
+    private final DecodedPacketStage[][] stagesByType;
+
+    /**
+     * Merged demand of the subscribed stages per packet type, indexed by {@link PacketType#getId()}.
+     */
+    private final DecodePlan[] plans;
+    private final Set<PacketType> packetTypes;
+
+    private final ThreadLocal<PacketDecodingContext> contexts;
+
+    public PacketDecodingStage(PacketDecoderRegistry decoderRegistry, ObjectProvider<DecodedPacketStage> stageProvider) {
+        this.decoderRegistry = decoderRegistry;
+        this.stages = stageProvider.orderedStream().toList();
+        this.contexts = ThreadLocal.withInitial(decoderRegistry::newContext);
+
+        PacketType[] types = PacketType.values();
+        this.stagesByType = new DecodedPacketStage[types.length][];
+        this.plans = new DecodePlan[types.length];
+        Set<PacketType> subscribed = EnumSet.noneOf(PacketType.class);
+        for (PacketType type : types) {
+            stagesByType[type.getId()] = decoderRegistry.canDecode(type)
+                    ? stages.stream()
+                        .filter(stage -> stage.packetTypes().isEmpty() || stage.packetTypes().contains(type))
+                        .toArray(DecodedPacketStage[]::new)
+                    : new DecodedPacketStage[0];
+            if (stagesByType[type.getId()].length > 0) {
+                subscribed.add(type);
+                plans[type.getId()] = decoderRegistry.plan(type, Arrays.stream(stagesByType[type.getId()])
+                        .map(stage -> stage.demand(type))
+                        .reduce(DecodeDemand::merge)
+                        .orElseThrow());
+            }
+        }
+        this.packetTypes = Set.copyOf(subscribed);
+
+        log.info("Packet decoding stage initialized with {} decoded packet stages, decoding: {}", stages.size(), subscribed);
+    }
+
+    /**
+     * The types at least one decoded packet stage subscribes to.
+     * With no subscriber this is empty, so the stage sees every packet but returns before decoding.
+     */
+    @Override
+    public Set<PacketType> packetTypes() {
+        return packetTypes;
+    }
+
+    @Override
+    public void onPacket(ByteBuffer packet) {
+        PacketType type = PacketType.fromId(HeaderParsingService.peekPacketId(packet));
+        if (type == null || stagesByType[type.getId()].length == 0) {
+            return;
+        }
+
+        DecodedPacket decoded = decoderRegistry.decode(packet, contexts.get(), plans[type.getId()]);
+        if (decoded == null) {
+            return;
+        }
+        for (DecodedPacketStage stage : stagesByType[type.getId()]) {
+            stage.onPacket(decoded);
+        }
+    }
+
+    @Override
+    public void onBatchEnd() {
+        for (DecodedPacketStage stage : stages) {
+            try {
+                stage.onBatchEnd();
+            } catch (Exception e) {
+                log.error("Decoded packet stage {} failed to complete batch", stage.getClass().getSimpleName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.edoofra.f1_telemetry_analyzer.service.processing;
+
+import com.edoofra.f1_telemetry_analyzer.buffer.DirectPacketArena;
+import com.edoofra.f1_telemetry_analyzer.buffer.OverflowPolicy;
+import com.edoofra.f1_telemetry_analyzer.buffer.PacketBuffer;
+import com.edoofra.f1_telemetry_analyzer.buffer.wait.WaitStrategy;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.HeaderParsingService;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.PacketHeaderView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Runs the {@link TelemetryPacketStage}s on a fixed set of single-threaded partitions, each fed by its own queue.
+ * <p>
+ * Used by {@link TelemetryProcessingService} in partitioned execution mode: a single processing thread drains the
+ * buffers and hashes every packet by its {@code sessionUID} onto one partition. All packets of a session are therefore
+ * handled in the order they were drained and on the same thread, so stages can keep per-session state without locks
+ * while concurrent sessions scale across partitions. The game sends no per-car packet streams to split further: even
+ * Session History, which describes one car, updates the session's lap state that the other packets also feed.
+ * Each partition ends a batch after every drain of its queue.
+ * <p>
+ * Partition queues are {@link DirectPacketArena}s: packets are copied into pre-allocated slots, so dispatching
+ * allocates nothing. When a partition stays slower than the packet rate its queue fills up and dispatching waits,
+ * which leaves packets in the ring buffers where the overload policy decides what to shed.
+ */
+@Slf4j
+final class PartitionedStageDispatcher {
+
+    private static final long BACK_OFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final Partition[] partitions;
+    private final TelemetryPacketStage[][] stagesByType;
+    private final List<TelemetryPacketStage> stages;
+    private final int batchSize;
+    private final long pollTimeoutNanos;
+    private final Counter oversizedCounter;
+    private volatile boolean running = true;
+
+    /**
+     * @param stages        every stage, completed at the end of each batch
+     * @param stagesByType  the subscribed stages per packet type, as resolved by the processing service;
+     *                      the extra last entry holds the stages that receive packets without a known type
+     * @param sourceName    the telemetry source, used in thread names and as the {@code source} metrics tag
+     * @param partitions    the number of partitions
+     * @param queueCapacity the number of packets each partition may have queued
+     * @param batchSize     the maximum number of packets a partition handles per batch
+     * @param waitStrategy  how an idle partition waits for packets; each partition gets its own instance
+     * @param pollTimeoutMs how long an idle partition waits before re-checking whether it should stop
+     * @param meterRegistry registry the per-partition meters are registered with
+     */
+    PartitionedStageDispatcher(List<TelemetryPacketStage> stages, TelemetryPacketStage[][] stagesByType,
+                               String sourceName, int partitions, int queueCapacity, int batchSize, WaitStrategy.Type waitStrategy, long pollTimeoutMs,
+                               MeterRegistry meterRegistry) {
+        this.stages = stages;
+        this.stagesByType = stagesByType;
+        this.batchSize = batchSize;
+        this.pollTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(pollTimeoutMs);
+        this.partitions = new Partition[partitions];
+        for (int i = 0; i < partitions; i++) {
+            this.partitions[i] = new Partition(i, sourceName, queueCapacity, WaitStrategy.create(waitStrategy), meterRegistry);
+        }
+        this.oversizedCounter = Counter.builder("telemetry.processing.partition.oversized")
+                .description("Number of packets too large for a partition queue slot, which were not processed")
+                .tag("source", sourceName)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the thread of every partition.
+     */
+    void start() {
+        for (Partition partition : partitions) {
+            partition.thread = new Thread(partition::run, "telemetry-partition-" + partition.sourceName + "-" + partition.index);
+            partition.thread.setDaemon(true);
+            partition.thread.start();
+        }
+    }
+
+    /**
+     * Copies the packet into the queue of its partition, waiting while the queue is full.
+     *
+     * @param packet the packet view, only valid for the duration of this call
+     * @param header the view's header, already wrapped around the packet
+     * @throws InterruptedException if the caller is interrupted while the partition's queue is full
+     */
+    void dispatch(ByteBuffer packet, PacketHeaderView header) throws InterruptedException {
+        if (packet.remaining() > DirectPacketArena.MAX_PACKET_SIZE) {
+            oversizedCounter.increment();
+            return;
+        }
+        Partition partition = partitions[partitionOf(header)];
+        while (!partition.queue.put(packet).stored()) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (!running) {
+                return;
+            }
+            LockSupport.parkNanos(BACK_OFF_NANOS);
+        }
+        partition.waitStrategy.signalAll();
+    }
+
+    /**
+     * @return the index of the partition the packet belongs to
+     */
+    int partitionOf(PacketHeaderView header) {
+        if (!header.isComplete()) {
+            return 0;
+        }
+        return partition(header.sessionUID(), partitions.length);
+    }
+
+    /**
+     * Spreads a session id over the partitions, mixing its bits so that non-random ids (e.g. from replays) do not cluster.
+     */
+    static int partition(long sessionUID, int partitions) {
+        long mixed = sessionUID * 0x9E3779B97F4A7C15L;
+        return Math.floorMod((int) (mixed ^ (mixed >>> 32)), partitions);
+    }
+
+    /**
+     * Lets every partition finish its queued packets, waiting at most the given time in total.
+     */
+    void shutdown(long timeout, TimeUnit unit) {
+        running = false;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        try {
+            for (Partition partition : partitions) {
+                long remaining = deadline - System.nanoTime();
+                if (partition.thread != null && remaining > 0 && !partition.thread.join(Duration.ofNanos(remaining))) {
+                    log.warn("Telemetry partition {} did not finish its queued packets in time", partition.index);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Partition partition : partitions) {
+            if (partition.thread != null && partition.thread.isAlive()) {
+                partition.thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * A partition's queue, wait strategy and thread.
+     */
+    private final class Partition {
+
+        private final int index;
+        private final String sourceName;
+        private final PacketBuffer queue;
+        private final WaitStrategy waitStrategy;
+        private final BooleanSupplier packetsQueued;
+        private final Consumer<ByteBuffer> packetProcessor = this::process;
+        private Thread thread;
+
+        private Partition(int index, String sourceName, int queueCapacity, WaitStrategy waitStrategy,
+                          MeterRegistry meterRegistry) {
+            this.index = index;
+            this.sourceName = sourceName;
+            this.queue = new DirectPacketArena(queueCapacity, OverflowPolicy.REJECT_NEWEST);
+            this.waitStrategy = waitStrategy;
+            this.packetsQueued = () -> !queue.isEmpty();
+
+            Gauge.builder("telemetry.processing.partition.queue", queue, PacketBuffer::size)
+                .description("Number of packets waiting for a partition's thread")
+                .tag("source", sourceName)
+                .tag("partition", String.valueOf(index))
+                .register(meterRegistry);
+        }
+
+        private void run() {
+            log.debug("Telemetry partition {} started", index);
+
+            while (running || !queue.isEmpty()) {
+                try {
+                    if (queue.drainTo(packetProcessor, batchSize) > 0) {
+                        completeBatch();
+                    } else {
+                        waitStrategy.waitFor(packetsQueued, pollTimeoutNanos);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+
+            log.debug("Telemetry partition {} stopped", index);
+        }
+
+        private void process(ByteBuffer packet) {
+            PacketType type = PacketType.fromId(HeaderParsingService.peekPacketId(packet));
+            for (TelemetryPacketStage stage : stagesByType[type != null ? type.ordinal() : stagesByType.length - 1]) {
+                try {
+                    // Each stage reads the view from the start, whatever the previous stage did with its position
+                    packet.rewind();
+                    stage.onPacket(packet);
+                } catch (Exception e) {
+                    // Don't rethrow - the partition keeps handling the following packets
+                    log.error("Telemetry stage {} failed to process packet in partition {}", stage.getClass().getSimpleName(), index, e);
+                }
+            }
+        }
+
+        private void completeBatch() {
+            for (TelemetryPacketStage stage : stages) {
+                try {
+                    stage.onBatchEnd();
+                } catch (Exception e) {
+                    log.error("Telemetry stage {} failed to complete batch in partition {}", stage.getClass().getSimpleName(), index, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.edoofra.f1_telemetry_analyzer.service.processing;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+
+import java.nio.ByteBuffer;
+import java.util.Set;
+
+/**
+ * A downstream stage of the telemetry processing pipeline.
+ * Spring beans implementing this interface receive the packets drained from the buffer
+ * by {@link TelemetryProcessingService}: every packet, or only those of the types returned by {@link #packetTypes()}.
+ * <p>
+ * Packets arrive in batches: {@link #onPacket(ByteBuffer)} is called for each packet of a batch,
+ * then {@link #onBatchEnd()} once the batch is complete. Stages that do expensive per-call work
+ * (database writes, WebSocket pushes) should accumulate in {@code onPacket} and flush in {@code onBatchEnd}.
+ * In single-packet mode every packet is a batch of one.
+ * <p>
+ * Stages are shared by all processing threads and must be thread-safe.
+ */
+public interface TelemetryPacketStage {
+
+    /**
+     * Handles one raw packet.
+     * The view is read-only, little-endian and only valid until this method returns;
+     * copy anything that must outlive the call.
+     *
+     * @param packet the packet bytes, from position 0 to the view's limit
+     */
+    void onPacket(ByteBuffer packet);
+
+    /**
+     * The packet types this stage subscribes to.
+     * An empty set, the default, subscribes to every packet, including those without a known type.
+     *
+     * @return the subscribed packet types
+     */
+    default Set<PacketType> packetTypes() {
+        return Set.of();
+    }
+
+    /**
+     * Whether this stage may block its thread, on database writes or network sends for instance.
+     * In virtual execution mode only blocking stages run on a virtual thread of their own; the others are CPU-bound,
+     * like decoding, and run on the processing threads without a copy or queue hop per packet.
+     *
+     * @return true if the stage may block
+     */
+    default boolean blocking() {
+        return false;
+    }
+
+    /**
+     * Called after the last packet of a batch has been handed to {@link #onPacket(ByteBuffer)}.
+     */
+    default void onBatchEnd() {
+    }
+}
@@ -1,21 +1,48 @@
 package com.edoofra.f1_telemetry_analyzer.service.processing;
 
+import com.edoofra.f1_telemetry_analyzer.buffer.wait.WaitStrategy;
 import com.edoofra.f1_telemetry_analyzer.config.TelemetryProcessingConfig;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.PacketDispatchTable;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.PacketHandler;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.PacketHeaderView;
 import com.edoofra.f1_telemetry_analyzer.service.udp.TelemetryBufferManager;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 /**
  * Service responsible for continuously processing telemetry packets from the ring buffer.
  * Runs a background thread that polls the buffer and processes packets as they arrive.
+ * Each pass takes packets from every packet type's buffer, so a busy type cannot starve the others:
+ * one packet per type, or up to {@code batchSize} per type with a single buffer claim when batch processing
+ * is enabled. A {@link PacketDispatchTable} hands each packet to the {@link TelemetryPacketStage}s subscribed to
+ * its type, and the pass is completed as one batch.
+ * When the buffer is empty, threads wait on the configured {@link WaitStrategy} instead of sleeping
+ * for a fixed interval, so a packet is picked up as soon as the receiver signals it.
+ * <p>
+ * In {@link TelemetryProcessingConfig.ExecutionMode#VIRTUAL virtual} execution mode each
+ * {@link TelemetryPacketStage#blocking() blocking} stage runs on its own virtual thread through a
+ * {@link VirtualStageDispatcher}, so a stage blocked on I/O does not hold up draining or the other stages. The
+ * CPU-bound stages, decoding and columnar frames among them, still run on the platform threads.
+ * <p>
+ * In {@link TelemetryProcessingConfig.ExecutionMode#PARTITIONED partitioned} execution mode a single thread drains
+ * the buffers and a {@link PartitionedStageDispatcher} hands each packet to one of {@code threadCount} single-threaded
+ * partitions by its {@code sessionUID}, so stateful stages see the packets of a session in order.
  * <p>
  * This service provides the connection between the UDP ingestion layer and the
  * telemetry processing/session management layers.
@@ -27,8 +54,36 @@ public class TelemetryProcessingService {
 
     private final TelemetryBufferManager bufferManager;
     private final TelemetryProcessingConfig config;
+    private final ObjectProvider<TelemetryPacketStage> stageProvider;
+    private final WaitStrategy waitStrategy;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Checked by the wait strategy; kept as a field so that waiting does not allocate.
+     */
+    private final BooleanSupplier packetsAvailable = this::hasBufferedPackets;
+
+    private List<TelemetryPacketStage> stages = List.of();
+
+    /**
+     * The stages run on the processing threads: all of them, except the blocking ones in virtual execution mode.
+     */
+    private List<TelemetryPacketStage> inlineStages = List.of();
+
+    /**
+     * Subscribed stages per packet type, indexed by {@link PacketType#ordinal()};
+     * the extra last entry holds the stages that receive packets without a known type.
+     */
+    private TelemetryPacketStage[][] stagesByType = new TelemetryPacketStage[PacketType.values().length + 1][0];
+
+    /**
+     * Routes each packet by its packet id to the handler of the execution mode; ignores every packet until initialized.
+     */
+    private PacketDispatchTable dispatchTable = new PacketDispatchTable();
 
     private ExecutorService processingExecutor;
+    private VirtualStageDispatcher stageDispatcher;
+    private PartitionedStageDispatcher partitionDispatcher;
     private final AtomicBoolean running = new AtomicBoolean(false);
 
     @PostConstruct
@@ -38,15 +93,36 @@ public class TelemetryProcessingService {
             return;
         }
 
-        processingExecutor = Executors.newFixedThreadPool(config.getThreadCount(), r -> {
-            Thread t = new Thread(r, "telemetry-processor");
+        stages = stageProvider.orderedStream().toList();
+        stagesByType = subscribeStages(stages);
+        inlineStages = stages;
+        if (config.getExecutionMode() == TelemetryProcessingConfig.ExecutionMode.VIRTUAL) {
+            inlineStages = stages.stream().filter(stage -> !stage.blocking()).toList();
+            List<TelemetryPacketStage> blockingStages = stages.stream().filter(TelemetryPacketStage::blocking).toList();
+            if (!blockingStages.isEmpty()) {
+                stageDispatcher = new VirtualStageDispatcher(blockingStages, bufferManager.getSourceName(),
+                        config.getStageQueueCapacity(), config.getMaxWaitTimeMs(), meterRegistry);
+                stageDispatcher.start();
+            }
+            log.info("Running {} blocking stages on virtual threads", blockingStages.size());
+        } else if (config.getExecutionMode() == TelemetryProcessingConfig.ExecutionMode.PARTITIONED) {
+            partitionDispatcher = new PartitionedStageDispatcher(stages, stagesByType, bufferManager.getSourceName(),
+                    config.getThreadCount(), config.getStageQueueCapacity(),
+                    config.isBatchProcessing() ? config.getBatchSize() : 1, config.getWaitStrategy(),
+                    config.getMaxWaitTimeMs(), meterRegistry);
+            partitionDispatcher.start();
+        }
+        dispatchTable = dispatchTable();
+        processingExecutor = Executors.newFixedThreadPool(drainingThreadCount(), r -> {
+            Thread t = new Thread(r, "telemetry-processor-" + bufferManager.getSourceName());
             t.setDaemon(true);
             return t;
         });
 
         startProcessing();
-        log.info("TelemetryProcessingService initialized with {} threads, poll interval: {}ms",
-                config.getThreadCount(), config.getPollIntervalMs());
+        log.info("TelemetryProcessingService initialized with {} threads, execution mode: {}, wait strategy: {}, batch size: {}, stages: {}",
+                config.getThreadCount(), config.getExecutionMode(), waitStrategy.name(),
+                config.isBatchProcessing() ? config.getBatchSize() : 1, stages.size());
     }
 
     /**
@@ -59,12 +135,20 @@ public class TelemetryProcessingService {
 
         running.set(true);
 
-        for (int i = 0; i < config.getThreadCount(); i++) {
+        for (int i = 0; i < drainingThreadCount(); i++) {
             final int threadId = i;
             processingExecutor.submit(() -> processingLoop(threadId));
         }
 
-        log.info("Started {} telemetry processing threads", config.getThreadCount());
+        log.info("Started {} telemetry processing threads", drainingThreadCount());
+    }
+
+    /**
+     * @return the number of threads draining the buffers; a single one in partitioned mode, so that packets reach
+     *         their partition in buffer order
+     */
+    private int drainingThreadCount() {
+        return partitionDispatcher != null ? 1 : config.getThreadCount();
     }
 
     /**
@@ -81,15 +165,22 @@ public class TelemetryProcessingService {
     private void processingLoop(int threadId) {
         log.debug("Processing thread {} started", threadId);
 
+        // Created once per thread so that polling the buffer and reading headers does not allocate
+        PacketHeaderView header = new PacketHeaderView();
+        Consumer<ByteBuffer> packetProcessor = packet -> processPacket(packet, header, threadId);
+        long maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(config.getMaxWaitTimeMs());
+
         while (running.get()) {
             try {
-                byte[] packet = bufferManager.getNextTelemetryPacket();
+                // One pass takes up to a batch (or a single packet) from every packet type's buffer
+                int batchSize = config.isBatchProcessing() ? config.getBatchSize() : 1;
+                boolean processed = bufferManager.drainTo(packetProcessor, batchSize) > 0;
 
-                if (packet != null) {
-                    processPacket(packet, threadId);
+                if (processed) {
+                    completeBatch();
                 } else {
-                    // No packets available, sleep briefly to avoid busy waiting
-                    Thread.sleep(config.getPollIntervalMs());
+                    // No packets available, wait until the receiver signals one (bounded so the running flag is re-checked)
+                    waitStrategy.waitFor(packetsAvailable, maxWaitNanos);
                 }
 
             } catch (InterruptedException e) {
@@ -112,37 +203,117 @@ public class TelemetryProcessingService {
     }
 
     /**
-     * Processes a single telemetry packet.
-     * This is where the actual packet parsing and session management will happen.
-     * For now, it's a placeholder that demonstrates the processing pipeline.
+     * Processes a single telemetry packet by handing it to every registered {@link TelemetryPacketStage}.
+     * The packet is a read-only view that is only valid for the duration of this call.
      */
-    private void processPacket(byte[] packet, int threadId) {
-        log.trace("Thread {} processing packet of {} bytes", threadId, packet.length);
+    private void processPacket(ByteBuffer packet, PacketHeaderView header, int threadId) {
+        log.trace("Thread {} processing packet of {} bytes", threadId, packet.remaining());
 
         try {
-            // TODO: Add actual packet processing logic here
-            // Examples of what will go here:
-            // 1. Parse packet header to determine packet type
-            // 2. Route to appropriate parser (session data, lap data, car telemetry, etc.)
-            // 3. Update session state
-            // 4. Persist data if needed
-            // 5. Notify WebSocket listeners
-
-            // For now, just log that we processed it
+            // Decoding is a stage of its own (PacketDecodingStage), feeding the DecodedPacketStage beans
+
+            dispatchTable.dispatch(packet, header);
+
             if (log.isTraceEnabled()) {
                 log.trace("Successfully processed packet: first 4 bytes = [{}, {}, {}, {}]",
-                        packet.length > 0 ? packet[0] : 0,
-                        packet.length > 1 ? packet[1] : 0,
-                        packet.length > 2 ? packet[2] : 0,
-                        packet.length > 3 ? packet[3] : 0);
+                        packet.limit() > 0 ? packet.get(0) : 0,
+                        packet.limit() > 1 ? packet.get(1) : 0,
+                        packet.limit() > 2 ? packet.get(2) : 0,
+                        packet.limit() > 3 ? packet.get(3) : 0);
             }
 
+        } catch (InterruptedException e) {
+            // Interrupted while a stage queue was full, i.e. on shutdown; the loop sees the flag and stops
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             log.error("Failed to process telemetry packet", e);
             // Don't rethrow - we want to continue processing other packets
         }
     }
 
+    /**
+     * Registers a handler for every packet type with subscribed stages, and for packets without a known type.
+     * In partitioned mode every packet goes to its partition, which resolves the subscribed stages itself.
+     */
+    private PacketDispatchTable dispatchTable() {
+        PacketType[] types = PacketType.values();
+        PacketDispatchTable table = new PacketDispatchTable();
+        for (PacketType type : types) {
+            if (partitionDispatcher != null || stagesByType[type.ordinal()].length > 0) {
+                table.register(type, handlerFor(stagesByType[type.ordinal()]));
+            }
+        }
+        return table.registerUnknown(handlerFor(stagesByType[types.length]));
+    }
+
+    private PacketHandler handlerFor(TelemetryPacketStage[] subscribed) {
+        if (partitionDispatcher != null) {
+            return (header, packet) -> partitionDispatcher.dispatch(packet, header);
+        }
+        TelemetryPacketStage[] inline = Arrays.stream(subscribed)
+                .filter(inlineStages::contains)
+                .toArray(TelemetryPacketStage[]::new);
+        if (stageDispatcher != null) {
+            TelemetryPacketStage[] blocking = Arrays.stream(subscribed)
+                    .filter(stage -> !inlineStages.contains(stage))
+                    .toArray(TelemetryPacketStage[]::new);
+            return (header, packet) -> {
+                onPacket(inline, packet);
+                stageDispatcher.dispatch(packet, blocking);
+            };
+        }
+        return (header, packet) -> onPacket(inline, packet);
+    }
+
+    private static void onPacket(TelemetryPacketStage[] stages, ByteBuffer packet) {
+        for (TelemetryPacketStage stage : stages) {
+            // Each stage reads the view from the start, whatever the previous stage did with its position
+            packet.rewind();
+            stage.onPacket(packet);
+        }
+    }
+
+    /**
+     * Resolves each stage's subscription once, so that dispatching a packet is a single array lookup.
+     */
+    private static TelemetryPacketStage[][] subscribeStages(List<TelemetryPacketStage> stages) {
+        PacketType[] types = PacketType.values();
+        TelemetryPacketStage[][] byType = new TelemetryPacketStage[types.length + 1][];
+        for (PacketType type : types) {
+            byType[type.ordinal()] = stages.stream()
+                    .filter(stage -> stage.packetTypes().isEmpty() || stage.packetTypes().contains(type))
+                    .toArray(TelemetryPacketStage[]::new);
+        }
+        byType[types.length] = stages.stream()
+                .filter(stage -> stage.packetTypes().isEmpty())
+                .toArray(TelemetryPacketStage[]::new);
+        return byType;
+    }
+
+    private boolean hasBufferedPackets() {
+        return !bufferManager.isBufferEmpty();
+    }
+
+    /**
+     * Notifies every stage that the current batch is complete, so they can flush accumulated work.
+     */
+    private void completeBatch() throws InterruptedException {
+        if (partitionDispatcher != null) {
+            // Each partition completes its own batches
+            return;
+        }
+        if (stageDispatcher != null) {
+            stageDispatcher.completeBatch();
+        }
+        for (TelemetryPacketStage stage : inlineStages) {
+            try {
+                stage.onBatchEnd();
+            } catch (Exception e) {
+                log.error("Telemetry stage {} failed to complete batch", stage.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
     /**
      * Gets the current status of the processing service.
      */
@@ -152,6 +323,10 @@ public class TelemetryProcessingService {
                 running.get(),
                 config.getThreadCount(),
                 config.getPollIntervalMs(),
+                config.getExecutionMode().name(),
+                waitStrategy.name(),
+                config.isBatchProcessing(),
+                config.getBatchSize(),
                 bufferManager.getBufferStats().currentSize()
         );
     }
@@ -175,6 +350,13 @@ public class TelemetryProcessingService {
             Thread.currentThread().interrupt();
             processingExecutor.shutdownNow();
         }
+        
+        if (stageDispatcher != null) {
+            stageDispatcher.shutdown(5, TimeUnit.SECONDS);
+        }
+        if (partitionDispatcher != null) {
+            partitionDispatcher.shutdown(5, TimeUnit.SECONDS);
+        }
     }
 
     /**
@@ -185,6 +367,10 @@ public class TelemetryProcessingService {
             boolean running,
             int threadCount,
             int pollIntervalMs,
+            String executionMode,
+            String waitStrategy,
+            boolean batchProcessing,
+            int batchSize,
             int currentBufferSize
     ) {
     }
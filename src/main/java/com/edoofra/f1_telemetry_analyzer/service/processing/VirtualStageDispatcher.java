@@ -0,0 +1,181 @@
+package com.edoofra.f1_telemetry_analyzer.service.processing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs each {@link TelemetryPacketStage#blocking() blocking} {@link TelemetryPacketStage} on its own virtual thread,
+ * fed by a bounded queue.
+ * <p>
+ * Used by {@link TelemetryProcessingService} in virtual execution mode: the platform processing threads keep
+ * draining the buffers and running the CPU-bound stages, while stages that block on JDBC or WebSocket sends only
+ * park their own virtual thread.
+ * A stage therefore sees its packets, and the batch ends between them, in order and from a single thread.
+ * Packets are copied once before dispatch, because buffer views are only valid while the buffer is being drained.
+ * <p>
+ * When a stage stays slower than the packet rate its queue fills up and dispatching blocks, which leaves packets in
+ * the ring buffers where the overload policy decides what to shed.
+ */
+@Slf4j
+final class VirtualStageDispatcher {
+
+    /**
+     * Queued after the packets of a batch; compared by identity.
+     */
+    private static final byte[] BATCH_END = new byte[0];
+
+    private final Lane[] lanes;
+    private final Map<TelemetryPacketStage, Lane> lanesByStage = new IdentityHashMap<>();
+    private final long pollTimeoutNanos;
+    private volatile boolean running = true;
+
+    /**
+     * @param stages        the stages to run, each on its own virtual thread
+     * @param sourceName    the telemetry source, used in thread names and as the {@code source} metrics tag
+     * @param queueCapacity the number of packets each stage may have queued
+     * @param pollTimeoutMs how long an idle stage thread waits before re-checking whether it should stop
+     * @param meterRegistry registry the per-stage meters are registered with
+     */
+    VirtualStageDispatcher(List<TelemetryPacketStage> stages, String sourceName, int queueCapacity,
+                           long pollTimeoutMs, MeterRegistry meterRegistry) {
+        this.pollTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(pollTimeoutMs);
+        this.lanes = new Lane[stages.size()];
+        for (int i = 0; i < lanes.length; i++) {
+            TelemetryPacketStage stage = stages.get(i);
+            lanes[i] = new Lane(stage, queueCapacity, sourceName, meterRegistry);
+            lanesByStage.put(stage, lanes[i]);
+        }
+    }
+
+    /**
+     * Starts the virtual thread of every stage.
+     */
+    void start() {
+        for (Lane lane : lanes) {
+            lane.thread = Thread.ofVirtual()
+                    .name("telemetry-stage-" + lane.sourceName + "-" + lane.stageName)
+                    .start(lane::run);
+        }
+    }
+
+    /**
+     * Copies the packet and queues it for each of the given stages.
+     *
+     * @param packet the packet view, only valid for the duration of this call
+     * @param stages the stages subscribed to the packet's type
+     * @throws InterruptedException if the caller is interrupted while a stage's queue is full
+     */
+    void dispatch(ByteBuffer packet, TelemetryPacketStage[] stages) throws InterruptedException {
+        if (stages.length == 0) {
+            return;
+        }
+        byte[] copy = new byte[packet.limit()];
+        packet.get(0, copy);
+        for (TelemetryPacketStage stage : stages) {
+            lanesByStage.get(stage).queue.put(copy);
+        }
+    }
+
+    /**
+     * Queues a batch end for every stage, so that each one completes the batch after its packets.
+     *
+     * @throws InterruptedException if the caller is interrupted while a stage's queue is full
+     */
+    void completeBatch() throws InterruptedException {
+        for (Lane lane : lanes) {
+            lane.queue.put(BATCH_END);
+        }
+    }
+
+    /**
+     * Lets every stage finish its queued packets, waiting at most the given time in total.
+     */
+    void shutdown(long timeout, TimeUnit unit) {
+        running = false;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        try {
+            for (Lane lane : lanes) {
+                long remaining = deadline - System.nanoTime();
+                if (lane.thread != null && remaining > 0 && !lane.thread.join(Duration.ofNanos(remaining))) {
+                    log.warn("Telemetry stage {} did not finish its queued packets in time", lane.stageName);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Lane lane : lanes) {
+            if (lane.thread != null && lane.thread.isAlive()) {
+                lane.thread.interrupt();
+            }
+        }
+    }
+
+    /**
+     * A stage together with its queue and virtual thread.
+     */
+    private final class Lane {
+
+        private final TelemetryPacketStage stage;
+        private final String stageName;
+        private final String sourceName;
+        private final BlockingQueue<byte[]> queue;
+        private final Timer stageTimer;
+        private Thread thread;
+
+        private Lane(TelemetryPacketStage stage, int queueCapacity, String sourceName, MeterRegistry meterRegistry) {
+            this.stage = stage;
+            this.stageName = stage.getClass().getSimpleName();
+            this.sourceName = sourceName;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+            Gauge.builder("telemetry.processing.stage.queue", queue, BlockingQueue::size)
+                .description("Number of packets and batch ends waiting for a stage's virtual thread")
+                .tag("source", sourceName)
+                .tag("stage", stageName)
+                .register(meterRegistry);
+
+            this.stageTimer = Timer.builder("telemetry.processing.stage.time")
+                .description("Time a stage spent handling a packet on its virtual thread, including blocking I/O")
+                .tag("source", sourceName)
+                .tag("stage", stageName)
+                .register(meterRegistry);
+        }
+
+        private void run() {
+            log.debug("Virtual thread for stage {} started", stageName);
+
+            while (running || !queue.isEmpty()) {
+                try {
+                    byte[] packet = queue.poll(pollTimeoutNanos, TimeUnit.NANOSECONDS);
+                    if (packet == BATCH_END) {
+                        stage.onBatchEnd();
+                    } else if (packet != null) {
+                        long start = System.nanoTime();
+                        stage.onPacket(ByteBuffer.wrap(packet).asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN));
+                        stageTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (Exception e) {
+                    // Don't rethrow - the stage keeps receiving the following packets
+                    log.error("Telemetry stage {} failed to process packet", stageName, e);
+                }
+            }
+
+            log.debug("Virtual thread for stage {} stopped", stageName);
+        }
+    }
+}
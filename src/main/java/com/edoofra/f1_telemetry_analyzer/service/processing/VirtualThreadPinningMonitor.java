@@ -0,0 +1,95 @@
+package com.edoofra.f1_telemetry_analyzer.service.processing;
+
+import com.edoofra.f1_telemetry_analyzer.config.TelemetryProcessingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * Turns the JDK Flight Recorder events about virtual threads into Micrometer meters.
+ * <p>
+ * A virtual thread that blocks while holding a monitor or inside native code pins its carrier thread, so fewer
+ * carriers are left for the other stages. {@code telemetry.processing.virtual.pinned} counts these events,
+ * and {@code telemetry.processing.virtual.pinned.time} how long carriers stayed pinned; together with the stage
+ * timers they show whether the virtual execution mode beats the platform pool under mixed I/O.
+ * Only pinning longer than {@code f1.telemetry.processing.pinned-threshold-ms} is recorded.
+ * <p>
+ * Enabled with {@code f1.telemetry.processing.execution-mode=virtual}. The events are JVM-wide and not tagged per stage;
+ * the stack trace of each pinning event is logged at debug level.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "f1.telemetry.processing.execution-mode", havingValue = "virtual")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+
+    private final TelemetryProcessingConfig config;
+    private final Counter pinnedCounter;
+    private final Timer pinnedTimer;
+    private final Counter submitFailedCounter;
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(TelemetryProcessingConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+
+        this.pinnedCounter = Counter.builder("telemetry.processing.virtual.pinned")
+            .description("Number of times a virtual thread blocked while pinned to its carrier thread")
+            .register(meterRegistry);
+
+        this.pinnedTimer = Timer.builder("telemetry.processing.virtual.pinned.time")
+            .description("Time carrier threads stayed pinned by a blocked virtual thread")
+            .register(meterRegistry);
+
+        this.submitFailedCounter = Counter.builder("telemetry.processing.virtual.submit.failed")
+            .description("Number of virtual threads that could not be scheduled on a carrier thread")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Starts streaming the virtual thread events in the background.
+     */
+    @PostConstruct
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT)
+            .withThreshold(Duration.ofMillis(config.getPinnedThresholdMs()))
+            .withStackTrace();
+        recordingStream.enable(SUBMIT_FAILED_EVENT);
+        recordingStream.onEvent(PINNED_EVENT, this::recordPinned);
+        recordingStream.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailedCounter.increment());
+        recordingStream.startAsync();
+
+        log.info("Monitoring virtual thread pinning longer than {}ms", config.getPinnedThresholdMs());
+    }
+
+    private void recordPinned(RecordedEvent event) {
+        pinnedCounter.increment();
+        pinnedTimer.record(event.getDuration());
+        if (log.isDebugEnabled()) {
+            log.debug("Virtual thread {} pinned its carrier for {}ms at {}",
+                event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                event.getDuration().toMillis(),
+                event.getStackTrace() != null && !event.getStackTrace().getFrames().isEmpty()
+                    ? event.getStackTrace().getFrames().get(0).getMethod().getName() : "unknown");
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.edoofra.f1_telemetry_analyzer.service.session;
+
+/**
+ * A lap completed by one car, as detected by the {@link LapDetector}.
+ * Values the detector could not observe are null; the recorder keeps the stored value of those fields.
+ *
+ * @param sessionUID     the header's {@code sessionUID}
+ * @param carIndex       the index of the car in the per-car packets
+ * @param lapNumber      the number of the completed lap, from 1
+ * @param lapTimeMs      the lap time, in milliseconds
+ * @param sector1TimeMs  the sector 1 time, in milliseconds
+ * @param sector2TimeMs  the sector 2 time, in milliseconds
+ * @param sector3TimeMs  the sector 3 time, in milliseconds
+ * @param racePosition   the car's position when it crossed the line
+ * @param lapDistanceM   the distance covered in the lap, in metres
+ * @param totalDistanceM the distance covered in the session when the lap completed, in metres
+ * @param reconciled     true if the lap was corrected or filled in from a Session History packet
+ */
+public record CompletedLap(
+        long sessionUID,
+        int carIndex,
+        int lapNumber,
+        int lapTimeMs,
+        Integer sector1TimeMs,
+        Integer sector2TimeMs,
+        Integer sector3TimeMs,
+        Integer racePosition,
+        Integer lapDistanceM,
+        Integer totalDistanceM,
+        boolean reconciled
+) {}
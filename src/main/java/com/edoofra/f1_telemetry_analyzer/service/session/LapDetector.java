@@ -0,0 +1,139 @@
+package com.edoofra.f1_telemetry_analyzer.service.session;
+
+import com.edoofra.f1_telemetry_analyzer.model.packet.DecodedPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LapData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LapDataPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LapHistoryData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.SessionHistoryPacket;
+
+import java.util.function.Consumer;
+
+/**
+ * Detects the laps completed by every car of one session from its Lap Data packets, and reconciles them with the
+ * Session History packets.
+ * <p>
+ * A lap completes when a car's {@code currentLapNum} rolls over; the packet that rolls it over carries the
+ * {@code lastLapTimeInMS} and the position at the line, while the sector 1 and 2 times and the lap distance are
+ * those last seen during the lap. Each Lap Data packet updates a few primitive values per car, so detection is
+ * constant-time per car and never looks back at earlier packets. If the packets around a rollover are lost, the lap
+ * is still completed by the next packet, but its sector times may be missing; a lap number that goes back,
+ * as after a flashback, restarts the car's lap.
+ * <p>
+ * Session History packets hold the game's own record of every lap of one car. Each one is compared with the laps
+ * detected for the car, from the first lap it has not yet confirmed, and the laps that were missed or recorded
+ * with a different time or without sector times are emitted again with the game's values.
+ * <p>
+ * Not thread-safe: the owning {@link LiveSession} serializes the updates.
+ */
+final class LapDetector {
+
+    private static final int MAX_CARS = DecodedPacket.MAX_CARS;
+    private static final int MAX_LAPS = SessionHistoryPacket.MAX_LAPS;
+
+    private final long sessionUID;
+
+    private final int[] lapNum = new int[MAX_CARS];
+    private final int[] sector1TimeInMs = new int[MAX_CARS];
+    private final int[] sector2TimeInMs = new int[MAX_CARS];
+    private final float[] lapDistance = new float[MAX_CARS];
+
+    /**
+     * Lap time emitted per car and lap number, 0 if none; laps past {@link #MAX_LAPS} are not tracked.
+     */
+    private final int[][] emittedLapTimes = new int[MAX_CARS][MAX_LAPS + 1];
+
+    /**
+     * Whether the emitted lap had all its sector times, per car and lap number.
+     */
+    private final boolean[][] emittedSectors = new boolean[MAX_CARS][MAX_LAPS + 1];
+
+    /**
+     * Number of laps per car confirmed by Session History packets.
+     */
+    private final int[] reconciledLaps = new int[MAX_CARS];
+
+    LapDetector(long sessionUID) {
+        this.sessionUID = sessionUID;
+    }
+
+    void onLapData(LapDataPacket packet, Consumer<CompletedLap> sink) {
+        LapData[] cars = packet.getCars();
+        for (int car = 0; car < MAX_CARS; car++) {
+            LapData lap = cars[car];
+            int current = lap.getCurrentLapNum();
+            int previous = lapNum[car];
+            if (current > previous) {
+                if (previous > 0 && lap.getLastLapTimeInMs() > 0) {
+                    // The last lap time is that of the lap before the current one, even if a lap was skipped
+                    boolean consecutive = current == previous + 1;
+                    emit(car, current - 1, lap.getLastLapTimeInMs(),
+                            consecutive ? sector1TimeInMs[car] : 0,
+                            consecutive ? sector2TimeInMs[car] : 0,
+                            0, lap.getCarPosition(),
+                            consecutive ? Math.round(lapDistance[car]) : null,
+                            Math.round(lap.getTotalDistance()), false, sink);
+                }
+                startLap(car);
+            } else if (current < previous) {
+                startLap(car);
+                reconciledLaps[car] = Math.min(reconciledLaps[car], Math.max(current - 1, 0));
+            }
+            lapNum[car] = current;
+
+            if (lap.getSector1TimeInMs() > 0) {
+                sector1TimeInMs[car] = lap.getSector1TimeInMs();
+            }
+            if (lap.getSector2TimeInMs() > 0) {
+                sector2TimeInMs[car] = lap.getSector2TimeInMs();
+            }
+            lapDistance[car] = lap.getLapDistance();
+        }
+    }
+
+    void onSessionHistory(SessionHistoryPacket packet, Consumer<CompletedLap> sink) {
+        int car = packet.getCarIdx();
+        if (car < 0 || car >= MAX_CARS) {
+            return;
+        }
+        int laps = Math.min(packet.getNumLaps(), MAX_LAPS);
+        LapHistoryData[] history = packet.getLapHistory();
+        for (int lapNumber = reconciledLaps[car] + 1; lapNumber <= laps; lapNumber++) {
+            LapHistoryData lap = history[lapNumber - 1];
+            if (lap.getLapTimeInMs() <= 0) {
+                // The lap in progress
+                break;
+            }
+            if (emittedLapTimes[car][lapNumber] != lap.getLapTimeInMs() || !emittedSectors[car][lapNumber]) {
+                emit(car, lapNumber, lap.getLapTimeInMs(), lap.getSector1TimeInMs(), lap.getSector2TimeInMs(),
+                        lap.getSector3TimeInMs(), null, null, null, true, sink);
+            }
+            reconciledLaps[car] = lapNumber;
+        }
+    }
+
+    private void startLap(int car) {
+        sector1TimeInMs[car] = 0;
+        sector2TimeInMs[car] = 0;
+    }
+
+    /**
+     * Emits a lap; sector times of 0 are unknown, and sector 3 is derived from the others if 0.
+     */
+    private void emit(int car, int lapNumber, int lapTimeMs, int sector1, int sector2, int sector3,
+                      Integer racePosition, Integer lapDistanceM, Integer totalDistanceM, boolean reconciled,
+                      Consumer<CompletedLap> sink) {
+        if (sector3 == 0 && sector1 > 0 && sector2 > 0 && lapTimeMs > sector1 + sector2) {
+            sector3 = lapTimeMs - sector1 - sector2;
+        }
+        boolean sectors = sector1 > 0 && sector2 > 0 && sector3 > 0;
+        if (lapNumber <= MAX_LAPS) {
+            emittedLapTimes[car][lapNumber] = lapTimeMs;
+            emittedSectors[car][lapNumber] = sectors;
+        }
+        sink.accept(new CompletedLap(sessionUID, car, lapNumber, lapTimeMs,
+                sector1 > 0 ? sector1 : null,
+                sector2 > 0 ? sector2 : null,
+                sector3 > 0 ? sector3 : null,
+                racePosition, lapDistanceM, totalDistanceM, reconciled));
+    }
+}
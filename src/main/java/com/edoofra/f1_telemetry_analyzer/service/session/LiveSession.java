@@ -0,0 +1,232 @@
+package com.edoofra.f1_telemetry_analyzer.service.session;
+
+import com.edoofra.f1_telemetry_analyzer.model.packet.DecodedPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LapData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LapDataPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.ParticipantData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.ParticipantsPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.SessionHistoryPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.SessionPacket;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * In-memory state of one game session, identified by the header's {@code sessionUID}: the session details from the
+ * Session packet, the participants, and the current lap state of every car. Its {@link LapDetector} turns the
+ * Lap Data and Session History packets into completed laps.
+ * <p>
+ * The state is updated in place from each packet, into primitive per-car arrays, so an update allocates nothing;
+ * participant names are only decoded into strings when a {@link #snapshot() snapshot} needs them after they changed.
+ * Updates and snapshots synchronize on the session, so REST reads see the state of a whole packet.
+ */
+public final class LiveSession {
+
+    private static final int MAX_CARS = DecodedPacket.MAX_CARS;
+
+    private final long sessionUID;
+    private final long startedAtMillis;
+    private volatile long lastPacketMillis;
+    private long endedAtMillis = -1;
+    private boolean sessionReceived;
+
+    private int packetFormat;
+    private int gameSessionType;
+    private int trackId = -1;
+    private int weather = -1;
+    private int trackTemperature;
+    private int airTemperature;
+    private int totalLaps;
+    private int trackLength;
+
+    private int numActiveCars;
+    private final byte[][] nameBytes = new byte[MAX_CARS][ParticipantData.NAME_LENGTH];
+    private final int[] nameLengths = new int[MAX_CARS];
+
+    /**
+     * Names decoded from {@link #nameBytes}; null when not decoded since the name last changed.
+     */
+    private final String[] names = new String[MAX_CARS];
+    private final int[] driverIds = new int[MAX_CARS];
+    private final int[] teamIds = new int[MAX_CARS];
+    private final int[] raceNumbers = new int[MAX_CARS];
+    private final boolean[] aiControlled = new boolean[MAX_CARS];
+
+    private final int[] currentLapNum = new int[MAX_CARS];
+    private final int[] carPosition = new int[MAX_CARS];
+    private final int[] sector = new int[MAX_CARS];
+    private final float[] lapDistance = new float[MAX_CARS];
+    private final int[] currentLapTimeInMs = new int[MAX_CARS];
+    private final int[] lastLapTimeInMs = new int[MAX_CARS];
+    private final int[] pitStatus = new int[MAX_CARS];
+    private final int[] numPitStops = new int[MAX_CARS];
+    private final int[] resultStatus = new int[MAX_CARS];
+
+    private final LapDetector lapDetector;
+
+    LiveSession(long sessionUID, int packetFormat, long nowMillis) {
+        this.sessionUID = sessionUID;
+        this.lapDetector = new LapDetector(sessionUID);
+        this.packetFormat = packetFormat;
+        this.startedAtMillis = nowMillis;
+        this.lastPacketMillis = nowMillis;
+    }
+
+    public long sessionUID() {
+        return sessionUID;
+    }
+
+    /**
+     * @return the receive time of the latest packet, in epoch milliseconds
+     */
+    public long lastPacketMillis() {
+        return lastPacketMillis;
+    }
+
+    public synchronized boolean isActive() {
+        return endedAtMillis < 0;
+    }
+
+    /**
+     * @return the number of laps of the session, or 0 before its first Session packet
+     */
+    public synchronized int totalLaps() {
+        return totalLaps;
+    }
+
+    /**
+     * @return the track length, in metres, or 0 before the session's first Session packet
+     */
+    public synchronized int trackLength() {
+        return trackLength;
+    }
+
+    void touch(long nowMillis) {
+        lastPacketMillis = nowMillis;
+    }
+
+    /**
+     * Copies the session details of a Session packet.
+     *
+     * @return true if this is the first Session packet of the session
+     */
+    synchronized boolean updateSession(SessionPacket packet) {
+        boolean first = !sessionReceived;
+        sessionReceived = true;
+        packetFormat = packet.getPacketFormat();
+        gameSessionType = packet.getSessionType();
+        trackId = packet.getTrackId();
+        weather = packet.getWeather();
+        trackTemperature = packet.getTrackTemperature();
+        airTemperature = packet.getAirTemperature();
+        totalLaps = packet.getTotalLaps();
+        trackLength = packet.getTrackLength();
+        return first;
+    }
+
+    synchronized void updateParticipants(ParticipantsPacket packet) {
+        numActiveCars = Math.min(packet.getNumActiveCars(), MAX_CARS);
+        ParticipantData[] participants = packet.getParticipants();
+        for (int car = 0; car < numActiveCars; car++) {
+            ParticipantData participant = participants[car];
+            int length = participant.getNameLength();
+            if (length != nameLengths[car]
+                    || !Arrays.equals(participant.getNameBytes(), 0, length, nameBytes[car], 0, length)) {
+                System.arraycopy(participant.getNameBytes(), 0, nameBytes[car], 0, length);
+                nameLengths[car] = length;
+                names[car] = null;
+            }
+            driverIds[car] = participant.getDriverId();
+            teamIds[car] = participant.getTeamId();
+            raceNumbers[car] = participant.getRaceNumber();
+            aiControlled[car] = participant.getAiControlled() != 0;
+        }
+    }
+
+    /**
+     * Copies the lap state of every car and detects the laps completed since the previous packet.
+     *
+     * @param laps receives the completed laps
+     */
+    synchronized void updateLaps(LapDataPacket packet, Consumer<CompletedLap> laps) {
+        lapDetector.onLapData(packet, laps);
+        LapData[] cars = packet.getCars();
+        for (int car = 0; car < MAX_CARS; car++) {
+            LapData lap = cars[car];
+            currentLapNum[car] = lap.getCurrentLapNum();
+            carPosition[car] = lap.getCarPosition();
+            sector[car] = lap.getSector();
+            lapDistance[car] = lap.getLapDistance();
+            currentLapTimeInMs[car] = lap.getCurrentLapTimeInMs();
+            lastLapTimeInMs[car] = lap.getLastLapTimeInMs();
+            pitStatus[car] = lap.getPitStatus();
+            numPitStops[car] = lap.getNumPitStops();
+            resultStatus[car] = lap.getResultStatus();
+        }
+    }
+
+    /**
+     * Reconciles the laps detected for a car with its Session History.
+     *
+     * @param laps receives the laps that were missed or corrected
+     */
+    synchronized void updateHistory(SessionHistoryPacket packet, Consumer<CompletedLap> laps) {
+        lapDetector.onSessionHistory(packet, laps);
+    }
+
+    /**
+     * Marks the session as ended.
+     *
+     * @return true if the session was active
+     */
+    synchronized boolean end(long nowMillis) {
+        if (endedAtMillis >= 0) {
+            return false;
+        }
+        endedAtMillis = nowMillis;
+        return true;
+    }
+
+    /**
+     * Copies the current state. Allocates, so keep it off the per-packet path.
+     */
+    public synchronized LiveSessionSnapshot snapshot() {
+        List<LiveSessionSnapshot.Participant> participants = new ArrayList<>(numActiveCars);
+        for (int car = 0; car < numActiveCars; car++) {
+            if (names[car] == null) {
+                names[car] = new String(nameBytes[car], 0, nameLengths[car], StandardCharsets.UTF_8);
+            }
+            participants.add(new LiveSessionSnapshot.Participant(car, names[car], driverIds[car], teamIds[car],
+                    raceNumbers[car], aiControlled[car]));
+        }
+        List<LiveSessionSnapshot.CarLap> cars = new ArrayList<>();
+        for (int car = 0; car < MAX_CARS; car++) {
+            // Result status 0 marks an unused car slot
+            if (resultStatus[car] != 0) {
+                cars.add(new LiveSessionSnapshot.CarLap(car, currentLapNum[car], carPosition[car], sector[car],
+                        lapDistance[car], currentLapTimeInMs[car], lastLapTimeInMs[car], pitStatus[car],
+                        numPitStops[car], resultStatus[car]));
+            }
+        }
+        return new LiveSessionSnapshot(
+                Long.toUnsignedString(sessionUID),
+                packetFormat,
+                sessionReceived ? SessionLabels.sessionType(packetFormat, gameSessionType) : null,
+                gameSessionType,
+                SessionLabels.trackName(trackId),
+                SessionLabels.weather(weather),
+                trackTemperature,
+                airTemperature,
+                totalLaps,
+                trackLength,
+                Instant.ofEpochMilli(startedAtMillis),
+                endedAtMillis >= 0 ? Instant.ofEpochMilli(endedAtMillis) : null,
+                Instant.ofEpochMilli(lastPacketMillis),
+                List.copyOf(participants),
+                List.copyOf(cars));
+    }
+}
@@ -0,0 +1,188 @@
+package com.edoofra.f1_telemetry_analyzer.service.session;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.DecodedPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.EventPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LapDataPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.ParticipantsPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.SessionHistoryPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.SessionPacket;
+import com.edoofra.f1_telemetry_analyzer.service.processing.DecodedPacketStage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Registry of the live game sessions, keyed by the header's {@code sessionUID}.
+ * <p>
+ * Each Session, Participants, Lap Data, Session History and Event packet updates its session's {@link LiveSession}
+ * in place, and the laps it completes are recorded as {@code Lap} rows.
+ * A session is created by its first packet; its {@code Session} row is opened by the {@link SessionRecorder} once
+ * the first Session packet gives its track and type, and closed by the session ended event, or when no packet
+ * arrived for the idle timeout, as when the game quits mid-session. Sessions idle for the timeout are dropped
+ * from memory. REST reads take {@link LiveSessionSnapshot snapshots} of the in-memory state and never touch
+ * the database.
+ * <p>
+ * The latest session is cached, so the per-packet lookup neither allocates nor hashes while one session is live.
+ */
+@Slf4j
+@Component
+public class LiveSessionRegistry implements DecodedPacketStage {
+
+    private static final Set<PacketType> PACKET_TYPES = Set.of(PacketType.SESSION, PacketType.PARTICIPANTS,
+            PacketType.LAP_DATA, PacketType.SESSION_HISTORY, PacketType.EVENT);
+
+    private final SessionRecorder recorder;
+    private final long idleTimeoutMillis;
+    private final LongSupplier clock;
+    private final Consumer<CompletedLap> lapSink;
+
+    private final Map<Long, LiveSession> sessions = new ConcurrentHashMap<>();
+    private volatile LiveSession lastSession;
+
+    private ScheduledExecutorService sweepExecutor;
+
+    @Autowired
+    public LiveSessionRegistry(SessionRecorder recorder,
+                               @Value("${f1.telemetry.session.idle-timeout-seconds:300}") int idleTimeoutSeconds) {
+        this(recorder, idleTimeoutSeconds, System::currentTimeMillis);
+    }
+
+    LiveSessionRegistry(SessionRecorder recorder, int idleTimeoutSeconds, LongSupplier clock) {
+        this.recorder = recorder;
+        this.idleTimeoutMillis = TimeUnit.SECONDS.toMillis(idleTimeoutSeconds);
+        this.clock = clock;
+        this.lapSink = recorder::recordLap;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        sweepExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "live-session-sweeper");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1, idleTimeoutMillis / 10);
+        sweepExecutor.scheduleAtFixedRate(() -> sweep(clock.getAsLong()), period, period, TimeUnit.MILLISECONDS);
+        log.info("Live session registry initialized with idle timeout: {}s", TimeUnit.MILLISECONDS.toSeconds(idleTimeoutMillis));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sweepExecutor != null) {
+            sweepExecutor.shutdownNow();
+        }
+    }
+
+    @Override
+    public Set<PacketType> packetTypes() {
+        return PACKET_TYPES;
+    }
+
+    @Override
+    public void onPacket(DecodedPacket packet) {
+        long now = clock.getAsLong();
+        LiveSession session = session(packet, now);
+        switch (packet.packetType()) {
+            case SESSION -> {
+                if (session.updateSession((SessionPacket) packet)) {
+                    recorder.open(session.snapshot());
+                }
+            }
+            case PARTICIPANTS -> session.updateParticipants((ParticipantsPacket) packet);
+            case LAP_DATA -> session.updateLaps((LapDataPacket) packet, lapSink);
+            case SESSION_HISTORY -> session.updateHistory((SessionHistoryPacket) packet, lapSink);
+            case EVENT -> onEvent(session, (EventPacket) packet, now);
+            default -> {
+            }
+        }
+    }
+
+    private void onEvent(LiveSession session, EventPacket packet, long now) {
+        int code = packet.getEventCode();
+        if (code == EventPacket.SESSION_STARTED) {
+            log.info("Session {} started", Long.toUnsignedString(session.sessionUID()));
+        } else if (code == EventPacket.SESSION_ENDED && session.end(now)) {
+            log.info("Session {} ended", Long.toUnsignedString(session.sessionUID()));
+            recorder.close(session.snapshot());
+        }
+    }
+
+    /**
+     * Returns the packet's session, creating it for the first packet of a new {@code sessionUID}.
+     */
+    private LiveSession session(DecodedPacket packet, long now) {
+        long sessionUID = packet.getSessionUID();
+        LiveSession session = lastSession;
+        if (session == null || session.sessionUID() != sessionUID) {
+            session = sessions.computeIfAbsent(sessionUID, uid -> {
+                log.info("New session {} in format {}", Long.toUnsignedString(uid), packet.getPacketFormat());
+                return new LiveSession(uid, packet.getPacketFormat(), now);
+            });
+            lastSession = session;
+        }
+        session.touch(now);
+        return session;
+    }
+
+    /**
+     * Closes the sessions without a packet for the idle timeout, and drops them from memory.
+     *
+     * @param now the current time, in epoch milliseconds
+     */
+    void sweep(long now) {
+        for (LiveSession session : sessions.values()) {
+            long lastPacket = session.lastPacketMillis();
+            if (now - lastPacket < idleTimeoutMillis) {
+                continue;
+            }
+            if (session.end(lastPacket)) {
+                log.info("Session {} timed out", Long.toUnsignedString(session.sessionUID()));
+                recorder.close(session.snapshot());
+            }
+            sessions.remove(session.sessionUID(), session);
+            if (lastSession == session) {
+                lastSession = null;
+            }
+        }
+    }
+
+    /**
+     * @return the live session, or null if no packet of the session was received or it was dropped after idling
+     */
+    public LiveSession find(long sessionUID) {
+        return sessions.get(sessionUID);
+    }
+
+    /**
+     * @return a snapshot of the session, if it is held in memory
+     */
+    public Optional<LiveSessionSnapshot> snapshot(long sessionUID) {
+        return Optional.ofNullable(sessions.get(sessionUID)).map(LiveSession::snapshot);
+    }
+
+    /**
+     * @return snapshots of the sessions held in memory, most recently started first
+     */
+    public List<LiveSessionSnapshot> snapshots() {
+        return sessions.values().stream()
+                .map(LiveSession::snapshot)
+                .sorted(Comparator.comparing(LiveSessionSnapshot::startedAt).reversed())
+                .toList();
+    }
+}
@@ -0,0 +1,75 @@
+package com.edoofra.f1_telemetry_analyzer.service.session;
+
+import com.edoofra.f1_telemetry_analyzer.persistence.domain.enums.SessionTypeEnum;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable copy of a {@link LiveSession}, taken for REST reads and persistence off the processing threads.
+ *
+ * @param sessionUID      the header's {@code sessionUID}, as an unsigned decimal string
+ * @param packetFormat    the game format of the session's packets
+ * @param type            the session type, null until the Session packet is received or for unmapped sessions
+ * @param gameSessionType the Session packet's raw {@code sessionType}
+ * @param trackName       the track, null until the Session packet is received
+ * @param weather         the current weather, null until the Session packet is received
+ * @param startedAt       when the first packet of the session was received
+ * @param endedAt         when the session ended or timed out, null while it is active
+ * @param lastPacketAt    when the latest packet of the session was received
+ * @param participants    the active participants, by car index
+ * @param cars            the lap state of the cars with Lap Data, by car index
+ */
+public record LiveSessionSnapshot(
+        String sessionUID,
+        int packetFormat,
+        SessionTypeEnum type,
+        int gameSessionType,
+        String trackName,
+        String weather,
+        int trackTemperature,
+        int airTemperature,
+        int totalLaps,
+        int trackLength,
+        Instant startedAt,
+        Instant endedAt,
+        Instant lastPacketAt,
+        List<Participant> participants,
+        List<CarLap> cars
+) {
+
+    /**
+     * @return true until the session ends or times out
+     */
+    public boolean active() {
+        return endedAt == null;
+    }
+
+    /**
+     * A participant of the session, from the latest Participants packet.
+     */
+    public record Participant(
+            int carIndex,
+            String name,
+            int driverId,
+            int teamId,
+            int raceNumber,
+            boolean aiControlled
+    ) {}
+
+    /**
+     * The lap state of one car, from the latest Lap Data packet.
+     */
+    public record CarLap(
+            int carIndex,
+            int currentLapNum,
+            int carPosition,
+            int sector,
+            float lapDistance,
+            int currentLapTimeInMs,
+            int lastLapTimeInMs,
+            int pitStatus,
+            int numPitStops,
+            int resultStatus
+    ) {}
+}
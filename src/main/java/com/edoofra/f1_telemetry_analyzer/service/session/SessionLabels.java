@@ -0,0 +1,63 @@
+package com.edoofra.f1_telemetry_analyzer.service.session;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.persistence.domain.enums.SessionTypeEnum;
+
+/**
+ * Maps the numeric session fields of the Session packet to the labels stored in {@code Session} rows.
+ * The lookups read constant tables and never allocate.
+ */
+public final class SessionLabels {
+
+    private static final String[] TRACKS = {
+            "Melbourne", "Paul Ricard", "Shanghai", "Sakhir", "Catalunya", "Monaco", "Montreal", "Silverstone",
+            "Hockenheim", "Hungaroring", "Spa", "Monza", "Singapore", "Suzuka", "Abu Dhabi", "Texas", "Brazil",
+            "Austria", "Sochi", "Mexico", "Baku", "Sakhir Short", "Silverstone Short", "Texas Short", "Suzuka Short",
+            "Hanoi", "Zandvoort", "Imola", "Portimao", "Jeddah", "Miami", "Las Vegas", "Losail"
+    };
+
+    private static final String[] WEATHER = {
+            "CLEAR", "LIGHT_CLOUD", "OVERCAST", "LIGHT_RAIN", "HEAVY_RAIN", "STORM"
+    };
+
+    private SessionLabels() {
+    }
+
+    /**
+     * @param trackId the Session packet's {@code trackId}
+     * @return the track name, or null if the track is unknown
+     */
+    public static String trackName(int trackId) {
+        return trackId >= 0 && trackId < TRACKS.length ? TRACKS[trackId] : null;
+    }
+
+    /**
+     * @param weather the Session packet's {@code weather}
+     * @return the weather label, or null if the value is unknown
+     */
+    public static String weather(int weather) {
+        return weather >= 0 && weather < WEATHER.length ? WEATHER[weather] : null;
+    }
+
+    /**
+     * Maps the game's session type to the stored one. F1 24 inserted the sprint shootout sessions before the races,
+     * so the races and time trial moved to higher values.
+     *
+     * @param packetFormat the header's {@code packetFormat}
+     * @param sessionType  the Session packet's {@code sessionType}
+     * @return the session type, or null for unknown sessions and time trial
+     */
+    public static SessionTypeEnum sessionType(int packetFormat, int sessionType) {
+        int firstRace = packetFormat == PacketFormat.F1_23.getValue() ? 10 : 15;
+        if (sessionType >= 1 && sessionType <= 4) {
+            return SessionTypeEnum.FREE_PRACTICE;
+        }
+        if (sessionType >= 5 && sessionType < firstRace) {
+            return SessionTypeEnum.QUALIFY;
+        }
+        if (sessionType >= firstRace && sessionType < firstRace + 3) {
+            return SessionTypeEnum.RACE;
+        }
+        return null;
+    }
+}
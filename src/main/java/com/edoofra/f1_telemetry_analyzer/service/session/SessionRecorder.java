@@ -0,0 +1,214 @@
+package com.edoofra.f1_telemetry_analyzer.service.session;
+
+import com.edoofra.f1_telemetry_analyzer.persistence.domain.Lap;
+import com.edoofra.f1_telemetry_analyzer.persistence.domain.LapStatistics;
+import com.edoofra.f1_telemetry_analyzer.persistence.domain.Session;
+import com.edoofra.f1_telemetry_analyzer.persistence.repository.LapRepository;
+import com.edoofra.f1_telemetry_analyzer.persistence.repository.LapStatisticsRepository;
+import com.edoofra.f1_telemetry_analyzer.persistence.repository.SessionRepository;
+import com.edoofra.f1_telemetry_analyzer.service.analytics.LapAggregates;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the {@link Session}, {@link Lap} and {@link LapStatistics} rows of live sessions on a single background
+ * thread, so the processing threads never wait on the database. Writes run in submission order, so a session is
+ * always opened before it is closed, and a lap corrected from the Session History is written after the lap it
+ * corrects.
+ * A failed write is logged and not retried: the live state in memory is unaffected.
+ */
+@Slf4j
+@Component
+public class SessionRecorder {
+
+    private final SessionRepository sessionRepository;
+    private final LapRepository lapRepository;
+    private final LapStatisticsRepository lapStatisticsRepository;
+    private final ExecutorService executor;
+
+    /**
+     * Row ids of the open sessions by game session id, so laps are recorded without looking up their session.
+     * Only accessed on the recorder thread.
+     */
+    private final Map<String, UUID> sessionIds = new HashMap<>();
+
+    public SessionRecorder(SessionRepository sessionRepository, LapRepository lapRepository,
+                           LapStatisticsRepository lapStatisticsRepository) {
+        this.sessionRepository = sessionRepository;
+        this.lapRepository = lapRepository;
+        this.lapStatisticsRepository = lapStatisticsRepository;
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "session-recorder");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Creates the session's row, or reopens it if the session was seen before.
+     */
+    public void open(LiveSessionSnapshot session) {
+        submit(() -> save(session), session.sessionUID());
+    }
+
+    /**
+     * Records the session's final details and closing time, creating the row if it was never opened.
+     */
+    public void close(LiveSessionSnapshot session) {
+        submit(() -> save(session), session.sessionUID());
+    }
+
+    /**
+     * Records a completed lap, replacing the stored lap of the same car and number. Fields the lap lacks keep
+     * their stored values; the session's row is created if it was not opened yet.
+     */
+    public void recordLap(CompletedLap lap) {
+        submit(() -> saveLap(lap), lap);
+    }
+
+    /**
+     * Records the aggregates of a completed lap next to the lap, replacing those stored for the same car and number.
+     */
+    public void recordLapAggregates(LapAggregates aggregates) {
+        submit(() -> saveLapStatistics(aggregates), aggregates);
+    }
+
+    private void submit(Runnable write, Object subject) {
+        try {
+            executor.execute(write);
+        } catch (RejectedExecutionException e) {
+            log.warn("Session recorder stopped, {} not recorded", subject);
+        }
+    }
+
+    private void save(LiveSessionSnapshot snapshot) {
+        try {
+            Session session = sessionRepository.findByGameSessionId(snapshot.sessionUID())
+                    .orElseGet(() -> Session.builder()
+                            .withGameSessionId(snapshot.sessionUID())
+                            .withCreatedAt(toLocalDateTime(snapshot.startedAt()))
+                            .build());
+            if (snapshot.type() != null) {
+                session.setType(snapshot.type());
+            }
+            if (snapshot.trackName() != null) {
+                session.setTrackName(snapshot.trackName());
+            }
+            if (snapshot.weather() != null) {
+                session.setWeather(snapshot.weather());
+            }
+            session.setClosedAt(snapshot.endedAt() != null ? toLocalDateTime(snapshot.endedAt()) : null);
+            Session saved = sessionRepository.save(session);
+            if (snapshot.active()) {
+                sessionIds.put(snapshot.sessionUID(), saved.getId());
+            } else {
+                sessionIds.remove(snapshot.sessionUID());
+            }
+            log.debug("Recorded session {}, active: {}", snapshot.sessionUID(), snapshot.active());
+        } catch (RuntimeException e) {
+            log.error("Failed to record session {}", snapshot.sessionUID(), e);
+        }
+    }
+
+    private void saveLap(CompletedLap completed) {
+        try {
+            UUID sessionId = sessionIds.computeIfAbsent(Long.toUnsignedString(completed.sessionUID()), this::sessionId);
+            Lap lap = lapRepository.findBySessionIdAndCarIndexAndLapNumber(sessionId, completed.carIndex(), completed.lapNumber())
+                    .orElseGet(() -> Lap.builder()
+                            .withSessionId(sessionId)
+                            .withCarIndex(completed.carIndex())
+                            .withLapNumber(completed.lapNumber())
+                            .build());
+            lap.setLapTimeMs(completed.lapTimeMs());
+            if (completed.sector1TimeMs() != null) {
+                lap.setSector1TimeMs(completed.sector1TimeMs());
+            }
+            if (completed.sector2TimeMs() != null) {
+                lap.setSector2TimeMs(completed.sector2TimeMs());
+            }
+            if (completed.sector3TimeMs() != null) {
+                lap.setSector3TimeMs(completed.sector3TimeMs());
+            }
+            if (completed.racePosition() != null) {
+                lap.setRacePosition(completed.racePosition());
+            }
+            if (completed.lapDistanceM() != null) {
+                lap.setLapDistanceM(completed.lapDistanceM());
+            }
+            if (completed.totalDistanceM() != null) {
+                lap.setTotalDistanceM(completed.totalDistanceM());
+            }
+            lapRepository.save(lap);
+            log.debug("Recorded {}", completed);
+        } catch (RuntimeException e) {
+            log.error("Failed to record {}", completed, e);
+        }
+    }
+
+    private void saveLapStatistics(LapAggregates aggregates) {
+        String lap = "statistics of lap " + aggregates.lapNumber() + " of car " + aggregates.carIndex();
+        try {
+            UUID sessionId = sessionIds.computeIfAbsent(Long.toUnsignedString(aggregates.sessionUID()), this::sessionId);
+            LapStatistics statistics = lapStatisticsRepository
+                    .findBySessionIdAndCarIndexAndLapNumber(sessionId, aggregates.carIndex(), aggregates.lapNumber())
+                    .orElseGet(() -> LapStatistics.builder()
+                            .withSessionId(sessionId)
+                            .withCarIndex(aggregates.carIndex())
+                            .withLapNumber(aggregates.lapNumber())
+                            .build());
+            statistics.setSamples(aggregates.samples());
+            statistics.setMinSpeedKph(aggregates.minSpeedKph());
+            statistics.setMaxSpeedKph(aggregates.maxSpeedKph());
+            statistics.setMeanSpeedKph(aggregates.meanSpeedKph());
+            statistics.setThrottleHistogramMs(aggregates.throttleHistogramMs());
+            statistics.setBrakeHistogramMs(aggregates.brakeHistogramMs());
+            statistics.setGearTimeMs(aggregates.gearTimeMs());
+            statistics.setMaxLateralG(aggregates.maxLateralG());
+            statistics.setMaxLongitudinalG(aggregates.maxLongitudinalG());
+            statistics.setMaxVerticalG(aggregates.maxVerticalG());
+            statistics.setTyreSurfaceMinC(aggregates.tyreSurfaceMinC());
+            statistics.setTyreSurfaceMaxC(aggregates.tyreSurfaceMaxC());
+            lapStatisticsRepository.save(statistics);
+            log.debug("Recorded {} in session {}", lap, Long.toUnsignedString(aggregates.sessionUID()));
+        } catch (RuntimeException e) {
+            log.error("Failed to record {} in session {}", lap, Long.toUnsignedString(aggregates.sessionUID()), e);
+        }
+    }
+
+    /**
+     * @return the row id of the session, creating a row if the session was not opened yet
+     */
+    private UUID sessionId(String gameSessionId) {
+        return sessionRepository.findByGameSessionId(gameSessionId)
+                .orElseGet(() -> sessionRepository.save(Session.builder().withGameSessionId(gameSessionId).build()))
+                .getId();
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("Session recorder did not finish pending writes");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.edoofra.f1_telemetry_analyzer.service.source;
+
+import com.edoofra.f1_telemetry_analyzer.service.processing.TelemetryProcessingService;
+import com.edoofra.f1_telemetry_analyzer.service.udp.TelemetryBufferManager;
+
+import java.net.InetAddress;
+
+/**
+ * One telemetry source (typically one console) with its own buffers and processing threads.
+ *
+ * @param name              the source name, used as the {@code source} metrics tag
+ * @param port              the UDP port the source sends to
+ * @param address           the address the source sends from, or null to accept any sender on the port
+ * @param bufferManager     the buffers of this source
+ * @param processingService the processing threads of this source
+ */
+public record TelemetrySource(String name,
+                              int port,
+                              InetAddress address,
+                              TelemetryBufferManager bufferManager,
+                              TelemetryProcessingService processingService) {
+
+    /**
+     * Picks the source for a datagram among the sources listening on one port:
+     * a source bound to the sender's address wins over the port's catch-all source.
+     *
+     * @param sources the sources on the port the datagram arrived on
+     * @param sender  the sender's address
+     * @return the matching source, or null if none accepts the sender
+     */
+    public static TelemetrySource select(TelemetrySource[] sources, InetAddress sender) {
+        TelemetrySource catchAll = null;
+        for (TelemetrySource source : sources) {
+            if (source.address == null) {
+                catchAll = source;
+            } else if (source.address.equals(sender)) {
+                return source;
+            }
+        }
+        return catchAll;
+    }
+
+    /**
+     * Same as {@link #select(TelemetrySource[], InetAddress)} for a sender given as a textual IP address,
+     * as reported by the Spring Integration adapter.
+     */
+    public static TelemetrySource select(TelemetrySource[] sources, String sender) {
+        TelemetrySource catchAll = null;
+        for (TelemetrySource source : sources) {
+            if (source.address == null) {
+                catchAll = source;
+            } else if (source.address.getHostAddress().equals(sender)) {
+                return source;
+            }
+        }
+        return catchAll;
+    }
+}
@@ -0,0 +1,179 @@
+package com.edoofra.f1_telemetry_analyzer.service.source;
+
+import com.edoofra.f1_telemetry_analyzer.buffer.wait.WaitStrategy;
+import com.edoofra.f1_telemetry_analyzer.config.TelemetryBufferConfig;
+import com.edoofra.f1_telemetry_analyzer.config.TelemetryProcessingConfig;
+import com.edoofra.f1_telemetry_analyzer.config.TelemetrySourcesConfig;
+import com.edoofra.f1_telemetry_analyzer.config.WaitStrategyConfig;
+import com.edoofra.f1_telemetry_analyzer.service.processing.TelemetryPacketStage;
+import com.edoofra.f1_telemetry_analyzer.service.processing.TelemetryProcessingService;
+import com.edoofra.f1_telemetry_analyzer.service.udp.TelemetryBufferManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Holds every telemetry source: the default one, backed by the application's
+ * {@link TelemetryBufferManager} and {@link TelemetryProcessingService} beans, and one per
+ * entry of {@code f1.telemetry.sources}.
+ * <p>
+ * Each additional source gets its own buffer manager, wait strategy and processing threads, so sources
+ * share nothing on the hot path: a noisy client fills only its own buffers, and adding a source adds
+ * threads rather than contention. Receivers use {@link #sourcesOnPort(int)} to dispatch datagrams.
+ */
+@Slf4j
+@Service
+public class TelemetrySourceRegistry {
+
+    public static final String DEFAULT_SOURCE = TelemetryBufferManager.DEFAULT_SOURCE;
+
+    private final TelemetrySourcesConfig sourcesConfig;
+    private final TelemetryBufferConfig bufferConfig;
+    private final TelemetryProcessingConfig processingConfig;
+    private final ObjectProvider<TelemetryPacketStage> stageProvider;
+    private final MeterRegistry meterRegistry;
+    private final TelemetryBufferManager defaultBufferManager;
+    private final TelemetryProcessingService defaultProcessingService;
+    private final int defaultPort;
+    private final String receiver;
+
+    private final List<TelemetrySource> sources = new ArrayList<>();
+
+    public TelemetrySourceRegistry(TelemetrySourcesConfig sourcesConfig,
+                                   TelemetryBufferConfig bufferConfig,
+                                   TelemetryProcessingConfig processingConfig,
+                                   ObjectProvider<TelemetryPacketStage> stageProvider,
+                                   MeterRegistry meterRegistry,
+                                   TelemetryBufferManager defaultBufferManager,
+                                   TelemetryProcessingService defaultProcessingService,
+                                   @Value("${f1.telemetry.udp.port:20777}") int defaultPort,
+                                   @Value("${f1.telemetry.udp.receiver:adapter}") String receiver) {
+        this.sourcesConfig = sourcesConfig;
+        this.bufferConfig = bufferConfig;
+        this.processingConfig = processingConfig;
+        this.stageProvider = stageProvider;
+        this.meterRegistry = meterRegistry;
+        this.defaultBufferManager = defaultBufferManager;
+        this.defaultProcessingService = defaultProcessingService;
+        this.defaultPort = defaultPort;
+        this.receiver = receiver;
+    }
+
+    /**
+     * Creates the buffers and processing threads of every configured source.
+     */
+    @PostConstruct
+    public void initialize() {
+        sources.add(new TelemetrySource(DEFAULT_SOURCE, defaultPort, null, defaultBufferManager, defaultProcessingService));
+
+        for (TelemetrySourcesConfig.Source settings : sourcesConfig.getSources()) {
+            TelemetrySource source = createSource(settings);
+            for (TelemetrySource existing : sources) {
+                if (existing.port() == source.port() && sameAddress(existing.address(), source.address())) {
+                    throw new IllegalStateException("Telemetry sources '" + existing.name() + "' and '"
+                            + source.name() + "' both accept the same senders on port " + source.port());
+                }
+            }
+            sources.add(source);
+            source.processingService().initialize();
+        }
+
+        log.info("Telemetry sources: {}", sources.stream()
+                .map(source -> source.name() + "@" + source.port() + (source.address() != null ? "/" + source.address().getHostAddress() : ""))
+                .toList());
+    }
+
+    /**
+     * @return every source, the default one first
+     */
+    public List<TelemetrySource> getSources() {
+        return List.copyOf(sources);
+    }
+
+    /**
+     * @return the distinct UDP ports sources listen on, the default port first
+     */
+    public Set<Integer> ports() {
+        Set<Integer> ports = new LinkedHashSet<>();
+        for (TelemetrySource source : sources) {
+            ports.add(source.port());
+        }
+        return ports;
+    }
+
+    /**
+     * @return the sources listening on the given port, for use with {@link TelemetrySource#select}
+     */
+    public TelemetrySource[] sourcesOnPort(int port) {
+        return sources.stream()
+                .filter(source -> source.port() == port)
+                .toArray(TelemetrySource[]::new);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (TelemetrySource source : sources) {
+            if (!DEFAULT_SOURCE.equals(source.name())) {
+                source.processingService().shutdown();
+            }
+        }
+    }
+
+    private TelemetrySource createSource(TelemetrySourcesConfig.Source settings) {
+        String name = settings.getName();
+        if (name == null || name.isBlank() || DEFAULT_SOURCE.equals(name)) {
+            throw new IllegalStateException("Every telemetry source needs a unique name other than '" + DEFAULT_SOURCE + "'");
+        }
+        int port = settings.getPort() != null ? settings.getPort() : defaultPort;
+        if (port != defaultPort && !"nio".equals(receiver)) {
+            // The Spring Integration adapter only listens on the default port
+            throw new IllegalStateException("Telemetry source '" + name + "' listens on port " + port
+                    + ", which requires f1.telemetry.udp.receiver=nio");
+        }
+        InetAddress address = resolve(settings.getAddress(), name);
+
+        // A wait strategy per source, so producers only ever wake their own source's consumers
+        WaitStrategy waitStrategy = WaitStrategy.create(processingConfig.getWaitStrategy());
+        WaitStrategyConfig.registerMetrics(waitStrategy, meterRegistry, name);
+
+        TelemetryBufferManager bufferManager = new TelemetryBufferManager(name, bufferConfig, waitStrategy, meterRegistry);
+        bufferManager.initialize();
+
+        TelemetryProcessingConfig sourceProcessingConfig = new TelemetryProcessingConfig();
+        BeanUtils.copyProperties(processingConfig, sourceProcessingConfig);
+        if (settings.getThreadCount() != null) {
+            sourceProcessingConfig.setThreadCount(settings.getThreadCount());
+        }
+        TelemetryProcessingService processingService =
+                new TelemetryProcessingService(bufferManager, sourceProcessingConfig, stageProvider, waitStrategy, meterRegistry);
+
+        return new TelemetrySource(name, port, address, bufferManager, processingService);
+    }
+
+    private static InetAddress resolve(String address, String sourceName) {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+        try {
+            return InetAddress.getByName(address);
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("Invalid address for telemetry source '" + sourceName + "': " + address, e);
+        }
+    }
+
+    private static boolean sameAddress(InetAddress a, InetAddress b) {
+        return a == null ? b == null : a.equals(b);
+    }
+}
@@ -0,0 +1,366 @@
+package com.edoofra.f1_telemetry_analyzer.service.udp;
+
+import com.edoofra.f1_telemetry_analyzer.model.DropReason;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ingestion statistics per packet route (one route per packet type, plus unclassified packets).
+ * <p>
+ * Counters are {@link LongAdder}s, so any number of receiving threads can record packets without
+ * contending on a shared cache line or losing increments. Per route it tracks:
+ * <ul>
+ *     <li>packets and bytes received, and drops by {@link DropReason}</li>
+ *     <li>inter-arrival times as a Micrometer histogram, and an RFC 3550 style jitter estimate</li>
+ *     <li>gaps in {@code frameIdentifier} for the types the game sends every frame</li>
+ *     <li>packets and bytes per second over the last {@link #sampleRates()} interval</li>
+ * </ul>
+ * Everything is also exposed as Micrometer meters tagged with the packet {@code type}.
+ */
+public class IngestionStatistics {
+
+    /**
+     * Packet types sent once per frame (at the rate configured in the game), whose frame identifiers should not skip.
+     */
+    private static final Set<PacketType> FRAME_RATE_TYPES = EnumSet.of(
+            PacketType.MOTION, PacketType.LAP_DATA, PacketType.CAR_TELEMETRY, PacketType.CAR_STATUS, PacketType.MOTION_EX);
+
+    /**
+     * Smoothing applied to the jitter estimate, as a right shift: each sample moves it by 1/16 of the difference (RFC 3550).
+     */
+    private static final int JITTER_GAIN_SHIFT = 4;
+
+    private static final DropReason[] DROP_REASONS = DropReason.values();
+
+    private final String[] routeNames;
+    private final boolean[] tracksFrames;
+
+    private final LongAdder[] packets;
+    private final LongAdder[] bytes;
+    private final LongAdder[] drops;
+    private final LongAdder[] frameGaps;
+    private final LongAdder[] missedFrames;
+
+    private final AtomicLongArray lastArrivalNanos;
+    private final AtomicLongArray lastInterArrivalNanos;
+    private final AtomicLongArray jitterNanos;
+    private final AtomicLongArray lastFrame;
+    private final AtomicLongArray frameStride;
+
+    private final Timer[] interArrivalTimers;
+
+    private volatile double[] packetsPerSecond;
+    private volatile double[] bytesPerSecond;
+    private long[] lastSampledPackets;
+    private long[] lastSampledBytes;
+    private long lastSampleNanos = System.nanoTime();
+
+    /**
+     * @param meterRegistry registry the per-route meters are registered with
+     * @param source        the telemetry source the packets come from, used as the {@code source} tag
+     * @param routeNames    the name of each route, used as the {@code type} tag
+     * @param routeTypes    the packet type of each route, or null for a route without a known type
+     */
+    public IngestionStatistics(MeterRegistry meterRegistry, String source, String[] routeNames, PacketType[] routeTypes) {
+        int routes = routeNames.length;
+        this.routeNames = routeNames.clone();
+        this.tracksFrames = new boolean[routes];
+        this.packets = newAdders(routes);
+        this.bytes = newAdders(routes);
+        this.drops = newAdders(routes * DROP_REASONS.length);
+        this.frameGaps = newAdders(routes);
+        this.missedFrames = newAdders(routes);
+        this.lastArrivalNanos = new AtomicLongArray(routes);
+        this.lastInterArrivalNanos = new AtomicLongArray(routes);
+        this.jitterNanos = new AtomicLongArray(routes);
+        this.lastFrame = new AtomicLongArray(routes);
+        this.frameStride = new AtomicLongArray(routes);
+        this.interArrivalTimers = new Timer[routes];
+        this.packetsPerSecond = new double[routes];
+        this.bytesPerSecond = new double[routes];
+        this.lastSampledPackets = new long[routes];
+        this.lastSampledBytes = new long[routes];
+
+        for (int route = 0; route < routes; route++) {
+            tracksFrames[route] = routeTypes[route] != null && FRAME_RATE_TYPES.contains(routeTypes[route]);
+            registerMeters(meterRegistry, source, route);
+        }
+        resetFrameTracking();
+    }
+
+    /**
+     * Records an arriving packet, whether or not it is buffered afterwards.
+     *
+     * @param route           the route the packet was assigned to
+     * @param length          the packet length in bytes
+     * @param frameIdentifier the packet's unsigned frame identifier, or -1 if unknown
+     * @param arrivalNanos    the {@link System#nanoTime()} of the arrival
+     */
+    public void recordArrival(int route, int length, long frameIdentifier, long arrivalNanos) {
+        packets[route].increment();
+        bytes[route].add(length);
+        recordInterArrival(route, arrivalNanos);
+        if (tracksFrames[route] && frameIdentifier >= 0) {
+            recordFrame(route, frameIdentifier);
+        }
+    }
+
+    /**
+     * Records a packet dropped on the given route.
+     */
+    public void recordDrop(int route, DropReason reason) {
+        drops[dropIndex(route, reason)].increment();
+    }
+
+    /**
+     * Recomputes packets and bytes per second for every route since the previous call.
+     * Called periodically by the buffer manager's statistics task.
+     */
+    public synchronized void sampleRates() {
+        long now = System.nanoTime();
+        double elapsedSeconds = (now - lastSampleNanos) / 1e9;
+        if (elapsedSeconds <= 0) {
+            return;
+        }
+        int routes = routeNames.length;
+        double[] packetRates = new double[routes];
+        double[] byteRates = new double[routes];
+        for (int route = 0; route < routes; route++) {
+            long packetCount = packets[route].sum();
+            long byteCount = bytes[route].sum();
+            packetRates[route] = Math.max(0, packetCount - lastSampledPackets[route]) / elapsedSeconds;
+            byteRates[route] = Math.max(0, byteCount - lastSampledBytes[route]) / elapsedSeconds;
+            lastSampledPackets[route] = packetCount;
+            lastSampledBytes[route] = byteCount;
+        }
+        packetsPerSecond = packetRates;
+        bytesPerSecond = byteRates;
+        lastSampleNanos = now;
+    }
+
+    /**
+     * Resets every counter, e.g. when the buffers are cleared.
+     */
+    public synchronized void reset() {
+        for (int route = 0; route < routeNames.length; route++) {
+            packets[route].reset();
+            bytes[route].reset();
+            frameGaps[route].reset();
+            missedFrames[route].reset();
+            lastArrivalNanos.set(route, 0);
+            lastInterArrivalNanos.set(route, 0);
+            jitterNanos.set(route, 0);
+            lastSampledPackets[route] = 0;
+            lastSampledBytes[route] = 0;
+        }
+        for (LongAdder drop : drops) {
+            drop.reset();
+        }
+        resetFrameTracking();
+        packetsPerSecond = new double[routeNames.length];
+        bytesPerSecond = new double[routeNames.length];
+        lastSampleNanos = System.nanoTime();
+    }
+
+    public long packets(int route) {
+        return packets[route].sum();
+    }
+
+    public long bytes(int route) {
+        return bytes[route].sum();
+    }
+
+    public long drops(int route, DropReason reason) {
+        return drops[dropIndex(route, reason)].sum();
+    }
+
+    public long totalPackets() {
+        return sum(packets);
+    }
+
+    public long totalDrops() {
+        return sum(drops);
+    }
+
+    /**
+     * @return the smoothed inter-arrival jitter of the route, in milliseconds
+     */
+    public double jitterMillis(int route) {
+        return jitterNanos.get(route) / 1e6;
+    }
+
+    /**
+     * @return the mean time between two packets of the route, in milliseconds
+     */
+    public double meanInterArrivalMillis(int route) {
+        return interArrivalTimers[route].mean(TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return the number of times the route's frame identifiers skipped ahead
+     */
+    public long frameGaps(int route) {
+        return frameGaps[route].sum();
+    }
+
+    /**
+     * @return the estimated number of packets lost in the route's frame gaps
+     */
+    public long missedFrames(int route) {
+        return missedFrames[route].sum();
+    }
+
+    public double packetsPerSecond(int route) {
+        return packetsPerSecond[route];
+    }
+
+    public double bytesPerSecond(int route) {
+        return bytesPerSecond[route];
+    }
+
+    public double totalPacketsPerSecond() {
+        return sum(packetsPerSecond);
+    }
+
+    public double totalBytesPerSecond() {
+        return sum(bytesPerSecond);
+    }
+
+    private void recordInterArrival(int route, long arrivalNanos) {
+        long previousArrival = lastArrivalNanos.getAndSet(route, arrivalNanos);
+        if (previousArrival == 0) {
+            return;
+        }
+        long interArrival = arrivalNanos - previousArrival;
+        interArrivalTimers[route].record(interArrival, TimeUnit.NANOSECONDS);
+
+        long previousInterArrival = lastInterArrivalNanos.getAndSet(route, interArrival);
+        if (previousInterArrival > 0) {
+            long difference = Math.abs(interArrival - previousInterArrival);
+            jitterNanos.accumulateAndGet(route, difference,
+                    (jitter, sample) -> jitter + ((sample - jitter) >> JITTER_GAIN_SHIFT));
+        }
+    }
+
+    /**
+     * Detects skipped frames. The game may send every n-th frame (e.g. 20Hz from a 60fps game),
+     * so the route's stride is learnt as the smallest forward step seen; a larger step is a gap.
+     * A backward step (a session restart or a flashback) simply restarts the tracking.
+     */
+    private void recordFrame(int route, long frameIdentifier) {
+        long previousFrame = lastFrame.getAndSet(route, frameIdentifier);
+        if (previousFrame < 0) {
+            return;
+        }
+        long step = frameIdentifier - previousFrame;
+        if (step <= 0) {
+            return;
+        }
+        long stride = frameStride.accumulateAndGet(route, step, Math::min);
+        if (step > stride) {
+            frameGaps[route].increment();
+            missedFrames[route].add(step / stride - 1);
+        }
+    }
+
+    private void resetFrameTracking() {
+        for (int route = 0; route < routeNames.length; route++) {
+            lastFrame.set(route, -1);
+            frameStride.set(route, Long.MAX_VALUE);
+        }
+    }
+
+    private void registerMeters(MeterRegistry meterRegistry, String source, int route) {
+        String type = routeNames[route];
+
+        FunctionCounter.builder("telemetry.ingest.packets", packets[route], LongAdder::sum)
+            .description("Packets received, per packet type")
+            .tag("source", source)
+            .tag("type", type)
+            .register(meterRegistry);
+
+        FunctionCounter.builder("telemetry.ingest.bytes", bytes[route], LongAdder::sum)
+            .description("Bytes received, per packet type")
+            .baseUnit("bytes")
+            .tag("source", source)
+            .tag("type", type)
+            .register(meterRegistry);
+
+        for (DropReason reason : DROP_REASONS) {
+            FunctionCounter.builder("telemetry.ingest.drops", drops[dropIndex(route, reason)], LongAdder::sum)
+                .description("Packets dropped, per packet type and reason")
+                .tag("source", source)
+                .tag("type", type)
+                .tag("reason", reason.name())
+                .register(meterRegistry);
+        }
+
+        interArrivalTimers[route] = Timer.builder("telemetry.ingest.interarrival")
+            .description("Time between two consecutive packets of the same type")
+            .tag("source", source)
+            .tag("type", type)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(Duration.ofMillis(1))
+            .maximumExpectedValue(Duration.ofSeconds(10))
+            .register(meterRegistry);
+
+        Gauge.builder("telemetry.ingest.jitter", jitterNanos, jitters -> jitters.get(route) / 1e9)
+            .description("Smoothed inter-arrival jitter, per packet type")
+            .baseUnit("seconds")
+            .tag("source", source)
+            .tag("type", type)
+            .register(meterRegistry);
+
+        if (tracksFrames[route]) {
+            FunctionCounter.builder("telemetry.ingest.frame.gaps", frameGaps[route], LongAdder::sum)
+                .description("Number of skips in frameIdentifier, per packet type")
+                .tag("source", source)
+                .tag("type", type)
+                .register(meterRegistry);
+
+            FunctionCounter.builder("telemetry.ingest.frames.missed", missedFrames[route], LongAdder::sum)
+                .description("Estimated packets lost in frameIdentifier skips, per packet type")
+                .tag("source", source)
+                .tag("type", type)
+                .register(meterRegistry);
+        }
+    }
+
+    private static int dropIndex(int route, DropReason reason) {
+        return route * DROP_REASONS.length + reason.ordinal();
+    }
+
+    private static LongAdder[] newAdders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static long sum(LongAdder[] adders) {
+        long total = 0;
+        for (LongAdder adder : adders) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    private static double sum(double[] values) {
+        double total = 0;
+        for (double value : values) {
+            total += value;
+        }
+        return total;
+    }
+}
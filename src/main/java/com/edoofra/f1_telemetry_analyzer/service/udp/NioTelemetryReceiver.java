@@ -0,0 +1,298 @@
+package com.edoofra.f1_telemetry_analyzer.service.udp;
+
+import com.edoofra.f1_telemetry_analyzer.service.source.TelemetrySource;
+import com.edoofra.f1_telemetry_analyzer.service.source.TelemetrySourceRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Receives UDP telemetry packets with plain NIO {@link DatagramChannel}s, one dedicated platform thread per port.
+ * <p>
+ * Unlike the Spring Integration adapter, there is no {@code Message} wrapper, no intermediate queue, and no per-packet
+ * allocation when the buffers are off-heap. Each channel is non-blocking and driven by a selector, and each wakeup
+ * receives datagrams until the socket has none left. Every datagram is received into one reusable direct buffer per
+ * port: its packet type and sender pick the telemetry buffer, and it is checked by the {@link PacketValidator} and the
+ * {@link PacketSequenceTracker} as in {@link UdpTelemetryHandler}, before a slot of that buffer is claimed and the
+ * datagram copied into it. The ingest timer measures the time from receive to buffering, copy included.
+ * <p>
+ * Every port configured for a {@link TelemetrySource} gets its own channel and thread, and each datagram goes to
+ * the buffers of the source matching the sender's address, so sources on different ports never share a thread.
+ * <p>
+ * Enabled with {@code f1.telemetry.udp.receiver=nio}. It records the same Micrometer meters as
+ * {@link UdpTelemetryHandler}, so ingest latency percentiles can be compared between the two receivers.
+ * The receiver threads run at maximum priority; pin them to cores at the OS level (e.g. taskset/isolcpus)
+ * for the most stable latency.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "f1.telemetry.udp.receiver", havingValue = "nio")
+public class NioTelemetryReceiver {
+
+    private static final long SELECT_TIMEOUT_MS = 100;
+
+    /**
+     * Size of the buffer datagrams are received into before being routed.
+     * Larger than any F1 packet; excess bytes of an oversized datagram are discarded by the channel.
+     */
+    private static final int RECEIVE_BUFFER_SIZE = 2048;
+
+    private final TelemetrySourceRegistry sourceRegistry;
+    private final PacketValidator packetValidator;
+    private final PacketSequenceTracker sequenceTracker;
+    private final int socketBufferSize;
+
+    private final Timer packetProcessingTimer;
+    private final Counter packetsReceivedCounter;
+    private final Counter packetsProcessedCounter;
+    private final Counter packetsErrorCounter;
+    private final Counter packetsUnmatchedCounter;
+
+    private final List<PortReceiver> receivers = new ArrayList<>();
+    private volatile boolean running;
+
+    public NioTelemetryReceiver(TelemetrySourceRegistry sourceRegistry,
+                                PacketValidator packetValidator,
+                                PacketSequenceTracker sequenceTracker,
+                                MeterRegistry meterRegistry,
+                                @Value("${f1.telemetry.udp.socket-buffer-size:8192}") int socketBufferSize) {
+        this.sourceRegistry = sourceRegistry;
+        this.packetValidator = packetValidator;
+        this.sequenceTracker = sequenceTracker;
+        this.socketBufferSize = socketBufferSize;
+
+        // Same meter names as UdpTelemetryHandler, so dashboards work for either receiver
+        this.packetProcessingTimer = Timer.builder("telemetry.packet.processing.time")
+            .description("Time taken to process each telemetry packet")
+            .register(meterRegistry);
+
+        this.packetsReceivedCounter = Counter.builder("telemetry.packets.received")
+            .description("Total number of telemetry packets received")
+            .register(meterRegistry);
+
+        this.packetsProcessedCounter = Counter.builder("telemetry.packets.processed")
+            .description("Total number of telemetry packets successfully processed")
+            .register(meterRegistry);
+
+        this.packetsErrorCounter = Counter.builder("telemetry.packets.errors")
+            .description("Total number of telemetry packet processing errors")
+            .register(meterRegistry);
+
+        this.packetsUnmatchedCounter = Counter.builder("telemetry.packets.unmatched")
+            .description("Total number of telemetry packets from senders no telemetry source accepts")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Binds a channel for every source port and starts their receiver threads.
+     * If a port cannot be bound, the receivers already started are stopped and every channel is closed.
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        running = true;
+        try {
+            for (int port : sourceRegistry.ports()) {
+                PortReceiver receiver = new PortReceiver(sourceRegistry.sourcesOnPort(port));
+                receivers.add(receiver);
+                receiver.start(port);
+            }
+        } catch (IOException | RuntimeException e) {
+            // The bean will not be destroyed after a failed start, so nothing else would release the ports
+            stop();
+            receivers.clear();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        for (PortReceiver receiver : receivers) {
+            receiver.stop();
+        }
+        log.info("NIO telemetry receiver stopped");
+    }
+
+    /**
+     * The channel, selector and thread receiving the datagrams sent to one port.
+     */
+    private final class PortReceiver {
+
+        private final TelemetrySource[] sources;
+
+        /**
+         * Direct buffer each datagram is received into, so its type and sender are known before it is buffered.
+         * Only used by this receiver's thread.
+         */
+        private final ByteBuffer datagram = ByteBuffer.allocateDirect(RECEIVE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+        /**
+         * Invoked by the selector for the ready channel; kept as a field so that selecting does not allocate.
+         */
+        private final Consumer<SelectionKey> readyHandler = key -> receiveReadyPackets();
+
+        private DatagramChannel channel;
+        private Selector selector;
+        private Thread receiverThread;
+
+        private PortReceiver(TelemetrySource[] sources) {
+            this.sources = sources;
+        }
+
+        private void start(int port) throws IOException {
+            channel = DatagramChannel.open();
+            channel.setOption(StandardSocketOptions.SO_RCVBUF, socketBufferSize);
+            channel.bind(new InetSocketAddress(port));
+            channel.configureBlocking(false);
+
+            selector = Selector.open();
+            channel.register(selector, SelectionKey.OP_READ);
+
+            receiverThread = new Thread(this::receiveLoop, "telemetry-udp-receiver-" + port);
+            receiverThread.setDaemon(true);
+            receiverThread.setPriority(Thread.MAX_PRIORITY);
+            receiverThread.start();
+
+            log.info("NIO telemetry receiver listening on {} for sources {}", channel.getLocalAddress(),
+                    Arrays.stream(sources).map(TelemetrySource::name).toList());
+        }
+
+        /**
+         * Waits for datagrams and receives each one into the telemetry buffers until stopped.
+         */
+        private void receiveLoop() {
+            log.debug("NIO receiver thread started");
+
+            while (running) {
+                try {
+                    selector.select(readyHandler, SELECT_TIMEOUT_MS);
+                } catch (ClosedSelectorException e) {
+                    break;
+                } catch (IOException e) {
+                    if (running) {
+                        log.error("Error waiting for telemetry packets", e);
+                    }
+                }
+            }
+
+            log.debug("NIO receiver thread stopped");
+        }
+
+        /**
+         * Receives every datagram queued on the ready channel, so one selector wakeup drains a burst of packets
+         * instead of paying a select call per datagram.
+         */
+        private void receiveReadyPackets() {
+            while (running && receivePacket()) {
+                // Keep receiving until the socket has no datagram left
+            }
+        }
+
+        /**
+         * Receives one datagram, routes it to its source and records the same metrics as the adapter-based handler.
+         *
+         * @return true if a datagram was received, false if none was queued or receiving failed
+         */
+        private boolean receivePacket() {
+            long start = System.nanoTime();
+            SocketAddress sender;
+            try {
+                datagram.clear();
+                sender = channel.receive(datagram);
+            } catch (Exception e) {
+                packetsErrorCounter.increment();
+                log.error("Error receiving telemetry packet: {}", e.getMessage(), e);
+                return false;
+            }
+            if (sender == null) {
+                return false;
+            }
+
+            try {
+                if (datagram.position() == 0) {
+                    return true;
+                }
+                datagram.flip();
+                packetsReceivedCounter.increment();
+                if (!packetValidator.accept(datagram)) {
+                    return true;
+                }
+
+                TelemetrySource source = TelemetrySource.select(sources, ((InetSocketAddress) sender).getAddress());
+                if (source == null) {
+                    packetsUnmatchedCounter.increment();
+                    log.debug("Packet from {} discarded - no telemetry source accepts the sender", sender);
+                    return true;
+                }
+                if (!sequenceTracker.accept(source.name(), datagram)) {
+                    return true;
+                }
+
+                if (source.bufferManager().addTelemetryDatagram(datagram)) {
+                    packetsProcessedCounter.increment();
+                    log.trace("Received {} byte packet into buffer of source {}", datagram.remaining(), source.name());
+                } else {
+                    packetsErrorCounter.increment();
+                    // Debug only: under overload the buffer manager drops packets by design and counts them per reason
+                    log.debug("Packet not buffered - dropped by the buffer of source {}", source.name());
+                }
+
+            } catch (Exception e) {
+                packetsErrorCounter.increment();
+                log.error("Error receiving telemetry packet: {}", e.getMessage(), e);
+            } finally {
+                packetProcessingTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            return true;
+        }
+
+        private void stop() {
+            if (selector != null) {
+                selector.wakeup();
+            }
+            try {
+                if (receiverThread != null) {
+                    receiverThread.join(TimeUnit.SECONDS.toMillis(1));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            closeQuietly();
+        }
+
+        private void closeQuietly() {
+            try {
+                if (selector != null) {
+                    selector.close();
+                }
+                if (channel != null) {
+                    channel.close();
+                }
+            } catch (IOException e) {
+                log.warn("Error closing NIO telemetry receiver", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.edoofra.f1_telemetry_analyzer.service.udp;
+
+import com.edoofra.f1_telemetry_analyzer.config.TelemetryBufferConfig;
+import com.edoofra.f1_telemetry_analyzer.model.DropReason;
+import com.edoofra.f1_telemetry_analyzer.model.PacketPriority;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Decides whether a packet is admitted to its buffer, given how full the buffers are as a whole.
+ * <p>
+ * As the total fill level rises, LOW priority packets are first decimated, then shed entirely;
+ * once the fill level enters the reserved headroom, NORMAL priority packets are shed too,
+ * so the remaining space is left to HIGH priority packets, which this policy never drops.
+ */
+public class OverloadPolicy {
+
+    private final boolean enabled;
+    private final int decimateAbove;
+    private final int shedLowAbove;
+    private final int shedNormalAbove;
+    private final int decimationFactor;
+
+    /**
+     * Per-route counters of LOW priority packets seen while decimating.
+     */
+    private final AtomicLongArray decimationCounters;
+
+    /**
+     * @param config        the overload settings
+     * @param totalCapacity the total fill level the thresholds are relative to
+     * @param routes        the number of buffers packets are routed to
+     */
+    public OverloadPolicy(TelemetryBufferConfig.Overload config, int totalCapacity, int routes) {
+        this.enabled = config.isEnabled();
+        this.decimateAbove = (int) (totalCapacity * config.getDecimateThreshold());
+        this.shedLowAbove = (int) (totalCapacity * config.getShedThreshold());
+        this.shedNormalAbove = (int) (totalCapacity * (1.0 - config.getReservedHeadroom()));
+        this.decimationFactor = Math.max(1, config.getDecimationFactor());
+        this.decimationCounters = new AtomicLongArray(routes);
+    }
+
+    /**
+     * Returns whether the policy may drop packets of the given priority, so callers can skip measuring the fill level.
+     */
+    public boolean appliesTo(PacketPriority priority) {
+        return enabled && priority != PacketPriority.HIGH;
+    }
+
+    /**
+     * Decides whether a packet may be buffered.
+     *
+     * @param route     the buffer the packet is routed to
+     * @param priority  the priority of the packet's type
+     * @param fillLevel the number of packets currently buffered across all types
+     * @return null to admit the packet, or the reason it must be dropped
+     */
+    public DropReason admit(int route, PacketPriority priority, int fillLevel) {
+        if (!appliesTo(priority)) {
+            return null;
+        }
+        if (fillLevel >= shedNormalAbove) {
+            return DropReason.SHED;
+        }
+        if (priority == PacketPriority.LOW) {
+            if (fillLevel >= shedLowAbove) {
+                return DropReason.SHED;
+            }
+            if (fillLevel >= decimateAbove && decimationCounters.getAndIncrement(route) % decimationFactor != 0) {
+                return DropReason.DECIMATED;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,348 @@
+package com.edoofra.f1_telemetry_analyzer.service.udp;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.SequenceOutcome;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.HeaderParsingService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Detects lost, duplicated and reordered packets on the ingest path, from the {@code overallFrameIdentifier} of each
+ * session's packets, and discards the duplicates and the packets too late to be useful.
+ * <p>
+ * Sequences are kept per telemetry source and session: the same session reaching two sources, as when the game's
+ * UDP broadcast is picked up by both, is two streams of frames, and neither may count the other's packets as
+ * duplicates.
+ * <p>
+ * The game sends the tracked packet types once per frame, so the overall frame identifiers of a type follow each
+ * other; unlike the {@code frameIdentifier}, they keep counting up when a flashback rewinds the session. For every
+ * session and tracked type, the tracker keeps the latest overall frame identifier and a bitmap of the frames
+ * received in the reorder window behind it: classifying a packet is a subtraction and a bit test, and sliding the
+ * window is a shift. Frames that leave the window without being received are counted as lost, and a packet older
+ * than the window is discarded as late. A newer packet whose {@code frameIdentifier} went back is the first after
+ * a flashback: it is counted as rewound, and the window simply moves on. Reordered packets within the window are
+ * kept, in arrival order; the frame assembler joins them to their frame downstream.
+ * <p>
+ * Packets are counted per source, session and {@link SequenceOutcome} in the {@code telemetry.sequence.packets} counter,
+ * next to {@code telemetry.sequence.lost} and the {@code telemetry.sequence.loss.rate} gauge; the meters of a
+ * session are removed once it has been idle for the session idle timeout. Tracking never waits: a packet whose
+ * session is being tracked by another receiver thread is accepted without being tracked.
+ */
+@Slf4j
+@Component
+public class PacketSequenceTracker {
+
+    private static final SequenceOutcome[] OUTCOMES = SequenceOutcome.values();
+    private static final int LOST = OUTCOMES.length;
+    private static final int TYPES = PacketType.values().length;
+
+    private final MeterRegistry meterRegistry;
+    private final int window;
+    private final long windowMask;
+    private final long idleTimeoutNanos;
+    private final LongSupplier clock;
+
+    /**
+     * Index of each packet type's sequence within a session, by {@link PacketType#getId()}; -1 if not tracked.
+     */
+    private final int[] trackedIndex = new int[TYPES];
+    private final int trackedCount;
+
+    private final Map<SessionKey, SessionSequence> sessions = new ConcurrentHashMap<>();
+    private volatile SessionSequence lastSession;
+
+    @Autowired
+    public PacketSequenceTracker(MeterRegistry meterRegistry,
+                                 @Value("${f1.telemetry.udp.sequence.window:16}") int window,
+                                 @Value("${f1.telemetry.udp.sequence.tracked-types:MOTION,LAP_DATA,CAR_TELEMETRY,CAR_STATUS}")
+                                 List<PacketType> trackedTypes,
+                                 @Value("${f1.telemetry.session.idle-timeout-seconds:300}") int idleTimeoutSeconds) {
+        this(meterRegistry, window, trackedTypes, idleTimeoutSeconds, System::nanoTime);
+    }
+
+    PacketSequenceTracker(MeterRegistry meterRegistry, int window, List<PacketType> trackedTypes, int idleTimeoutSeconds,
+                          LongSupplier clock) {
+        if (window < 1 || window > Long.SIZE) {
+            throw new IllegalArgumentException("Sequence window must be between 1 and " + Long.SIZE + " frames: " + window);
+        }
+        this.meterRegistry = meterRegistry;
+        this.window = window;
+        this.windowMask = window == Long.SIZE ? -1L : (1L << window) - 1;
+        this.idleTimeoutNanos = TimeUnit.SECONDS.toNanos(idleTimeoutSeconds);
+        this.clock = clock;
+        Arrays.fill(trackedIndex, -1);
+        int count = 0;
+        for (PacketType type : trackedTypes) {
+            if (trackedIndex[type.getId()] < 0) {
+                trackedIndex[type.getId()] = count++;
+            }
+        }
+        this.trackedCount = count;
+
+        log.info("Packet sequence tracker initialized with window: {} frames, tracked types: {}", window, trackedTypes);
+    }
+
+    /**
+     * Tracks a validated datagram.
+     *
+     * @param source the telemetry source the datagram was routed to
+     * @param packet the raw datagram
+     * @return true if the datagram may be buffered
+     */
+    public boolean accept(String source, byte[] packet) {
+        return track(source, HeaderParsingService.peekSessionUID(packet), HeaderParsingService.peekPacketId(packet),
+                HeaderParsingService.peekFrameIdentifier(packet),
+                HeaderParsingService.peekOverallFrameIdentifier(packet)).accepted();
+    }
+
+    /**
+     * Tracks a validated datagram held in a little-endian buffer. The buffer's position is left unchanged.
+     *
+     * @param source the telemetry source the datagram was routed to
+     * @param packet the datagram bytes between the buffer's position and limit
+     * @return true if the datagram may be buffered
+     */
+    public boolean accept(String source, ByteBuffer packet) {
+        return track(source, HeaderParsingService.peekSessionUID(packet), HeaderParsingService.peekPacketId(packet),
+                HeaderParsingService.peekFrameIdentifier(packet),
+                HeaderParsingService.peekOverallFrameIdentifier(packet)).accepted();
+    }
+
+    /**
+     * Classifies a packet against the frames of its source and session received before it.
+     *
+     * @param source                 the telemetry source the packet was routed to
+     * @param sessionUID             the packet's session
+     * @param packetId               the packet's type id
+     * @param frameIdentifier        the packet's unsigned frame identifier
+     * @param overallFrameIdentifier the packet's unsigned overall frame identifier
+     * @return where the packet falls in its stream; {@link SequenceOutcome#IN_ORDER} for untracked types,
+     *         and for packets not tracked because another thread holds their session
+     */
+    public SequenceOutcome track(String source, long sessionUID, int packetId, long frameIdentifier,
+                                 long overallFrameIdentifier) {
+        int index = packetId >= 0 && packetId < TYPES ? trackedIndex[packetId] : -1;
+        if (index < 0 || frameIdentifier < 0 || overallFrameIdentifier < 0) {
+            return SequenceOutcome.IN_ORDER;
+        }
+        SessionSequence session = session(source, sessionUID);
+        if (!session.lock.tryLock()) {
+            return SequenceOutcome.IN_ORDER;
+        }
+        try {
+            session.lastPacketNanos = clock.getAsLong();
+            SequenceOutcome outcome = session.track(index, frameIdentifier, overallFrameIdentifier);
+            session.counts.incrementAndGet(outcome.ordinal());
+            if (!outcome.accepted()) {
+                log.trace("Discarded {} packet {} of frame {} in session {} of source {}", outcome, packetId,
+                        frameIdentifier, session.tag, source);
+            }
+            return outcome;
+        } finally {
+            session.lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of packets of a source's session with the outcome since tracking started, or 0 if it is not
+     *         tracked
+     */
+    public long count(String source, long sessionUID, SequenceOutcome outcome) {
+        SessionSequence session = sessions.get(new SessionKey(source, sessionUID));
+        return session != null ? session.counts.get(outcome.ordinal()) : 0;
+    }
+
+    /**
+     * @return the number of frames of a source's session's tracked types that were never received, or 0 if it is not
+     *         tracked
+     */
+    public long lost(String source, long sessionUID) {
+        SessionSequence session = sessions.get(new SessionKey(source, sessionUID));
+        return session != null ? session.counts.get(LOST) : 0;
+    }
+
+    private SessionSequence session(String source, long sessionUID) {
+        SessionSequence session = lastSession;
+        if (session != null && session.key.sessionUID() == sessionUID && session.key.source().equals(source)) {
+            return session;
+        }
+        SessionKey key = new SessionKey(source, sessionUID);
+        session = sessions.get(key);
+        if (session == null) {
+            SessionSequence created = new SessionSequence(key);
+            session = sessions.putIfAbsent(key, created);
+            if (session == null) {
+                session = created;
+                created.register();
+                expireIdleSessions(created);
+            }
+        }
+        lastSession = session;
+        return session;
+    }
+
+    /**
+     * Drops the sequences and meters of sessions without packets for the idle timeout.
+     * Only run when a session starts, so tracking a packet never scans the sessions.
+     */
+    private void expireIdleSessions(SessionSequence started) {
+        long now = clock.getAsLong();
+        for (SessionSequence session : sessions.values()) {
+            if (session != started && now - session.lastPacketNanos >= idleTimeoutNanos
+                    && sessions.remove(session.key, session)) {
+                session.meters.forEach(meterRegistry::remove);
+                log.debug("Stopped tracking the packet sequence of idle session {} of source {}", session.tag,
+                        session.key.source());
+            }
+        }
+    }
+
+    private record SessionKey(String source, long sessionUID) {
+    }
+
+    /**
+     * The latest frame identifiers and received-frames bitmap of each tracked type of one session of one source.
+     * Only accessed with the lock held, except for the counts.
+     */
+    private final class SessionSequence {
+
+        private final SessionKey key;
+        private final String tag;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        /**
+         * Latest overall frame identifier received per tracked type, or -1 before the first packet.
+         */
+        private final long[] latest = new long[trackedCount];
+
+        /**
+         * Frame identifier of the latest packet received per tracked type, which goes back after a flashback.
+         */
+        private final long[] latestFrame = new long[trackedCount];
+
+        /**
+         * Per tracked type, bit {@code i} is set when the frame {@code i} frames before the latest was received.
+         */
+        private final long[] received = new long[trackedCount];
+
+        /**
+         * Packets per {@link SequenceOutcome#ordinal()}, then lost frames.
+         */
+        private final AtomicLongArray counts = new AtomicLongArray(OUTCOMES.length + 1);
+
+        private final List<Meter> meters = new ArrayList<>(OUTCOMES.length + 2);
+        private volatile long lastPacketNanos;
+
+        private SessionSequence(SessionKey key) {
+            this.key = key;
+            this.tag = Long.toUnsignedString(key.sessionUID());
+            this.lastPacketNanos = clock.getAsLong();
+            Arrays.fill(latest, -1);
+        }
+
+        private SequenceOutcome track(int index, long frameIdentifier, long overallFrameIdentifier) {
+            long latestOverall = latest[index];
+            if (latestOverall < 0) {
+                restart(index, overallFrameIdentifier);
+                latestFrame[index] = frameIdentifier;
+                return SequenceOutcome.IN_ORDER;
+            }
+            long ahead = overallFrameIdentifier - latestOverall;
+            if (ahead > 0) {
+                advance(index, ahead);
+                latest[index] = overallFrameIdentifier;
+                boolean rewound = frameIdentifier < latestFrame[index];
+                latestFrame[index] = frameIdentifier;
+                if (rewound) {
+                    return SequenceOutcome.REWOUND;
+                }
+                return ahead == 1 ? SequenceOutcome.IN_ORDER : SequenceOutcome.GAP;
+            }
+            long behind = -ahead;
+            if (behind < window) {
+                long bit = 1L << behind;
+                if ((received[index] & bit) != 0) {
+                    return SequenceOutcome.DUPLICATE;
+                }
+                received[index] |= bit;
+                return SequenceOutcome.REORDERED;
+            }
+            return SequenceOutcome.LATE;
+        }
+
+        /**
+         * Slides the window of a type forward, counting the frames that leave it unreceived.
+         */
+        private void advance(int index, long frames) {
+            long bits = received[index];
+            if (frames >= window) {
+                lost(window - Long.bitCount(bits) + (frames - window));
+                received[index] = 1;
+            } else {
+                long leaving = windowMask & -(1L << (window - frames));
+                lost(frames - Long.bitCount(bits & leaving));
+                received[index] = ((bits << frames) | 1) & windowMask;
+            }
+        }
+
+        /**
+         * Starts a type's window at a frame. The frames before it were never expected: marking them received keeps
+         * them out of the lost frames, at the cost of counting them as duplicates should they arrive.
+         */
+        private void restart(int index, long overallFrameIdentifier) {
+            latest[index] = overallFrameIdentifier;
+            received[index] = windowMask;
+        }
+
+        private void lost(long frames) {
+            if (frames > 0) {
+                counts.addAndGet(LOST, frames);
+            }
+        }
+
+        private double lossRate() {
+            long lost = counts.get(LOST);
+            long expected = lost + counts.get(SequenceOutcome.IN_ORDER.ordinal()) + counts.get(SequenceOutcome.GAP.ordinal())
+                    + counts.get(SequenceOutcome.REORDERED.ordinal()) + counts.get(SequenceOutcome.REWOUND.ordinal());
+            return expected > 0 ? (double) lost / expected : 0;
+        }
+
+        private void register() {
+            for (SequenceOutcome outcome : OUTCOMES) {
+                meters.add(FunctionCounter.builder("telemetry.sequence.packets", counts, c -> c.get(outcome.ordinal()))
+                        .description("Number of tracked packets per source and session, by where they fell in the frame sequence")
+                        .tag("source", key.source())
+                        .tag("session", tag)
+                        .tag("outcome", outcome.name())
+                        .register(meterRegistry));
+            }
+            meters.add(FunctionCounter.builder("telemetry.sequence.lost", counts, c -> c.get(LOST))
+                    .description("Number of frames of tracked packet types never received, per source and session")
+                    .tag("source", key.source())
+                    .tag("session", tag)
+                    .register(meterRegistry));
+            meters.add(Gauge.builder("telemetry.sequence.loss.rate", this, SessionSequence::lossRate)
+                    .description("Share of the frames of tracked packet types never received, per source and session")
+                    .tag("source", key.source())
+                    .tag("session", tag)
+                    .register(meterRegistry));
+        }
+    }
+}
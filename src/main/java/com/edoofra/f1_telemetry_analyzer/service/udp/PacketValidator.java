@@ -0,0 +1,171 @@
+package com.edoofra.f1_telemetry_analyzer.service.udp;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.RejectReason;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.HeaderParsingService;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.PacketCodec;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.PacketDecoderRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Rejects malformed datagrams on the ingest path, before they take buffer capacity.
+ * <p>
+ * A datagram is accepted only if it holds a full header, its {@code packetFormat} is supported, and its size is
+ * exactly the header plus the body size the format's decoder defines for its {@code packetId} and
+ * {@code packetVersion}. The check reads four header fields and does two array lookups, without allocating.
+ * <p>
+ * Rejections are counted per {@link RejectReason} in the {@code telemetry.packets.rejected} counter, and sampled:
+ * at most one rejected datagram per reason and interval is logged, with its header fields and leading bytes.
+ */
+@Slf4j
+@Component
+public class PacketValidator {
+
+    private static final RejectReason[] REASONS = RejectReason.values();
+    private static final int SAMPLE_BYTES = HeaderParsingService.HEADER_SIZE;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final PacketDecoderRegistry decoderRegistry;
+    private final long sampleIntervalNanos;
+
+    private final Counter[] rejectedCounters = new Counter[REASONS.length];
+
+    /**
+     * Earliest time the next rejection of each reason may be logged, per {@link RejectReason#ordinal()}.
+     */
+    private final AtomicLongArray nextSampleNanos = new AtomicLongArray(REASONS.length);
+
+    /**
+     * Rejections per reason since the last logged sample.
+     */
+    private final AtomicLong[] unsampled = new AtomicLong[REASONS.length];
+
+    public PacketValidator(PacketDecoderRegistry decoderRegistry,
+                           MeterRegistry meterRegistry,
+                           @Value("${f1.telemetry.udp.reject-sample-interval-seconds:10}") int sampleIntervalSeconds) {
+        this.decoderRegistry = decoderRegistry;
+        this.sampleIntervalNanos = TimeUnit.SECONDS.toNanos(sampleIntervalSeconds);
+        for (RejectReason reason : REASONS) {
+            rejectedCounters[reason.ordinal()] = Counter.builder("telemetry.packets.rejected")
+                .description("Total number of datagrams rejected by validation before buffering")
+                .tag("reason", reason.name())
+                .register(meterRegistry);
+            unsampled[reason.ordinal()] = new AtomicLong();
+            nextSampleNanos.set(reason.ordinal(), System.nanoTime());
+        }
+    }
+
+    /**
+     * Validates a datagram, counting and sampling it if it is rejected.
+     *
+     * @param packet the raw datagram
+     * @return true if the datagram may be buffered
+     */
+    public boolean accept(byte[] packet) {
+        RejectReason reason = validate(packet);
+        if (reason == null) {
+            return true;
+        }
+        if (recordRejected(reason)) {
+            logSample(reason, packet.length, HeaderParsingService.peekPacketFormat(packet),
+                HeaderParsingService.peekPacketId(packet), HeaderParsingService.peekPacketVersion(packet),
+                HEX.formatHex(packet, 0, Math.min(packet.length, SAMPLE_BYTES)));
+        }
+        return false;
+    }
+
+    /**
+     * Validates a datagram held in a little-endian buffer, counting and sampling it if it is rejected.
+     * The buffer's position is left unchanged.
+     *
+     * @param packet the datagram bytes between the buffer's position and limit
+     * @return true if the datagram may be buffered
+     */
+    public boolean accept(ByteBuffer packet) {
+        RejectReason reason = validate(packet);
+        if (reason == null) {
+            return true;
+        }
+        if (recordRejected(reason)) {
+            byte[] leading = new byte[Math.min(packet.remaining(), SAMPLE_BYTES)];
+            packet.get(packet.position(), leading);
+            logSample(reason, packet.remaining(), HeaderParsingService.peekPacketFormat(packet),
+                HeaderParsingService.peekPacketId(packet), HeaderParsingService.peekPacketVersion(packet),
+                HEX.formatHex(leading));
+        }
+        return false;
+    }
+
+    /**
+     * @param packet the raw datagram
+     * @return null if the datagram is valid, or the reason it must be rejected
+     */
+    public RejectReason validate(byte[] packet) {
+        return validate(packet.length, HeaderParsingService.peekPacketFormat(packet),
+            HeaderParsingService.peekPacketId(packet), HeaderParsingService.peekPacketVersion(packet));
+    }
+
+    /**
+     * @param packet the datagram bytes between the buffer's position and limit
+     * @return null if the datagram is valid, or the reason it must be rejected
+     */
+    public RejectReason validate(ByteBuffer packet) {
+        return validate(packet.remaining(), HeaderParsingService.peekPacketFormat(packet),
+            HeaderParsingService.peekPacketId(packet), HeaderParsingService.peekPacketVersion(packet));
+    }
+
+    /**
+     * @return the number of datagrams rejected for the reason since startup
+     */
+    public long rejected(RejectReason reason) {
+        return (long) rejectedCounters[reason.ordinal()].count();
+    }
+
+    private RejectReason validate(int length, int packetFormat, int packetId, int packetVersion) {
+        if (length < HeaderParsingService.HEADER_SIZE) {
+            return RejectReason.TRUNCATED_HEADER;
+        }
+        PacketFormat format = PacketFormat.fromValue(packetFormat);
+        if (format == null) {
+            return RejectReason.UNSUPPORTED_FORMAT;
+        }
+        PacketType type = PacketType.fromId(packetId);
+        PacketCodec codec = decoderRegistry.codec(format);
+        int bodySize = type != null ? codec.bodySize(type, packetVersion) : -1;
+        if (bodySize < 0) {
+            return RejectReason.UNKNOWN_PACKET;
+        }
+        return length == HeaderParsingService.HEADER_SIZE + bodySize ? null : RejectReason.SIZE_MISMATCH;
+    }
+
+    /**
+     * Counts a rejection.
+     *
+     * @return true if this rejection is the reason's sample for the current interval
+     */
+    private boolean recordRejected(RejectReason reason) {
+        int index = reason.ordinal();
+        rejectedCounters[index].increment();
+        unsampled[index].incrementAndGet();
+        long now = System.nanoTime();
+        long next = nextSampleNanos.get(index);
+        return now - next >= 0 && nextSampleNanos.compareAndSet(index, next, now + sampleIntervalNanos);
+    }
+
+    private void logSample(RejectReason reason, int length, int packetFormat, int packetId, int packetVersion, String leadingBytes) {
+        long count = unsampled[reason.ordinal()].getAndSet(0);
+        log.warn("Rejected {} datagram(s) as {} since the last sample; sample: {} bytes, format {}, id {}, version {}, header {}",
+            count, reason, length, packetFormat, packetId, packetVersion, leadingBytes);
+    }
+}
@@ -1,80 +1,251 @@
 package com.edoofra.f1_telemetry_analyzer.service.udp;
 
-import com.edoofra.f1_telemetry_analyzer.buffer.TelemetryRingBuffer;
+import com.edoofra.f1_telemetry_analyzer.buffer.DirectPacketArena;
+import com.edoofra.f1_telemetry_analyzer.buffer.HeapPacketBuffer;
+import com.edoofra.f1_telemetry_analyzer.buffer.OverflowPolicy;
+import com.edoofra.f1_telemetry_analyzer.buffer.PacketBuffer;
+import com.edoofra.f1_telemetry_analyzer.buffer.PutResult;
+import com.edoofra.f1_telemetry_analyzer.buffer.wait.WaitStrategy;
 import com.edoofra.f1_telemetry_analyzer.config.TelemetryBufferConfig;
 import com.edoofra.f1_telemetry_analyzer.model.BufferStats;
+import com.edoofra.f1_telemetry_analyzer.model.DropReason;
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketPriority;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.PacketTypeStats;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.HeaderParsingService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.CompletableFuture;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 /**
- * TelemetryBufferManager is responsible for managing a ring buffer that stores telemetry packets.
+ * TelemetryBufferManager is responsible for managing the ring buffers that store telemetry packets.
  * It provides methods to add, retrieve, and process telemetry packets asynchronously.
  * It also tracks statistics such as total packets received, dropped, and drop rate.
+ * <p>
+ * Every packet type has its own buffer, with its own capacity and overflow policy, so the high-rate
+ * Motion, Car Telemetry and Lap Data packets can never evict rare ones such as Event or Final Classification.
+ * Packets are routed by the {@code packetId} byte alone, without parsing the header; packets too short
+ * to carry one, or with an unknown id, go to an extra unclassified buffer. Packets with a full header whose
+ * {@code packetFormat} is not a supported {@link PacketFormat} are dropped before buffering.
+ * <p>
+ * When the buffers as a whole fill up, the {@link OverloadPolicy} decimates and sheds lower-priority types first,
+ * keeping headroom for high-priority ones. Every drop is counted per packet type and per {@link DropReason}.
+ * <p>
+ * Arrivals, bytes, drops, inter-arrival jitter and frame gaps are tracked per packet type by
+ * {@link IngestionStatistics} with striped counters, so the numbers stay exact with several receiving threads.
+ * Every buffered packet signals the {@link WaitStrategy}, waking processing threads that sleep on an empty buffer.
+ * <p>
+ * The Spring bean serves the default telemetry source; additional sources each get their own instance,
+ * and every metric carries a {@code source} tag.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TelemetryBufferManager {
     
+    /**
+     * Route index of the buffer for packets without a known packet type; typed routes use {@link PacketType#ordinal()}.
+     */
+    private static final int UNCLASSIFIED_ROUTE = PacketType.values().length;
+    private static final String UNCLASSIFIED = "UNCLASSIFIED";
+    private static final String[] ROUTE_NAMES = routeNames();
+    private static final DropReason[] DROP_REASONS = DropReason.values();
+    
+    /**
+     * Name of the telemetry source served by the Spring bean.
+     */
+    public static final String DEFAULT_SOURCE = "default";
+    
+    private final String sourceName;
     private final TelemetryBufferConfig config;
+    private final WaitStrategy waitStrategy;
+    private final MeterRegistry meterRegistry;
     
-    private TelemetryRingBuffer<byte[]> telemetryBuffer;
+    private PacketBuffer[] telemetryBuffers;
+    private PacketPriority[] priorities;
+    private OverloadPolicy overloadPolicy;
+    private IngestionStatistics statistics;
+    /**
+     * Packets currently held across every route, kept up to date on each put and read
+     * so that the overload policy does not have to sum the size of every buffer per packet.
+     */
+    private final AtomicInteger buffered = new AtomicInteger();
     private ScheduledExecutorService statsExecutor;
-    private volatile long totalPacketsReceived = 0;
-    private volatile long totalPacketsDropped = 0;
+
+    @Autowired
+    public TelemetryBufferManager(TelemetryBufferConfig config, WaitStrategy waitStrategy, MeterRegistry meterRegistry) {
+        this(DEFAULT_SOURCE, config, waitStrategy, meterRegistry);
+    }
+
+    public TelemetryBufferManager(String sourceName, TelemetryBufferConfig config,
+                                  WaitStrategy waitStrategy, MeterRegistry meterRegistry) {
+        this.sourceName = sourceName;
+        this.config = config;
+        this.waitStrategy = waitStrategy;
+        this.meterRegistry = meterRegistry;
+    }
 
     /**
-     * Initializes the TelemetryBufferManager with a ring buffer of specified capacity.
+     * Initializes the TelemetryBufferManager with one ring buffer per packet type.
+     * The buffers keep packets on the heap or in pre-allocated direct memory depending on the configured mode.
      * Sets up a scheduled task to log buffer statistics at regular intervals.
      */
     @PostConstruct
     public void initialize() {
-        telemetryBuffer = new TelemetryRingBuffer<>(config.getCapacity());
+        telemetryBuffers = new PacketBuffer[UNCLASSIFIED_ROUTE + 1];
+        priorities = new PacketPriority[UNCLASSIFIED_ROUTE + 1];
+        for (PacketType type : PacketType.values()) {
+            telemetryBuffers[type.ordinal()] = createBuffer(config.capacityFor(type), config.overflowPolicyFor(type));
+            priorities[type.ordinal()] = config.priorityFor(type);
+        }
+        // Packets of unknown type are the first to go under load
+        telemetryBuffers[UNCLASSIFIED_ROUTE] = createBuffer(config.getCapacity(), OverflowPolicy.OVERWRITE_OLDEST);
+        priorities[UNCLASSIFIED_ROUTE] = PacketPriority.LOW;
+        
+        TelemetryBufferConfig.Overload overload = config.getOverload();
+        int totalCapacity = overload.getTotalCapacity() != null ? overload.getTotalCapacity() : config.getCapacity();
+        overloadPolicy = new OverloadPolicy(overload, totalCapacity, telemetryBuffers.length);
+        statistics = createStatistics();
+        registerBufferGauges();
+        
         statsExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "telemetry-buffer-stats");
+            Thread t = new Thread(r, "telemetry-buffer-stats-" + sourceName);
             t.setDaemon(true);
             return t;
         });
         scheduleStatsLogging();
-        log.info("TelemetryBufferManager initialized with capacity: {}", config.getCapacity());
+        log.info("TelemetryBufferManager for source '{}' initialized with {} per-type buffers, default capacity: {}, mode: {}",
+            sourceName, telemetryBuffers.length, config.getCapacity(), config.getMode());
     }
     
+    /**
+     * Routes a packet to the buffer of its packet type, unless the overload policy drops it.
+     *
+     * @param packet the raw packet bytes
+     * @return true if the packet was buffered, false if it was null, of an unsupported format,
+     *         dropped by the overload policy or rejected by a full buffer
+     */
     public boolean addTelemetryPacket(byte[] packet) {
         if (packet == null) {
             log.warn("Attempted to add null packet to buffer");
             return false;
         }
-        totalPacketsReceived++;
-        if (telemetryBuffer.isFull()) {
-            totalPacketsDropped++;
-            log.debug("Buffer full, oldest packet will be overwritten");
-            
-            if (shouldLogHighUtilizationWarning()) {
-                log.warn("Buffer utilization is high: {:.1f}% - consider increasing capacity or processing rate", 
-                    getBufferStats().utilizationPercentage());
-            }
+        int route = routeOf(HeaderParsingService.peekPacketId(packet));
+        statistics.recordArrival(route, packet.length, HeaderParsingService.peekFrameIdentifier(packet), System.nanoTime());
+        if (!isSupportedFormat(route, HeaderParsingService.peekPacketFormat(packet)) || !admit(route)) {
+            return false;
+        }
+        return recordReceived(route, telemetryBuffers[route].put(packet));
+    }
+    
+    /**
+     * Routes a packet held in another buffer, typically the receiver's reusable datagram buffer, to the buffer of its
+     * packet type. Off-heap buffers copy it into their slot without allocating; the packet's position is left unchanged.
+     *
+     * @param packet the packet bytes between the buffer's position and limit, in a little-endian buffer
+     * @return true if the packet was buffered, false if it was of an unsupported format, dropped by the overload policy
+     *         or rejected by a full buffer
+     */
+    public boolean addTelemetryDatagram(ByteBuffer packet) {
+        int route = routeOf(HeaderParsingService.peekPacketId(packet));
+        statistics.recordArrival(route, packet.remaining(), HeaderParsingService.peekFrameIdentifier(packet), System.nanoTime());
+        if (!isSupportedFormat(route, HeaderParsingService.peekPacketFormat(packet)) || !admit(route)) {
+            return false;
         }
-        return telemetryBuffer.put(packet);
+        return recordReceived(route, telemetryBuffers[route].put(packet));
     }
     
+    /**
+     * @return the name of the telemetry source this manager buffers packets for
+     */
+    public String getSourceName() {
+        return sourceName;
+    }
+    
+    /**
+     * Removes the next packet, taking packet types in id order.
+     */
     public byte[] getNextTelemetryPacket() {
-        return telemetryBuffer.get();
+        for (PacketBuffer buffer : telemetryBuffers) {
+            byte[] packet = buffer.get();
+            if (packet != null) {
+                buffered.decrementAndGet();
+                return packet;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Removes the next packet, taking packet types in id order, and hands it to the reader as a read-only, little-endian view.
+     * Unlike {@link #getNextTelemetryPacket()} this never copies packet bytes in off-heap mode.
+     * The view is only valid until the reader returns.
+     *
+     * @param packetReader receives the packet view
+     * @return true if a packet was read, false if every buffer was empty
+     */
+    public boolean pollTelemetryPacket(Consumer<ByteBuffer> packetReader) {
+        for (PacketBuffer buffer : telemetryBuffers) {
+            if (buffer.poll(packetReader)) {
+                buffered.decrementAndGet();
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Removes up to {@code maxBatch} packets from each packet type's buffer, each with a single buffer claim,
+     * and hands them to the reader. Draining every type in one pass keeps a busy type from starving the others.
+     * This amortises the per-packet synchronisation cost of {@link #pollTelemetryPacket(Consumer)}.
+     *
+     * @param packetReader receives each packet view, valid only until the reader returns
+     * @param maxBatch     the maximum number of packets to remove per packet type
+     * @return the number of packets read
+     */
+    public int drainTo(Consumer<ByteBuffer> packetReader, int maxBatch) {
+        int drained = 0;
+        for (PacketBuffer buffer : telemetryBuffers) {
+            drained += buffer.drainTo(packetReader, maxBatch);
+        }
+        if (drained > 0) {
+            buffered.addAndGet(-drained);
+        }
+        return drained;
     }
     
+    /**
+     * Returns the next packet without removing it, taking packet types in id order.
+     */
     public byte[] peekNextTelemetryPacket() {
-        return telemetryBuffer.peek();
+        for (PacketBuffer buffer : telemetryBuffers) {
+            byte[] packet = buffer.peek();
+            if (packet != null) {
+                return packet;
+            }
+        }
+        return null;
     }
     
+    /**
+     * Drains every buffered packet to the processor on a new virtual thread, so that a processor blocking on I/O
+     * does not tie up a thread of the common fork-join pool.
+     */
     public void processPacketsAsync(Consumer<byte[]> packetProcessor) {
-        CompletableFuture.runAsync(() -> {
+        Thread.ofVirtual().name("telemetry-async-processor-" + sourceName).start(() -> {
             byte[] packet;
             while ((packet = getNextTelemetryPacket()) != null) {
                 try {
@@ -87,47 +258,207 @@ public class TelemetryBufferManager {
     }
     
     public BufferStats getBufferStats() {
+        int currentSize = 0;
+        int capacity = 0;
+        Map<String, PacketTypeStats> packetTypes = new LinkedHashMap<>();
+        for (int route = 0; route < telemetryBuffers.length; route++) {
+            PacketBuffer buffer = telemetryBuffers[route];
+            int size = buffer.size();
+            currentSize += size;
+            capacity += buffer.capacity();
+            Map<DropReason, Long> drops = new EnumMap<>(DropReason.class);
+            long dropped = 0;
+            for (DropReason reason : DROP_REASONS) {
+                long count = statistics.drops(route, reason);
+                drops.put(reason, count);
+                dropped += count;
+            }
+            packetTypes.put(routeName(route), new PacketTypeStats(
+                size,
+                buffer.capacity(),
+                statistics.packets(route),
+                dropped,
+                priorities[route],
+                drops,
+                statistics.bytes(route),
+                statistics.packetsPerSecond(route),
+                statistics.bytesPerSecond(route),
+                statistics.meanInterArrivalMillis(route),
+                statistics.jitterMillis(route),
+                statistics.frameGaps(route),
+                statistics.missedFrames(route)
+            ));
+        }
+        long totalReceived = statistics.totalPackets();
+        long totalDropped = statistics.totalDrops();
         return new BufferStats(
-            telemetryBuffer.size(),
-            telemetryBuffer.capacity(),
-            totalPacketsReceived,
-            totalPacketsDropped,
-            calculateDropRate()
+            currentSize,
+            capacity,
+            totalReceived,
+            totalDropped,
+            calculateDropRate(totalReceived, totalDropped),
+            statistics.totalPacketsPerSecond(),
+            statistics.totalBytesPerSecond(),
+            packetTypes
         );
     }
     
     public void clearBuffer() {
-        telemetryBuffer.clear();
-        totalPacketsReceived = 0;
-        totalPacketsDropped = 0;
-        log.info("Telemetry buffer cleared and counters reset");
+        for (PacketBuffer buffer : telemetryBuffers) {
+            buffered.addAndGet(-buffer.clear());
+        }
+        statistics.reset();
+        log.info("Telemetry buffers cleared and counters reset");
     }
     
     public boolean isBufferEmpty() {
-        return telemetryBuffer.isEmpty();
+        for (PacketBuffer buffer : telemetryBuffers) {
+            if (!buffer.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
     }
     
+    /**
+     * @return true if any packet type's buffer has reached its capacity
+     */
     public boolean isBufferFull() {
-        return telemetryBuffer.isFull();
+        for (PacketBuffer buffer : telemetryBuffers) {
+            if (buffer.isFull()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Checks the packet format of a routed packet, counting it as dropped if the analyzer cannot decode it.
+     * Packets too short to carry a full header are let through to their route.
+     *
+     * @param packetFormat the packet format, or -1 if the packet has no full header
+     * @return whether the packet may be buffered
+     */
+    private boolean isSupportedFormat(int route, int packetFormat) {
+        if (packetFormat < 0 || PacketFormat.fromValue(packetFormat) != null) {
+            return true;
+        }
+        recordDropped(route, DropReason.UNSUPPORTED_FORMAT);
+        return false;
+    }
+    
+    /**
+     * Applies the overload policy to a routed packet, counting it as dropped if it is not admitted.
+     * The total fill level is only measured for priorities the policy may drop.
+     *
+     * @return whether the packet may be buffered
+     */
+    private boolean admit(int route) {
+        PacketPriority priority = priorities[route];
+        if (!overloadPolicy.appliesTo(priority)) {
+            return true;
+        }
+        DropReason reason = overloadPolicy.admit(route, priority, buffered.get());
+        if (reason == null) {
+            return true;
+        }
+        recordDropped(route, reason);
+        return false;
+    }
+    
+    /**
+     * Updates the counters for a buffered or rejected packet and wakes waiting consumers if it was buffered.
+     * A packet counts as dropped when it was rejected, or when it made the buffer overwrite its oldest packet.
+     *
+     * @return whether the packet was buffered
+     */
+    private boolean recordReceived(int route, PutResult result) {
+        if (result == PutResult.STORED) {
+            buffered.incrementAndGet();
+        } else {
+            recordDropped(route, result == PutResult.EVICTED_OLDEST ? DropReason.OVERWRITTEN : DropReason.REJECTED);
+            
+            if (shouldLogHighUtilizationWarning(telemetryBuffers[route])) {
+                log.warn("{} buffer utilization is high: {}/{} - consider increasing its capacity or the processing rate",
+                    routeName(route), telemetryBuffers[route].size(), telemetryBuffers[route].capacity());
+            }
+        }
+        if (result.stored()) {
+            waitStrategy.signalAll();
+        }
+        return result.stored();
+    }
+    
+    private void recordDropped(int route, DropReason reason) {
+        statistics.recordDrop(route, reason);
+        log.debug("{} packet dropped: {}", routeName(route), reason);
+    }
+    
+    private static int routeOf(int packetId) {
+        PacketType type = PacketType.fromId(packetId);
+        return type != null ? type.ordinal() : UNCLASSIFIED_ROUTE;
+    }
+    
+    private static String routeName(int route) {
+        return ROUTE_NAMES[route];
+    }
+    
+    private static String[] routeNames() {
+        PacketType[] types = PacketType.values();
+        String[] names = new String[types.length + 1];
+        for (PacketType type : types) {
+            names[type.ordinal()] = type.name();
+        }
+        names[types.length] = UNCLASSIFIED;
+        return names;
+    }
+    
+    private PacketBuffer createBuffer(int capacity, OverflowPolicy overflowPolicy) {
+        return switch (config.getMode()) {
+            case HEAP -> new HeapPacketBuffer(capacity, overflowPolicy);
+            case OFF_HEAP -> new DirectPacketArena(capacity, overflowPolicy);
+        };
+    }
+    
+    private void registerBufferGauges() {
+        for (int route = 0; route < telemetryBuffers.length; route++) {
+            Gauge.builder("telemetry.buffer.size", telemetryBuffers[route], PacketBuffer::size)
+                .description("Number of packets currently buffered, per packet type")
+                .tag("source", sourceName)
+                .tag("type", routeName(route))
+                .register(meterRegistry);
+        }
+    }
+    
+    private IngestionStatistics createStatistics() {
+        String[] routeNames = new String[telemetryBuffers.length];
+        PacketType[] routeTypes = new PacketType[telemetryBuffers.length];
+        for (int route = 0; route < telemetryBuffers.length; route++) {
+            routeNames[route] = routeName(route);
+            routeTypes[route] = route == UNCLASSIFIED_ROUTE ? null : PacketType.values()[route];
+        }
+        return new IngestionStatistics(meterRegistry, sourceName, routeNames, routeTypes);
     }
     
-    private double calculateDropRate() {
-        if (totalPacketsReceived == 0) {
+    private static double calculateDropRate(long totalReceived, long totalDropped) {
+        if (totalReceived == 0) {
             return 0.0;
         }
-        return (double) totalPacketsDropped / totalPacketsReceived * 100.0;
+        return (double) totalDropped / totalReceived * 100.0;
     }
     
     private void scheduleStatsLogging() {
         statsExecutor.scheduleAtFixedRate(() -> {
+            statistics.sampleRates();
             BufferStats stats = getBufferStats();
-            log.info("Buffer Stats - Size: {}/{}, Total Received: {}, Dropped: {}, Drop Rate: {:.2f}%",
-                stats.currentSize(), stats.capacity(), stats.totalReceived(), 
-                stats.totalDropped(), stats.dropRate());
+            log.info("[{}] Buffer Stats - Size: {}/{}, Total Received: {}, Dropped: {}, Drop Rate: {}%, Rate: {} packets/s, {} bytes/s",
+                sourceName, stats.currentSize(), stats.capacity(), stats.totalReceived(), 
+                stats.totalDropped(), String.format("%.2f", stats.dropRate()),
+                Math.round(stats.packetsPerSecond()), Math.round(stats.bytesPerSecond()));
         }, config.getStatsInterval(), config.getStatsInterval(), TimeUnit.SECONDS);
     }
     
-    private boolean shouldLogHighUtilizationWarning() {
-        return telemetryBuffer.size() >= (telemetryBuffer.capacity() * config.getHighUtilizationThreshold());
+    private boolean shouldLogHighUtilizationWarning(PacketBuffer buffer) {
+        return buffer.size() >= (buffer.capacity() * config.getHighUtilizationThreshold());
     }
-}
\ No newline at end of file
+}
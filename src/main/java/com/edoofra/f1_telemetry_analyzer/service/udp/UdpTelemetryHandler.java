@@ -1,18 +1,28 @@
 package com.edoofra.f1_telemetry_analyzer.service.udp;
 
 import com.edoofra.f1_telemetry_analyzer.service.parsing.HeaderParsingService;
+import com.edoofra.f1_telemetry_analyzer.service.source.TelemetrySource;
+import com.edoofra.f1_telemetry_analyzer.service.source.TelemetrySourceRegistry;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.integration.annotation.ServiceActivator;
+import org.springframework.integration.ip.IpHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.stereotype.Service;
 
 /**
  * Handles incoming UDP telemetry packets from the F1 2024 game.
- * Parses the raw packet data and logs relevant information.
+ * Validates each datagram with the {@link PacketValidator}, so malformed or truncated packets are dropped before they
+ * take buffer capacity, and with the {@link PacketSequenceTracker}, so duplicate and late packets are dropped too,
+ * then hands the remaining ones to the telemetry buffers.
  * Tracks processing metrics for monitoring and performance analysis with Micrometer.
+ * <p>
+ * When several telemetry sources share the listening port, each packet goes to the buffers of the source
+ * matching the sender's address; a packet no source accepts is counted as unmatched and discarded.
  */
 @Slf4j
 @Service
@@ -21,18 +31,52 @@ public class UdpTelemetryHandler {
     private final HeaderParsingService headerParsingService;
     private final TelemetryBufferManager telemetryBufferManager;
     private final MeterRegistry meterRegistry;
+    private final PacketValidator packetValidator;
+    private final PacketSequenceTracker sequenceTracker;
+    
+    /**
+     * The sources listening on the adapter's port, or null when the default source is the only one.
+     */
+    private final TelemetrySource[] sources;
     
     private final Timer packetProcessingTimer;
     private final Counter packetsReceivedCounter;
     private final Counter packetsProcessedCounter;
     private final Counter packetsErrorCounter;
+    private final Counter packetsUnmatchedCounter;
     
     public UdpTelemetryHandler(HeaderParsingService headerParsingService, 
                               TelemetryBufferManager telemetryBufferManager,
-                              MeterRegistry meterRegistry) {
+                              MeterRegistry meterRegistry,
+                              PacketValidator packetValidator,
+                              PacketSequenceTracker sequenceTracker) {
+        this(headerParsingService, telemetryBufferManager, meterRegistry, packetValidator, sequenceTracker, null);
+    }
+    
+    @Autowired
+    public UdpTelemetryHandler(HeaderParsingService headerParsingService,
+                              TelemetryBufferManager telemetryBufferManager,
+                              MeterRegistry meterRegistry,
+                              PacketValidator packetValidator,
+                              PacketSequenceTracker sequenceTracker,
+                              TelemetrySourceRegistry sourceRegistry,
+                              @Value("${f1.telemetry.udp.port:20777}") int udpPort) {
+        this(headerParsingService, telemetryBufferManager, meterRegistry, packetValidator, sequenceTracker,
+            sourceRegistry.sourcesOnPort(udpPort));
+    }
+    
+    private UdpTelemetryHandler(HeaderParsingService headerParsingService,
+                               TelemetryBufferManager telemetryBufferManager,
+                               MeterRegistry meterRegistry,
+                               PacketValidator packetValidator,
+                               PacketSequenceTracker sequenceTracker,
+                               TelemetrySource[] sources) {
         this.headerParsingService = headerParsingService;
         this.telemetryBufferManager = telemetryBufferManager;
         this.meterRegistry = meterRegistry;
+        this.packetValidator = packetValidator;
+        this.sequenceTracker = sequenceTracker;
+        this.sources = sources != null && sources.length > 1 ? sources : null;
         
         this.packetProcessingTimer = Timer.builder("telemetry.packet.processing.time")
             .description("Time taken to process each telemetry packet")
@@ -49,6 +93,10 @@ public class UdpTelemetryHandler {
         this.packetsErrorCounter = Counter.builder("telemetry.packets.errors")
             .description("Total number of telemetry packet processing errors")
             .register(meterRegistry);
+            
+        this.packetsUnmatchedCounter = Counter.builder("telemetry.packets.unmatched")
+            .description("Total number of telemetry packets from senders no telemetry source accepts")
+            .register(meterRegistry);
     }
 
     /**
@@ -73,14 +121,32 @@ public class UdpTelemetryHandler {
         log.debug("Received UDP telemetry packet: {} bytes", payload.length);
         
         try {
-            boolean success = telemetryBufferManager.addTelemetryPacket(payload);
+            if (!packetValidator.accept(payload)) {
+                // Counted and sampled per reason by the validator
+                return;
+            }
+            
+            TelemetryBufferManager bufferManager = bufferManagerFor(message);
+            if (bufferManager == null) {
+                packetsUnmatchedCounter.increment();
+                log.debug("Packet from {} discarded - no telemetry source accepts the sender",
+                    message.getHeaders().get(IpHeaders.IP_ADDRESS));
+                return;
+            }
+            if (!sequenceTracker.accept(bufferManager.getSourceName(), payload)) {
+                // Duplicate or late, counted per source and session by the tracker
+                return;
+            }
+            
+            boolean success = bufferManager.addTelemetryPacket(payload);
             
             if (success) {
                 packetsProcessedCounter.increment();
                 log.trace("Packet successfully added to buffer");
             } else {
                 packetsErrorCounter.increment();
-                log.warn("Failed to add packet to buffer - packet was null or buffer error");
+                // Debug only: under overload the buffer manager drops packets by design and counts them per reason
+                log.debug("Packet not buffered - packet was null or dropped by the buffer");
             }
             
         } catch (Exception e) {
@@ -90,4 +156,15 @@ public class UdpTelemetryHandler {
             sample.stop(packetProcessingTimer);
         }
     }
+    
+    /**
+     * @return the buffers of the source the message's sender belongs to, or null if no source accepts it
+     */
+    private TelemetryBufferManager bufferManagerFor(Message<byte[]> message) {
+        if (sources == null) {
+            return telemetryBufferManager;
+        }
+        TelemetrySource source = TelemetrySource.select(sources, message.getHeaders().get(IpHeaders.IP_ADDRESS, String.class));
+        return source != null ? source.bufferManager() : null;
+    }
 }
\ No newline at end of file
@@ -1,12 +1,34 @@
 package com.edoofra.f1_telemetry_analyzer.util;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 /**
- * Utility class for parsing binary data from byte arrays.
- * All methods assume little-endian byte order (Intel standard).
+ * Utility class for parsing binary data from byte arrays and buffers.
+ * All methods assume little-endian byte order (Intel standard); buffer reads are absolute
+ * and little-endian whatever the buffer's own order, and never move its position.
+ * <p>
+ * Multi-byte values are read through little-endian {@link VarHandle} views, which the JIT compiles to a single
+ * (unaligned) load instead of assembling the value byte by byte. The bulk methods fill caller-supplied arrays
+ * from contiguous per-wheel or per-car fields, so decoders can read them without allocating.
  * This class cannot be instantiated.
  */
 public final class BinaryDataUtils {
 
+    private static final VarHandle ARRAY_SHORT = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle ARRAY_INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle ARRAY_LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle ARRAY_FLOAT = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle ARRAY_DOUBLE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final VarHandle BUFFER_SHORT = MethodHandles.byteBufferViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_FLOAT = MethodHandles.byteBufferViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_DOUBLE = MethodHandles.byteBufferViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+
     /**
      * Private constructor to prevent instantiation.
      */
@@ -22,7 +44,18 @@ public final class BinaryDataUtils {
      * @return the unsigned 16-bit integer value
      */
     public static int getUnsignedShort(byte[] data, int offset) {
-        return ((data[offset + 1] & 0xFF) << 8) | (data[offset] & 0xFF);
+        return Short.toUnsignedInt(getShort(data, offset));
+    }
+
+    /**
+     * Reads a signed 16-bit integer from byte array (little-endian).
+     *
+     * @param data   the byte array to read from
+     * @param offset the starting position in the array
+     * @return the signed 16-bit integer value
+     */
+    public static short getShort(byte[] data, int offset) {
+        return (short) ARRAY_SHORT.get(data, offset);
     }
 
     /**
@@ -33,8 +66,7 @@ public final class BinaryDataUtils {
      * @return the 32-bit integer value
      */
     public static int getInt(byte[] data, int offset) {
-        return ((data[offset + 3] & 0xFF) << 24) | ((data[offset + 2] & 0xFF) << 16) |
-               ((data[offset + 1] & 0xFF) << 8) | (data[offset] & 0xFF);
+        return (int) ARRAY_INT.get(data, offset);
     }
 
     /**
@@ -45,10 +77,7 @@ public final class BinaryDataUtils {
      * @return the 64-bit long value
      */
     public static long getLong(byte[] data, int offset) {
-        return ((long)(data[offset + 7] & 0xFF) << 56) | ((long)(data[offset + 6] & 0xFF) << 48) |
-               ((long)(data[offset + 5] & 0xFF) << 40) | ((long)(data[offset + 4] & 0xFF) << 32) |
-               ((long)(data[offset + 3] & 0xFF) << 24) | ((long)(data[offset + 2] & 0xFF) << 16) |
-               ((long)(data[offset + 1] & 0xFF) << 8) | (long)(data[offset] & 0xFF);
+        return (long) ARRAY_LONG.get(data, offset);
     }
 
     /**
@@ -59,7 +88,200 @@ public final class BinaryDataUtils {
      * @return the 32-bit float value
      */
     public static float getFloat(byte[] data, int offset) {
-        int bits = getInt(data, offset);
-        return Float.intBitsToFloat(bits);
+        return (float) ARRAY_FLOAT.get(data, offset);
+    }
+
+    /**
+     * Reads a 64-bit double from byte array (little-endian).
+     *
+     * @param data   the byte array to read from
+     * @param offset the starting position in the array
+     * @return the 64-bit double value
+     */
+    public static double getDouble(byte[] data, int offset) {
+        return (double) ARRAY_DOUBLE.get(data, offset);
+    }
+
+    /**
+     * Reads an unsigned 8-bit integer from a buffer.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the absolute position in the buffer
+     * @return the unsigned 8-bit integer value
+     */
+    public static int getUnsignedByte(ByteBuffer buffer, int index) {
+        return buffer.get(index) & 0xFF;
+    }
+
+    /**
+     * Reads a signed 8-bit integer from a buffer.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the absolute position in the buffer
+     * @return the signed 8-bit integer value
+     */
+    public static int getByte(ByteBuffer buffer, int index) {
+        return buffer.get(index);
+    }
+
+    /**
+     * Reads an unsigned 16-bit integer from a buffer (little-endian).
+     *
+     * @param buffer the buffer to read from
+     * @param index  the absolute position in the buffer
+     * @return the unsigned 16-bit integer value
+     */
+    public static int getUnsignedShort(ByteBuffer buffer, int index) {
+        return Short.toUnsignedInt(getShort(buffer, index));
+    }
+
+    /**
+     * Reads a signed 16-bit integer from a buffer (little-endian).
+     *
+     * @param buffer the buffer to read from
+     * @param index  the absolute position in the buffer
+     * @return the signed 16-bit integer value
+     */
+    public static short getShort(ByteBuffer buffer, int index) {
+        return (short) BUFFER_SHORT.get(buffer, index);
+    }
+
+    /**
+     * Reads a 32-bit integer from a buffer (little-endian).
+     *
+     * @param buffer the buffer to read from
+     * @param index  the absolute position in the buffer
+     * @return the 32-bit integer value
+     */
+    public static int getInt(ByteBuffer buffer, int index) {
+        return (int) BUFFER_INT.get(buffer, index);
+    }
+
+    /**
+     * Reads an unsigned 32-bit integer from a buffer (little-endian).
+     *
+     * @param buffer the buffer to read from
+     * @param index  the absolute position in the buffer
+     * @return the unsigned 32-bit integer value
+     */
+    public static long getUnsignedInt(ByteBuffer buffer, int index) {
+        return Integer.toUnsignedLong(getInt(buffer, index));
+    }
+
+    /**
+     * Reads a 64-bit long from a buffer (little-endian).
+     *
+     * @param buffer the buffer to read from
+     * @param index  the absolute position in the buffer
+     * @return the 64-bit long value
+     */
+    public static long getLong(ByteBuffer buffer, int index) {
+        return (long) BUFFER_LONG.get(buffer, index);
+    }
+
+    /**
+     * Reads a 32-bit float from a buffer (little-endian).
+     *
+     * @param buffer the buffer to read from
+     * @param index  the absolute position in the buffer
+     * @return the 32-bit float value
+     */
+    public static float getFloat(ByteBuffer buffer, int index) {
+        return (float) BUFFER_FLOAT.get(buffer, index);
+    }
+
+    /**
+     * Reads a 64-bit double from a buffer (little-endian).
+     *
+     * @param buffer the buffer to read from
+     * @param index  the absolute position in the buffer
+     * @return the 64-bit double value
+     */
+    public static double getDouble(ByteBuffer buffer, int index) {
+        return (double) BUFFER_DOUBLE.get(buffer, index);
+    }
+
+    /**
+     * Reads consecutive 32-bit floats from byte array (little-endian).
+     *
+     * @param data   the byte array to read from
+     * @param offset the starting position in the array
+     * @param dst    the array to fill from index 0
+     * @param count  the number of values to read
+     */
+    public static void getFloats(byte[] data, int offset, float[] dst, int count) {
+        for (int i = 0; i < count; i++) {
+            dst[i] = (float) ARRAY_FLOAT.get(data, offset + i * Float.BYTES);
+        }
+    }
+
+    /**
+     * Reads consecutive unsigned 16-bit integers from byte array (little-endian).
+     *
+     * @param data   the byte array to read from
+     * @param offset the starting position in the array
+     * @param dst    the array to fill from index 0
+     * @param count  the number of values to read
+     */
+    public static void getUnsignedShorts(byte[] data, int offset, int[] dst, int count) {
+        for (int i = 0; i < count; i++) {
+            dst[i] = Short.toUnsignedInt((short) ARRAY_SHORT.get(data, offset + i * Short.BYTES));
+        }
+    }
+
+    /**
+     * Reads consecutive unsigned 8-bit integers from byte array.
+     *
+     * @param data   the byte array to read from
+     * @param offset the starting position in the array
+     * @param dst    the array to fill from index 0
+     * @param count  the number of values to read
+     */
+    public static void getUnsignedBytes(byte[] data, int offset, int[] dst, int count) {
+        for (int i = 0; i < count; i++) {
+            dst[i] = data[offset + i] & 0xFF;
+        }
+    }
+
+    /**
+     * Reads consecutive 32-bit floats from a buffer (little-endian).
+     *
+     * @param buffer the buffer to read from
+     * @param index  the absolute position in the buffer
+     * @param dst    the array to fill from index 0
+     * @param count  the number of values to read
+     */
+    public static void getFloats(ByteBuffer buffer, int index, float[] dst, int count) {
+        for (int i = 0; i < count; i++) {
+            dst[i] = (float) BUFFER_FLOAT.get(buffer, index + i * Float.BYTES);
+        }
+    }
+
+    /**
+     * Reads consecutive unsigned 16-bit integers from a buffer (little-endian).
+     *
+     * @param buffer the buffer to read from
+     * @param index  the absolute position in the buffer
+     * @param dst    the array to fill from index 0
+     * @param count  the number of values to read
+     */
+    public static void getUnsignedShorts(ByteBuffer buffer, int index, int[] dst, int count) {
+        for (int i = 0; i < count; i++) {
+            dst[i] = Short.toUnsignedInt((short) BUFFER_SHORT.get(buffer, index + i * Short.BYTES));
+        }
+    }
+
+    /**
+     * Reads consecutive unsigned 8-bit integers from a buffer.
+     *
+     * @param buffer the buffer to read from
+     * @param index  the absolute position in the buffer
+     * @param dst    the array to fill from index 0
+     * @param count  the number of values to read
+     */
+    public static void getUnsignedBytes(ByteBuffer buffer, int index, int[] dst, int count) {
+        for (int i = 0; i < count; i++) {
+            dst[i] = buffer.get(index + i) & 0xFF;
+        }
     }
-}
\ No newline at end of file
+}
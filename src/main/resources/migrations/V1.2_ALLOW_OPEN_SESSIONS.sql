@@ -0,0 +1 @@
+ALTER TABLE session ALTER COLUMN closed_at DROP NOT NULL;
@@ -0,0 +1,4 @@
+ALTER TABLE lap ADD COLUMN IF NOT EXISTS car_index INTEGER;
+
+DROP INDEX IF EXISTS idx_lap_session_id_lap_number;
+CREATE UNIQUE INDEX IF NOT EXISTS idx_lap_session_id_car_index_lap_number ON lap(session_id, car_index, lap_number);
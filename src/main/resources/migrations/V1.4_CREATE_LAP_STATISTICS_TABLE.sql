@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS lap_statistics (
+    id UUID PRIMARY KEY,
+    session_id UUID NOT NULL,
+    car_index INTEGER NOT NULL,
+    lap_number INTEGER NOT NULL,
+    samples INTEGER,
+    min_speed_kph REAL,
+    max_speed_kph REAL,
+    mean_speed_kph REAL,
+    throttle_histogram_ms INTEGER[],
+    brake_histogram_ms INTEGER[],
+    gear_time_ms INTEGER[],
+    max_lateral_g REAL,
+    max_longitudinal_g REAL,
+    max_vertical_g REAL,
+    tyre_surface_min_c REAL[],
+    tyre_surface_max_c REAL[],
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (session_id) REFERENCES session(id) ON DELETE CASCADE
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_lap_statistics_session_id_car_index_lap_number ON lap_statistics(session_id, car_index, lap_number);
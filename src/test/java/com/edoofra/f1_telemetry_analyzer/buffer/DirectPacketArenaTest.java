@@ -0,0 +1,232 @@
+package com.edoofra.f1_telemetry_analyzer.buffer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirectPacketArenaTest {
+
+    private DirectPacketArena arena;
+    private static final int DEFAULT_CAPACITY = 5;
+
+    @BeforeEach
+    void setUp() {
+        arena = new DirectPacketArena(DEFAULT_CAPACITY);
+    }
+
+    private static byte[] packetOf(int marker, int length) {
+        byte[] packet = new byte[length];
+        for (int i = 0; i < length; i++) {
+            packet[i] = (byte) (marker + i);
+        }
+        return packet;
+    }
+
+    private static byte[] toArray(ByteBuffer view) {
+        byte[] copy = new byte[view.remaining()];
+        view.get(copy);
+        return copy;
+    }
+
+    @Nested
+    @DisplayName("Basic Operations")
+    class BasicOperations {
+
+        @Test
+        @DisplayName("Should initialize with correct capacity and empty state")
+        void shouldInitializeCorrectly() {
+            assertEquals(DEFAULT_CAPACITY, arena.capacity());
+            assertEquals(0, arena.size());
+            assertTrue(arena.isEmpty());
+            assertFalse(arena.isFull());
+        }
+
+        @Test
+        @DisplayName("Should hand out packet through a read-only little-endian view")
+        void shouldPollPacketAsView() {
+            byte[] packet = packetOf(1, 29);
+            assertEquals(PutResult.STORED, arena.put(packet));
+
+            List<byte[]> received = new ArrayList<>();
+            assertTrue(arena.poll(view -> {
+                assertTrue(view.isReadOnly());
+                assertTrue(view.isDirect());
+                assertEquals(ByteOrder.LITTLE_ENDIAN, view.order());
+                assertEquals(0, view.position());
+                assertEquals(29, view.limit());
+                received.add(toArray(view));
+            }));
+
+            assertArrayEquals(packet, received.get(0));
+            assertTrue(arena.isEmpty());
+            assertFalse(arena.poll(view -> fail("Empty arena should not invoke the reader")));
+        }
+
+        @Test
+        @DisplayName("Should preserve each packet's own length")
+        void shouldPreservePacketLengths() {
+            arena.put(packetOf(1, DirectPacketArena.MAX_PACKET_SIZE));
+            arena.put(packetOf(2, 45));
+
+            assertEquals(DirectPacketArena.MAX_PACKET_SIZE, arena.get().length);
+            assertArrayEquals(packetOf(2, 45), arena.get());
+            assertNull(arena.get());
+        }
+
+        @Test
+        @DisplayName("Should peek a copy without removing the packet")
+        void shouldPeekCopy() {
+            byte[] packet = packetOf(7, 10);
+            arena.put(packet);
+
+            assertArrayEquals(packet, arena.peek());
+            assertEquals(1, arena.size());
+            assertArrayEquals(packet, arena.get());
+            assertNull(arena.peek());
+        }
+
+        @Test
+        @DisplayName("Should reject packets larger than a slot")
+        void shouldRejectOversizedPackets() {
+            assertEquals(PutResult.REJECTED, arena.put(new byte[DirectPacketArena.MAX_PACKET_SIZE + 1]));
+            assertTrue(arena.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should copy the remaining bytes of a ByteBuffer without moving its position")
+        void shouldPutByteBuffer() {
+            ByteBuffer source = ByteBuffer.allocateDirect(16);
+            source.put(packetOf(7, 10)).flip();
+            source.position(2);
+
+            assertEquals(PutResult.STORED, arena.put(source));
+
+            assertEquals(2, source.position());
+            byte[] expected = new byte[8];
+            System.arraycopy(packetOf(7, 10), 2, expected, 0, 8);
+            assertArrayEquals(expected, arena.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Overwrite and Reuse")
+    class OverwriteAndReuse {
+
+        @Test
+        @DisplayName("Should overwrite oldest packet when full")
+        void shouldOverwriteOldest() {
+            for (int i = 0; i < DEFAULT_CAPACITY; i++) {
+                assertEquals(PutResult.STORED, arena.put(packetOf(i, 4)));
+            }
+            assertEquals(PutResult.EVICTED_OLDEST, arena.put(packetOf(DEFAULT_CAPACITY, 4)));
+            assertEquals(PutResult.EVICTED_OLDEST, arena.put(ByteBuffer.wrap(packetOf(DEFAULT_CAPACITY + 1, 4))));
+
+            assertEquals(DEFAULT_CAPACITY, arena.size());
+            assertArrayEquals(packetOf(2, 4), arena.get());
+        }
+
+        @Test
+        @DisplayName("Should not evict a packet for an empty one when full")
+        void shouldRejectEmptyPacketWhenFull() {
+            for (int i = 0; i < DEFAULT_CAPACITY; i++) {
+                arena.put(packetOf(i, 4));
+            }
+
+            assertEquals(PutResult.REJECTED, arena.put(new byte[0]));
+            assertEquals(PutResult.REJECTED, arena.put(ByteBuffer.allocate(8).position(8)));
+
+            assertEquals(DEFAULT_CAPACITY, arena.size());
+            for (int i = 0; i < DEFAULT_CAPACITY; i++) {
+                assertArrayEquals(packetOf(i, 4), arena.get());
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep oldest packets under reject-newest policy")
+        void shouldRejectNewestWhenFull() {
+            DirectPacketArena rejecting = new DirectPacketArena(DEFAULT_CAPACITY, OverflowPolicy.REJECT_NEWEST);
+            for (int i = 0; i < DEFAULT_CAPACITY; i++) {
+                assertEquals(PutResult.STORED, rejecting.put(packetOf(i, 4)));
+            }
+
+            assertEquals(PutResult.REJECTED, rejecting.put(packetOf(99, 4)));
+            assertEquals(PutResult.REJECTED, rejecting.put(ByteBuffer.wrap(packetOf(99, 4))));
+            assertArrayEquals(packetOf(0, 4), rejecting.get());
+        }
+
+        @Test
+        @DisplayName("Should reuse the same view object for a slot on every lap")
+        void shouldReuseViews() {
+            DirectPacketArena single = new DirectPacketArena(1);
+            List<ByteBuffer> views = new ArrayList<>();
+
+            single.put(packetOf(1, 8));
+            single.poll(views::add);
+            single.put(packetOf(2, 3));
+            single.poll(view -> {
+                views.add(view);
+                assertEquals(3, view.remaining());
+            });
+
+            assertSame(views.get(0), views.get(1));
+        }
+
+        @Test
+        @DisplayName("Should clear all stored packets")
+        void shouldClear() {
+            arena.put(packetOf(1, 4));
+            arena.put(packetOf(2, 4));
+            arena.clear();
+
+            assertTrue(arena.isEmpty());
+            assertNull(arena.get());
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Drain")
+    class BatchDrain {
+
+        @Test
+        @DisplayName("Should drain a batch of views in FIFO order")
+        void shouldDrainBatch() {
+            for (int i = 0; i < 4; i++) {
+                arena.put(packetOf(i * 10, 3));
+            }
+
+            List<byte[]> drained = new ArrayList<>();
+            assertEquals(3, arena.drainTo(view -> drained.add(toArray(view)), 3));
+
+            assertArrayEquals(packetOf(0, 3), drained.get(0));
+            assertArrayEquals(packetOf(10, 3), drained.get(1));
+            assertArrayEquals(packetOf(20, 3), drained.get(2));
+            assertEquals(1, arena.size());
+        }
+
+        @Test
+        @DisplayName("Should release the rest of the batch when the reader fails")
+        void shouldReleaseBatchOnFailure() {
+            arena.put(packetOf(1, 3));
+            arena.put(packetOf(2, 3));
+
+            assertThrows(IllegalStateException.class, () -> arena.drainTo(view -> {
+                throw new IllegalStateException("reader failure");
+            }, 2));
+
+            assertTrue(arena.isEmpty());
+            assertEquals(0, arena.clear());
+            for (int i = 0; i < DEFAULT_CAPACITY; i++) {
+                assertEquals(PutResult.STORED, arena.put(packetOf(i, 3)));
+            }
+            assertArrayEquals(packetOf(0, 3), arena.get());
+        }
+    }
+}
@@ -117,6 +117,38 @@ class TelemetryRingBufferTest {
             assertEquals("item6", buffer.get());
             assertNull(buffer.get());
         }
+
+        @Test
+        @DisplayName("Should reject new items when full under reject-newest policy")
+        void shouldRejectNewestWhenFull() {
+            TelemetryRingBuffer<String> rejecting = new TelemetryRingBuffer<>(DEFAULT_CAPACITY, OverflowPolicy.REJECT_NEWEST);
+            for (int i = 0; i < DEFAULT_CAPACITY; i++) {
+                assertTrue(rejecting.put("item" + i));
+            }
+
+            assertFalse(rejecting.put("rejected"));
+            assertEquals(DEFAULT_CAPACITY, rejecting.size());
+            assertEquals("item0", rejecting.get());
+
+            // A freed slot accepts new items again
+            assertTrue(rejecting.put("accepted"));
+        }
+
+        @Test
+        @DisplayName("Should report when an offer evicts the oldest item")
+        void shouldReportEvictionOnOffer() {
+            for (int i = 0; i < DEFAULT_CAPACITY; i++) {
+                assertEquals(PutResult.STORED, buffer.offer("item" + i));
+            }
+
+            assertEquals(PutResult.EVICTED_OLDEST, buffer.offer("newItem"));
+            buffer.get();
+            assertEquals(PutResult.STORED, buffer.offer("afterRead"));
+
+            TelemetryRingBuffer<String> rejecting = new TelemetryRingBuffer<>(1, OverflowPolicy.REJECT_NEWEST);
+            rejecting.offer("kept");
+            assertEquals(PutResult.REJECTED, rejecting.offer("rejected"));
+        }
     }
 
     @Nested
@@ -150,6 +182,59 @@ class TelemetryRingBufferTest {
         }
     }
 
+    @Nested
+    @DisplayName("Batch Drain")
+    class BatchDrain {
+
+        @Test
+        @DisplayName("Should drain up to the batch size in FIFO order")
+        void shouldDrainUpToBatchSize() {
+            for (int i = 0; i < 4; i++) {
+                buffer.put("item" + i);
+            }
+
+            List<String> drained = new ArrayList<>();
+            assertEquals(3, buffer.drainTo(drained::add, 3));
+
+            assertEquals(List.of("item0", "item1", "item2"), drained);
+            assertEquals(1, buffer.size());
+            assertEquals("item3", buffer.get());
+        }
+
+        @Test
+        @DisplayName("Should drain everything available when fewer items than the batch size")
+        void shouldDrainAvailableItems() {
+            buffer.put("item1");
+            buffer.put("item2");
+
+            List<String> drained = new ArrayList<>();
+            assertEquals(2, buffer.drainTo(drained::add, 10));
+
+            assertEquals(List.of("item1", "item2"), drained);
+            assertTrue(buffer.isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should drain nothing from empty buffer")
+        void shouldDrainNothingWhenEmpty() {
+            assertEquals(0, buffer.drainTo(item -> fail("Consumer should not be called"), 10));
+        }
+
+        @Test
+        @DisplayName("Should free drained slots for new items")
+        void shouldFreeDrainedSlots() {
+            for (int i = 0; i < DEFAULT_CAPACITY; i++) {
+                buffer.put("item" + i);
+            }
+            buffer.drainTo(item -> { }, DEFAULT_CAPACITY);
+
+            for (int i = 0; i < DEFAULT_CAPACITY; i++) {
+                buffer.put("next" + i);
+            }
+            assertEquals("next0", buffer.get());
+        }
+    }
+
     @Nested
     @DisplayName("Clear Operation")
     class ClearOperation {
@@ -182,7 +267,7 @@ class TelemetryRingBufferTest {
                 buffer.put("item" + i);
             }
             
-            buffer.clear();
+            assertEquals(DEFAULT_CAPACITY, buffer.clear());
             assertTrue(buffer.isEmpty());
             assertFalse(buffer.isFull());
             assertEquals(0, buffer.size());
@@ -224,6 +309,29 @@ class TelemetryRingBufferTest {
             }
             assertEquals(5000, largeBuffer.size());
         }
+
+        @Test
+        @DisplayName("Should keep logical capacity when it is not a power of two")
+        void shouldKeepLogicalCapacityForNonPowerOfTwo() {
+            TelemetryRingBuffer<Integer> oddBuffer = new TelemetryRingBuffer<>(3);
+
+            for (int i = 0; i < 10; i++) {
+                oddBuffer.put(i);
+            }
+
+            assertEquals(3, oddBuffer.size());
+            assertEquals(7, oddBuffer.get());
+            assertEquals(8, oddBuffer.get());
+            assertEquals(9, oddBuffer.get());
+            assertNull(oddBuffer.get());
+        }
+
+        @Test
+        @DisplayName("Should reject non-positive capacity")
+        void shouldRejectNonPositiveCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> new TelemetryRingBuffer<>(0));
+            assertThrows(IllegalArgumentException.class, () -> new TelemetryRingBuffer<>(-1));
+        }
     }
 
     @Nested
@@ -305,6 +413,98 @@ class TelemetryRingBufferTest {
             
             executor.shutdown();
         }
+
+        @Test
+        @DisplayName("Should hand each item to exactly one of several concurrent consumers")
+        void shouldNotDuplicateItemsAcrossConsumers() throws InterruptedException {
+            int producers = 4;
+            int consumers = 4;
+            int itemsPerProducer = 10_000;
+            int totalItems = producers * itemsPerProducer;
+            TelemetryRingBuffer<Integer> concurrentBuffer = new TelemetryRingBuffer<>(totalItems);
+
+            ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+            CountDownLatch producersDone = new CountDownLatch(producers);
+            CountDownLatch consumersDone = new CountDownLatch(consumers);
+            AtomicInteger consumed = new AtomicInteger(0);
+            boolean[] seen = new boolean[totalItems];
+            List<Integer> duplicates = Collections.synchronizedList(new ArrayList<>());
+
+            for (int p = 0; p < producers; p++) {
+                final int base = p * itemsPerProducer;
+                executor.submit(() -> {
+                    try {
+                        for (int i = 0; i < itemsPerProducer; i++) {
+                            concurrentBuffer.put(base + i);
+                        }
+                    } finally {
+                        producersDone.countDown();
+                    }
+                });
+            }
+
+            for (int c = 0; c < consumers; c++) {
+                executor.submit(() -> {
+                    try {
+                        while (consumed.get() < totalItems) {
+                            Integer item = concurrentBuffer.get();
+                            if (item == null) {
+                                Thread.onSpinWait();
+                                continue;
+                            }
+                            synchronized (seen) {
+                                if (seen[item]) {
+                                    duplicates.add(item);
+                                }
+                                seen[item] = true;
+                            }
+                            consumed.incrementAndGet();
+                        }
+                    } finally {
+                        consumersDone.countDown();
+                    }
+                });
+            }
+
+            assertTrue(producersDone.await(5, TimeUnit.SECONDS));
+            assertTrue(consumersDone.await(5, TimeUnit.SECONDS));
+            assertTrue(duplicates.isEmpty(), "Items were dequeued more than once: " + duplicates);
+            assertEquals(totalItems, consumed.get());
+            assertTrue(concurrentBuffer.isEmpty());
+
+            executor.shutdown();
+        }
+
+        @Test
+        @DisplayName("Should never exceed capacity when concurrent producers overwrite")
+        void shouldRespectCapacityUnderConcurrentOverwrite() throws InterruptedException {
+            TelemetryRingBuffer<Integer> concurrentBuffer = new TelemetryRingBuffer<>(64);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            CountDownLatch latch = new CountDownLatch(4);
+
+            for (int p = 0; p < 4; p++) {
+                executor.submit(() -> {
+                    try {
+                        for (int i = 0; i < 5_000; i++) {
+                            concurrentBuffer.put(i);
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(64, concurrentBuffer.size());
+
+            int drained = 0;
+            while (concurrentBuffer.get() != null) {
+                drained++;
+            }
+            assertEquals(64, drained);
+
+            executor.shutdown();
+        }
     }
 
     @Nested
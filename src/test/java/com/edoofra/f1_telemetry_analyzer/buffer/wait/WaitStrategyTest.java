@@ -0,0 +1,194 @@
+package com.edoofra.f1_telemetry_analyzer.buffer.wait;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WaitStrategyTest {
+
+    private static final long SHORT_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long LONG_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private static void assertReturnsImmediatelyWhenWorkIsAvailable(WaitStrategy strategy) throws InterruptedException {
+        assertTrue(strategy.waitFor(() -> true, LONG_TIMEOUT_NANOS));
+        assertEquals(1, strategy.getIdleCount());
+        assertEquals(1, strategy.getWakeupCount());
+        assertEquals(0, strategy.getTimeoutCount());
+    }
+
+    private static void assertTimesOutWithoutWork(WaitStrategy strategy) throws InterruptedException {
+        assertFalse(strategy.waitFor(() -> false, SHORT_TIMEOUT_NANOS));
+        assertEquals(1, strategy.getTimeoutCount());
+        assertEquals(0, strategy.getWakeupCount());
+        assertTrue(strategy.getIdleNanos() >= SHORT_TIMEOUT_NANOS);
+    }
+
+    /**
+     * Publishes work from another thread and checks that the waiting thread wakes up long before the timeout.
+     */
+    private static void assertWakesUpWhenSignalled(WaitStrategy strategy) throws InterruptedException {
+        AtomicBoolean published = new AtomicBoolean(false);
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            published.set(true);
+            strategy.signalAll();
+        });
+
+        long start = System.nanoTime();
+        producer.start();
+        boolean available = strategy.waitFor(published::get, LONG_TIMEOUT_NANOS);
+        long waited = System.nanoTime() - start;
+        producer.join();
+
+        assertTrue(available);
+        assertTrue(waited < TimeUnit.SECONDS.toNanos(2), "Consumer should be woken by the signal, not the timeout");
+        assertEquals(1, strategy.getWakeupCount());
+    }
+
+    @Nested
+    @DisplayName("Spinning strategies")
+    class SpinningStrategies {
+
+        @Test
+        @DisplayName("Should return immediately when work is available")
+        void shouldReturnImmediatelyWhenWorkIsAvailable() throws InterruptedException {
+            assertReturnsImmediatelyWhenWorkIsAvailable(new BusySpinWaitStrategy());
+            assertReturnsImmediatelyWhenWorkIsAvailable(new SpinThenYieldWaitStrategy());
+        }
+
+        @Test
+        @DisplayName("Should time out when no work arrives")
+        void shouldTimeOutWhenNoWorkArrives() throws InterruptedException {
+            assertTimesOutWithoutWork(new BusySpinWaitStrategy());
+            assertTimesOutWithoutWork(new SpinThenYieldWaitStrategy());
+        }
+
+        @Test
+        @DisplayName("Should notice published work without a signal")
+        void shouldNoticePublishedWorkWithoutSignal() throws InterruptedException {
+            WaitStrategy strategy = new SpinThenYieldWaitStrategy();
+            assertWakesUpWhenSignalled(strategy);
+            assertEquals(0, strategy.getSignalCount(), "Spinning strategies do not count signals");
+        }
+    }
+
+    @Nested
+    @DisplayName("Parking strategy")
+    class ParkingStrategy {
+
+        @Test
+        @DisplayName("Should return immediately when work is available")
+        void shouldReturnImmediatelyWhenWorkIsAvailable() throws InterruptedException {
+            assertReturnsImmediatelyWhenWorkIsAvailable(new ParkingWaitStrategy());
+        }
+
+        @Test
+        @DisplayName("Should time out when no work arrives")
+        void shouldTimeOutWhenNoWorkArrives() throws InterruptedException {
+            assertTimesOutWithoutWork(new ParkingWaitStrategy());
+        }
+
+        @Test
+        @DisplayName("Should wake up when a producer signals")
+        void shouldWakeUpWhenProducerSignals() throws InterruptedException {
+            WaitStrategy strategy = new ParkingWaitStrategy();
+            assertWakesUpWhenSignalled(strategy);
+            assertEquals(1, strategy.getSignalCount());
+        }
+
+        @Test
+        @DisplayName("Should wake every waiting consumer")
+        void shouldWakeEveryWaitingConsumer() throws InterruptedException {
+            WaitStrategy strategy = new ParkingWaitStrategy();
+            AtomicBoolean published = new AtomicBoolean(false);
+            AtomicInteger woken = new AtomicInteger();
+            Thread[] consumers = new Thread[4];
+            for (int i = 0; i < consumers.length; i++) {
+                consumers[i] = new Thread(() -> {
+                    try {
+                        if (strategy.waitFor(published::get, LONG_TIMEOUT_NANOS)) {
+                            woken.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                consumers[i].start();
+            }
+
+            Thread.sleep(20);
+            long start = System.nanoTime();
+            published.set(true);
+            strategy.signalAll();
+            for (Thread consumer : consumers) {
+                consumer.join();
+            }
+
+            assertEquals(consumers.length, woken.get());
+            assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2),
+                    "Consumers should be woken by the signal, not the timeout");
+        }
+
+        @Test
+        @DisplayName("Should free its waiter slot after every wait")
+        void shouldFreeWaiterSlotAfterEveryWait() throws InterruptedException {
+            WaitStrategy strategy = new ParkingWaitStrategy();
+            for (int i = 0; i < ParkingWaitStrategy.WAITER_SLOTS * 2; i++) {
+                assertFalse(strategy.waitFor(() -> false, 1));
+            }
+            assertWakesUpWhenSignalled(strategy);
+        }
+
+        @Test
+        @DisplayName("Should skip signalling when nobody is waiting")
+        void shouldSkipSignallingWhenNobodyIsWaiting() {
+            WaitStrategy strategy = new ParkingWaitStrategy();
+            strategy.signalAll();
+            assertEquals(0, strategy.getSignalCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Blocking strategy")
+    class BlockingStrategy {
+
+        @Test
+        @DisplayName("Should return immediately when work is available")
+        void shouldReturnImmediatelyWhenWorkIsAvailable() throws InterruptedException {
+            assertReturnsImmediatelyWhenWorkIsAvailable(new BlockingWaitStrategy());
+        }
+
+        @Test
+        @DisplayName("Should time out when no work arrives")
+        void shouldTimeOutWhenNoWorkArrives() throws InterruptedException {
+            assertTimesOutWithoutWork(new BlockingWaitStrategy());
+        }
+
+        @Test
+        @DisplayName("Should wake up when a producer signals")
+        void shouldWakeUpWhenProducerSignals() throws InterruptedException {
+            WaitStrategy strategy = new BlockingWaitStrategy();
+            assertWakesUpWhenSignalled(strategy);
+            assertEquals(1, strategy.getSignalCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should create a strategy for every configured type")
+    void shouldCreateStrategyForEveryType() {
+        assertInstanceOf(BusySpinWaitStrategy.class, WaitStrategy.create(WaitStrategy.Type.BUSY_SPIN));
+        assertInstanceOf(SpinThenYieldWaitStrategy.class, WaitStrategy.create(WaitStrategy.Type.SPIN_THEN_YIELD));
+        assertInstanceOf(ParkingWaitStrategy.class, WaitStrategy.create(WaitStrategy.Type.PARKING));
+        assertInstanceOf(BlockingWaitStrategy.class, WaitStrategy.create(WaitStrategy.Type.BLOCKING));
+    }
+}
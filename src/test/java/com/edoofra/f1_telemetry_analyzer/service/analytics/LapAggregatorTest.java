@@ -0,0 +1,106 @@
+package com.edoofra.f1_telemetry_analyzer.service.analytics;
+
+import com.edoofra.f1_telemetry_analyzer.model.frame.AssembledFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.CarTelemetryFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.LapDataFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.MotionFrame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LapAggregator Tests")
+class LapAggregatorTest {
+
+    private static final long SESSION = 42L;
+    private static final int CAR = 3;
+
+    private final List<LapAggregates> frozen = new ArrayList<>();
+    private final AssembledFrame frame = new AssembledFrame();
+    private final LapDataFrame lapData = new LapDataFrame();
+    private final CarTelemetryFrame telemetry = new CarTelemetryFrame();
+    private final MotionFrame motion = new MotionFrame();
+    private LapAggregator aggregator;
+    private int frameIdentifier;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new LapAggregator(SESSION);
+    }
+
+    @Test
+    @DisplayName("Should freeze the aggregates of a lap when the car starts the next one")
+    void shouldFreezeLapAggregates() {
+        send(1, 0.00f, 100f, 1.0f, 0.0f, 6, 1.2f, 80f);
+        send(1, 0.10f, 300f, 0.95f, 0.0f, 8, -3.5f, 95f);
+        send(1, 0.20f, 80f, 0.0f, 0.85f, 3, 0.4f, 90f);
+        assertTrue(frozen.isEmpty());
+
+        send(2, 0.30f, 150f, 0.5f, 0.0f, 4, 0.1f, 85f);
+
+        assertEquals(1, frozen.size());
+        LapAggregates lap = frozen.get(0);
+        assertEquals(SESSION, lap.sessionUID());
+        assertEquals(CAR, lap.carIndex());
+        assertEquals(1, lap.lapNumber());
+        assertEquals(3, lap.samples());
+        assertEquals(80f, lap.minSpeedKph());
+        assertEquals(300f, lap.maxSpeedKph());
+        assertEquals(160f, lap.meanSpeedKph(), 0.001f);
+        assertArrayEquals(new int[]{100, 0, 0, 0, 0, 0, 0, 0, 0, 100}, lap.throttleHistogramMs());
+        assertArrayEquals(new int[]{100, 0, 0, 0, 0, 0, 0, 0, 100, 0}, lap.brakeHistogramMs());
+        assertArrayEquals(new int[]{0, 0, 0, 0, 100, 0, 0, 0, 0, 100}, lap.gearTimeMs());
+        assertEquals(3.5f, lap.maxLateralG());
+        assertArrayEquals(new float[]{80f, 80f, 80f, 80f}, lap.tyreSurfaceMinC());
+        assertArrayEquals(new float[]{95f, 95f, 95f, 95f}, lap.tyreSurfaceMaxC());
+    }
+
+    @Test
+    @DisplayName("Should start the next lap from the frame that completed the previous one")
+    void shouldStartNextLapFromRolloverFrame() {
+        send(1, 0.00f, 100f, 1.0f, 0.0f, 6, 0f, 80f);
+        send(2, 0.10f, 250f, 1.0f, 0.0f, 7, 0f, 80f);
+        send(3, 0.20f, 200f, 1.0f, 0.0f, 7, 0f, 80f);
+
+        assertEquals(2, frozen.size());
+        assertEquals(2, frozen.get(1).lapNumber());
+        assertEquals(1, frozen.get(1).samples());
+        assertEquals(250f, frozen.get(1).maxSpeedKph());
+    }
+
+    @Test
+    @DisplayName("Should discard the running lap when the lap number goes back")
+    void shouldDiscardLapAfterFlashback() {
+        send(2, 0.00f, 320f, 1.0f, 0.0f, 8, 0f, 80f);
+        send(1, 0.10f, 100f, 1.0f, 0.0f, 5, 0f, 80f);
+        send(2, 0.20f, 120f, 1.0f, 0.0f, 5, 0f, 80f);
+
+        assertEquals(1, frozen.size());
+        assertEquals(1, frozen.get(0).lapNumber());
+        assertEquals(100f, frozen.get(0).maxSpeedKph());
+    }
+
+    private void send(int lapNumber, float sessionTime, float speed, float throttle, float brake, int gear,
+                      float lateralG, float tyreTemperature) {
+        frame.open(SESSION, frameIdentifier++, 0);
+        lapData.getCurrentLapNum()[CAR] = (byte) lapNumber;
+        telemetry.setSessionTime(sessionTime);
+        telemetry.getSpeed()[CAR] = speed;
+        telemetry.getThrottle()[CAR] = throttle;
+        telemetry.getBrake()[CAR] = brake;
+        telemetry.getGear()[CAR] = (byte) gear;
+        for (int wheel = 0; wheel < ColumnarFrame.WHEELS; wheel++) {
+            telemetry.getTyresSurfaceTemperature()[ColumnarFrame.wheel(CAR, wheel)] = tyreTemperature;
+        }
+        motion.getGForceLateral()[CAR] = lateralG;
+        frame.add(lapData);
+        frame.add(telemetry);
+        frame.add(motion);
+        aggregator.onFrame(frame, 0, frozen::add);
+    }
+}
@@ -0,0 +1,118 @@
+package com.edoofra.f1_telemetry_analyzer.service.analytics;
+
+import com.edoofra.f1_telemetry_analyzer.model.frame.AssembledFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.LapDataFrame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LapDeltaTracker Tests")
+class LapDeltaTrackerTest {
+
+    private static final long SESSION = 42L;
+    private static final int CAR = 5;
+    private static final float LAP_METRES = 2000;
+    private static final int FRAME_MS = 16;
+
+    private final AssembledFrame frame = new AssembledFrame();
+    private final LapDataFrame lapData = new LapDataFrame();
+    private LapDeltaTracker tracker;
+    private int frameIdentifier;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new LapDeltaTracker(SESSION);
+    }
+
+    @Test
+    @DisplayName("Should compute the delta to the best lap at the car's distance")
+    void shouldComputeDeltaToReference() {
+        lap(1, 50);
+        lap(2, 50);
+        assertTrue(Float.isNaN(tracker.deltaMs(CAR)), "No reference before a lap started at the line completes");
+
+        drive(3, 40, 1000);
+
+        ReferenceLap reference = tracker.reference();
+        assertEquals(2, reference.lapNumber());
+        assertEquals(CAR, reference.carIndex());
+        assertEquals(40_000, reference.lapTimeMs());
+        // 40 m/s against 50 m/s loses 5 ms per metre
+        assertEquals(5000, tracker.deltaMs(CAR), 5);
+        LiveDeltaSnapshot snapshot = tracker.snapshot();
+        assertEquals(1, snapshot.cars().size());
+        assertEquals(CAR, snapshot.cars().get(0).carIndex());
+        assertEquals(3, snapshot.cars().get(0).lapNumber());
+    }
+
+    @Test
+    @DisplayName("Should replace the reference only when a faster lap completes")
+    void shouldReplaceReferenceWithFasterLap() {
+        lap(1, 50);
+        lap(2, 50);
+        lap(3, 40);
+        send(4, 0, 0);
+        ReferenceLap slowest = tracker.reference();
+        assertEquals(2, slowest.lapNumber());
+
+        lap(4, 80);
+        send(5, 0, 0);
+
+        assertEquals(4, tracker.reference().lapNumber());
+        assertEquals(25_000, tracker.reference().lapTimeMs());
+        assertEquals(2, slowest.lapNumber(), "A replaced reference is left unchanged for its readers");
+        assertEquals(0, tracker.deltaMs(CAR), 5);
+    }
+
+    @Test
+    @DisplayName("Should not take invalidated laps or laps with missing frames as reference")
+    void shouldSkipUnusableLaps() {
+        lap(1, 50);
+        lapData.getCurrentLapInvalid()[CAR] = true;
+        lap(2, 50);
+        lapData.getCurrentLapInvalid()[CAR] = false;
+        drive(3, 50, 1000);
+        send(3, 1000 + LapDeltaTracker.MAX_FILL_METRES + 1, 25_020);
+        send(3, LAP_METRES - 1, 39_980);
+        lapData.getLastLapTimeInMs()[CAR] = 39_990;
+        send(4, 0, 0);
+
+        assertNull(tracker.reference());
+    }
+
+    @Test
+    @DisplayName("Should interpolate the reference time between metres and hold it past the last one")
+    void shouldInterpolateReferenceTime() {
+        ReferenceLap reference = new ReferenceLap(0, 1, 100, new int[]{0, 20, 60});
+
+        assertEquals(10f, reference.timeAt(0.5f));
+        assertEquals(50f, reference.timeAt(1.75f));
+        assertEquals(60f, reference.timeAt(2f));
+        assertEquals(60f, reference.timeAt(7.5f));
+    }
+
+    /**
+     * Drives a full lap at constant speed; its time is reported by the first frame of the next lap.
+     */
+    private void lap(int lapNumber, float metresPerSecond) {
+        drive(lapNumber, metresPerSecond, LAP_METRES);
+        lapData.getLastLapTimeInMs()[CAR] = Math.round(LAP_METRES / metresPerSecond * 1000);
+    }
+
+    private void drive(int lapNumber, float metresPerSecond, float toMetres) {
+        for (int timeMs = 0; metresPerSecond * timeMs / 1000 < toMetres; timeMs += FRAME_MS) {
+            send(lapNumber, metresPerSecond * timeMs / 1000, timeMs);
+        }
+    }
+
+    private void send(int lapNumber, float lapDistance, int currentLapTimeMs) {
+        frame.open(SESSION, frameIdentifier++, 0);
+        lapData.getCurrentLapNum()[CAR] = (byte) lapNumber;
+        lapData.getLapDistance()[CAR] = lapDistance;
+        lapData.getCurrentLapTimeInMs()[CAR] = currentLapTimeMs;
+        frame.add(lapData);
+        tracker.onFrame(frame, 0);
+    }
+}
@@ -0,0 +1,159 @@
+package com.edoofra.f1_telemetry_analyzer.service.analytics;
+
+import com.edoofra.f1_telemetry_analyzer.model.frame.AssembledFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.CarDamageFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.CarStatusFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.LapDataFrame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StrategyModel Tests")
+class StrategyModelTest {
+
+    private static final long SESSION = 42L;
+    private static final int CAR = 7;
+    private static final int TRACK_METRES = 5000;
+    private static final int TOTAL_LAPS = 20;
+    private static final float WEAR_PER_LAP = 4;
+    private static final float FUEL_PER_LAP = 1.5f;
+    private static final byte MEDIUM = 17;
+    private static final byte HARD = 18;
+
+    private final AssembledFrame frame = new AssembledFrame();
+    private final LapDataFrame lapData = new LapDataFrame();
+    private final CarStatusFrame carStatus = new CarStatusFrame();
+    private final CarDamageFrame carDamage = new CarDamageFrame();
+    private final List<StrategyEstimate> published = new ArrayList<>();
+    private StrategyModel model;
+    private int frameIdentifier;
+    private int frames;
+
+    @BeforeEach
+    void setUp() {
+        model = new StrategyModel(SESSION, 70, 0.5f);
+        model.sessionDetails(TOTAL_LAPS, TRACK_METRES);
+        carStatus.getVisualTyreCompound()[CAR] = MEDIUM;
+    }
+
+    @Test
+    @DisplayName("Should fit the wear and fuel rates per lap and project the pit window")
+    void shouldProjectPitWindow() {
+        drive(0, 9900, 0, 30);
+
+        StrategyEstimate estimate = latest();
+        assertEquals("42", estimate.sessionUID());
+        assertEquals(CAR, estimate.carIndex());
+        assertEquals(2, estimate.lapNumber());
+        assertEquals(1, estimate.stintStartLap());
+        assertEquals(MEDIUM, estimate.tyreCompound());
+        assertEquals(WEAR_PER_LAP, estimate.wearPerLapPercent(), 1e-3);
+        assertEquals(FUEL_PER_LAP, estimate.fuelPerLapKg(), 1e-3);
+        // (70 - 7.92) / 4 laps of tyres and 27.03 / 1.5 laps of fuel left at 9900 m, within the publish threshold
+        assertEquals(15.52f, estimate.tyreLapsRemaining(), 0.5f);
+        assertEquals(18.02f, estimate.fuelLapsRemaining(), 0.5f);
+        assertEquals(17, estimate.pitWindowCloseLap());
+        // Fresh tyres last 17.5 laps, enough from lap 3 of 20
+        assertEquals(3, estimate.pitWindowOpenLap());
+        assertEquals(List.of(estimate), model.estimates());
+    }
+
+    @Test
+    @DisplayName("Should publish only when a projection moves beyond the threshold")
+    void shouldThrottlePublishing() {
+        drive(0, 9900, 0, 30);
+
+        assertNull(published.get(0).wearPerLapPercent(), "No rate before the stint spans enough distance");
+        assertTrue(published.size() < frames / 4, published.size() + " estimates for " + frames + " frames");
+        for (int i = 1; i < published.size(); i++) {
+            StrategyEstimate previous = published.get(i - 1);
+            StrategyEstimate current = published.get(i);
+            boolean moved = moved(current.tyreLapsRemaining(), previous.tyreLapsRemaining())
+                    || moved(current.fuelLapsRemaining(), previous.fuelLapsRemaining())
+                    || !Objects.equals(current.pitWindowOpenLap(), previous.pitWindowOpenLap())
+                    || !Objects.equals(current.pitWindowCloseLap(), previous.pitWindowCloseLap());
+            assertTrue(moved, "Estimate " + i + " did not move beyond the threshold");
+        }
+    }
+
+    @Test
+    @DisplayName("Should start a new stint when the tyres are changed")
+    void shouldStartStintOnTyreChange() {
+        drive(0, 9900, 0, 30);
+        int before = published.size();
+
+        carStatus.getVisualTyreCompound()[CAR] = HARD;
+        drive(10_000, 10_200, 10_000, 30);
+
+        StrategyEstimate estimate = published.get(before);
+        assertEquals(HARD, estimate.tyreCompound());
+        assertEquals(3, estimate.stintStartLap());
+        assertEquals(0, estimate.tyreAgeLaps());
+        assertEquals(0, estimate.tyreWearPercent());
+        assertNull(estimate.wearPerLapPercent(), "The wear rate restarts with the stint");
+        assertNull(estimate.pitWindowCloseLap());
+        assertEquals(FUEL_PER_LAP, estimate.fuelPerLapKg(), 1e-3, "The fuel trend continues over the stop");
+    }
+
+    @Test
+    @DisplayName("Should fit a least-squares line incrementally")
+    void shouldFitLinearTrend() {
+        LinearTrend trend = new LinearTrend();
+        trend.add(1, 1);
+        assertTrue(Double.isNaN(trend.slope()));
+
+        trend.add(2, 3);
+        trend.add(3, 2);
+        trend.add(4, 4);
+
+        assertEquals(0.8, trend.slope(), 1e-9);
+        assertEquals(3, trend.span());
+        trend.reset();
+        assertEquals(0, trend.count());
+        assertEquals(0, trend.span());
+    }
+
+    /**
+     * Drives the car every 100 m at constant wear and fuel burn, counted from the stint and fuel start distances,
+     * with Car Damage following each assembled frame.
+     */
+    private void drive(float fromMetres, float toMetres, float stintStartMetres, float startFuelKg) {
+        for (float distance = fromMetres; distance <= toMetres; distance += 100) {
+            float laps = distance / TRACK_METRES;
+            float stintLaps = (distance - stintStartMetres) / TRACK_METRES;
+            float wear = WEAR_PER_LAP * stintLaps;
+
+            frame.open(SESSION, frameIdentifier++, 0);
+            lapData.getCurrentLapNum()[CAR] = (byte) (1 + (int) laps);
+            lapData.getTotalDistance()[CAR] = distance;
+            frame.add(lapData);
+            carStatus.getFuelInTank()[CAR] = startFuelKg - FUEL_PER_LAP * laps;
+            carStatus.getTyresAgeLaps()[CAR] = (byte) stintLaps;
+            frame.add(carStatus);
+            model.onFrame(frame, 0, published::add);
+            for (int wheel = 0; wheel < ColumnarFrame.WHEELS; wheel++) {
+                carDamage.getTyresWear()[ColumnarFrame.wheel(CAR, wheel)] = wheel == 2 ? wear : wear / 2;
+            }
+            model.onCarDamage(carDamage, 0, published::add);
+            frames++;
+        }
+    }
+
+    private static boolean moved(Float laps, Float previousLaps) {
+        if (laps == null || previousLaps == null) {
+            return laps != previousLaps;
+        }
+        return Math.abs(laps - previousLaps) >= 0.5f;
+    }
+
+    private StrategyEstimate latest() {
+        return published.get(published.size() - 1);
+    }
+}
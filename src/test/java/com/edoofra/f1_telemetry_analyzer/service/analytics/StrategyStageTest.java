@@ -0,0 +1,114 @@
+package com.edoofra.f1_telemetry_analyzer.service.analytics;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.frame.CarDamageFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.CarStatusFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.CarTelemetryFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.LapDataFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.MotionFrame;
+import com.edoofra.f1_telemetry_analyzer.service.processing.AssembledFrameStage;
+import com.edoofra.f1_telemetry_analyzer.service.processing.FrameAssemblyStage;
+import com.edoofra.f1_telemetry_analyzer.service.session.LiveSession;
+import com.edoofra.f1_telemetry_analyzer.service.session.LiveSessionRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StrategyStage Tests")
+class StrategyStageTest {
+
+    private static final long SESSION = 42L;
+    private static final int CAR = 3;
+    private static final int TRACK_METRES = 5000;
+    private static final float WEAR_PER_LAP = 4;
+
+    @Mock
+    private LiveSessionRegistry sessionRegistry;
+
+    @Mock
+    private LiveSession liveSession;
+
+    @Mock
+    private ObjectProvider<AssembledFrameStage> assembledStageProvider;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<StrategyEstimate> published = new ArrayList<>();
+    private final MotionFrame motion = new MotionFrame();
+    private final LapDataFrame lapData = new LapDataFrame();
+    private final CarTelemetryFrame carTelemetry = new CarTelemetryFrame();
+    private final CarStatusFrame carStatus = new CarStatusFrame();
+    private final CarDamageFrame carDamage = new CarDamageFrame();
+    private StrategyStage stage;
+    private FrameAssemblyStage assembler;
+
+    @BeforeEach
+    void setUp() {
+        when(sessionRegistry.find(SESSION)).thenReturn(liveSession);
+        when(liveSession.totalLaps()).thenReturn(20);
+        when(liveSession.trackLength()).thenReturn(TRACK_METRES);
+        stage = new StrategyStage(sessionRegistry, List.of(published::add), 70, 0.5f, 300, () -> 0L);
+        when(assembledStageProvider.orderedStream()).thenReturn(Stream.of(stage));
+        assembler = new FrameAssemblyStage(assembledStageProvider, meterRegistry, 8, 50,
+                List.of(PacketType.MOTION, PacketType.LAP_DATA, PacketType.CAR_TELEMETRY, PacketType.CAR_STATUS));
+    }
+
+    @Test
+    @DisplayName("Should fit the wear rate from Car Damage arriving after its frame was assembled")
+    void shouldFeedCarDamageAfterAssembly() {
+        int frameIdentifier = 0;
+        for (float distance = 0; distance <= 9900; distance += 100) {
+            lapData.getCurrentLapNum()[CAR] = (byte) (1 + (int) (distance / TRACK_METRES));
+            lapData.getTotalDistance()[CAR] = distance;
+            carStatus.getFuelInTank()[CAR] = 30;
+            publish(lapData, frameIdentifier);
+            publish(motion, frameIdentifier);
+            publish(carTelemetry, frameIdentifier);
+            publish(carStatus, frameIdentifier);
+            // Car Damage comes every other frame, once its frame has been emitted
+            if (frameIdentifier % 2 == 0) {
+                float wear = WEAR_PER_LAP * distance / TRACK_METRES;
+                for (int wheel = 0; wheel < ColumnarFrame.WHEELS; wheel++) {
+                    carDamage.getTyresWear()[ColumnarFrame.wheel(CAR, wheel)] = wear;
+                }
+                publish(carDamage, frameIdentifier);
+            }
+            frameIdentifier++;
+        }
+
+        assertEquals(50, meterRegistry.counter("telemetry.frames.late").count(), "Car Damage is late for the assembler");
+        StrategyEstimate estimate = stage.estimates(SESSION).orElseThrow().get(0);
+        assertEquals(CAR, estimate.carIndex());
+        assertEquals(WEAR_PER_LAP, estimate.wearPerLapPercent(), 1e-3);
+        assertNotNull(estimate.tyreLapsRemaining());
+        assertNotNull(estimate.pitWindowCloseLap());
+        assertEquals(published.get(published.size() - 1), estimate);
+    }
+
+    /**
+     * Hands a frame to the stages subscribed to its type, as the columnar frame stage does.
+     */
+    private void publish(ColumnarFrame<?> frame, int frameIdentifier) {
+        frame.setSessionUID(SESSION);
+        frame.setFrameIdentifier(frameIdentifier);
+        if (assembler.packetTypes().contains(frame.packetType())) {
+            assembler.onFrame(frame);
+        }
+        if (stage.packetTypes().contains(frame.packetType())) {
+            stage.onFrame(frame);
+        }
+    }
+}
@@ -24,7 +24,7 @@ class HeaderParsingServiceTest {
     @DisplayName("Should return null for packet smaller than header size")
     void shouldReturnNullForSmallPacket() {
         // Arrange
-        byte[] smallPacket = new byte[10]; // Less than 24 bytes
+        byte[] smallPacket = new byte[10]; // Less than 29 bytes
         
         // Act
         TelemetryPacketHeader result = headerParsingService.parseHeader(smallPacket);
@@ -36,7 +36,7 @@ class HeaderParsingServiceTest {
     @Test
     @DisplayName("Should parse valid F1 telemetry header")
     void shouldParseValidHeader() {
-        // Arrange: Create a valid 24-byte header
+        // Arrange: Create a valid 29-byte header
         byte[] headerData = createValidHeaderData();
         
         // Act
@@ -45,6 +45,7 @@ class HeaderParsingServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(2024, result.packetFormat());
+        assertEquals(24, result.gameYear());
         assertEquals(1, result.gameMajorVersion());
         assertEquals(5, result.gameMinorVersion());
         assertEquals(1, result.packetVersion());
@@ -52,6 +53,7 @@ class HeaderParsingServiceTest {
         assertEquals(0x123456789ABCDEF0L, result.sessionUID());
         assertEquals(125.5f, result.sessionTime(), 0.01f);
         assertEquals(1000, result.frameIdentifier());
+        assertEquals(1200, result.overallFrameIdentifier());
         assertEquals(0, result.playerCarIndex());
         assertEquals(255, result.secondaryPlayerCarIndex());
     }
@@ -61,7 +63,7 @@ class HeaderParsingServiceTest {
     void shouldHandleDifferentPacketIds() {
         // Arrange
         byte[] headerData = createValidHeaderData();
-        headerData[5] = 3; // Event packet ID
+        headerData[6] = 3; // Event packet ID
         
         // Act
         TelemetryPacketHeader result = headerParsingService.parseHeader(headerData);
@@ -75,39 +77,40 @@ class HeaderParsingServiceTest {
     @DisplayName("Should handle maximum values correctly")
     void shouldHandleMaximumValues() {
         // Arrange: Header with maximum values
-        byte[] headerData = new byte[24];
+        byte[] headerData = new byte[29];
         
         // Packet format: 0xFFFF (little-endian)
         headerData[0] = (byte) 0xFF;
         headerData[1] = (byte) 0xFF;
         
-        // Game versions: 255
-        headerData[2] = (byte) 0xFF; // major
-        headerData[3] = (byte) 0xFF; // minor
-        headerData[4] = (byte) 0xFF; // packet version
-        headerData[5] = (byte) 0xFF; // packet ID
+        // Game year and versions: 255
+        headerData[2] = (byte) 0xFF; // year
+        headerData[3] = (byte) 0xFF; // major
+        headerData[4] = (byte) 0xFF; // minor
+        headerData[5] = (byte) 0xFF; // packet version
+        headerData[6] = (byte) 0xFF; // packet ID
         
         // Session UID: maximum long value
         long maxSessionUID = Long.MAX_VALUE;
         for (int i = 0; i < 8; i++) {
-            headerData[6 + i] = (byte) ((maxSessionUID >>> (i * 8)) & 0xFF);
+            headerData[7 + i] = (byte) ((maxSessionUID >>> (i * 8)) & 0xFF);
         }
         
         // Session time: maximum float value
         int maxFloatBits = Float.floatToIntBits(Float.MAX_VALUE);
         for (int i = 0; i < 4; i++) {
-            headerData[14 + i] = (byte) ((maxFloatBits >>> (i * 8)) & 0xFF);
+            headerData[15 + i] = (byte) ((maxFloatBits >>> (i * 8)) & 0xFF);
         }
         
-        // Frame identifier: maximum int
-        headerData[18] = (byte) 0xFF;
-        headerData[19] = (byte) 0xFF;
-        headerData[20] = (byte) 0xFF;
-        headerData[21] = (byte) 0x7F; // Integer.MAX_VALUE
+        // Frame identifiers: maximum int
+        for (int i = 0; i < 4; i++) {
+            headerData[19 + i] = (byte) ((Integer.MAX_VALUE >>> (i * 8)) & 0xFF);
+            headerData[23 + i] = (byte) ((Integer.MAX_VALUE >>> (i * 8)) & 0xFF);
+        }
         
         // Player indices
-        headerData[22] = (byte) 0xFF;
-        headerData[23] = (byte) 0xFF;
+        headerData[27] = (byte) 0xFF;
+        headerData[28] = (byte) 0xFF;
         
         // Act
         TelemetryPacketHeader result = headerParsingService.parseHeader(headerData);
@@ -115,6 +118,7 @@ class HeaderParsingServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(65535, result.packetFormat());
+        assertEquals(255, result.gameYear());
         assertEquals(255, result.gameMajorVersion());
         assertEquals(255, result.gameMinorVersion());
         assertEquals(255, result.packetVersion());
@@ -122,6 +126,7 @@ class HeaderParsingServiceTest {
         assertEquals(Long.MAX_VALUE, result.sessionUID());
         assertEquals(Float.MAX_VALUE, result.sessionTime());
         assertEquals(Integer.MAX_VALUE, result.frameIdentifier());
+        assertEquals(Integer.MAX_VALUE, result.overallFrameIdentifier());
         assertEquals(255, result.playerCarIndex());
         assertEquals(255, result.secondaryPlayerCarIndex());
     }
@@ -130,7 +135,7 @@ class HeaderParsingServiceTest {
     @DisplayName("Should handle zero values correctly")
     void shouldHandleZeroValues() {
         // Arrange: Header with all zeros
-        byte[] headerData = new byte[24]; // All bytes initialized to 0
+        byte[] headerData = new byte[29]; // All bytes initialized to 0
         
         // Act
         TelemetryPacketHeader result = headerParsingService.parseHeader(headerData);
@@ -145,6 +150,7 @@ class HeaderParsingServiceTest {
         assertEquals(0L, result.sessionUID());
         assertEquals(0.0f, result.sessionTime());
         assertEquals(0, result.frameIdentifier());
+        assertEquals(0, result.overallFrameIdentifier());
         assertEquals(0, result.playerCarIndex());
         assertEquals(0, result.secondaryPlayerCarIndex());
     }
@@ -179,10 +185,10 @@ class HeaderParsingServiceTest {
     }
 
     /**
-     * Creates a valid 24-byte F1 telemetry header for testing.
+     * Creates a valid 29-byte F1 telemetry header for testing.
      */
     private byte[] createValidHeaderData() {
-        byte[] data = new byte[24];
+        byte[] data = new byte[29];
         fillValidHeaderData(data, 0);
         return data;
     }
@@ -195,39 +201,48 @@ class HeaderParsingServiceTest {
         data[offset + 0] = (byte) 0xE8;
         data[offset + 1] = (byte) 0x07;
         
+        // Game year: 24
+        data[offset + 2] = 24;
+        
         // Game version: 1.5
-        data[offset + 2] = 1; // major
-        data[offset + 3] = 5; // minor
-        data[offset + 4] = 1; // packet version
-        data[offset + 5] = 2; // packet ID (lap data)
+        data[offset + 3] = 1; // major
+        data[offset + 4] = 5; // minor
+        data[offset + 5] = 1; // packet version
+        data[offset + 6] = 2; // packet ID (lap data)
         
         // Session UID: 0x123456789ABCDEF0 in little-endian
-        data[offset + 6] = (byte) 0xF0;
-        data[offset + 7] = (byte) 0xDE;
-        data[offset + 8] = (byte) 0xBC;
-        data[offset + 9] = (byte) 0x9A;
-        data[offset + 10] = (byte) 0x78;
-        data[offset + 11] = (byte) 0x56;
-        data[offset + 12] = (byte) 0x34;
-        data[offset + 13] = (byte) 0x12;
+        data[offset + 7] = (byte) 0xF0;
+        data[offset + 8] = (byte) 0xDE;
+        data[offset + 9] = (byte) 0xBC;
+        data[offset + 10] = (byte) 0x9A;
+        data[offset + 11] = (byte) 0x78;
+        data[offset + 12] = (byte) 0x56;
+        data[offset + 13] = (byte) 0x34;
+        data[offset + 14] = (byte) 0x12;
         
         // Session time: 125.5f in little-endian IEEE 754
         int timeBits = Float.floatToIntBits(125.5f);
-        data[offset + 14] = (byte) (timeBits & 0xFF);
-        data[offset + 15] = (byte) ((timeBits >>> 8) & 0xFF);
-        data[offset + 16] = (byte) ((timeBits >>> 16) & 0xFF);
-        data[offset + 17] = (byte) ((timeBits >>> 24) & 0xFF);
+        data[offset + 15] = (byte) (timeBits & 0xFF);
+        data[offset + 16] = (byte) ((timeBits >>> 8) & 0xFF);
+        data[offset + 17] = (byte) ((timeBits >>> 16) & 0xFF);
+        data[offset + 18] = (byte) ((timeBits >>> 24) & 0xFF);
         
         // Frame identifier: 1000 (0x03E8) in little-endian
-        data[offset + 18] = (byte) 0xE8;
-        data[offset + 19] = (byte) 0x03;
-        data[offset + 20] = (byte) 0x00;
+        data[offset + 19] = (byte) 0xE8;
+        data[offset + 20] = (byte) 0x03;
         data[offset + 21] = (byte) 0x00;
+        data[offset + 22] = (byte) 0x00;
+        
+        // Overall frame identifier: 1200 (0x04B0) in little-endian
+        data[offset + 23] = (byte) 0xB0;
+        data[offset + 24] = (byte) 0x04;
+        data[offset + 25] = (byte) 0x00;
+        data[offset + 26] = (byte) 0x00;
         
         // Player car index: 0
-        data[offset + 22] = 0;
+        data[offset + 27] = 0;
         
         // Secondary player car index: 255 (no secondary player)
-        data[offset + 23] = (byte) 0xFF;
+        data[offset + 28] = (byte) 0xFF;
     }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("PacketDispatchTable Tests")
+class PacketDispatchTableTest {
+
+    private final PacketHeaderView header = new PacketHeaderView();
+
+    @Test
+    @DisplayName("Should invoke the handler registered for the packet id")
+    void shouldDispatchByPacketId() throws InterruptedException {
+        List<String> calls = new ArrayList<>();
+        PacketDispatchTable table = new PacketDispatchTable()
+                .register(PacketType.LAP_DATA, (h, p) -> calls.add("lap:" + h.frameIdentifier()))
+                .register(PacketType.EVENT, (h, p) -> calls.add("event"));
+
+        assertEquals(2, table.dispatch(packet(2, 7), header));
+        assertEquals(3, table.dispatch(packet(3, 8), header));
+
+        assertEquals(List.of("lap:7", "event"), calls);
+    }
+
+    @Test
+    @DisplayName("Should ignore registered types without handlers and route unknown ids to the unknown handler")
+    void shouldHandleUnregisteredAndUnknownIds() throws InterruptedException {
+        List<Integer> unknown = new ArrayList<>();
+        PacketDispatchTable table = new PacketDispatchTable()
+                .registerUnknown((h, p) -> unknown.add(h.packetId()));
+
+        table.dispatch(packet(6, 1), header);
+        table.dispatch(packet(42, 1), header);
+
+        assertEquals(List.of(42), unknown);
+        assertFalse(table.isRegistered(PacketType.CAR_TELEMETRY));
+    }
+
+    @Test
+    @DisplayName("Should reject a second handler for the same type")
+    void shouldRejectDuplicateRegistration() {
+        PacketDispatchTable table = new PacketDispatchTable().register(PacketType.MOTION, (h, p) -> { });
+
+        assertThrows(IllegalStateException.class, () -> table.register(PacketType.MOTION, (h, p) -> { }));
+    }
+
+    @Test
+    @DisplayName("Should not allocate when reading headers and dispatching")
+    void shouldNotAllocateOnHotPath() throws InterruptedException {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Thread allocation counters are not available");
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        long[] sessionUIDs = new long[1];
+        PacketDispatchTable table = new PacketDispatchTable()
+                .register(PacketType.LAP_DATA, (h, p) -> sessionUIDs[0] += h.sessionUID() + h.frameIdentifier());
+        ByteBuffer packet = packet(2, 1);
+
+        for (int i = 0; i < 20_000; i++) {
+            table.dispatch(packet, header);
+        }
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            table.dispatch(packet, header);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        // Allows for the measurement itself; a header record per packet would be several megabytes
+        assertTrue(allocated < 1024, "Dispatching allocated " + allocated + " bytes");
+        assertNotEquals(0, sessionUIDs[0]);
+    }
+
+    private static ByteBuffer packet(int packetId, int frameIdentifier) {
+        ByteBuffer buffer = ByteBuffer.allocate(HeaderParsingService.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put(HeaderParsingService.PACKET_ID_OFFSET, (byte) packetId);
+        buffer.putLong(HeaderParsingService.SESSION_UID_OFFSET, 0x123456789ABCDEF0L);
+        buffer.putInt(HeaderParsingService.FRAME_IDENTIFIER_OFFSET, frameIdentifier);
+        return buffer;
+    }
+}
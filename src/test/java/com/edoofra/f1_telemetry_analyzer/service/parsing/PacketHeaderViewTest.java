@@ -0,0 +1,82 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.TelemetryPacketHeader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PacketHeaderView Tests")
+class PacketHeaderViewTest {
+
+    private final HeaderParsingService headerParsingService = new HeaderParsingService();
+    private final PacketHeaderView view = new PacketHeaderView();
+
+    @Test
+    @DisplayName("Should read the same fields as the parsed header from a byte array")
+    void shouldMatchParsedHeaderForArray() {
+        byte[] packet = headerPacket();
+
+        view.wrap(packet);
+
+        assertTrue(view.isComplete());
+        assertEquals(headerParsingService.parseHeader(packet), view.toHeader());
+        assertEquals(PacketType.LAP_DATA, view.packetType());
+    }
+
+    @Test
+    @DisplayName("Should read the same fields as the parsed header from a buffer view")
+    void shouldMatchParsedHeaderForBuffer() {
+        byte[] packet = headerPacket();
+        byte[] shifted = new byte[packet.length + 3];
+        System.arraycopy(packet, 0, shifted, 3, packet.length);
+        ByteBuffer buffer = ByteBuffer.wrap(shifted).order(ByteOrder.LITTLE_ENDIAN).position(3);
+
+        TelemetryPacketHeader header = view.wrap(buffer).toHeader();
+
+        assertEquals(headerParsingService.parseHeader(packet), header);
+        assertEquals(3, buffer.position(), "Wrapping must not move the buffer");
+    }
+
+    @Test
+    @DisplayName("Should follow the packet it is re-pointed at")
+    void shouldFollowRewrappedPacket() {
+        byte[] first = headerPacket();
+        byte[] second = headerPacket();
+        second[HeaderParsingService.PACKET_ID_OFFSET] = 3;
+
+        assertEquals(2, view.wrap(first).packetId());
+        assertEquals(3, view.wrap(second).packetId());
+    }
+
+    @Test
+    @DisplayName("Should report incomplete headers and missing packet ids")
+    void shouldHandleShortPackets() {
+        view.wrap(new byte[4]);
+
+        assertFalse(view.isComplete());
+        assertEquals(-1, view.packetId());
+        assertNull(view.toHeader());
+    }
+
+    private static byte[] headerPacket() {
+        ByteBuffer buffer = ByteBuffer.allocate(HeaderParsingService.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putShort((short) 2024)
+                .put((byte) 24)
+                .put((byte) 1)
+                .put((byte) 5)
+                .put((byte) 1)
+                .put((byte) 2)
+                .putLong(0x123456789ABCDEF0L)
+                .putFloat(125.5f)
+                .putInt(1000)
+                .putInt(1200)
+                .put((byte) 0)
+                .put((byte) 255);
+        return buffer.array();
+    }
+}
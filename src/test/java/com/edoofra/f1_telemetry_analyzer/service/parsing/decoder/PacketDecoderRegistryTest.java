@@ -0,0 +1,419 @@
+package com.edoofra.f1_telemetry_analyzer.service.parsing.decoder;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.packet.CarTelemetryData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.CarSetupsPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.CarTelemetryPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.DecodedPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.EventPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LapData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LapDataPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LobbyInfoData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LobbyInfoPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.ParticipantData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.ParticipantsPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.SessionPacket;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.HeaderParsingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Map.entry;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PacketDecoderRegistry Tests")
+class PacketDecoderRegistryTest {
+
+    private static final int HEADER = HeaderParsingService.HEADER_SIZE;
+    private static final long SESSION_UID = 0x123456789ABCDEF0L;
+
+    /**
+     * Packet sizes of the F1 24 specification, minus its 29-byte header.
+     */
+    private static final Map<PacketType, Integer> F1_24_BODY_SIZES = Map.ofEntries(
+            entry(PacketType.MOTION, 1349 - 29),
+            entry(PacketType.SESSION, 753 - 29),
+            entry(PacketType.LAP_DATA, 1285 - 29),
+            entry(PacketType.EVENT, 45 - 29),
+            entry(PacketType.PARTICIPANTS, 1350 - 29),
+            entry(PacketType.CAR_SETUPS, 1133 - 29),
+            entry(PacketType.CAR_TELEMETRY, 1352 - 29),
+            entry(PacketType.CAR_STATUS, 1239 - 29),
+            entry(PacketType.FINAL_CLASSIFICATION, 1020 - 29),
+            entry(PacketType.LOBBY_INFO, 1306 - 29),
+            entry(PacketType.CAR_DAMAGE, 953 - 29),
+            entry(PacketType.SESSION_HISTORY, 1460 - 29),
+            entry(PacketType.TYRE_SETS, 231 - 29),
+            entry(PacketType.MOTION_EX, 237 - 29),
+            entry(PacketType.TIME_TRIAL, 101 - 29));
+
+    /**
+     * Packet sizes of the F1 23 specification, minus its 29-byte header, for the types decoded in F1 23.
+     */
+    private static final Map<PacketType, Integer> F1_23_BODY_SIZES = Map.ofEntries(
+            entry(PacketType.MOTION, 1349 - 29),
+            entry(PacketType.SESSION, 644 - 29),
+            entry(PacketType.LAP_DATA, 1131 - 29),
+            entry(PacketType.EVENT, 45 - 29),
+            entry(PacketType.PARTICIPANTS, 1306 - 29),
+            entry(PacketType.CAR_SETUPS, 1107 - 29),
+            entry(PacketType.CAR_TELEMETRY, 1352 - 29),
+            entry(PacketType.CAR_STATUS, 1239 - 29),
+            entry(PacketType.FINAL_CLASSIFICATION, 1020 - 29),
+            entry(PacketType.LOBBY_INFO, 1218 - 29),
+            entry(PacketType.CAR_DAMAGE, 953 - 29),
+            entry(PacketType.SESSION_HISTORY, 1460 - 29),
+            entry(PacketType.TYRE_SETS, 231 - 29),
+            entry(PacketType.MOTION_EX, 217 - 29));
+
+    private PacketDecoderRegistry registry;
+    private PacketDecodingContext context;
+
+    @BeforeEach
+    void setUp() {
+        registry = new PacketDecoderRegistry(List.of(
+                new MotionDecoder(), new SessionDecoder(), new LapDataDecoder(), new EventDecoder(),
+                new ParticipantsDecoder(), new CarSetupsDecoder(), new CarTelemetryDecoder(), new CarStatusDecoder(),
+                new FinalClassificationDecoder(), new LobbyInfoDecoder(), new CarDamageDecoder(),
+                new SessionHistoryDecoder(), new TyreSetsDecoder(), new MotionExDecoder(), new TimeTrialDecoder()));
+        context = registry.newContext();
+    }
+
+    @Nested
+    @DisplayName("Registration")
+    class Registration {
+
+        @Test
+        @DisplayName("Should have an F1 24 decoder with the specified body size for every packet type")
+        void shouldCoverEveryPacketType() {
+            PacketCodec codec = registry.codec(PacketFormat.F1_24);
+            for (PacketType type : PacketType.values()) {
+                assertTrue(codec.canDecode(type), type + " has no decoder");
+                assertEquals(F1_24_BODY_SIZES.get(type), codec.bodySize(type, 1), type + " body size");
+            }
+        }
+
+        @Test
+        @DisplayName("Should bind F1 23 decoders to the F1 23 layouts")
+        void shouldBindF1_23Layouts() {
+            PacketCodec codec = registry.codec(PacketFormat.F1_23);
+            for (PacketType type : PacketType.values()) {
+                Integer bodySize = F1_23_BODY_SIZES.get(type);
+                assertEquals(bodySize != null, codec.canDecode(type), type + " decodable");
+                assertEquals(bodySize != null ? bodySize : -1, codec.bodySize(type, 1), type + " body size");
+            }
+        }
+
+        @Test
+        @DisplayName("Should reject two decoders for the same packet type")
+        void shouldRejectDuplicateDecoders() {
+            assertThrows(IllegalStateException.class,
+                    () -> new PacketDecoderRegistry(List.of(new MotionDecoder(), new MotionDecoder())));
+        }
+    }
+
+    @Nested
+    @DisplayName("Decoding")
+    class Decoding {
+
+        @Test
+        @DisplayName("Should decode every car of a Car Telemetry packet and the header fields")
+        void shouldDecodeCarTelemetry() {
+            ByteBuffer packet = packet(PacketType.CAR_TELEMETRY);
+            for (int car = 0; car < DecodedPacket.MAX_CARS; car++) {
+                int offset = HEADER + car * CarTelemetryDecoder.CAR_TELEMETRY_DATA_SIZE;
+                packet.putShort(offset, (short) (200 + car));
+                packet.putFloat(offset + 2, 0.5f);
+                packet.put(offset + 15, (byte) -1);
+                packet.putShort(offset + 16, (short) 11000);
+                packet.putShort(offset + 22 + 3 * 2, (short) 900);
+                packet.putFloat(offset + 40, 23.5f);
+            }
+            packet.put(HEADER + 1322, (byte) 7);
+
+            CarTelemetryPacket decoded = (CarTelemetryPacket) registry.decode(packet, context);
+
+            assertNotNull(decoded);
+            assertEquals(SESSION_UID, decoded.getSessionUID());
+            assertEquals(1000, decoded.getFrameIdentifier());
+            assertEquals(7, decoded.getSuggestedGear());
+            for (int car = 0; car < DecodedPacket.MAX_CARS; car++) {
+                CarTelemetryData data = decoded.getCars()[car];
+                assertEquals(200 + car, data.getSpeed());
+                assertEquals(0.5f, data.getThrottle());
+                assertEquals(-1, data.getGear());
+                assertEquals(11000, data.getEngineRpm());
+                assertEquals(900, data.getBrakesTemperature()[3]);
+                assertEquals(23.5f, data.getTyresPressure()[0]);
+            }
+        }
+
+        @Test
+        @DisplayName("Should combine the minutes and milliseconds parts of sector times")
+        void shouldDecodeLapData() {
+            ByteBuffer packet = packet(PacketType.LAP_DATA);
+            int offset = HEADER + 5 * LapDataDecoder.LAP_DATA_SIZE;
+            packet.putInt(offset, 92_345);
+            packet.putShort(offset + 8, (short) 5_500);
+            packet.put(offset + 10, (byte) 1);
+            packet.putFloat(offset + 20, 1234.5f);
+            packet.put(offset + 33, (byte) 4);
+
+            LapDataPacket decoded = (LapDataPacket) registry.decode(packet, context);
+
+            LapData lap = decoded.getCars()[5];
+            assertEquals(92_345, lap.getLastLapTimeInMs());
+            assertEquals(65_500, lap.getSector1TimeInMs());
+            assertEquals(1234.5f, lap.getLapDistance());
+            assertEquals(4, lap.getCurrentLapNum());
+        }
+
+        @Test
+        @DisplayName("Should decode the details matching the event code")
+        void shouldDecodeEvent() {
+            ByteBuffer packet = packet(PacketType.EVENT);
+            packet.put(HEADER, "FTLP".getBytes(StandardCharsets.US_ASCII));
+            packet.put(HEADER + 4, (byte) 3);
+            packet.putFloat(HEADER + 5, 81.25f);
+
+            EventPacket decoded = (EventPacket) registry.decode(packet, context);
+
+            assertEquals(EventPacket.FASTEST_LAP, decoded.getEventCode());
+            assertEquals("FTLP", decoded.getEventCodeString());
+            assertEquals(3, decoded.getVehicleIdx());
+            assertEquals(81.25f, decoded.getLapTime());
+        }
+
+        @Test
+        @DisplayName("Should decode participant names up to their null terminator")
+        void shouldDecodeParticipantNames() {
+            ByteBuffer packet = packet(PacketType.PARTICIPANTS);
+            packet.put(HEADER, (byte) 20);
+            packet.put(HEADER + 1 + 7, "VERSTAPPEN".getBytes(StandardCharsets.UTF_8));
+
+            ParticipantsPacket decoded = (ParticipantsPacket) registry.decode(packet, context);
+
+            assertEquals(20, decoded.getNumActiveCars());
+            assertEquals("VERSTAPPEN", decoded.getParticipants()[0].getName());
+        }
+
+        @Test
+        @DisplayName("Should reuse the same holder for every packet of a type")
+        void shouldReuseHolders() {
+            DecodedPacket first = registry.decode(packet(PacketType.MOTION), context);
+            DecodedPacket second = registry.decode(packet(PacketType.MOTION), context);
+
+            assertSame(first, second);
+            assertSame(first, context.packet(PacketType.MOTION));
+        }
+
+        @Test
+        @DisplayName("Should decode F1 23 lap data, whose gaps have no minutes parts")
+        void shouldDecodeF1_23LapData() {
+            ByteBuffer packet = packet(PacketType.LAP_DATA, PacketFormat.F1_23);
+            int offset = HEADER + 5 * 50;
+            packet.putShort(offset + 14, (short) 1_250);
+            packet.putShort(offset + 16, (short) 30_500);
+            packet.putFloat(offset + 18, 1234.5f);
+            packet.put(offset + 31, (byte) 4);
+            packet.put(offset + 49, (byte) 1);
+            packet.put(HEADER + 22 * 50, (byte) 3);
+
+            LapDataPacket decoded = (LapDataPacket) registry.decode(packet, context);
+
+            assertEquals(2023, decoded.getPacketFormat());
+            LapData lap = decoded.getCars()[5];
+            assertEquals(1_250, lap.getDeltaToCarInFrontMsPart());
+            assertEquals(30_500, lap.getDeltaToRaceLeaderMsPart());
+            assertEquals(0, lap.getDeltaToRaceLeaderMinutesPart());
+            assertEquals(1234.5f, lap.getLapDistance());
+            assertEquals(4, lap.getCurrentLapNum());
+            assertEquals(1, lap.getPitStopShouldServePen());
+            assertEquals(0f, lap.getSpeedTrapFastestSpeed());
+            assertEquals(3, decoded.getTimeTrialPbCarIdx());
+        }
+
+        @Test
+        @DisplayName("Should decode F1 23 car setups, which have no engine braking setting")
+        void shouldDecodeF1_23CarSetups() {
+            ByteBuffer packet = packet(PacketType.CAR_SETUPS, PacketFormat.F1_23);
+            int offset = HEADER + 2 * 49;
+            packet.put(offset + 27, (byte) 56);
+            packet.putFloat(offset + 28, 22.5f);
+            packet.putFloat(offset + 45, 40.0f);
+
+            CarSetupsPacket decoded = (CarSetupsPacket) registry.decode(packet, context);
+
+            assertEquals(56, decoded.getCars()[2].getBrakeBias());
+            assertEquals(0, decoded.getCars()[2].getEngineBraking());
+            assertEquals(22.5f, decoded.getCars()[2].getRearLeftTyrePressure());
+            assertEquals(40.0f, decoded.getCars()[2].getFuelLoad());
+        }
+
+        @Test
+        @DisplayName("Should decode F1 23 sessions, which have fewer forecast samples and no rule options")
+        void shouldDecodeF1_23Session() {
+            ByteBuffer f124 = packet(PacketType.SESSION);
+            f124.put(HEADER + 679, (byte) 1);
+            assertEquals(1, ((SessionPacket) registry.decode(f124, context)).getEqualCarPerformance());
+
+            ByteBuffer packet = packet(PacketType.SESSION, PacketFormat.F1_23);
+            packet.put(HEADER + 3, (byte) 57);
+            packet.putShort(HEADER + 4, (short) 5412);
+            packet.put(HEADER + 127 + 55 * 8 + 7, (byte) 40);
+            packet.put(HEADER + 575, (byte) 1);
+            packet.put(HEADER + 614, (byte) 2);
+
+            SessionPacket decoded = (SessionPacket) registry.decode(packet, context);
+
+            assertEquals(2023, decoded.getPacketFormat());
+            assertEquals(57, decoded.getTotalLaps());
+            assertEquals(5412, decoded.getTrackLength());
+            assertEquals(40, decoded.getWeatherForecastSamples()[55].getRainPercentage());
+            assertEquals(1, decoded.getForecastAccuracy());
+            assertEquals(2, decoded.getNumRedFlagPeriods());
+            assertEquals(0, decoded.getEqualCarPerformance(), "F1 23 has no rule options");
+        }
+
+        @Test
+        @DisplayName("Should decode F1 23 participants and lobby players, which have no tech level")
+        void shouldDecodeF1_23Participants() {
+            ByteBuffer participants = packet(PacketType.PARTICIPANTS, PacketFormat.F1_23);
+            int offset = HEADER + 1 + 3 * 58;
+            participants.put(offset + 3, (byte) 2);
+            participants.put(offset + 7, (byte) 'N');
+            participants.put(offset + 57, (byte) 6);
+            ByteBuffer lobby = packet(PacketType.LOBBY_INFO, PacketFormat.F1_23);
+            lobby.put(HEADER + 1 + 3 * 54 + 52, (byte) 44);
+            lobby.put(HEADER + 1 + 3 * 54 + 53, (byte) 1);
+
+            ParticipantData participant = ((ParticipantsPacket) registry.decode(participants, context)).getParticipants()[3];
+            LobbyInfoData player = ((LobbyInfoPacket) registry.decode(lobby, context)).getLobbyPlayers()[3];
+
+            assertEquals(2, participant.getTeamId());
+            assertEquals("N", participant.getName());
+            assertEquals(0, participant.getTechLevel());
+            assertEquals(6, participant.getPlatform());
+            assertEquals(44, player.getCarNumber());
+            assertEquals(0, player.getTechLevel());
+            assertEquals(1, player.getReadyStatus());
+        }
+
+        @Test
+        @DisplayName("Should switch layouts when the session changes format")
+        void shouldResolveCodecPerSession() {
+            ByteBuffer f124 = packet(PacketType.LAP_DATA);
+            f124.put(HEADER + 33, (byte) 7);
+            ByteBuffer f123 = packet(PacketType.LAP_DATA, PacketFormat.F1_23);
+            f123.putLong(HeaderParsingService.SESSION_UID_OFFSET, SESSION_UID + 1);
+            f123.put(HEADER + 31, (byte) 2);
+
+            assertEquals(7, ((LapDataPacket) registry.decode(f124, context)).getCars()[0].getCurrentLapNum());
+            assertEquals(2, ((LapDataPacket) registry.decode(f123, context)).getCars()[0].getCurrentLapNum());
+            assertEquals(7, ((LapDataPacket) registry.decode(f124, context)).getCars()[0].getCurrentLapNum());
+        }
+
+        @Test
+        @DisplayName("Should skip truncated packets and unknown packet ids, versions and formats")
+        void shouldSkipInvalidPackets() {
+            ByteBuffer truncated = packet(PacketType.CAR_STATUS).limit(HEADER + 100);
+            ByteBuffer unknown = packet(PacketType.MOTION).put(HeaderParsingService.PACKET_ID_OFFSET, (byte) 42);
+            ByteBuffer unknownVersion = packet(PacketType.MOTION).put(HeaderParsingService.PACKET_VERSION_OFFSET, (byte) 2);
+            ByteBuffer unknownFormat = packet(PacketType.MOTION).putShort(0, (short) 2022);
+            ByteBuffer notInFormat = packet(PacketType.TIME_TRIAL, PacketFormat.F1_23);
+
+            assertNull(registry.decode(truncated, context));
+            assertNull(registry.decode(unknown, context));
+            assertNull(registry.decode(unknownVersion, context));
+            assertNull(registry.decode(unknownFormat, context));
+            assertNull(registry.decode(notInFormat, context));
+        }
+    }
+
+    @Nested
+    @DisplayName("Selective decoding")
+    class SelectiveDecoding {
+
+        @Test
+        @DisplayName("Should decode only the demanded fields of the player's car")
+        void shouldDecodePlayerCarFields() {
+            ByteBuffer packet = packet(PacketType.CAR_TELEMETRY);
+            packet.put(HeaderParsingService.PLAYER_CAR_INDEX_OFFSET, (byte) 3);
+            for (int car = 0; car < DecodedPacket.MAX_CARS; car++) {
+                int offset = HEADER + car * CarTelemetryDecoder.CAR_TELEMETRY_DATA_SIZE;
+                packet.putShort(offset, (short) 250);
+                packet.putFloat(offset + 2, 0.75f);
+                packet.putShort(offset + 16, (short) 11000);
+            }
+            DecodePlan plan = registry.plan(PacketType.CAR_TELEMETRY, DecodeDemand.forPlayerCar().withFields("speed", "throttle"));
+
+            CarTelemetryPacket decoded = (CarTelemetryPacket) registry.decode(packet, context, plan);
+
+            assertNotNull(decoded);
+            assertEquals(3, decoded.getPlayerCarIndex());
+            assertEquals(250, decoded.getCars()[3].getSpeed());
+            assertEquals(0.75f, decoded.getCars()[3].getThrottle());
+            assertEquals(0, decoded.getCars()[3].getEngineRpm());
+            assertEquals(0, decoded.getCars()[2].getSpeed());
+        }
+
+        @Test
+        @DisplayName("Should decode no car entry for a player-car demand while spectating")
+        void shouldSkipPlayerCarWhileSpectating() {
+            ByteBuffer packet = packet(PacketType.LAP_DATA);
+            packet.put(HeaderParsingService.PLAYER_CAR_INDEX_OFFSET, (byte) 255);
+            packet.put(HEADER + 33, (byte) 7);
+
+            LapDataPacket decoded = (LapDataPacket) registry.decode(packet, context,
+                    registry.plan(PacketType.LAP_DATA, DecodeDemand.forPlayerCar()));
+
+            assertNotNull(decoded);
+            assertEquals(0, decoded.getCars()[0].getCurrentLapNum());
+        }
+
+        @Test
+        @DisplayName("Should merge demands into every car and field either one needs")
+        void shouldMergeDemands() {
+            DecodeDemand merged = DecodeDemand.cars(1).withFields("speed")
+                    .merge(DecodeDemand.forPlayerCar().withFields("gear"));
+
+            assertEquals(Set.of(1), merged.cars());
+            assertTrue(merged.playerCar());
+            assertEquals(Set.of("speed", "gear"), merged.fields());
+            assertTrue(merged.merge(DecodeDemand.cars(2)).allFields());
+        }
+
+        @Test
+        @DisplayName("Should reject unknown fields and car indexes")
+        void shouldRejectInvalidDemands() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> registry.plan(PacketType.CAR_TELEMETRY, DecodeDemand.all().withFields("topSpeed")));
+            assertThrows(IllegalArgumentException.class,
+                    () -> registry.plan(PacketType.LAP_DATA, DecodeDemand.cars(22)));
+        }
+    }
+
+    private ByteBuffer packet(PacketType type) {
+        return packet(type, PacketFormat.F1_24);
+    }
+
+    private ByteBuffer packet(PacketType type, PacketFormat format) {
+        int bodySize = Math.max(registry.codec(format).bodySize(type, 1), 0);
+        ByteBuffer packet = ByteBuffer.allocate(HEADER + bodySize).order(ByteOrder.LITTLE_ENDIAN);
+        packet.putShort(0, (short) format.getValue());
+        packet.put(HeaderParsingService.PACKET_VERSION_OFFSET, (byte) 1);
+        packet.put(HeaderParsingService.PACKET_ID_OFFSET, (byte) type.getId());
+        packet.putLong(HeaderParsingService.SESSION_UID_OFFSET, SESSION_UID);
+        packet.putInt(HeaderParsingService.FRAME_IDENTIFIER_OFFSET, 1000);
+        return packet;
+    }
+}
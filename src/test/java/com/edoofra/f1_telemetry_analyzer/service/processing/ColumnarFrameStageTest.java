@@ -0,0 +1,143 @@
+package com.edoofra.f1_telemetry_analyzer.service.processing;
+
+import com.edoofra.f1_telemetry_analyzer.buffer.FrameBuffer;
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.frame.CarTelemetryFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.LapDataFrame;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.HeaderParsingService;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.CarDamageFrameDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.CarStatusFrameDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.CarTelemetryFrameDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.LapDataFrameDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.MotionFrameDecoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ColumnarFrameStage Tests")
+class ColumnarFrameStageTest {
+
+    private static final int HEADER = HeaderParsingService.HEADER_SIZE;
+
+    private final List<Float> playerSpeeds = new ArrayList<>();
+    private ColumnarFrameStage stage;
+
+    @BeforeEach
+    void setUp() {
+        FrameStage recorder = new FrameStage() {
+            @Override
+            public void onFrame(ColumnarFrame<?> frame) {
+                playerSpeeds.add(((CarTelemetryFrame) frame).getSpeed()[frame.getPlayerCarIndex()]);
+            }
+
+            @Override
+            public Set<PacketType> packetTypes() {
+                return Set.of(PacketType.CAR_TELEMETRY);
+            }
+        };
+        stage = new ColumnarFrameStage(
+                List.of(new MotionFrameDecoder(), new LapDataFrameDecoder(), new CarTelemetryFrameDecoder(),
+                        new CarStatusFrameDecoder(), new CarDamageFrameDecoder()),
+                new StaticListableBeanFactory(Map.of("recorder", recorder)).getBeanProvider(FrameStage.class));
+    }
+
+    @Test
+    @DisplayName("Should fill the columns of every car from the raw packet")
+    void shouldFillColumns() {
+        ByteBuffer packet = packet(PacketType.CAR_TELEMETRY, PacketFormat.F1_24, 1323);
+        for (int car = 0; car < ColumnarFrame.MAX_CARS; car++) {
+            int offset = HEADER + car * 60;
+            packet.putShort(offset, (short) (200 + car));
+            packet.put(offset + 15, (byte) -1);
+            packet.putShort(offset + 16, (short) 40_000);
+            packet.put(offset + 30 + 3, (byte) 95);
+        }
+
+        stage.onPacket(packet);
+
+        CarTelemetryFrame frame = stage.frames(CarTelemetryFrame.class).current();
+        assertEquals(1000, frame.getFrameIdentifier());
+        for (int car = 0; car < ColumnarFrame.MAX_CARS; car++) {
+            assertEquals(200 + car, frame.getSpeed()[car]);
+            assertEquals(-1, frame.getGear()[car]);
+            assertEquals(40_000, frame.engineRpm(car));
+            assertEquals(95f, frame.getTyresSurfaceTemperature()[ColumnarFrame.wheel(car, 3)]);
+        }
+        assertEquals(List.of(200f), playerSpeeds);
+    }
+
+    @Test
+    @DisplayName("Should keep the published frame stable while the next one is written")
+    void shouldDoubleBuffer() {
+        FrameBuffer<CarTelemetryFrame> buffer = stage.frames(CarTelemetryFrame.class);
+        CarTelemetryFrame snapshot = new CarTelemetryFrame();
+        assertFalse(buffer.snapshot(snapshot));
+
+        stage.onPacket(packet(PacketType.CAR_TELEMETRY, PacketFormat.F1_24, 1323).putShort(HEADER, (short) 100));
+        CarTelemetryFrame published = buffer.current();
+        CarTelemetryFrame next = buffer.beginWrite();
+        try {
+            next.getSpeed()[0] = 300;
+            assertNotSame(published, next);
+            assertTrue(buffer.snapshot(snapshot));
+            assertEquals(100, snapshot.getSpeed()[0]);
+            buffer.publish();
+        } finally {
+            buffer.endWrite();
+        }
+
+        assertTrue(buffer.snapshot(snapshot));
+        assertEquals(300, snapshot.getSpeed()[0]);
+        assertEquals(2, buffer.publishedFrames());
+    }
+
+    @Test
+    @DisplayName("Should read Lap Data through the layout of the packet's format")
+    void shouldFillF1_23LapData() {
+        ByteBuffer packet = packet(PacketType.LAP_DATA, PacketFormat.F1_23, 22 * 50 + 2);
+        int offset = HEADER + 50;
+        packet.putShort(offset + 8, (short) 5_500);
+        packet.put(offset + 10, (byte) 1);
+        packet.putFloat(offset + 18, 1234.5f);
+        packet.put(offset + 18 + 13, (byte) 4);
+
+        stage.onPacket(packet);
+
+        LapDataFrame frame = stage.frames(LapDataFrame.class).current();
+        assertEquals(65_500, frame.getSector1TimeInMs()[1]);
+        assertEquals(1234.5f, frame.getLapDistance()[1]);
+        assertEquals(4, frame.getCurrentLapNum()[1]);
+    }
+
+    @Test
+    @DisplayName("Should skip truncated packets and packets without a frame type")
+    void shouldSkipUnframedPackets() {
+        stage.onPacket(packet(PacketType.CAR_TELEMETRY, PacketFormat.F1_24, 100));
+        stage.onPacket(packet(PacketType.SESSION, PacketFormat.F1_24, 724));
+
+        assertEquals(0, stage.frames(CarTelemetryFrame.class).publishedFrames());
+        assertFalse(stage.packetTypes().contains(PacketType.SESSION));
+        assertTrue(playerSpeeds.isEmpty());
+    }
+
+    private static ByteBuffer packet(PacketType type, PacketFormat format, int bodySize) {
+        ByteBuffer packet = ByteBuffer.allocate(HEADER + bodySize).order(ByteOrder.LITTLE_ENDIAN);
+        packet.putShort(0, (short) format.getValue());
+        packet.put(HeaderParsingService.PACKET_VERSION_OFFSET, (byte) 1);
+        packet.put(HeaderParsingService.PACKET_ID_OFFSET, (byte) type.getId());
+        packet.putInt(HeaderParsingService.FRAME_IDENTIFIER_OFFSET, 1000);
+        return packet;
+    }
+}
@@ -0,0 +1,139 @@
+package com.edoofra.f1_telemetry_analyzer.service.processing;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.frame.AssembledFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.CarTelemetryFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.ColumnarFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.LapDataFrame;
+import com.edoofra.f1_telemetry_analyzer.model.frame.MotionFrame;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FrameAssemblyStage Tests")
+class FrameAssemblyStageTest {
+
+    private static final long SESSION = 42L;
+    private static final int WINDOW = 4;
+
+    private final List<String> emitted = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private long now;
+    private FrameAssemblyStage stage;
+
+    @BeforeEach
+    void setUp() {
+        AssembledFrameStage recorder = frame -> emitted.add(frame.getSessionUID() + ":" + frame.getFrameIdentifier()
+                + (frame.hasAll(AssembledFrame.bit(PacketType.MOTION) | AssembledFrame.bit(PacketType.LAP_DATA)
+                | AssembledFrame.bit(PacketType.CAR_TELEMETRY)) ? "" : " incomplete"));
+        stage = new FrameAssemblyStage(List.of(recorder), meterRegistry, WINDOW, 50,
+                List.of(PacketType.MOTION, PacketType.LAP_DATA, PacketType.CAR_TELEMETRY), () -> now);
+    }
+
+    @Test
+    @DisplayName("Should emit a frame once every required packet arrived, with each packet's values")
+    void shouldEmitCompleteFrame() {
+        List<Float> speeds = new ArrayList<>();
+        stage = new FrameAssemblyStage(List.of(frame -> speeds.add(frame.getCarTelemetry().getSpeed()[0])),
+                meterRegistry, WINDOW, 50, List.of(PacketType.MOTION, PacketType.CAR_TELEMETRY), () -> now);
+
+        CarTelemetryFrame telemetry = frame(new CarTelemetryFrame(), SESSION, 10);
+        telemetry.getSpeed()[0] = 312f;
+        stage.onFrame(telemetry);
+        assertTrue(speeds.isEmpty());
+        stage.onFrame(frame(new MotionFrame(), SESSION, 10));
+
+        assertEquals(List.of(312f), speeds);
+        assertEquals(1, assembled("complete"));
+    }
+
+    @Test
+    @DisplayName("Should keep frames of different sessions and frame identifiers apart")
+    void shouldKeepFramesApart() {
+        sendAll(SESSION, 10, PacketType.MOTION, PacketType.LAP_DATA);
+        sendAll(7L, 10, PacketType.MOTION, PacketType.LAP_DATA, PacketType.CAR_TELEMETRY);
+        sendAll(SESSION, 11, PacketType.MOTION, PacketType.LAP_DATA, PacketType.CAR_TELEMETRY);
+        sendAll(SESSION, 10, PacketType.CAR_TELEMETRY);
+
+        assertEquals(List.of("7:10", "42:11", "42:10"), emitted);
+    }
+
+    @Test
+    @DisplayName("Should emit incomplete frames after the timeout")
+    void shouldEmitOnTimeout() {
+        sendAll(SESSION, 10, PacketType.MOTION);
+        now += TimeUnit.MILLISECONDS.toNanos(49);
+        stage.onBatchEnd();
+        assertTrue(emitted.isEmpty());
+
+        now += TimeUnit.MILLISECONDS.toNanos(1);
+        stage.onBatchEnd();
+
+        assertEquals(List.of("42:10 incomplete"), emitted);
+        assertEquals(1, assembled("timeout"));
+    }
+
+    @Test
+    @DisplayName("Should evict the oldest frame when the window is full")
+    void shouldEvictOldestFrame() {
+        for (int frame = 0; frame <= WINDOW; frame++) {
+            sendAll(SESSION, frame, PacketType.MOTION);
+            now++;
+        }
+
+        assertEquals(List.of("42:0 incomplete"), emitted);
+        assertEquals(1, assembled("evicted"));
+    }
+
+    @Test
+    @DisplayName("Should drop packets of frames already emitted, but not those after a flashback")
+    void shouldDropLatePackets() {
+        sendAll(SESSION, 100, PacketType.MOTION, PacketType.LAP_DATA, PacketType.CAR_TELEMETRY);
+        sendAll(SESSION, 100, PacketType.MOTION);
+        sendAll(SESSION, 99, PacketType.MOTION);
+        assertEquals(2, meterRegistry.counter("telemetry.frames.late").count());
+
+        int rewound = 100 - FrameAssemblyStage.LATE_FRAMES;
+        sendAll(SESSION, rewound, PacketType.MOTION, PacketType.LAP_DATA, PacketType.CAR_TELEMETRY);
+
+        assertEquals(List.of("42:100", "42:" + rewound), emitted);
+    }
+
+    @Test
+    @DisplayName("Should reject packet types without a columnar frame")
+    void shouldRejectUnsupportedTypes() {
+        assertThrows(IllegalArgumentException.class, () -> new FrameAssemblyStage(List.of(), meterRegistry, WINDOW, 50,
+                List.of(PacketType.SESSION), () -> now));
+    }
+
+    private void sendAll(long sessionUID, int frameIdentifier, PacketType... types) {
+        for (PacketType type : types) {
+            ColumnarFrame<?> frame = switch (type) {
+                case MOTION -> new MotionFrame();
+                case LAP_DATA -> new LapDataFrame();
+                case CAR_TELEMETRY -> new CarTelemetryFrame();
+                default -> throw new IllegalArgumentException(type.name());
+            };
+            frame.setSessionUID(sessionUID);
+            frame.setFrameIdentifier(frameIdentifier);
+            stage.onFrame(frame);
+        }
+    }
+
+    private static <F extends ColumnarFrame<F>> F frame(F frame, long sessionUID, int frameIdentifier) {
+        frame.setSessionUID(sessionUID);
+        frame.setFrameIdentifier(frameIdentifier);
+        return frame;
+    }
+
+    private double assembled(String outcome) {
+        return meterRegistry.counter("telemetry.frames.assembled", "outcome", outcome).count();
+    }
+}
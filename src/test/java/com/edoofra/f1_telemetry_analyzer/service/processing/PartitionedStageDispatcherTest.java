@@ -0,0 +1,108 @@
+package com.edoofra.f1_telemetry_analyzer.service.processing;
+
+import com.edoofra.f1_telemetry_analyzer.buffer.wait.WaitStrategy;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.HeaderParsingService;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.PacketHeaderView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PartitionedStageDispatcher Tests")
+class PartitionedStageDispatcherTest {
+
+    private static final int PARTITIONS = 4;
+    private static final int SESSIONS = 8;
+    private static final int FRAMES = 500;
+
+    private final Map<Long, List<Long>> framesBySession = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> threadsBySession = new ConcurrentHashMap<>();
+
+    private final TelemetryPacketStage recorder = packet -> {
+        PacketHeaderView header = new PacketHeaderView().wrap(packet);
+        framesBySession.computeIfAbsent(header.sessionUID(), uid -> new CopyOnWriteArrayList<>())
+                .add(HeaderParsingService.peekFrameIdentifier(packet));
+        threadsBySession.computeIfAbsent(header.sessionUID(), uid -> ConcurrentHashMap.newKeySet())
+                .add(Thread.currentThread().getName());
+    };
+
+    @Test
+    @DisplayName("Should handle the packets of each session in order on a single partition thread")
+    void shouldPreservePerSessionOrder() throws InterruptedException {
+        PartitionedStageDispatcher dispatcher = dispatcher();
+        dispatcher.start();
+
+        PacketHeaderView header = new PacketHeaderView();
+        for (int frame = 0; frame < FRAMES; frame++) {
+            for (long session = 1; session <= SESSIONS; session++) {
+                ByteBuffer packet = packet(session * 0x1234_5678_9ABCL, frame, PacketType.CAR_TELEMETRY);
+                dispatcher.dispatch(packet, header.wrap(packet));
+            }
+        }
+        dispatcher.shutdown(5, TimeUnit.SECONDS);
+
+        assertEquals(SESSIONS, framesBySession.size());
+        List<Long> expected = new ArrayList<>();
+        for (long frame = 0; frame < FRAMES; frame++) {
+            expected.add(frame);
+        }
+        framesBySession.forEach((session, frames) -> assertEquals(expected, frames, "Frames of session " + session));
+        threadsBySession.forEach((session, threads) -> assertEquals(1, threads.size(), "Threads of session " + session));
+    }
+
+    @Test
+    @DisplayName("Should keep the Session History packets of every car on the session's partition")
+    void shouldKeepSessionHistoryOnSessionPartition() {
+        PartitionedStageDispatcher dispatcher = dispatcher();
+        PacketHeaderView header = new PacketHeaderView();
+        ByteBuffer telemetry = packet(42L, 0, PacketType.CAR_TELEMETRY);
+        int sessionPartition = dispatcher.partitionOf(header.wrap(telemetry));
+
+        for (int car = 0; car < 22; car++) {
+            ByteBuffer packet = packet(42L, 0, PacketType.SESSION_HISTORY);
+            packet.put(HeaderParsingService.HEADER_SIZE, (byte) car);
+            assertEquals(sessionPartition, dispatcher.partitionOf(header.wrap(packet)), "Partition of car " + car);
+        }
+    }
+
+    @Test
+    @DisplayName("Should spread session ids over every partition")
+    void shouldSpreadSessions() {
+        int[] counts = new int[PARTITIONS];
+        for (long session = 0; session < 1000; session++) {
+            counts[PartitionedStageDispatcher.partition(session, PARTITIONS)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 150, "Partition counts " + Arrays.toString(counts));
+        }
+    }
+
+    private PartitionedStageDispatcher dispatcher() {
+        TelemetryPacketStage[][] stagesByType = new TelemetryPacketStage[PacketType.values().length + 1][];
+        Arrays.fill(stagesByType, new TelemetryPacketStage[]{recorder});
+        return new PartitionedStageDispatcher(List.of(recorder), stagesByType, "test", PARTITIONS, 64, 8,
+                WaitStrategy.Type.PARKING, 10, new SimpleMeterRegistry());
+    }
+
+    private static ByteBuffer packet(long sessionUID, int frame, PacketType type) {
+        ByteBuffer packet = ByteBuffer.allocate(HeaderParsingService.HEADER_SIZE + 16).order(ByteOrder.LITTLE_ENDIAN);
+        packet.putShort(0, (short) 2024);
+        packet.put(HeaderParsingService.PACKET_ID_OFFSET, (byte) type.getId());
+        packet.putLong(HeaderParsingService.SESSION_UID_OFFSET, sessionUID);
+        packet.putInt(HeaderParsingService.FRAME_IDENTIFIER_OFFSET, frame);
+        return packet;
+    }
+}
@@ -0,0 +1,200 @@
+package com.edoofra.f1_telemetry_analyzer.service.processing;
+
+import com.edoofra.f1_telemetry_analyzer.buffer.wait.WaitStrategy;
+import com.edoofra.f1_telemetry_analyzer.config.TelemetryProcessingConfig;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.HeaderParsingService;
+import com.edoofra.f1_telemetry_analyzer.service.udp.TelemetryBufferManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TelemetryProcessingService Tests")
+class TelemetryProcessingServiceTest {
+
+    private static final int BATCH_SIZE = 5;
+    private static final int MAX_WAIT_MS = 20;
+
+    @Mock
+    private TelemetryBufferManager bufferManager;
+
+    @Mock
+    private ObjectProvider<TelemetryPacketStage> stageProvider;
+
+    @Mock
+    private WaitStrategy waitStrategy;
+
+    private final TelemetryProcessingConfig config = new TelemetryProcessingConfig();
+    private final RecordingStage lapDataStage = new RecordingStage(Set.of(PacketType.LAP_DATA));
+    private final RecordingStage motionStage = new RecordingStage(Set.of(PacketType.MOTION));
+    private TelemetryProcessingService service;
+
+    @BeforeEach
+    void setUp() {
+        config.setBatchProcessing(true);
+        config.setBatchSize(BATCH_SIZE);
+        config.setMaxWaitTimeMs(MAX_WAIT_MS);
+        when(bufferManager.getSourceName()).thenReturn("default");
+        when(stageProvider.orderedStream()).thenReturn(Stream.of(lapDataStage, motionStage));
+        service = new TelemetryProcessingService(bufferManager, config, stageProvider, waitStrategy,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should drain a batch, complete it, then wait on the strategy while the buffers are empty")
+    void shouldDrainThenWait() throws Exception {
+        AtomicInteger drains = new AtomicInteger();
+        when(bufferManager.drainTo(any(), anyInt())).thenAnswer(invocation -> {
+            if (drains.getAndIncrement() > 0) {
+                return 0;
+            }
+            Consumer<ByteBuffer> reader = invocation.getArgument(0);
+            reader.accept(packet(PacketType.LAP_DATA));
+            reader.accept(packet(PacketType.LAP_DATA));
+            return 2;
+        });
+        CountDownLatch waited = new CountDownLatch(2);
+        when(waitStrategy.waitFor(any(), anyLong())).thenAnswer(invocation -> {
+            waited.countDown();
+            return false;
+        });
+
+        service.initialize();
+
+        assertTrue(waited.await(5, TimeUnit.SECONDS), "The loop should wait once the buffers are empty");
+        service.stopProcessing();
+        verify(bufferManager, atLeast(3)).drainTo(any(), eq(BATCH_SIZE));
+        verify(waitStrategy, atLeast(2)).waitFor(any(), eq(TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MS)));
+        assertEquals(List.of("packet", "packet", "end"), lapDataStage.events);
+        assertEquals(List.of("end"), motionStage.events, "Every stage completes the batch, only one per drained pass");
+    }
+
+    @Test
+    @DisplayName("Should run only blocking stages on virtual threads in virtual execution mode")
+    void shouldRunBlockingStagesOnVirtualThreads() throws Exception {
+        config.setExecutionMode(TelemetryProcessingConfig.ExecutionMode.VIRTUAL);
+        RecordingStage blockingStage = new RecordingStage(Set.of(PacketType.LAP_DATA), true);
+        when(stageProvider.orderedStream()).thenReturn(Stream.of(lapDataStage, blockingStage));
+        AtomicInteger drains = new AtomicInteger();
+        when(bufferManager.drainTo(any(), anyInt())).thenAnswer(invocation -> {
+            if (drains.getAndIncrement() > 0) {
+                return 0;
+            }
+            Consumer<ByteBuffer> reader = invocation.getArgument(0);
+            reader.accept(packet(PacketType.LAP_DATA));
+            return 1;
+        });
+        CountDownLatch waited = new CountDownLatch(1);
+        when(waitStrategy.waitFor(any(), anyLong())).thenAnswer(invocation -> {
+            waited.countDown();
+            return false;
+        });
+
+        service.initialize();
+        assertTrue(waited.await(5, TimeUnit.SECONDS));
+        service.shutdown();
+
+        assertEquals(List.of("packet", "end"), lapDataStage.events);
+        assertEquals(List.of(false), lapDataStage.virtualThreads, "CPU-bound stages stay on the processing threads");
+        assertEquals(List.of("packet", "end"), blockingStage.events);
+        assertEquals(List.of(true), blockingStage.virtualThreads);
+    }
+
+    @Test
+    @DisplayName("Should wake the wait strategy only when the buffers hold packets")
+    void shouldCheckBufferedPackets() throws Exception {
+        when(bufferManager.drainTo(any(), anyInt())).thenReturn(0);
+        CountDownLatch waited = new CountDownLatch(1);
+        ArgumentCaptor<BooleanSupplier> condition = ArgumentCaptor.forClass(BooleanSupplier.class);
+        when(waitStrategy.waitFor(condition.capture(), anyLong())).thenAnswer(invocation -> {
+            waited.countDown();
+            return false;
+        });
+
+        service.initialize();
+        assertTrue(waited.await(5, TimeUnit.SECONDS));
+        service.stopProcessing();
+
+        BooleanSupplier packetsAvailable = condition.getValue();
+        when(bufferManager.isBufferEmpty()).thenReturn(true, false);
+        assertFalse(packetsAvailable.getAsBoolean());
+        assertTrue(packetsAvailable.getAsBoolean());
+        assertTrue(lapDataStage.events.isEmpty(), "Empty passes complete no batch");
+    }
+
+    private static ByteBuffer packet(PacketType type) {
+        ByteBuffer packet = ByteBuffer.allocate(HeaderParsingService.HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        packet.put(HeaderParsingService.PACKET_ID_OFFSET, (byte) type.getId());
+        return packet.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static final class RecordingStage implements TelemetryPacketStage {
+
+        private final Set<PacketType> packetTypes;
+        private final boolean blocking;
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final List<Boolean> virtualThreads = new CopyOnWriteArrayList<>();
+
+        private RecordingStage(Set<PacketType> packetTypes) {
+            this(packetTypes, false);
+        }
+
+        private RecordingStage(Set<PacketType> packetTypes, boolean blocking) {
+            this.packetTypes = packetTypes;
+            this.blocking = blocking;
+        }
+
+        @Override
+        public void onPacket(ByteBuffer packet) {
+            events.add("packet");
+            virtualThreads.add(Thread.currentThread().isVirtual());
+        }
+
+        @Override
+        public Set<PacketType> packetTypes() {
+            return packetTypes;
+        }
+
+        @Override
+        public boolean blocking() {
+            return blocking;
+        }
+
+        @Override
+        public void onBatchEnd() {
+            events.add("end");
+        }
+    }
+}
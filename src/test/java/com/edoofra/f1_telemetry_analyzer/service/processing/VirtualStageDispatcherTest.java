@@ -0,0 +1,90 @@
+package com.edoofra.f1_telemetry_analyzer.service.processing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualStageDispatcherTest {
+
+    private VirtualStageDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown(1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    @DisplayName("Should hand a stage its packets and batch ends in order on a virtual thread")
+    void shouldDeliverInOrderOnVirtualThread() throws InterruptedException {
+        RecordingStage stage = new RecordingStage();
+        dispatcher = new VirtualStageDispatcher(List.of(stage), "default", 16, 10, new SimpleMeterRegistry());
+        dispatcher.start();
+
+        dispatcher.dispatch(packet(1), new TelemetryPacketStage[]{stage});
+        dispatcher.dispatch(packet(2), new TelemetryPacketStage[]{stage});
+        dispatcher.completeBatch();
+        dispatcher.shutdown(1, TimeUnit.SECONDS);
+
+        assertEquals(List.of("1", "2", "end"), stage.events);
+        assertTrue(stage.virtual);
+    }
+
+    @Test
+    @DisplayName("Should copy packets so that the buffer view can be reused after dispatch")
+    void shouldCopyPackets() throws InterruptedException {
+        RecordingStage stage = new RecordingStage();
+        dispatcher = new VirtualStageDispatcher(List.of(stage), "default", 16, 10, new SimpleMeterRegistry());
+
+        ByteBuffer view = packet(7);
+        dispatcher.dispatch(view, new TelemetryPacketStage[]{stage});
+        view.put(0, (byte) 9);
+        dispatcher.start();
+        dispatcher.shutdown(1, TimeUnit.SECONDS);
+
+        assertEquals(List.of("7"), stage.events);
+    }
+
+    @Test
+    @DisplayName("Should not queue packets for stages that are not subscribed")
+    void shouldSkipUnsubscribedStages() throws InterruptedException {
+        RecordingStage stage = new RecordingStage();
+        dispatcher = new VirtualStageDispatcher(List.of(stage), "default", 16, 10, new SimpleMeterRegistry());
+        dispatcher.start();
+
+        dispatcher.dispatch(packet(1), new TelemetryPacketStage[0]);
+        dispatcher.shutdown(1, TimeUnit.SECONDS);
+
+        assertTrue(stage.events.isEmpty());
+    }
+
+    private static ByteBuffer packet(int value) {
+        return ByteBuffer.wrap(new byte[]{(byte) value, 0, 0, 0});
+    }
+
+    private static final class RecordingStage implements TelemetryPacketStage {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private volatile boolean virtual;
+
+        @Override
+        public void onPacket(ByteBuffer packet) {
+            virtual = Thread.currentThread().isVirtual();
+            events.add(String.valueOf(packet.get(0)));
+        }
+
+        @Override
+        public void onBatchEnd() {
+            events.add("end");
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.edoofra.f1_telemetry_analyzer.service.session;
+
+import com.edoofra.f1_telemetry_analyzer.model.packet.LapData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LapDataPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LapHistoryData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.SessionHistoryPacket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LapDetector Tests")
+class LapDetectorTest {
+
+    private static final long SESSION_UID = 42L;
+    private static final int CAR = 3;
+
+    private final List<CompletedLap> laps = new ArrayList<>();
+    private final LapDataPacket packet = new LapDataPacket();
+    private LapDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        detector = new LapDetector(SESSION_UID);
+    }
+
+    @Test
+    @DisplayName("Should emit a lap with its sector splits when the lap number rolls over")
+    void shouldEmitLapOnRollover() {
+        lap(1, 0, 0, 0, 100f, 5);
+        lap(1, 0, 30_000, 0, 1_800f, 5);
+        lap(1, 0, 30_000, 31_500, 5_400f, 4);
+        lap(2, 90_250, 0, 0, 3f, 4);
+        lap(2, 90_250, 0, 0, 40f, 4);
+
+        assertEquals(List.of(new CompletedLap(SESSION_UID, CAR, 1, 90_250, 30_000, 31_500, 28_750, 4, 5_400, 5_403, false)),
+                laps);
+    }
+
+    @Test
+    @DisplayName("Should emit a lap without sector splits when its sectors were not seen")
+    void shouldEmitLapWithoutLostSectors() {
+        lap(1, 0, 0, 0, 100f, 1);
+        // The packets of sectors 2 and 3 are lost
+        lap(3, 88_000, 0, 0, 10f, 1);
+
+        assertEquals(1, laps.size());
+        CompletedLap lap = laps.get(0);
+        assertEquals(2, lap.lapNumber());
+        assertEquals(88_000, lap.lapTimeMs());
+        assertNull(lap.sector1TimeMs());
+        assertNull(lap.lapDistanceM());
+    }
+
+    @Test
+    @DisplayName("Should restart the lap after a flashback without emitting")
+    void shouldRestartLapAfterFlashback() {
+        lap(2, 90_000, 30_000, 0, 1_800f, 1);
+        lap(1, 0, 0, 0, 5_000f, 1);
+        lap(2, 91_000, 0, 0, 2f, 1);
+
+        assertEquals(1, laps.size());
+        assertEquals(1, laps.get(0).lapNumber());
+        assertNull(laps.get(0).sector1TimeMs());
+    }
+
+    @Test
+    @DisplayName("Should fill in missed laps and correct laps without sectors from the session history")
+    void shouldReconcileWithSessionHistory() {
+        lap(1, 0, 30_000, 31_000, 5_000f, 1);
+        lap(2, 90_000, 0, 0, 5f, 1);
+        lap(2, 90_000, 0, 0, 100f, 1);
+        lap(4, 87_000, 0, 0, 5f, 1);
+        laps.clear();
+
+        SessionHistoryPacket history = new SessionHistoryPacket();
+        history.setCarIdx(CAR);
+        history.setNumLaps(4);
+        history(history.getLapHistory()[0], 90_000, 30_000, 31_000, 29_000);
+        history(history.getLapHistory()[1], 88_500, 29_500, 30_000, 29_000);
+        history(history.getLapHistory()[2], 87_000, 29_000, 29_500, 28_500);
+        detector.onSessionHistory(history, laps::add);
+
+        assertEquals(List.of(
+                new CompletedLap(SESSION_UID, CAR, 2, 88_500, 29_500, 30_000, 29_000, null, null, null, true),
+                new CompletedLap(SESSION_UID, CAR, 3, 87_000, 29_000, 29_500, 28_500, null, null, null, true)
+        ), laps);
+
+        laps.clear();
+        detector.onSessionHistory(history, laps::add);
+        assertTrue(laps.isEmpty(), "Confirmed laps should not be emitted again");
+    }
+
+    private void lap(int lapNum, int lastLapTime, int sector1, int sector2, float lapDistance, int position) {
+        LapData car = packet.getCars()[CAR];
+        car.setCurrentLapNum(lapNum);
+        car.setLastLapTimeInMs(lastLapTime);
+        car.setSector1TimeMsPart(sector1 % 60_000);
+        car.setSector1TimeMinutesPart(sector1 / 60_000);
+        car.setSector2TimeMsPart(sector2 % 60_000);
+        car.setSector2TimeMinutesPart(sector2 / 60_000);
+        car.setLapDistance(lapDistance);
+        car.setTotalDistance(lapDistance + (lapNum - 1) * 5_400f);
+        car.setCarPosition(position);
+        detector.onLapData(packet, laps::add);
+    }
+
+    private static void history(LapHistoryData lap, int lapTime, int sector1, int sector2, int sector3) {
+        lap.setLapTimeInMs(lapTime);
+        lap.setSector1TimeMsPart(sector1);
+        lap.setSector2TimeMsPart(sector2);
+        lap.setSector3TimeMsPart(sector3);
+        lap.setLapValidBitFlags(0x0F);
+    }
+}
@@ -0,0 +1,156 @@
+package com.edoofra.f1_telemetry_analyzer.service.session;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.packet.DecodedPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.EventPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LapData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.LapDataPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.ParticipantData;
+import com.edoofra.f1_telemetry_analyzer.model.packet.ParticipantsPacket;
+import com.edoofra.f1_telemetry_analyzer.model.packet.SessionPacket;
+import com.edoofra.f1_telemetry_analyzer.persistence.domain.enums.SessionTypeEnum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveSessionRegistry Tests")
+class LiveSessionRegistryTest {
+
+    private static final long SESSION_UID = 0xF000_0000_0000_0001L;
+
+    @Mock
+    private SessionRecorder recorder;
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+    private LiveSessionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new LiveSessionRegistry(recorder, 60, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should open the session row once, on the first Session packet")
+    void shouldOpenSessionOnFirstSessionPacket() {
+        registry.onPacket(session(15, 7, 2));
+        registry.onPacket(session(15, 7, 3));
+
+        ArgumentCaptor<LiveSessionSnapshot> opened = ArgumentCaptor.forClass(LiveSessionSnapshot.class);
+        verify(recorder).open(opened.capture());
+        assertEquals(Long.toUnsignedString(SESSION_UID), opened.getValue().sessionUID());
+        assertEquals(SessionTypeEnum.RACE, opened.getValue().type());
+        assertEquals("Silverstone", opened.getValue().trackName());
+        assertEquals("OVERCAST", opened.getValue().weather());
+
+        LiveSessionSnapshot live = registry.snapshot(SESSION_UID).orElseThrow();
+        assertEquals("LIGHT_RAIN", live.weather());
+        assertTrue(live.active());
+    }
+
+    @Test
+    @DisplayName("Should track participants and the lap state of every car")
+    void shouldTrackParticipantsAndLaps() {
+        ParticipantsPacket participants = stamp(new ParticipantsPacket());
+        participants.setNumActiveCars(2);
+        name(participants.getParticipants()[0], "VERSTAPPEN");
+        name(participants.getParticipants()[1], "HAMILTON");
+        participants.getParticipants()[1].setAiControlled(1);
+        LapDataPacket laps = stamp(new LapDataPacket());
+        LapData car = laps.getCars()[1];
+        car.setResultStatus(2);
+        car.setCurrentLapNum(4);
+        car.setCarPosition(3);
+        car.setLapDistance(1234.5f);
+
+        registry.onPacket(participants);
+        registry.onPacket(laps);
+
+        LiveSessionSnapshot live = registry.snapshot(SESSION_UID).orElseThrow();
+        assertEquals(List.of("VERSTAPPEN", "HAMILTON"),
+                live.participants().stream().map(LiveSessionSnapshot.Participant::name).toList());
+        assertTrue(live.participants().get(1).aiControlled());
+        assertEquals(List.of(new LiveSessionSnapshot.CarLap(1, 4, 3, 0, 1234.5f, 0, 0, 0, 0, 2)), live.cars());
+        verifyNoInteractions(recorder);
+    }
+
+    @Test
+    @DisplayName("Should close the session row on the session ended event")
+    void shouldCloseOnSessionEnded() {
+        registry.onPacket(session(15, 7, 0));
+        clock.addAndGet(5_000);
+        EventPacket ended = stamp(new EventPacket());
+        ended.setEventCode(EventPacket.SESSION_ENDED);
+
+        registry.onPacket(ended);
+        registry.onPacket(ended);
+
+        ArgumentCaptor<LiveSessionSnapshot> closed = ArgumentCaptor.forClass(LiveSessionSnapshot.class);
+        verify(recorder).close(closed.capture());
+        assertEquals(Instant.ofEpochMilli(clock.get()), closed.getValue().endedAt());
+        assertFalse(registry.snapshot(SESSION_UID).orElseThrow().active());
+    }
+
+    @Test
+    @DisplayName("Should close and drop sessions idle for the timeout")
+    void shouldDropIdleSessions() {
+        registry.onPacket(session(15, 7, 0));
+        long lastPacket = clock.get();
+
+        registry.sweep(lastPacket + 59_999);
+        assertTrue(registry.snapshot(SESSION_UID).isPresent());
+
+        registry.sweep(lastPacket + 60_000);
+        ArgumentCaptor<LiveSessionSnapshot> closed = ArgumentCaptor.forClass(LiveSessionSnapshot.class);
+        verify(recorder).close(closed.capture());
+        assertEquals(Instant.ofEpochMilli(lastPacket), closed.getValue().endedAt());
+        assertTrue(registry.snapshot(SESSION_UID).isEmpty());
+        assertTrue(registry.snapshots().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should map the session types of each format")
+    void shouldMapSessionTypes() {
+        int f1_23 = PacketFormat.F1_23.getValue();
+        int f1_24 = PacketFormat.F1_24.getValue();
+        assertEquals(SessionTypeEnum.FREE_PRACTICE, SessionLabels.sessionType(f1_24, 1));
+        assertEquals(SessionTypeEnum.QUALIFY, SessionLabels.sessionType(f1_24, 12));
+        assertEquals(SessionTypeEnum.RACE, SessionLabels.sessionType(f1_24, 15));
+        assertNull(SessionLabels.sessionType(f1_24, 18));
+        assertEquals(SessionTypeEnum.RACE, SessionLabels.sessionType(f1_23, 10));
+        assertNull(SessionLabels.sessionType(f1_23, 13));
+        assertNull(SessionLabels.sessionType(f1_24, 0));
+    }
+
+    private static SessionPacket session(int sessionType, int trackId, int weather) {
+        SessionPacket packet = stamp(new SessionPacket());
+        packet.setSessionType(sessionType);
+        packet.setTrackId(trackId);
+        packet.setWeather(weather);
+        return packet;
+    }
+
+    private static <T extends DecodedPacket> T stamp(T packet) {
+        packet.setPacketFormat(PacketFormat.F1_24.getValue());
+        packet.setSessionUID(SESSION_UID);
+        return packet;
+    }
+
+    private static void name(ParticipantData participant, String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(bytes, 0, participant.getNameBytes(), 0, bytes.length);
+        participant.setNameLength(bytes.length);
+    }
+}
@@ -0,0 +1,63 @@
+package com.edoofra.f1_telemetry_analyzer.service.source;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TelemetrySourceTest {
+
+    private static final int PORT = 20777;
+
+    private static final TelemetrySource CATCH_ALL = source("default", null);
+    private static final TelemetrySource CONSOLE = source("console-2", "192.168.1.42");
+
+    @Nested
+    @DisplayName("Selecting by sender address")
+    class SelectByAddress {
+
+        @Test
+        @DisplayName("Should prefer the source bound to the sender over the catch-all source")
+        void shouldPreferBoundSource() {
+            TelemetrySource[] sources = {CATCH_ALL, CONSOLE};
+
+            assertSame(CONSOLE, TelemetrySource.select(sources, address("192.168.1.42")));
+            assertSame(CONSOLE, TelemetrySource.select(sources, "192.168.1.42"));
+        }
+
+        @Test
+        @DisplayName("Should fall back to the catch-all source for other senders")
+        void shouldFallBackToCatchAll() {
+            TelemetrySource[] sources = {CONSOLE, CATCH_ALL};
+
+            assertSame(CATCH_ALL, TelemetrySource.select(sources, address("192.168.1.7")));
+            assertSame(CATCH_ALL, TelemetrySource.select(sources, "192.168.1.7"));
+            assertSame(CATCH_ALL, TelemetrySource.select(sources, (String) null));
+        }
+
+        @Test
+        @DisplayName("Should accept no sender when the port has no catch-all source")
+        void shouldRejectUnknownSender() {
+            TelemetrySource[] sources = {CONSOLE};
+
+            assertNull(TelemetrySource.select(sources, address("192.168.1.7")));
+            assertNull(TelemetrySource.select(sources, "192.168.1.7"));
+        }
+    }
+
+    private static TelemetrySource source(String name, String address) {
+        return new TelemetrySource(name, PORT, address != null ? address(address) : null, null, null);
+    }
+
+    private static InetAddress address(String address) {
+        try {
+            return InetAddress.getByName(address);
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException(address, e);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.edoofra.f1_telemetry_analyzer.service.udp;
+
+import com.edoofra.f1_telemetry_analyzer.model.DropReason;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IngestionStatisticsTest {
+
+    private static final int MOTION = 0;
+    private static final int EVENT = 1;
+    private static final int UNCLASSIFIED = 2;
+    private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private MeterRegistry meterRegistry;
+    private IngestionStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        statistics = new IngestionStatistics(meterRegistry, "default",
+                new String[]{"MOTION", "EVENT", "UNCLASSIFIED"},
+                new PacketType[]{PacketType.MOTION, PacketType.EVENT, null});
+    }
+
+    @Nested
+    @DisplayName("Counters")
+    class Counters {
+
+        @Test
+        @DisplayName("Should count packets, bytes and drops per route")
+        void shouldCountPerRoute() {
+            statistics.recordArrival(MOTION, 1349, 1, MILLISECOND);
+            statistics.recordArrival(MOTION, 1349, 2, 2 * MILLISECOND);
+            statistics.recordArrival(EVENT, 45, 2, 2 * MILLISECOND);
+            statistics.recordDrop(MOTION, DropReason.SHED);
+
+            assertEquals(2, statistics.packets(MOTION));
+            assertEquals(2698, statistics.bytes(MOTION));
+            assertEquals(1, statistics.packets(EVENT));
+            assertEquals(1, statistics.drops(MOTION, DropReason.SHED));
+            assertEquals(0, statistics.drops(EVENT, DropReason.SHED));
+            assertEquals(3, statistics.totalPackets());
+            assertEquals(1, statistics.totalDrops());
+        }
+
+        @Test
+        @DisplayName("Should not lose increments from concurrent receivers")
+        void shouldCountConcurrentArrivalsExactly() throws InterruptedException {
+            int threads = 4;
+            int packetsPerThread = 10_000;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch done = new CountDownLatch(threads);
+
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < packetsPerThread; i++) {
+                        statistics.recordArrival(UNCLASSIFIED, 10, -1, System.nanoTime());
+                    }
+                    done.countDown();
+                });
+            }
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            executor.shutdown();
+            assertEquals((long) threads * packetsPerThread, statistics.packets(UNCLASSIFIED));
+            assertEquals((long) threads * packetsPerThread * 10, statistics.bytes(UNCLASSIFIED));
+        }
+
+        @Test
+        @DisplayName("Should reset every counter")
+        void shouldReset() {
+            statistics.recordArrival(MOTION, 100, 1, MILLISECOND);
+            statistics.recordDrop(MOTION, DropReason.OVERWRITTEN);
+
+            statistics.reset();
+
+            assertEquals(0, statistics.totalPackets());
+            assertEquals(0, statistics.totalDrops());
+            assertEquals(0, statistics.bytes(MOTION));
+        }
+    }
+
+    @Nested
+    @DisplayName("Frame gaps")
+    class FrameGaps {
+
+        @Test
+        @DisplayName("Should learn the send stride and count skipped frames")
+        void shouldDetectGapsAgainstLearntStride() {
+            // The game sends every third frame; frame 12 is missing
+            long[] frames = {3, 6, 9, 15, 18};
+            for (int i = 0; i < frames.length; i++) {
+                statistics.recordArrival(MOTION, 1349, frames[i], (i + 1) * MILLISECOND);
+            }
+
+            assertEquals(1, statistics.frameGaps(MOTION));
+            assertEquals(1, statistics.missedFrames(MOTION));
+        }
+
+        @Test
+        @DisplayName("Should restart tracking when frames go backwards")
+        void shouldRestartOnBackwardStep() {
+            statistics.recordArrival(MOTION, 1349, 100, MILLISECOND);
+            statistics.recordArrival(MOTION, 1349, 101, 2 * MILLISECOND);
+            statistics.recordArrival(MOTION, 1349, 5, 3 * MILLISECOND);
+            statistics.recordArrival(MOTION, 1349, 6, 4 * MILLISECOND);
+
+            assertEquals(0, statistics.frameGaps(MOTION));
+        }
+
+        @Test
+        @DisplayName("Should ignore frame identifiers of types not sent every frame")
+        void shouldIgnoreEventFrames() {
+            statistics.recordArrival(EVENT, 45, 1, MILLISECOND);
+            statistics.recordArrival(EVENT, 45, 2, 2 * MILLISECOND);
+            statistics.recordArrival(EVENT, 45, 500, 3 * MILLISECOND);
+
+            assertEquals(0, statistics.frameGaps(EVENT));
+            assertNull(meterRegistry.find("telemetry.ingest.frame.gaps").tag("type", "EVENT").functionCounter());
+        }
+    }
+
+    @Nested
+    @DisplayName("Timing")
+    class Timing {
+
+        @Test
+        @DisplayName("Should report no jitter for evenly spaced packets")
+        void shouldReportNoJitterForEvenArrivals() {
+            for (int i = 1; i <= 10; i++) {
+                statistics.recordArrival(MOTION, 1349, i, i * 16 * MILLISECOND);
+            }
+
+            assertEquals(0.0, statistics.jitterMillis(MOTION), 0.001);
+            assertEquals(16.0, statistics.meanInterArrivalMillis(MOTION), 0.001);
+        }
+
+        @Test
+        @DisplayName("Should report jitter for irregularly spaced packets")
+        void shouldReportJitterForIrregularArrivals() {
+            long time = 0;
+            for (int i = 1; i <= 20; i++) {
+                time += (i % 2 == 0 ? 10 : 22) * MILLISECOND;
+                statistics.recordArrival(MOTION, 1349, i, time);
+            }
+
+            assertTrue(statistics.jitterMillis(MOTION) > 1.0);
+        }
+    }
+
+    @Test
+    @DisplayName("Should expose counters as tagged Micrometer meters")
+    void shouldExposeMeters() {
+        statistics.recordArrival(EVENT, 45, 1, MILLISECOND);
+        statistics.recordDrop(EVENT, DropReason.REJECTED);
+
+        FunctionCounter packets = meterRegistry.find("telemetry.ingest.packets").tags("source", "default", "type", "EVENT").functionCounter();
+        FunctionCounter drops = meterRegistry.find("telemetry.ingest.drops")
+                .tags("type", "EVENT", "reason", "REJECTED").functionCounter();
+
+        assertNotNull(packets);
+        assertEquals(1.0, packets.count());
+        assertNotNull(drops);
+        assertEquals(1.0, drops.count());
+        assertNotNull(meterRegistry.find("telemetry.ingest.interarrival").tag("type", "MOTION").timer());
+        assertNotNull(meterRegistry.find("telemetry.ingest.jitter").tag("type", "MOTION").gauge());
+    }
+}
@@ -0,0 +1,131 @@
+package com.edoofra.f1_telemetry_analyzer.service.udp;
+
+import com.edoofra.f1_telemetry_analyzer.service.source.TelemetrySource;
+import com.edoofra.f1_telemetry_analyzer.service.source.TelemetrySourceRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NioTelemetryReceiver Tests")
+class NioTelemetryReceiverTest {
+
+    @Mock
+    private TelemetrySourceRegistry sourceRegistry;
+
+    @Mock
+    private PacketValidator packetValidator;
+
+    @Mock
+    private PacketSequenceTracker sequenceTracker;
+
+    @Mock
+    private TelemetryBufferManager bufferManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private NioTelemetryReceiver receiver;
+
+    @BeforeEach
+    void setUp() {
+        receiver = new NioTelemetryReceiver(sourceRegistry, packetValidator, sequenceTracker, meterRegistry, 8192);
+    }
+
+    @AfterEach
+    void tearDown() {
+        receiver.stop();
+    }
+
+    @Test
+    @DisplayName("Should count packets dropped by the buffer as errors")
+    void shouldCountBufferDropsAsErrors() throws Exception {
+        int port = freePort();
+        TelemetrySource source = new TelemetrySource("test", port, null, bufferManager, null);
+        when(sourceRegistry.ports()).thenReturn(new LinkedHashSet<>(List.of(port)));
+        when(sourceRegistry.sourcesOnPort(port)).thenReturn(new TelemetrySource[]{source});
+        when(packetValidator.accept(any(ByteBuffer.class))).thenReturn(true);
+        when(sequenceTracker.accept(any(), any(ByteBuffer.class))).thenReturn(true);
+        when(bufferManager.addTelemetryDatagram(any(ByteBuffer.class))).thenReturn(false);
+
+        receiver.start();
+        try (DatagramChannel sender = DatagramChannel.open()) {
+            sender.send(ByteBuffer.wrap(new byte[]{1, 2, 3, 4}), new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        }
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (meterRegistry.get("telemetry.packets.errors").counter().count() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1.0, meterRegistry.get("telemetry.packets.received").counter().count());
+        assertEquals(1.0, meterRegistry.get("telemetry.packets.errors").counter().count());
+        assertEquals(0.0, meterRegistry.get("telemetry.packets.processed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should receive every datagram of a burst")
+    void shouldReceiveEveryDatagramOfBurst() throws Exception {
+        int port = freePort();
+        TelemetrySource source = new TelemetrySource("test", port, null, bufferManager, null);
+        when(sourceRegistry.ports()).thenReturn(new LinkedHashSet<>(List.of(port)));
+        when(sourceRegistry.sourcesOnPort(port)).thenReturn(new TelemetrySource[]{source});
+        when(packetValidator.accept(any(ByteBuffer.class))).thenReturn(true);
+        when(sequenceTracker.accept(any(), any(ByteBuffer.class))).thenReturn(true);
+        when(bufferManager.addTelemetryDatagram(any(ByteBuffer.class))).thenReturn(true);
+
+        int burst = 20;
+        receiver = new NioTelemetryReceiver(sourceRegistry, packetValidator, sequenceTracker, meterRegistry, 1 << 20);
+        receiver.start();
+        try (DatagramChannel sender = DatagramChannel.open()) {
+            for (int i = 0; i < burst; i++) {
+                sender.send(ByteBuffer.wrap(new byte[]{(byte) i, 2, 3, 4}), new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+            }
+        }
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (meterRegistry.get("telemetry.packets.processed").counter().count() < burst && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(burst, meterRegistry.get("telemetry.packets.processed").counter().count());
+        assertEquals(0.0, meterRegistry.get("telemetry.packets.errors").counter().count());
+        verify(bufferManager, times(burst)).addTelemetryDatagram(any(ByteBuffer.class));
+    }
+
+    @Test
+    @DisplayName("Should release the ports already bound when a later port cannot be bound")
+    void shouldReleasePortsWhenStartFails() throws Exception {
+        int freePort = freePort();
+        try (DatagramChannel occupied = DatagramChannel.open().bind(new InetSocketAddress(0))) {
+            int busyPort = ((InetSocketAddress) occupied.getLocalAddress()).getPort();
+            when(sourceRegistry.ports()).thenReturn(new LinkedHashSet<>(List.of(freePort, busyPort)));
+            when(sourceRegistry.sourcesOnPort(anyInt())).thenReturn(new TelemetrySource[0]);
+
+            assertThrows(IOException.class, receiver::start);
+        }
+
+        try (DatagramChannel rebound = DatagramChannel.open()) {
+            assertDoesNotThrow(() -> rebound.bind(new InetSocketAddress(freePort)));
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (DatagramChannel channel = DatagramChannel.open().bind(new InetSocketAddress(0))) {
+            return ((InetSocketAddress) channel.getLocalAddress()).getPort();
+        }
+    }
+}
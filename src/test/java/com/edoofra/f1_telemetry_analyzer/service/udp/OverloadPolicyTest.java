@@ -0,0 +1,95 @@
+package com.edoofra.f1_telemetry_analyzer.service.udp;
+
+import com.edoofra.f1_telemetry_analyzer.config.TelemetryBufferConfig;
+import com.edoofra.f1_telemetry_analyzer.model.DropReason;
+import com.edoofra.f1_telemetry_analyzer.model.PacketPriority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OverloadPolicyTest {
+
+    private static final int TOTAL_CAPACITY = 100;
+    private static final int ROUTE = 0;
+
+    private TelemetryBufferConfig.Overload config;
+    private OverloadPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        // Decimate LOW above 50, shed LOW above 70, shed NORMAL above 80
+        config = new TelemetryBufferConfig.Overload();
+        policy = new OverloadPolicy(config, TOTAL_CAPACITY, 1);
+    }
+
+    @Nested
+    @DisplayName("Below thresholds")
+    class BelowThresholds {
+
+        @Test
+        @DisplayName("Should admit every priority while the buffers are lightly used")
+        void shouldAdmitEveryPriority() {
+            for (PacketPriority priority : PacketPriority.values()) {
+                assertNull(policy.admit(ROUTE, priority, 49));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Low priority")
+    class LowPriority {
+
+        @Test
+        @DisplayName("Should keep one in decimation-factor packets when decimating")
+        void shouldDecimate() {
+            int admitted = 0;
+            for (int i = 0; i < 8; i++) {
+                DropReason reason = policy.admit(ROUTE, PacketPriority.LOW, 60);
+                if (reason == null) {
+                    admitted++;
+                } else {
+                    assertEquals(DropReason.DECIMATED, reason);
+                }
+            }
+            assertEquals(2, admitted);
+        }
+
+        @Test
+        @DisplayName("Should shed low priority before normal priority")
+        void shouldShedLowFirst() {
+            assertEquals(DropReason.SHED, policy.admit(ROUTE, PacketPriority.LOW, 75));
+            assertNull(policy.admit(ROUTE, PacketPriority.NORMAL, 75));
+        }
+    }
+
+    @Nested
+    @DisplayName("Reserved headroom")
+    class ReservedHeadroom {
+
+        @Test
+        @DisplayName("Should shed normal priority inside the reserved headroom")
+        void shouldShedNormalInHeadroom() {
+            assertEquals(DropReason.SHED, policy.admit(ROUTE, PacketPriority.NORMAL, 80));
+        }
+
+        @Test
+        @DisplayName("Should never drop high priority packets")
+        void shouldNeverDropHighPriority() {
+            assertFalse(policy.appliesTo(PacketPriority.HIGH));
+            assertNull(policy.admit(ROUTE, PacketPriority.HIGH, TOTAL_CAPACITY * 2));
+        }
+    }
+
+    @Test
+    @DisplayName("Should admit everything when disabled")
+    void shouldAdmitEverythingWhenDisabled() {
+        config.setEnabled(false);
+        OverloadPolicy disabled = new OverloadPolicy(config, TOTAL_CAPACITY, 1);
+
+        assertFalse(disabled.appliesTo(PacketPriority.LOW));
+        assertNull(disabled.admit(ROUTE, PacketPriority.LOW, TOTAL_CAPACITY));
+    }
+}
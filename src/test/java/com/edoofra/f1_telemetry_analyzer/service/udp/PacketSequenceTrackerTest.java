@@ -0,0 +1,150 @@
+package com.edoofra.f1_telemetry_analyzer.service.udp;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.SequenceOutcome;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.HeaderParsingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PacketSequenceTracker Tests")
+class PacketSequenceTrackerTest {
+
+    private static final String SOURCE = "default";
+    private static final long SESSION = 0x8000_0000_0000_002AL;
+    private static final int MOTION = PacketType.MOTION.getId();
+    private static final int WINDOW = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private long now;
+    private PacketSequenceTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new PacketSequenceTracker(meterRegistry, WINDOW,
+                List.of(PacketType.MOTION, PacketType.CAR_TELEMETRY), 300, () -> now);
+    }
+
+    @Test
+    @DisplayName("Should classify in-order, gapped, reordered, duplicate and late packets")
+    void shouldClassifyPackets() {
+        assertEquals(SequenceOutcome.IN_ORDER, track(SESSION, MOTION, 100));
+        assertEquals(SequenceOutcome.IN_ORDER, track(SESSION, MOTION, 101));
+        assertEquals(SequenceOutcome.GAP, track(SESSION, MOTION, 104));
+        assertEquals(SequenceOutcome.REORDERED, track(SESSION, MOTION, 102));
+        assertEquals(SequenceOutcome.DUPLICATE, track(SESSION, MOTION, 102));
+        assertEquals(SequenceOutcome.DUPLICATE, track(SESSION, MOTION, 104));
+        assertEquals(SequenceOutcome.LATE, track(SESSION, MOTION, 104 - WINDOW));
+
+        assertEquals(2, tracker.count(SOURCE, SESSION, SequenceOutcome.DUPLICATE));
+        assertEquals(1, tracker.count(SOURCE, SESSION, SequenceOutcome.REORDERED));
+    }
+
+    @Test
+    @DisplayName("Should count frames as lost once they leave the window unreceived")
+    void shouldCountLostFrames() {
+        track(SESSION, MOTION, 0);
+        track(SESSION, MOTION, 3);
+        assertEquals(0, tracker.lost(SOURCE, SESSION), "Frames 1 and 2 may still arrive");
+
+        track(SESSION, MOTION, 1);
+        track(SESSION, MOTION, 3 + WINDOW);
+        assertEquals(1, tracker.lost(SOURCE, SESSION), "Frame 2 left the window, frames 4 to 10 may still arrive");
+
+        track(SESSION, MOTION, 1000);
+        assertEquals(1 + (10 - 4 + 1) + (992 - 12 + 1), tracker.lost(SOURCE, SESSION),
+                "Frames 4 to 10 and 12 to 992 left the window too");
+        assertEquals((double) tracker.lost(SOURCE, SESSION) / (tracker.lost(SOURCE, SESSION) + 5),
+                meterRegistry.get("telemetry.sequence.loss.rate").tag("session", Long.toUnsignedString(SESSION)).gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should track each packet type and session separately, and ignore untracked types")
+    void shouldTrackStreamsSeparately() {
+        track(SESSION, MOTION, 10);
+        assertEquals(SequenceOutcome.IN_ORDER, track(SESSION, PacketType.CAR_TELEMETRY.getId(), 10));
+        assertEquals(SequenceOutcome.IN_ORDER, track(7L, MOTION, 10));
+        assertEquals(SequenceOutcome.IN_ORDER, track(SESSION, PacketType.SESSION.getId(), 10));
+        assertEquals(SequenceOutcome.IN_ORDER, track(SESSION, PacketType.SESSION.getId(), 10));
+    }
+
+    @Test
+    @DisplayName("Should track the same session separately per source")
+    void shouldTrackSourcesSeparately() {
+        track(SESSION, MOTION, 10);
+        assertEquals(SequenceOutcome.IN_ORDER, tracker.track("rig-2", SESSION, MOTION, 10, 10),
+                "The same frame reaching another source is not a duplicate");
+        assertEquals(SequenceOutcome.GAP, tracker.track("rig-2", SESSION, MOTION, 12, 12));
+        assertEquals(SequenceOutcome.IN_ORDER, track(SESSION, MOTION, 11));
+
+        assertEquals(0, tracker.count(SOURCE, SESSION, SequenceOutcome.GAP));
+        assertEquals(1, tracker.count("rig-2", SESSION, SequenceOutcome.GAP));
+        assertNotNull(meterRegistry.find("telemetry.sequence.lost").tag("source", "rig-2")
+                .tag("session", Long.toUnsignedString(SESSION)).functionCounter());
+    }
+
+    @Test
+    @DisplayName("Should tell a flashback from a late packet by the overall frame identifier")
+    void shouldRecognizeFlashback() {
+        for (int frame = 500; frame <= 510; frame++) {
+            track(SESSION, MOTION, frame);
+        }
+
+        assertEquals(SequenceOutcome.LATE, track(SESSION, MOTION, 400));
+        assertEquals(SequenceOutcome.REWOUND, tracker.track(SOURCE, SESSION, MOTION, 400, 511));
+        assertEquals(SequenceOutcome.IN_ORDER, tracker.track(SOURCE, SESSION, MOTION, 401, 512));
+        assertEquals(SequenceOutcome.REWOUND, tracker.track(SOURCE, SESSION, MOTION, 400, 513), "A flashback of one frame");
+        assertEquals(SequenceOutcome.DUPLICATE, tracker.track(SOURCE, SESSION, MOTION, 401, 512));
+        assertEquals(0, tracker.lost(SOURCE, SESSION));
+    }
+
+    @Test
+    @DisplayName("Should accept or reject datagrams from their header fields")
+    void shouldAcceptDatagrams() {
+        ByteBuffer packet = ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN);
+        packet.put(HeaderParsingService.PACKET_ID_OFFSET, (byte) MOTION);
+        packet.putLong(HeaderParsingService.SESSION_UID_OFFSET, SESSION);
+        packet.putInt(HeaderParsingService.FRAME_IDENTIFIER_OFFSET, 42);
+        packet.putInt(HeaderParsingService.OVERALL_FRAME_IDENTIFIER_OFFSET, 42);
+        byte[] bytes = packet.array().clone();
+
+        assertTrue(tracker.accept(SOURCE, packet));
+        assertEquals(0, packet.position());
+        assertFalse(tracker.accept(SOURCE, bytes));
+    }
+
+    @Test
+    @DisplayName("Should drop the meters of idle sessions when a new session starts")
+    void shouldExpireIdleSessions() {
+        track(SESSION, MOTION, 1);
+        assertNotNull(meterRegistry.find("telemetry.sequence.lost").tag("session", Long.toUnsignedString(SESSION)).functionCounter());
+
+        now += TimeUnit.SECONDS.toNanos(300);
+        track(7L, MOTION, 1);
+
+        assertNull(meterRegistry.find("telemetry.sequence.lost").tag("session", Long.toUnsignedString(SESSION)).functionCounter());
+        assertNotNull(meterRegistry.find("telemetry.sequence.lost").tag("session", "7").functionCounter());
+    }
+
+    @Test
+    @DisplayName("Should reject windows the bitmap cannot hold")
+    void shouldRejectInvalidWindow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PacketSequenceTracker(meterRegistry, 65, List.of(PacketType.MOTION), 300, () -> now));
+    }
+
+    /**
+     * Tracks a packet of a session without flashbacks, whose overall frame identifier is its frame identifier.
+     */
+    private SequenceOutcome track(long sessionUID, int packetId, long frameIdentifier) {
+        return tracker.track(SOURCE, sessionUID, packetId, frameIdentifier, frameIdentifier);
+    }
+}
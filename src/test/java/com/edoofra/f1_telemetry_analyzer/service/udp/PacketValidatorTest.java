@@ -0,0 +1,128 @@
+package com.edoofra.f1_telemetry_analyzer.service.udp;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketFormat;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.RejectReason;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.HeaderParsingService;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.CarDamageDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.CarSetupsDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.CarStatusDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.CarTelemetryDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.EventDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.FinalClassificationDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.LapDataDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.LobbyInfoDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.MotionDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.MotionExDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.PacketDecoderRegistry;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.ParticipantsDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.SessionDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.SessionHistoryDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.TimeTrialDecoder;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.decoder.TyreSetsDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Map.entry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PacketValidator Tests")
+class PacketValidatorTest {
+
+    private static final int HEADER = HeaderParsingService.HEADER_SIZE;
+
+    private MeterRegistry meterRegistry;
+    private PacketValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PacketDecoderRegistry decoderRegistry = new PacketDecoderRegistry(List.of(
+                new EventDecoder(), new LapDataDecoder(), new CarTelemetryDecoder()));
+        validator = new PacketValidator(decoderRegistry, meterRegistry, 10);
+    }
+
+    @Test
+    @DisplayName("Should accept packets of exactly their format's size")
+    void shouldAcceptWellFormedPackets() {
+        assertNull(validator.validate(packet(PacketType.CAR_TELEMETRY, PacketFormat.F1_24, 1, HEADER + 1323)));
+        assertNull(validator.validate(packet(PacketType.LAP_DATA, PacketFormat.F1_24, 1, HEADER + 22 * 57 + 2)));
+        assertNull(validator.validate(packet(PacketType.LAP_DATA, PacketFormat.F1_23, 1, HEADER + 22 * 50 + 2)));
+        assertTrue(validator.accept(ByteBuffer.wrap(packet(PacketType.EVENT, PacketFormat.F1_24, 1, HEADER + 16))));
+    }
+
+    @Test
+    @DisplayName("Should accept every packet at the datagram length the game sends")
+    void shouldAcceptWireLengths() {
+        PacketValidator full = new PacketValidator(new PacketDecoderRegistry(List.of(
+                new MotionDecoder(), new SessionDecoder(), new LapDataDecoder(), new EventDecoder(),
+                new ParticipantsDecoder(), new CarSetupsDecoder(), new CarTelemetryDecoder(), new CarStatusDecoder(),
+                new FinalClassificationDecoder(), new LobbyInfoDecoder(), new CarDamageDecoder(),
+                new SessionHistoryDecoder(), new TyreSetsDecoder(), new MotionExDecoder(), new TimeTrialDecoder())),
+                meterRegistry, 10);
+
+        // Datagram lengths published in the F1 24 and F1 23 UDP specifications, header included
+        Map<PacketType, Integer> f124 = Map.ofEntries(
+                entry(PacketType.MOTION, 1349), entry(PacketType.SESSION, 753), entry(PacketType.LAP_DATA, 1285),
+                entry(PacketType.EVENT, 45), entry(PacketType.PARTICIPANTS, 1350), entry(PacketType.CAR_SETUPS, 1133),
+                entry(PacketType.CAR_TELEMETRY, 1352), entry(PacketType.CAR_STATUS, 1239),
+                entry(PacketType.FINAL_CLASSIFICATION, 1020), entry(PacketType.LOBBY_INFO, 1306),
+                entry(PacketType.CAR_DAMAGE, 953), entry(PacketType.SESSION_HISTORY, 1460),
+                entry(PacketType.TYRE_SETS, 231), entry(PacketType.MOTION_EX, 237), entry(PacketType.TIME_TRIAL, 101));
+        Map<PacketType, Integer> f123 = Map.ofEntries(
+                entry(PacketType.MOTION, 1349), entry(PacketType.SESSION, 644), entry(PacketType.LAP_DATA, 1131),
+                entry(PacketType.EVENT, 45), entry(PacketType.PARTICIPANTS, 1306), entry(PacketType.CAR_SETUPS, 1107),
+                entry(PacketType.CAR_TELEMETRY, 1352), entry(PacketType.CAR_STATUS, 1239),
+                entry(PacketType.FINAL_CLASSIFICATION, 1020), entry(PacketType.LOBBY_INFO, 1218),
+                entry(PacketType.CAR_DAMAGE, 953), entry(PacketType.SESSION_HISTORY, 1460),
+                entry(PacketType.TYRE_SETS, 231), entry(PacketType.MOTION_EX, 217));
+
+        f124.forEach((type, length) -> assertNull(full.validate(packet(type, PacketFormat.F1_24, 1, length)),
+                "F1 24 " + type + " of " + length + " bytes"));
+        f123.forEach((type, length) -> assertNull(full.validate(packet(type, PacketFormat.F1_23, 1, length)),
+                "F1 23 " + type + " of " + length + " bytes"));
+        assertEquals(RejectReason.SIZE_MISMATCH, full.validate(packet(PacketType.MOTION, PacketFormat.F1_24, 1, 1349 - 5)));
+    }
+
+    @Test
+    @DisplayName("Should reject truncated, unknown and mis-sized packets by reason")
+    void shouldRejectMalformedPackets() {
+        assertEquals(RejectReason.TRUNCATED_HEADER, validator.validate(new byte[HEADER - 1]));
+        assertEquals(RejectReason.UNSUPPORTED_FORMAT, validator.validate(packet(PacketType.EVENT, null, 1, HEADER + 16)));
+        assertEquals(RejectReason.UNKNOWN_PACKET, validator.validate(packet(PacketType.MOTION, PacketFormat.F1_24, 1, HEADER + 1320)));
+        assertEquals(RejectReason.UNKNOWN_PACKET, validator.validate(packet(PacketType.EVENT, PacketFormat.F1_24, 2, HEADER + 16)));
+        assertEquals(RejectReason.SIZE_MISMATCH, validator.validate(packet(PacketType.CAR_TELEMETRY, PacketFormat.F1_24, 1, HEADER + 100)));
+        assertEquals(RejectReason.SIZE_MISMATCH, validator.validate(packet(PacketType.LAP_DATA, PacketFormat.F1_23, 1, HEADER + 22 * 57 + 2)));
+    }
+
+    @Test
+    @DisplayName("Should count rejections per reason")
+    void shouldCountRejections() {
+        byte[] truncated = packet(PacketType.CAR_TELEMETRY, PacketFormat.F1_24, 1, HEADER + 100);
+
+        assertFalse(validator.accept(truncated));
+        assertFalse(validator.accept(ByteBuffer.wrap(truncated)));
+        assertFalse(validator.accept(new byte[4]));
+
+        assertEquals(2, validator.rejected(RejectReason.SIZE_MISMATCH));
+        assertEquals(1, validator.rejected(RejectReason.TRUNCATED_HEADER));
+        assertEquals(2.0, meterRegistry.get("telemetry.packets.rejected").tag("reason", "SIZE_MISMATCH").counter().count());
+    }
+
+    private static byte[] packet(PacketType type, PacketFormat format, int packetVersion, int length) {
+        ByteBuffer packet = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        packet.putShort(HeaderParsingService.PACKET_FORMAT_OFFSET, (short) (format != null ? format.getValue() : 2022));
+        packet.put(HeaderParsingService.PACKET_VERSION_OFFSET, (byte) packetVersion);
+        packet.put(HeaderParsingService.PACKET_ID_OFFSET, (byte) type.getId());
+        return packet.array();
+    }
+}
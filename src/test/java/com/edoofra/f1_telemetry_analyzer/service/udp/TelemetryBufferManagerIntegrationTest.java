@@ -2,6 +2,11 @@ package com.edoofra.f1_telemetry_analyzer.service.udp;
 
 import com.edoofra.f1_telemetry_analyzer.annotation.IntegrationTest;
 import com.edoofra.f1_telemetry_analyzer.model.BufferStats;
+import com.edoofra.f1_telemetry_analyzer.model.DropReason;
+import com.edoofra.f1_telemetry_analyzer.model.PacketPriority;
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.PacketTypeStats;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.HeaderParsingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,7 +23,13 @@ import static org.junit.jupiter.api.Assertions.*;
 @IntegrationTest
 @TestPropertySource(properties = {
     "f1.telemetry.buffer.capacity=50",
-    "f1.telemetry.buffer.stats-interval=1"
+    "f1.telemetry.buffer.stats-interval=1",
+    "f1.telemetry.buffer.types.event.capacity=5",
+    "f1.telemetry.buffer.types.event.overflow-policy=reject-newest",
+    // Total budget well above the per-type capacities, so only the overload tests below trigger shedding
+    "f1.telemetry.buffer.overload.total-capacity=1000",
+    // Processing threads would consume packets as soon as they are signalled
+    "f1.telemetry.processing.enabled=false"
 })
 class TelemetryBufferManagerIntegrationTest {
 
@@ -45,7 +56,9 @@ class TelemetryBufferManagerIntegrationTest {
         assertNotNull(bufferManager, "Buffer manager should be autowired");
         
         BufferStats stats = bufferManager.getBufferStats();
-        assertEquals(50, stats.capacity(), "Buffer capacity should match test configuration");
+        assertEquals(50, stats.packetTypes().get("MOTION").capacity(), "Buffer capacity should match test configuration");
+        assertEquals(50, stats.packetTypes().get("UNCLASSIFIED").capacity(), "Unclassified packets use the default capacity");
+        assertEquals(5, stats.packetTypes().get("EVENT").capacity(), "Per-type capacity should override the default");
         assertEquals(0, stats.currentSize(), "Initial size should be 0");
         assertTrue(stats.isEmpty(), "Buffer should initially be empty");
     }
@@ -143,11 +156,91 @@ class TelemetryBufferManagerIntegrationTest {
             bufferManager.addTelemetryPacket(testPacket);
         }
         
-        // Assert
-        BufferStats stats = bufferManager.getBufferStats();
+        // Assert - short packets carry no packet id and share the unclassified buffer
+        PacketTypeStats stats = bufferManager.getBufferStats().packetTypes().get("UNCLASSIFIED");
         assertEquals(60.0, stats.utilizationPercentage(), 0.1, 
             "Utilization should be 60%");
-        assertEquals(20, stats.availableCapacity(), 
+        assertEquals(20, stats.capacity() - stats.currentSize(), 
             "Available capacity should be 20");
     }
+
+    @Test
+    @DisplayName("Should route packets to the buffer of their packet type")
+    void shouldRoutePacketsByPacketType() {
+        // Arrange - fill the motion buffer well past its capacity
+        for (int i = 0; i < 60; i++) {
+            bufferManager.addTelemetryPacket(packetOfType(PacketType.MOTION));
+        }
+        
+        // Act
+        boolean eventAdded = bufferManager.addTelemetryPacket(packetOfType(PacketType.EVENT));
+        
+        // Assert - motion overflow never touches the event buffer
+        BufferStats stats = bufferManager.getBufferStats();
+        assertTrue(eventAdded, "Event packet should be buffered");
+        assertEquals(50, stats.packetTypes().get("MOTION").currentSize());
+        assertEquals(10, stats.packetTypes().get("MOTION").totalDropped());
+        assertEquals(1, stats.packetTypes().get("EVENT").currentSize());
+        assertEquals(0, stats.packetTypes().get("EVENT").totalDropped());
+        assertEquals(61, stats.totalReceived());
+    }
+
+    @Test
+    @DisplayName("Should reject new packets when a reject-newest buffer is full")
+    void shouldRejectNewestWhenConfigured() {
+        // Arrange - event buffer holds 5 packets and rejects new ones when full
+        for (int i = 0; i < 5; i++) {
+            assertTrue(bufferManager.addTelemetryPacket(packetOfType(PacketType.EVENT)));
+        }
+        
+        // Act
+        boolean added = bufferManager.addTelemetryPacket(packetOfType(PacketType.EVENT));
+        
+        // Assert
+        assertFalse(added, "Packet should be rejected by the full event buffer");
+        PacketTypeStats stats = bufferManager.getBufferStats().packetTypes().get("EVENT");
+        assertEquals(5, stats.currentSize());
+        assertEquals(6, stats.totalReceived());
+        assertEquals(1, stats.totalDropped());
+        assertEquals(1L, stats.drops().get(DropReason.REJECTED));
+    }
+
+    @Test
+    @DisplayName("Should report overwrites per packet type and reason")
+    void shouldReportOverwritesPerReason() {
+        for (int i = 0; i < 53; i++) {
+            bufferManager.addTelemetryPacket(packetOfType(PacketType.LAP_DATA));
+        }
+
+        PacketTypeStats stats = bufferManager.getBufferStats().packetTypes().get("LAP_DATA");
+        assertEquals(PacketPriority.HIGH, stats.priority());
+        assertEquals(3L, stats.drops().get(DropReason.OVERWRITTEN));
+        assertEquals(0L, stats.drops().get(DropReason.SHED));
+    }
+
+    @Test
+    @DisplayName("Should drop packets of unsupported game formats before buffering")
+    void shouldDropUnsupportedFormats() {
+        boolean f122Added = bufferManager.addTelemetryPacket(packetOfType(PacketType.LAP_DATA, 2022));
+        boolean f123Added = bufferManager.addTelemetryPacket(packetOfType(PacketType.LAP_DATA, 2023));
+
+        assertFalse(f122Added, "F1 22 packet should not be buffered");
+        assertTrue(f123Added, "F1 23 packet should be buffered");
+        PacketTypeStats stats = bufferManager.getBufferStats().packetTypes().get("LAP_DATA");
+        assertEquals(1, stats.currentSize());
+        assertEquals(2, stats.totalReceived());
+        assertEquals(1L, stats.drops().get(DropReason.UNSUPPORTED_FORMAT));
+    }
+
+    private static byte[] packetOfType(PacketType type) {
+        return packetOfType(type, 2024);
+    }
+
+    private static byte[] packetOfType(PacketType type, int packetFormat) {
+        byte[] packet = new byte[32];
+        packet[HeaderParsingService.PACKET_FORMAT_OFFSET] = (byte) packetFormat;
+        packet[HeaderParsingService.PACKET_FORMAT_OFFSET + 1] = (byte) (packetFormat >>> 8);
+        packet[HeaderParsingService.PACKET_ID_OFFSET] = (byte) type.getId();
+        return packet;
+    }
 }
\ No newline at end of file
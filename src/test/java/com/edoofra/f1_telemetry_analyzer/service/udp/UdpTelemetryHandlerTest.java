@@ -31,6 +31,12 @@ class UdpTelemetryHandlerTest {
     @Mock
     private TelemetryBufferManager telemetryBufferManager;
     
+    @Mock
+    private PacketValidator packetValidator;
+    
+    @Mock
+    private PacketSequenceTracker sequenceTracker;
+    
     private MeterRegistry meterRegistry;
     private UdpTelemetryHandler handler;
     
@@ -39,7 +45,9 @@ class UdpTelemetryHandlerTest {
     @BeforeEach
     void setUp() {
         meterRegistry = new SimpleMeterRegistry();
-        handler = new UdpTelemetryHandler(headerParsingService, telemetryBufferManager, meterRegistry);
+        handler = new UdpTelemetryHandler(headerParsingService, telemetryBufferManager, meterRegistry, packetValidator, sequenceTracker);
+        lenient().when(packetValidator.accept(SAMPLE_PACKET)).thenReturn(true);
+        lenient().when(sequenceTracker.accept(any(), eq(SAMPLE_PACKET))).thenReturn(true);
     }
 
     @Nested
@@ -144,21 +152,23 @@ class UdpTelemetryHandlerTest {
         }
 
         @Test
-        @DisplayName("Should handle empty packet")
-        void shouldHandleEmptyPacket() {
+        @DisplayName("Should drop packets rejected by validation before buffering")
+        void shouldDropRejectedPacket() {
             // Arrange
             byte[] emptyPacket = new byte[0];
             Message<byte[]> message = MessageBuilder.withPayload(emptyPacket).build();
-            when(telemetryBufferManager.addTelemetryPacket(emptyPacket)).thenReturn(true);
+            when(packetValidator.accept(emptyPacket)).thenReturn(false);
 
             // Act
             handler.handleTelemetryData(message);
 
             // Assert
-            verify(telemetryBufferManager).addTelemetryPacket(emptyPacket);
+            verify(telemetryBufferManager, never()).addTelemetryPacket(any(byte[].class));
             
             Counter receivedCounter = meterRegistry.find("telemetry.packets.received").counter();
-            assertEquals(1.0, receivedCounter.count(), "Should still process empty packets");
+            Counter errorCounter = meterRegistry.find("telemetry.packets.errors").counter();
+            assertEquals(1.0, receivedCounter.count(), "Should still count rejected packets as received");
+            assertEquals(0.0, errorCounter.count(), "Rejections are counted by the validator, not as errors");
         }
     }
 
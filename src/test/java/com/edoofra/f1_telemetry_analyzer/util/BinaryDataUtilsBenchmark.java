@@ -0,0 +1,143 @@
+package com.edoofra.f1_telemetry_analyzer.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of {@link BinaryDataUtils} against the shift-and-mask reads it replaced.
+ * <p>
+ * Each benchmark decodes the per-wheel fields of the 22 cars of a Car Telemetry packet body
+ * (four brake temperatures and four tyre pressures per 60-byte car entry).
+ * Not run by the test suite; run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.edoofra.f1_telemetry_analyzer.util.BinaryDataUtilsBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryDataUtilsBenchmark {
+
+    private static final int CARS = 22;
+    private static final int CAR_SIZE = 60;
+    private static final int BRAKES_TEMPERATURE_OFFSET = 22;
+    private static final int TYRES_PRESSURE_OFFSET = 40;
+
+    private byte[] data;
+    private ByteBuffer buffer;
+    private final int[] brakesTemperature = new int[4];
+    private final float[] tyresPressure = new float[4];
+
+    @Setup
+    public void setUp() {
+        data = new byte[CARS * CAR_SIZE + 3];
+        ThreadLocalRandom.current().nextBytes(data);
+        buffer = ByteBuffer.allocateDirect(data.length).order(ByteOrder.LITTLE_ENDIAN).put(data).clear();
+    }
+
+    @Benchmark
+    public void shiftAndMask(Blackhole blackhole) {
+        for (int car = 0; car < CARS; car++) {
+            int offset = car * CAR_SIZE;
+            for (int wheel = 0; wheel < 4; wheel++) {
+                brakesTemperature[wheel] = legacyUnsignedShort(data, offset + BRAKES_TEMPERATURE_OFFSET + wheel * 2);
+                tyresPressure[wheel] = Float.intBitsToFloat(legacyInt(data, offset + TYRES_PRESSURE_OFFSET + wheel * 4));
+            }
+            blackhole.consume(brakesTemperature);
+            blackhole.consume(tyresPressure);
+        }
+    }
+
+    @Benchmark
+    public void varHandlePerField(Blackhole blackhole) {
+        for (int car = 0; car < CARS; car++) {
+            int offset = car * CAR_SIZE;
+            for (int wheel = 0; wheel < 4; wheel++) {
+                brakesTemperature[wheel] = BinaryDataUtils.getUnsignedShort(data, offset + BRAKES_TEMPERATURE_OFFSET + wheel * 2);
+                tyresPressure[wheel] = BinaryDataUtils.getFloat(data, offset + TYRES_PRESSURE_OFFSET + wheel * 4);
+            }
+            blackhole.consume(brakesTemperature);
+            blackhole.consume(tyresPressure);
+        }
+    }
+
+    @Benchmark
+    public void varHandleBulk(Blackhole blackhole) {
+        for (int car = 0; car < CARS; car++) {
+            int offset = car * CAR_SIZE;
+            BinaryDataUtils.getUnsignedShorts(data, offset + BRAKES_TEMPERATURE_OFFSET, brakesTemperature, 4);
+            BinaryDataUtils.getFloats(data, offset + TYRES_PRESSURE_OFFSET, tyresPressure, 4);
+            blackhole.consume(brakesTemperature);
+            blackhole.consume(tyresPressure);
+        }
+    }
+
+    @Benchmark
+    public void varHandleBulkDirectBuffer(Blackhole blackhole) {
+        for (int car = 0; car < CARS; car++) {
+            int offset = car * CAR_SIZE;
+            BinaryDataUtils.getUnsignedShorts(buffer, offset + BRAKES_TEMPERATURE_OFFSET, brakesTemperature, 4);
+            BinaryDataUtils.getFloats(buffer, offset + TYRES_PRESSURE_OFFSET, tyresPressure, 4);
+            blackhole.consume(brakesTemperature);
+            blackhole.consume(tyresPressure);
+        }
+    }
+
+    @Benchmark
+    public long shiftAndMaskLong() {
+        long sum = 0;
+        for (int offset = 0; offset + Long.BYTES <= data.length; offset += Long.BYTES) {
+            sum += legacyLong(data, offset);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long varHandleLong() {
+        long sum = 0;
+        for (int offset = 0; offset + Long.BYTES <= data.length; offset += Long.BYTES) {
+            sum += BinaryDataUtils.getLong(data, offset);
+        }
+        return sum;
+    }
+
+    private static int legacyUnsignedShort(byte[] data, int offset) {
+        return ((data[offset + 1] & 0xFF) << 8) | (data[offset] & 0xFF);
+    }
+
+    private static int legacyInt(byte[] data, int offset) {
+        return ((data[offset + 3] & 0xFF) << 24) | ((data[offset + 2] & 0xFF) << 16) |
+               ((data[offset + 1] & 0xFF) << 8) | (data[offset] & 0xFF);
+    }
+
+    private static long legacyLong(byte[] data, int offset) {
+        return ((long) (data[offset + 7] & 0xFF) << 56) | ((long) (data[offset + 6] & 0xFF) << 48) |
+               ((long) (data[offset + 5] & 0xFF) << 40) | ((long) (data[offset + 4] & 0xFF) << 32) |
+               ((long) (data[offset + 3] & 0xFF) << 24) | ((long) (data[offset + 2] & 0xFF) << 16) |
+               ((long) (data[offset + 1] & 0xFF) << 8) | (long) (data[offset] & 0xFF);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BinaryDataUtilsBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
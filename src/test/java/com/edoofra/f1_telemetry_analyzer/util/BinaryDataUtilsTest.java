@@ -3,6 +3,9 @@ package com.edoofra.f1_telemetry_analyzer.util;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("BinaryDataUtils Tests")
@@ -163,4 +166,95 @@ class BinaryDataUtilsTest {
         // Assert
         assertEquals(0x1234, result);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should read little-endian values from a buffer whatever its byte order")
+    void shouldReadFromBuffer() {
+        // Arrange: the same little-endian bytes behind a big-endian and a little-endian view
+        byte[] data = new byte[32];
+        ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN)
+                .put((byte) -2)
+                .putShort((short) -2)
+                .putInt(0x12345678)
+                .putLong(0x123456789ABCDEF0L)
+                .putFloat(125.5f)
+                .putDouble(-1.25);
+
+        for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            ByteBuffer buffer = ByteBuffer.wrap(data).order(order);
+
+            // Act & Assert
+            assertEquals(254, BinaryDataUtils.getUnsignedByte(buffer, 0));
+            assertEquals(-2, BinaryDataUtils.getByte(buffer, 0));
+            assertEquals(0xFFFE, BinaryDataUtils.getUnsignedShort(buffer, 1));
+            assertEquals(-2, BinaryDataUtils.getShort(buffer, 1));
+            assertEquals(0x12345678, BinaryDataUtils.getInt(buffer, 3));
+            assertEquals(0x123456789ABCDEF0L, BinaryDataUtils.getLong(buffer, 7));
+            assertEquals(125.5f, BinaryDataUtils.getFloat(buffer, 15));
+            assertEquals(-1.25, BinaryDataUtils.getDouble(buffer, 19));
+            assertEquals(0, buffer.position(), "Reads must not move the buffer");
+        }
+    }
+
+    @Test
+    @DisplayName("Should read signed shorts and doubles from byte array (little-endian)")
+    void shouldReadSignedShortAndDouble() {
+        // Arrange
+        byte[] data = new byte[10];
+        ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).putShort((short) -300).putDouble(3.5);
+
+        // Act & Assert
+        assertEquals(-300, BinaryDataUtils.getShort(data, 0));
+        assertEquals(3.5, BinaryDataUtils.getDouble(data, 2));
+    }
+
+    @Test
+    @DisplayName("Should fill arrays from consecutive little-endian values")
+    void shouldReadBulkValues() {
+        // Arrange: four floats, four unsigned shorts and four unsigned bytes, one byte off alignment
+        byte[] data = new byte[1 + 16 + 8 + 4];
+        ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN)
+                .put((byte) 0)
+                .putFloat(21.5f).putFloat(22.0f).putFloat(-0.5f).putFloat(23.25f)
+                .putShort((short) 400).putShort((short) 0xFFFF).putShort((short) 0).putShort((short) 1100)
+                .put((byte) 90).put((byte) 0xFF).put((byte) 0).put((byte) 101);
+        float[] floats = new float[4];
+        int[] shorts = new int[4];
+        int[] bytes = new int[4];
+
+        // Act & Assert: byte array
+        BinaryDataUtils.getFloats(data, 1, floats, 4);
+        BinaryDataUtils.getUnsignedShorts(data, 17, shorts, 4);
+        BinaryDataUtils.getUnsignedBytes(data, 25, bytes, 4);
+        assertArrayEquals(new float[]{21.5f, 22.0f, -0.5f, 23.25f}, floats);
+        assertArrayEquals(new int[]{400, 0xFFFF, 0, 1100}, shorts);
+        assertArrayEquals(new int[]{90, 255, 0, 101}, bytes);
+
+        // Act & Assert: big-endian direct buffer
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length).put(data);
+        floats = new float[4];
+        shorts = new int[4];
+        bytes = new int[4];
+        BinaryDataUtils.getFloats(buffer, 1, floats, 4);
+        BinaryDataUtils.getUnsignedShorts(buffer, 17, shorts, 4);
+        BinaryDataUtils.getUnsignedBytes(buffer, 25, bytes, 4);
+        assertArrayEquals(new float[]{21.5f, 22.0f, -0.5f, 23.25f}, floats);
+        assertArrayEquals(new int[]{400, 0xFFFF, 0, 1100}, shorts);
+        assertArrayEquals(new int[]{90, 255, 0, 101}, bytes);
+    }
+
+    @Test
+    @DisplayName("Should only fill the requested number of values")
+    void shouldReadBulkCountOnly() {
+        // Arrange
+        byte[] data = new byte[8];
+        ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN).putFloat(1.0f).putFloat(2.0f);
+        float[] floats = {-1f, -1f, -1f};
+
+        // Act
+        BinaryDataUtils.getFloats(data, 0, floats, 2);
+
+        // Assert
+        assertArrayEquals(new float[]{1.0f, 2.0f, -1f}, floats);
+    }
+}
@@ -0,0 +1,102 @@
+package com.edoofra.f1_telemetry_analyzer.util;
+
+import com.edoofra.f1_telemetry_analyzer.model.PacketType;
+import com.edoofra.f1_telemetry_analyzer.model.TelemetryPacketHeader;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.HeaderParsingService;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.PacketDispatchTable;
+import com.edoofra.f1_telemetry_analyzer.service.parsing.PacketHeaderView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks of {@link PacketDispatchTable} dispatch through a reusable {@link PacketHeaderView}
+ * against parsing a {@link TelemetryPacketHeader} per packet and looking up its handler by packet type.
+ * <p>
+ * Each benchmark routes one packet of every packet type, and each handler reads the session UID and frame identifier
+ * as the stages do. The dispatch table reads off-heap packets, as the processing threads receive them from the buffers.
+ * {@link #main} adds the GC profiler: {@code gc.alloc.rate.norm} should be 0 B/op for the dispatch table.
+ * Not run by the test suite; run with {@code mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.edoofra.f1_telemetry_analyzer.util.PacketDispatchBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PacketDispatchBenchmark {
+
+    private static final PacketType[] TYPES = PacketType.values();
+
+    private final HeaderParsingService headerParsingService = new HeaderParsingService();
+    private final PacketHeaderView header = new PacketHeaderView();
+    private final PacketDispatchTable dispatchTable = new PacketDispatchTable();
+    private final RecordHandler[] recordHandlers = new RecordHandler[TYPES.length];
+
+    private byte[][] arrays;
+    private ByteBuffer[] buffers;
+    private long checksum;
+
+    @FunctionalInterface
+    private interface RecordHandler {
+        void handle(TelemetryPacketHeader header);
+    }
+
+    @Setup
+    public void setUp() {
+        arrays = new byte[TYPES.length][];
+        buffers = new ByteBuffer[TYPES.length];
+        for (PacketType type : TYPES) {
+            byte[] data = new byte[HeaderParsingService.HEADER_SIZE];
+            ThreadLocalRandom.current().nextBytes(data);
+            data[HeaderParsingService.PACKET_ID_OFFSET] = (byte) type.getId();
+            arrays[type.ordinal()] = data;
+            buffers[type.ordinal()] = ByteBuffer.allocateDirect(data.length).order(ByteOrder.LITTLE_ENDIAN).put(data).clear();
+
+            dispatchTable.register(type, (view, packet) -> checksum += view.sessionUID() + view.frameIdentifier());
+            recordHandlers[type.ordinal()] = parsed -> checksum += parsed.sessionUID() + parsed.frameIdentifier();
+        }
+    }
+
+    @Benchmark
+    public long parsedHeader() {
+        for (byte[] data : arrays) {
+            TelemetryPacketHeader parsed = headerParsingService.parseHeader(data);
+            PacketType type = PacketType.fromId(parsed.packetId());
+            recordHandlers[type.ordinal()].handle(parsed);
+        }
+        return checksum;
+    }
+
+    @Benchmark
+    public long dispatchTable() throws InterruptedException {
+        for (ByteBuffer packet : buffers) {
+            dispatchTable.dispatch(packet, header);
+        }
+        return checksum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PacketDispatchBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}